@@ -36,6 +36,22 @@ public abstract class SecureTrustedAccess {
         return primitiveType.getValue(target, fieldOffset);
     }
 
+    public final void putInt(Object target, long fieldOffset, int value) {
+        UnsafeHelper.UNSAFE.putInt(target, fieldOffset, value);
+    }
+
+    public final void putLong(Object target, long fieldOffset, long value) {
+        UnsafeHelper.UNSAFE.putLong(target, fieldOffset, value);
+    }
+
+    public final void putDouble(Object target, long fieldOffset, double value) {
+        UnsafeHelper.UNSAFE.putDouble(target, fieldOffset, value);
+    }
+
+    public final void putBoolean(Object target, long fieldOffset, boolean value) {
+        UnsafeHelper.UNSAFE.putBoolean(target, fieldOffset, value);
+    }
+
     public final Object getSetterDefault(SetterInfo setterInfo, Object target) {
         return setterInfo.getDefaultFieldValue(target);
     }
@@ -147,6 +147,21 @@ public class SetterInfo {
         return Modifier.isPrivate(field.getModifiers());
     }
 
+    // 是否可以通过生成的代码直接访问（public且非final）
+    public boolean isPublic() {
+        if (field == null) return false;
+        int modifiers = field.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isFinal(modifiers) && Modifier.isPublic(field.getDeclaringClass().getModifiers());
+    }
+
+    public String getFieldName() {
+        return field == null ? null : field.getName();
+    }
+
+    public String getMethodName() {
+        return null;
+    }
+
     public final int getIndex() {
         return index;
     }
@@ -44,4 +44,12 @@ final class SetterMethodInfo extends SetterInfo {
     public boolean isPrivate() {
         return Modifier.isPrivate(method.getModifiers());
     }
+
+    public boolean isPublic() {
+        return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+    public String getMethodName() {
+        return method.getName();
+    }
 }
@@ -0,0 +1,139 @@
+package io.github.wycst.wast.json;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * <p> 基于double[]存储的可增长List，元素不装箱，可以直接作为解析目标或者pojo属性类型（代替List&lt;Double&gt;）；
+ * <p> 通过getDouble/add(double)/toDoubleArray访问没有装箱开销，序列化结果与List&lt;Double&gt;一致；不支持null元素；
+ *
+ * @Created by wangyc
+ */
+public final class DoubleList extends AbstractList<Double> implements RandomAccess, Serializable {
+
+    private double[] elements;
+    private int size;
+
+    public DoubleList() {
+        this(10);
+    }
+
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elements = new double[initialCapacity];
+    }
+
+    public DoubleList(double[] values) {
+        this(values.clone(), values.length);
+    }
+
+    // 直接使用解析结果作为存储（不拷贝）
+    DoubleList(double[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public double setDouble(int index, double value) {
+        checkIndex(index);
+        double oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    public void add(double value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        ++modCount;
+    }
+
+    public void addAll(double[] values) {
+        int len = values.length;
+        if (size + len > elements.length) {
+            grow(size + len);
+        }
+        System.arraycopy(values, 0, elements, size, len);
+        size += len;
+        ++modCount;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+        return setDouble(index, value);
+    }
+
+    @Override
+    public boolean add(Double value) {
+        add(value.doubleValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Double value) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        double val = value;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = val;
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public Double remove(int index) {
+        checkIndex(index);
+        double oldValue = elements[index];
+        int num = size - index - 1;
+        if (num > 0) {
+            System.arraycopy(elements, index + 1, elements, index, num);
+        }
+        --size;
+        ++modCount;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        ++modCount;
+    }
+
+    private void grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, oldCapacity + (oldCapacity >> 1) + 1));
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.wycst.wast.json;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * <p> 基于int[]存储的可增长List，元素不装箱，可以直接作为解析目标或者pojo属性类型（代替List&lt;Integer&gt;）；
+ * <p> 通过getInt/add(int)/toIntArray访问没有装箱开销，序列化结果与List&lt;Integer&gt;一致；不支持null元素；
+ *
+ * @Created by wangyc
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(10);
+    }
+
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    public IntList(int[] values) {
+        this(values.clone(), values.length);
+    }
+
+    // 直接使用解析结果作为存储（不拷贝）
+    IntList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        int oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        ++modCount;
+    }
+
+    public void addAll(int[] values) {
+        int len = values.length;
+        if (size + len > elements.length) {
+            grow(size + len);
+        }
+        System.arraycopy(values, 0, elements, size, len);
+        size += len;
+        ++modCount;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public boolean add(Integer value) {
+        add(value.intValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int val = value;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = val;
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int oldValue = elements[index];
+        int num = size - index - 1;
+        if (num > 0) {
+            System.arraycopy(elements, index + 1, elements, index, num);
+        }
+        --size;
+        ++modCount;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        ++modCount;
+    }
+
+    private void grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, oldCapacity + (oldCapacity >> 1) + 1));
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -25,6 +25,9 @@ import io.github.wycst.wast.json.options.WriteOption;
 import java.io.*;
 import java.lang.reflect.Type;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -223,6 +226,31 @@ public final class JSON extends JSONGeneral {
         return INSTANCE.parse(bytes, readOptions);
     }
 
+    /***
+     * 懒加载解析：返回基于源字节数组的只读Map或者List视图，只记录偏移，值在第一次访问时才解码并缓存；
+     * <p> 适用于只读取少量字段（例如网关按一两个字段路由）的场景，未访问的子树只做快速扫描跳过，不构建任何值；
+     * <p> 返回的视图非线程安全，源数组在使用期间不能修改；
+     *
+     * @param bytes       字节数组（ascii/utf8）
+     * @param readOptions 配置项
+     * @return 只读的Map或者List（根为基本类型时返回值本身）
+     */
+    public static Object parseLazy(byte[] bytes, ReadOption... readOptions) {
+        return JSONLazyMap.parse(bytes, readOptions);
+    }
+
+    /***
+     * 懒加载解析json字符串
+     *
+     * @param json        json字符串
+     * @param readOptions 配置项
+     * @return 只读的Map或者List（根为基本类型时返回值本身）
+     * @see #parseLazy(byte[], ReadOption...)
+     */
+    public static Object parseLazy(String json, ReadOption... readOptions) {
+        return JSONLazyMap.parse(json, readOptions);
+    }
+
     /***
      * 解析字节数组返回Map对象或者List集合
      *
@@ -340,6 +368,68 @@ public final class JSON extends JSONGeneral {
         return INSTANCE.parseObject(buf, actualType, readOptions);
     }
 
+    /**
+     * <p> 部分反序列化：只反序列化投影中声明的字段路径，其他字段（以及pojo未声明的字段）使用快速扫描跳过，不构建任何值
+     *
+     * <pre>
+     *  Event event = JSON.parseObject(bytes, Event.class, JSONProjection.of("id", "user.name", "ts"));
+     * </pre>
+     *
+     * @param buf         字节数组
+     * @param actualType  类型
+     * @param projection  字段投影
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     * @see JSONProjection
+     */
+    public static <T> T parseObject(byte[] buf, final Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
+        return INSTANCE.parseObject(buf, actualType, projection, readOptions);
+    }
+
+    /**
+     * <p> 部分反序列化
+     *
+     * @param json        源字符串
+     * @param actualType  类型
+     * @param projection  字段投影
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     * @see #parseObject(byte[], Class, JSONProjection, ReadOption...)
+     */
+    public static <T> T parseObject(String json, Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
+        return INSTANCE.parseObject(json, actualType, projection, readOptions);
+    }
+
+    /**
+     * <p> 部分反序列化
+     *
+     * @param buf         字符数组
+     * @param actualType  类型
+     * @param projection  字段投影
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     * @see #parseObject(byte[], Class, JSONProjection, ReadOption...)
+     */
+    public static <T> T parseObject(char[] buf, final Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
+        return INSTANCE.parseObject(buf, actualType, projection, readOptions);
+    }
+
+    /**
+     * <p> 将ByteBuffer中剩余的内容（[position, limit)）转化为指定class的实例，解析成功后position移动到limit
+     *
+     * @param buffer      字节缓冲区（堆内或者直接内存）
+     * @param actualType  类型
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     */
+    public static <T> T parseObject(ByteBuffer buffer, final Class<T> actualType, ReadOption... readOptions) {
+        return INSTANCE.parseObject(buffer, actualType, readOptions);
+    }
+
     /**
      * <p> 将字节数组转化为指定class的实例
      *
@@ -408,6 +498,74 @@ public final class JSON extends JSONGeneral {
         return INSTANCE.parseNdJson(json, actualType, readOptions);
     }
 
+    /**
+     * 并行解析ndjson（jsonl）字节数组，结果按输入顺序返回
+     *
+     * @param bytes
+     * @param actualType
+     * @param parallelism
+     * @param readOptions
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> parseNdJsonParallel(byte[] bytes, Class<T> actualType, int parallelism, ReadOption... readOptions) {
+        return INSTANCE.parseNdJsonParallel(bytes, actualType, parallelism, readOptions);
+    }
+
+    /**
+     * 并行解析ndjson（jsonl）字节数组，并行度为cpu核数
+     *
+     * @param bytes
+     * @param actualType
+     * @param readOptions
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> parseNdJsonParallel(byte[] bytes, Class<T> actualType, ReadOption... readOptions) {
+        return INSTANCE.parseNdJsonParallel(bytes, actualType, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）输入流，按需逐条解析，适用于超大的ndjson文件
+     *
+     * @param is
+     * @param actualType
+     * @param readOptions
+     * @param <T>
+     * @return
+     */
+    public static <T> JSONLIterator<T> iterateNdJson(InputStream is, Class<T> actualType, ReadOption... readOptions) {
+        return INSTANCE.iterateNdJson(is, actualType, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）文件，按需逐条解析，适用于超大的ndjson文件
+     *
+     * @param file
+     * @param actualType
+     * @param readOptions
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    public static <T> JSONLIterator<T> iterateNdJson(File file, Class<T> actualType, ReadOption... readOptions) throws IOException {
+        return INSTANCE.iterateNdJson(file, actualType, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）通道，按需逐条解析，适用于超大的ndjson文件
+     * <p> 注: 只支持阻塞模式的通道，非阻塞通道将抛出异常
+     *
+     * @param channel
+     * @param actualType
+     * @param readOptions
+     * @param <T>
+     * @return
+     */
+    public static <T> JSONLIterator<T> iterateNdJson(ReadableByteChannel channel, Class<T> actualType, ReadOption... readOptions) {
+        return INSTANCE.iterateNdJson(channel, actualType, readOptions);
+    }
+
     /**
      * 将集合对象转为ndjson字符串
      *
@@ -763,6 +921,28 @@ public final class JSON extends JSONGeneral {
         INSTANCE.writeJsonTo(object, file, options);
     }
 
+    /**
+     * 将对象序列化内容（utf-8）写入ByteBuffer
+     *
+     * @param object
+     * @param buffer
+     * @param options
+     */
+    public static void writeJsonTo(Object object, ByteBuffer buffer, WriteOption... options) {
+        INSTANCE.writeJsonTo(object, buffer, options);
+    }
+
+    /**
+     * 将对象序列化内容（utf-8）写入channel（只支持阻塞模式的channel）
+     *
+     * @param object
+     * @param channel
+     * @param options
+     */
+    public static void writeJsonTo(Object object, WritableByteChannel channel, WriteOption... options) {
+        INSTANCE.writeJsonTo(object, channel, options);
+    }
+
     /**
      * 将对象序列化内容直接写入os
      *
@@ -865,6 +1045,76 @@ public final class JSON extends JSONGeneral {
         INSTANCE.writeToJSONWriter(object, JSONWriter.wrap(writer), JSONConfig.of(options));
     }
 
+    /**
+     * 创建增量流式输出（utf-8），可以逐个写入对象/数组元素，缓冲超过阈值时自动写出到os，适用于超大数据导出
+     *
+     * @param os
+     * @param options
+     * @return
+     * @see JSONGenerator
+     */
+    public static JSONGenerator createGenerator(OutputStream os, WriteOption... options) {
+        return INSTANCE.createGenerator(os, options);
+    }
+
+    /**
+     * 创建增量流式输出（utf-8），缓冲超过阈值时自动写出到channel（只支持阻塞模式的channel）
+     *
+     * @param channel
+     * @param options
+     * @return
+     * @see JSONGenerator
+     */
+    public static JSONGenerator createGenerator(WritableByteChannel channel, WriteOption... options) {
+        return INSTANCE.createGenerator(channel, options);
+    }
+
+    /**
+     * 序列化为紧凑的二进制json（格式参考JSONBinary）
+     *
+     * @param obj
+     * @param options 支持WriteOption.BinaryFieldNameDictionary（字段名字典）等
+     * @return
+     */
+    public static byte[] toBinary(Object obj, WriteOption... options) {
+        return INSTANCE.toBinary(obj, options);
+    }
+
+    /**
+     * 二进制json反序列化为指定类型
+     *
+     * @param binary
+     * @param actualType
+     * @param <T>
+     * @return
+     */
+    public static <T> T fromBinary(byte[] binary, Class<T> actualType) {
+        return INSTANCE.fromBinary(binary, actualType);
+    }
+
+    /**
+     * 二进制json反序列化为指定泛型结构
+     *
+     * @param binary
+     * @param genericType
+     * @param <T>
+     * @return
+     */
+    public static <T> T fromBinary(byte[] binary, GenericParameterizedType<T> genericType) {
+        return INSTANCE.fromBinary(binary, genericType);
+    }
+
+    /**
+     * 二进制json的懒加载节点（按路径访问时跳过无关子树）
+     *
+     * @param binary
+     * @return
+     * @see JSONBinaryNode
+     */
+    public static JSONBinaryNode parseBinaryNode(byte[] binary) {
+        return INSTANCE.parseBinaryNode(binary);
+    }
+
     /**
      * 支持自定义的对象反序列化器注册
      *
@@ -934,6 +1184,13 @@ public final class JSON extends JSONGeneral {
         INSTANCE.register(module);
     }
 
+    /**
+     * 校验json是否合法（与解析的兼容规则一致，例如单引号，字符串中未转义的控制字符等）
+     *
+     * @param json
+     * @param readOptions
+     * @return
+     */
     public static boolean validate(String json, ReadOption... readOptions) {
         if (json == null) return false;
         return JSONValidator.validate(json, readOptions);
@@ -943,6 +1200,14 @@ public final class JSON extends JSONGeneral {
         return JSONValidator.validate(buf, readOptions);
     }
 
+    /**
+     * 校验utf-8编码的json是否合法
+     * <p> 注: 字符串中的utf-8编码严格校验（超长编码，代理区间以及超过U+10FFFF的码点返回false），而解析时不校验编码（例如超长编码的字节可以正常解析）；
+     *
+     * @param buf
+     * @param readOptions
+     * @return
+     */
     public static boolean validate(byte[] buf, ReadOption... readOptions) {
         return JSONValidator.validate(buf, readOptions);
     }
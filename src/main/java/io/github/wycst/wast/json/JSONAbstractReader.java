@@ -33,8 +33,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -77,7 +76,7 @@ abstract class JSONAbstractReader extends JSONGeneral {
     Object result;
     boolean reading;
     boolean closed;
-    boolean aborted;
+    volatile boolean aborted;
     boolean completed;
     int readingOffset = -1;
     volatile CountDownLatch countDownLatch = new CountDownLatch(1);
@@ -85,6 +84,7 @@ abstract class JSONAbstractReader extends JSONGeneral {
     long timeout = 60000;
     long currentThreadId;
     boolean multiple;
+    Executor executor;
 
     public void setOptions(ReadOption... readOptions) {
         JSONOptions.readOptions(this.readOptions = readOptions, parseContext);
@@ -124,7 +124,7 @@ abstract class JSONAbstractReader extends JSONGeneral {
 
     /**
      * @param readerHook
-     * @param async
+     * @param async      run on the executor (see {@link #executor(Executor)})
      */
     public void read(JSONReaderHook readerHook, boolean async) {
         if (reading) return;
@@ -136,13 +136,93 @@ abstract class JSONAbstractReader extends JSONGeneral {
             this.executeReadStream(null);
         } else {
             // async
-            this.async = true;
-            this.currentThreadId = Thread.currentThread().getId();
-            new Thread(new Runnable() {
+            executeAsync(new Runnable() {
                 public void run() {
                     executeReadStream(null);
                 }
-            }).start();
+            });
+        }
+    }
+
+    /**
+     * <p> Asynchronous reading on the executor, the future is completed with the result (or the exception).
+     * <p> The hook is called on the reading thread, so a slow hook throttles the reading (backpressure), no parsed values are buffered.
+     * <p> Cancelling the future aborts the reading (the stream is closed), a task not yet started is discarded.
+     *
+     * @param readerHook nullable
+     * @return future, get() throws ExecutionException with the read exception as the cause
+     */
+    public Future<Object> readAsync(JSONReaderHook readerHook) {
+        return readAsync(readerHook, null);
+    }
+
+    /**
+     * Asynchronous reading the result as the specified type
+     *
+     * @param actualType
+     * @return future
+     * @see #readAsync(JSONReaderHook)
+     */
+    public <T> Future<T> readAsync(Class<T> actualType) {
+        return readAsync(null, GenericParameterizedType.actualType(actualType));
+    }
+
+    <T> Future<T> readAsync(JSONReaderHook readerHook, final GenericParameterizedType<T> genericType) {
+        checkReadState();
+        if (reading) {
+            throw new UnsupportedOperationException("reader is reading");
+        }
+        this.readerHook = readerHook;
+        this.reading = true;
+        final AtomicBoolean started = new AtomicBoolean();
+        FutureTask<T> future = new FutureTask<T>(new Callable<T>() {
+            public T call() {
+                if (!started.compareAndSet(false, true)) return null;
+                executeReadStream(genericType);
+                return (T) result;
+            }
+        }) {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled) {
+                    if (started.compareAndSet(false, true)) {
+                        // not started: release the stream
+                        tryCloseReader();
+                        reading = false;
+                        closed = true;
+                        unlock();
+                    } else {
+                        abortRead();
+                    }
+                }
+                return cancelled;
+            }
+        };
+        executeAsync(future);
+        return future;
+    }
+
+    /**
+     * Specify the executor for asynchronous reading, default to virtual threads on JDK21+, otherwise a shared bounded daemon thread pool (reads are queued when all threads are busy)
+     *
+     * @param executor
+     * @return
+     */
+    public JSONAbstractReader executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    private void executeAsync(Runnable runnable) {
+        this.async = true;
+        this.currentThreadId = Thread.currentThread().getId();
+        try {
+            (executor == null ? JSONParallel.asyncExecutor() : executor).execute(runnable);
+        } catch (RejectedExecutionException e) {
+            this.reading = false;
+            unlock();
+            throw new JSONException(e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,388 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * <p> 流式聚合：对大数组的元素一次读取完成分组统计，不构建元素对象（也不构建结果列表），内存只与分组数量有关；
+ * <p> 元素路径之外以及元素中未引用的对象或者数组直接跳过，引用的字段值暂存在槽位中，元素读取完成后累加到所在分组的原始类型数组中；
+ *
+ * <pre>
+ *     List&lt;Map&lt;String, Object&gt;&gt; rows = JSONAggregator.over(is, "$.orders[*]").groupBy("region").sum("amount").avg("amount").count().execute();
+ *     // [{region=east, sum(amount)=120.5, avg(amount)=40.16, count=3}, ...]
+ * </pre>
+ *
+ * <p> 路径格式同{@link JSONReader#extract(InputStream, String...)}，字段路径相对于元素（支持多级，例如 customer.region），不支持'*'；
+ * <p> sum/min/max只统计数值，全部为整数时结果为long，否则为double；没有数值时min/max/avg为null；
+ *
+ * @Created by wangyc
+ * @see JSONReaderHook
+ */
+public final class JSONAggregator {
+
+    final static int COUNT = 0;
+    final static int SUM = 1;
+    final static int MIN = 2;
+    final static int MAX = 3;
+    final static int AVG = 4;
+    final static String[] OPERATIONS = {"count", "sum", "min", "max", "avg"};
+
+    private final JSONReader reader;
+    private final String[] elementSegments;
+    private String[] groupFields = new String[0];
+    private final List<String> fields = new ArrayList<String>();
+    private final List<Integer> operations = new ArrayList<Integer>();
+    private final List<String> names = new ArrayList<String>();
+
+    JSONAggregator(JSONReader reader, String elementPath) {
+        List<String> segments = JSONReaderHookExtract.parseSegments(elementPath);
+        this.reader = reader;
+        this.elementSegments = segments.toArray(new String[segments.size()]);
+    }
+
+    /**
+     * 对流中的数组元素进行聚合
+     *
+     * @param is
+     * @param elementPath 元素路径，例如 $.orders[*]
+     * @return
+     */
+    public static JSONAggregator over(InputStream is, String elementPath) {
+        return new JSONAggregator(JSONReader.from(is), elementPath);
+    }
+
+    /**
+     * 对json中的数组元素进行聚合
+     *
+     * @param json
+     * @param elementPath 元素路径，例如 $.orders[*]
+     * @return
+     */
+    public static JSONAggregator over(String json, String elementPath) {
+        return new JSONAggregator(JSONReader.from(json), elementPath);
+    }
+
+    /**
+     * 分组字段，多个字段时按值的组合分组，字段不存在时分组值为null
+     *
+     * @param fields
+     * @return
+     */
+    public JSONAggregator groupBy(String... fields) {
+        for (String field : fields) {
+            fieldSegments(field);
+        }
+        this.groupFields = fields.clone();
+        return this;
+    }
+
+    /**
+     * 元素数量
+     */
+    public JSONAggregator count() {
+        return metric(COUNT, null);
+    }
+
+    public JSONAggregator sum(String field) {
+        return metric(SUM, field);
+    }
+
+    public JSONAggregator min(String field) {
+        return metric(MIN, field);
+    }
+
+    public JSONAggregator max(String field) {
+        return metric(MAX, field);
+    }
+
+    public JSONAggregator avg(String field) {
+        return metric(AVG, field);
+    }
+
+    private JSONAggregator metric(int operation, String field) {
+        if (field != null) {
+            fieldSegments(field);
+        }
+        fields.add(field);
+        operations.add(operation);
+        names.add(field == null ? OPERATIONS[operation] : OPERATIONS[operation] + "(" + field + ")");
+        return this;
+    }
+
+    /**
+     * 执行聚合（读取流），每个分组一行：分组字段 -&gt; 值，统计项名称（例如 sum(amount)） -&gt; 值，按分组首次出现的顺序排列
+     *
+     * @return
+     */
+    public List<Map<String, Object>> execute() {
+        if (operations.isEmpty()) {
+            throw new JSONException("no aggregate operation is specified");
+        }
+        AggregateHook hook = new AggregateHook();
+        reader.read(hook);
+        return hook.toRows();
+    }
+
+    /**
+     * 解析字段路径（相对于元素）
+     */
+    static List<String> fieldSegments(String field) {
+        List<String> segments = JSONReaderHookExtract.parseSegments(field);
+        if (segments.isEmpty()) {
+            throw new JSONException("invalid aggregate field '" + field + "'");
+        }
+        for (String segment : segments) {
+            if (segment == null) {
+                throw new JSONException("aggregate field '" + field + "' cannot contain '*'");
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 引用字段的路径树（相对于元素）
+     */
+    final static class FieldNode {
+        final Map<String, FieldNode> children = new HashMap<String, FieldNode>();
+        int slot = -1;
+    }
+
+    final static class Group {
+        final Object[] keys;
+        long count;
+        // 按统计项存储，count为数值个数
+        final double[] values;
+        final long[] longs;
+        final long[] counts;
+        final boolean[] decimals;
+
+        Group(Object[] keys, int size) {
+            this.keys = keys;
+            this.values = new double[size];
+            this.longs = new long[size];
+            this.counts = new long[size];
+            this.decimals = new boolean[size];
+        }
+
+        void accept(int index, int operation, Number number) {
+            boolean integral = number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+            double value = number.doubleValue();
+            long n = counts[index]++;
+            if (!integral) {
+                decimals[index] = true;
+            }
+            switch (operation) {
+                case SUM:
+                case AVG:
+                    values[index] += value;
+                    if (!decimals[index]) {
+                        long l = number.longValue(), s = longs[index], r = s + l;
+                        if (((s ^ r) & (l ^ r)) < 0) {
+                            // long溢出
+                            decimals[index] = true;
+                        } else {
+                            longs[index] = r;
+                        }
+                    }
+                    break;
+                case MIN:
+                    if (n == 0 || value < values[index]) {
+                        values[index] = value;
+                        longs[index] = number.longValue();
+                    }
+                    break;
+                case MAX:
+                    if (n == 0 || value > values[index]) {
+                        values[index] = value;
+                        longs[index] = number.longValue();
+                    }
+                    break;
+            }
+        }
+
+        Object result(int index, int operation) {
+            long n = counts[index];
+            switch (operation) {
+                case COUNT:
+                    return count;
+                case SUM:
+                    return decimals[index] ? (Object) values[index] : (Object) longs[index];
+                case AVG:
+                    return n == 0 ? null : (Object) (values[index] / n);
+                default:
+                    return n == 0 ? null : decimals[index] ? (Object) values[index] : (Object) longs[index];
+            }
+        }
+    }
+
+    final class AggregateHook extends JSONReaderHook {
+
+        final FieldNode fieldRoot = new FieldNode();
+        int slotCount;
+        final int[] groupSlots;
+        final int[] metricSlots;
+        final int[] metricOperations;
+        final Object[] scratch;
+        final Map<Object, Group> groups = new LinkedHashMap<Object, Group>();
+
+        // 已打开（未读取完成）的容器，按层级存储（path与reader回调的path是同一个实例，key中可能包含'/'，不能通过拆分path匹配）
+        String[] openPaths = new String[8];
+        // 元素内的容器对应的字段节点（元素之外为null）
+        FieldNode[] openNodes = new FieldNode[8];
+        int depth;
+        // 当前元素所在的层级，不在元素内为-1
+        int elementDepth = -1;
+
+        AggregateHook() {
+            groupSlots = new int[groupFields.length];
+            for (int i = 0; i < groupSlots.length; ++i) {
+                groupSlots[i] = slotOf(groupFields[i]);
+            }
+            int size = operations.size();
+            metricSlots = new int[size];
+            metricOperations = new int[size];
+            for (int i = 0; i < size; ++i) {
+                String field = fields.get(i);
+                metricSlots[i] = field == null ? -1 : slotOf(field);
+                metricOperations[i] = operations.get(i);
+            }
+            scratch = new Object[slotCount];
+        }
+
+        private int slotOf(String field) {
+            FieldNode node = fieldRoot;
+            for (String segment : fieldSegments(field)) {
+                FieldNode child = node.children.get(segment);
+                if (child == null) {
+                    node.children.put(segment, child = new FieldNode());
+                }
+                node = child;
+            }
+            if (node.slot == -1) {
+                node.slot = slotCount++;
+            }
+            return node.slot;
+        }
+
+        @Override
+        protected boolean filter(String path, int type) {
+            if (path.length() == 0) {
+                depth = 0;
+                elementDepth = -1;
+            }
+            FieldNode node = null;
+            if (depth == 0) {
+                if (elementSegments.length == 0) {
+                    // 根对象即为元素
+                    if (type != 1) return false;
+                    elementDepth = 0;
+                    node = fieldRoot;
+                }
+            } else {
+                String segment = path.substring(openPaths[depth - 1].length() + 1);
+                if (elementDepth > -1) {
+                    // 元素内只读取引用字段经过的对象或者数组
+                    node = openNodes[depth - 1].children.get(segment);
+                    if (node == null || node.children.isEmpty()) return false;
+                } else {
+                    String expected = elementSegments[depth - 1];
+                    if (expected != null && !expected.equals(segment)) return false;
+                    if (depth == elementSegments.length) {
+                        if (type != 1) return false;
+                        elementDepth = depth;
+                        node = fieldRoot;
+                    }
+                }
+            }
+            if (depth == openPaths.length) {
+                openPaths = Arrays.copyOf(openPaths, depth << 1);
+                openNodes = Arrays.copyOf(openNodes, depth << 1);
+            }
+            openNodes[depth] = node;
+            openPaths[depth++] = path;
+            return true;
+        }
+
+        @Override
+        protected Map createdMap(String path) {
+            return null;
+        }
+
+        @Override
+        protected Collection<?> createdCollection(String path) {
+            return null;
+        }
+
+        @Override
+        protected void parseValue(String key, Object value, Object host, int elementIndex, String path, int type) throws Exception {
+            if (type > 2) {
+                if (elementDepth > -1) {
+                    FieldNode node = openNodes[depth - 1].children.get(key != null ? key : String.valueOf(elementIndex));
+                    if (node != null && node.slot > -1) {
+                        scratch[node.slot] = value;
+                    }
+                }
+            } else if (depth > 1 && openPaths[depth - 1] == path) {
+                // 容器读取完成（空容器不会回调isAboredOnParsed）
+                completed();
+            }
+        }
+
+        @Override
+        protected boolean isAboredOnParsed(Object value, String path, int type) {
+            // 非根容器在parseValue中处理
+            if (depth == 1 && openPaths[0] == path) {
+                completed();
+            }
+            return false;
+        }
+
+        private void completed() {
+            --depth;
+            openPaths[depth] = null;
+            openNodes[depth] = null;
+            if (depth == elementDepth) {
+                aggregate();
+            }
+        }
+
+        private void aggregate() {
+            Object key;
+            Object[] keys = new Object[groupSlots.length];
+            for (int i = 0; i < keys.length; ++i) {
+                keys[i] = scratch[groupSlots[i]];
+            }
+            key = keys.length == 1 ? keys[0] : Arrays.asList(keys);
+            Group group = groups.get(key);
+            if (group == null) {
+                groups.put(key, group = new Group(keys, metricSlots.length));
+            }
+            group.count++;
+            for (int i = 0; i < metricSlots.length; ++i) {
+                int slot = metricSlots[i];
+                if (slot > -1 && scratch[slot] instanceof Number) {
+                    group.accept(i, metricOperations[i], (Number) scratch[slot]);
+                }
+            }
+            Arrays.fill(scratch, null);
+            elementDepth = -1;
+        }
+
+        List<Map<String, Object>> toRows() {
+            List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>(groups.size());
+            for (Group group : groups.values()) {
+                Map<String, Object> row = new LinkedHashMap<String, Object>();
+                for (int i = 0; i < groupFields.length; ++i) {
+                    row.put(groupFields[i], group.keys[i]);
+                }
+                for (int i = 0; i < metricSlots.length; ++i) {
+                    row.put(names.get(i), group.result(i, metricOperations[i]));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+}
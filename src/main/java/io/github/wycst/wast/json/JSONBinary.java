@@ -0,0 +1,704 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.reflect.GetterInfo;
+import io.github.wycst.wast.common.reflect.ReflectConsts;
+import io.github.wycst.wast.common.reflect.UnsafeHelper;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.common.utils.ObjectUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> 紧凑的二进制json编码（wast自有格式，非CBOR/Smile），序列化和反序列化直接使用pojo的结构信息(JSONPojoStructure)；
+ * <p> 字段名可以使用字典（WriteOption.BinaryFieldNameDictionary）：所有字段名只在头部写入一次，值中以序号引用；
+ *
+ * <pre>
+ *  header:     'W' 'B' version(1) flags(bit0: 字典)
+ *  dictionary: (flags & 1) varint(n) (varint(len) utf8)*n
+ *  value:      tag(1 byte) payload
+ *
+ *  tag   payload
+ *  0     null
+ *  1/2   false/true
+ *  3     int/long                 zigzag varint
+ *  4     double                   8 bytes little-endian
+ *  5     float                    4 bytes little-endian
+ *  6     string                   varint(len) utf8
+ *  7     byte[]                   varint(len) bytes
+ *  8     array                    value* 11
+ *  9     object                   (key value)* 0
+ *  10    BigDecimal/BigInteger    varint(len) 十进制文本
+ *
+ *  key:  字典模式 varint(index + 1)，否则 varint(len + 1) utf8
+ * </pre>
+ * <p> 没有二进制表示的类型（java.time, UUID等）使用已注册的文本序列化器转换为通用结构后写入；
+ *
+ * @Created by wangyc
+ * @see JSON#toBinary(Object, io.github.wycst.wast.json.options.WriteOption...)
+ * @see JSON#fromBinary(byte[], Class)
+ * @see JSONBinaryNode
+ */
+final class JSONBinary extends JSONGeneral {
+
+    final static int VERSION = 1;
+    final static int FLAG_DICTIONARY = 1;
+    final static int HEADER_LENGTH = 4;
+
+    final static int TAG_NULL = 0;
+    final static int TAG_FALSE = 1;
+    final static int TAG_TRUE = 2;
+    final static int TAG_INT = 3;
+    final static int TAG_DOUBLE = 4;
+    final static int TAG_FLOAT = 5;
+    final static int TAG_STRING = 6;
+    final static int TAG_BINARY = 7;
+    final static int TAG_ARRAY = 8;
+    final static int TAG_OBJECT = 9;
+    final static int TAG_BIG_NUMBER = 10;
+    final static int TAG_END = 11;
+
+    static byte[] encode(JSONStore store, Object value, JSONConfig jsonConfig) {
+        Encoder encoder = new Encoder(store, jsonConfig);
+        try {
+            encoder.writeValue(value);
+            return encoder.toBytes();
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e.getMessage(), e);
+        } finally {
+            encoder.release();
+        }
+    }
+
+    static <T> T decode(JSONStore store, byte[] binary, GenericParameterizedType<T> genericType) {
+        Decoder decoder = Decoder.of(store, binary);
+        try {
+            Object result = decoder.read(genericType);
+            if (decoder.pos != binary.length) {
+                throw new JSONException("binary syntax error, unexpected trailing bytes at pos " + decoder.pos);
+            }
+            return (T) result;
+        } catch (JSONException e) {
+            throw e;
+        } catch (IndexOutOfBoundsException e) {
+            throw new JSONException("binary syntax error, unexpected end of binary", e);
+        } catch (Exception e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 编码器（值先写入池中的缓冲，字典在结束时写入头部）
+     */
+    static final class Encoder {
+
+        final JSONStore store;
+        final JSONConfig jsonConfig;
+        final boolean fullProperty;
+        final boolean useFields;
+        final boolean skipGetterOfNoneField;
+        final boolean camelCaseToUnderline;
+        final Map<String, Integer> dictionary;
+        byte[] buf;
+        int count;
+
+        Encoder(JSONStore store, JSONConfig jsonConfig) {
+            this.store = store;
+            this.jsonConfig = jsonConfig;
+            this.fullProperty = jsonConfig.isFullProperty();
+            this.useFields = jsonConfig.isUseFields();
+            this.skipGetterOfNoneField = jsonConfig.isSkipGetterOfNoneField();
+            this.camelCaseToUnderline = jsonConfig.isCamelCaseToUnderline();
+            this.dictionary = jsonConfig.isBinaryFieldNameDictionary() ? new LinkedHashMap<String, Integer>() : null;
+            this.buf = JSONBufferPool.BYTES.acquireBytes();
+        }
+
+        void ensureCapacity(int increment) {
+            int min = count + increment;
+            if (min > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, min));
+            }
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[count++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int len) {
+            ensureCapacity(len);
+            System.arraycopy(bytes, offset, buf, count, len);
+            count += len;
+        }
+
+        // varint(len + lengthIncrement) utf8
+        void writeUTF8(String value, int lengthIncrement) {
+            int len = value.length();
+            if (EnvUtils.JDK_9_PLUS) {
+                Object bytes = JSONMemoryHandle.getStringValue(value);
+                if (bytes instanceof byte[] && ((byte[]) bytes).length == len && !EnvUtils.hasNegatives((byte[]) bytes, 0, len)) {
+                    // ascii
+                    writeVarint(len + lengthIncrement);
+                    writeBytes((byte[]) bytes, 0, len);
+                    return;
+                }
+            }
+            byte[] bytes = value.getBytes(EnvUtils.CHARSET_UTF_8);
+            writeVarint(bytes.length + lengthIncrement);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        void writeKey(String key) {
+            if (dictionary == null) {
+                writeUTF8(key, 1);
+            } else {
+                Integer index = dictionary.get(key);
+                if (index == null) {
+                    dictionary.put(key, index = dictionary.size());
+                }
+                writeVarint(index + 1);
+            }
+        }
+
+        void writeLong(long value) {
+            writeByte(TAG_INT);
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeDouble(double value) {
+            ensureCapacity(9);
+            buf[count++] = TAG_DOUBLE;
+            long bits = Double.doubleToLongBits(value);
+            JSONMemoryHandle.putLong(buf, count, EnvUtils.LITTLE_ENDIAN ? bits : Long.reverseBytes(bits));
+            count += 8;
+        }
+
+        void writeFloat(float value) {
+            ensureCapacity(5);
+            buf[count++] = TAG_FLOAT;
+            int bits = Float.floatToIntBits(value);
+            JSONMemoryHandle.putInt(buf, count, EnvUtils.LITTLE_ENDIAN ? bits : Integer.reverseBytes(bits));
+            count += 4;
+        }
+
+        void writeString(String value) {
+            writeByte(TAG_STRING);
+            writeUTF8(value, 0);
+        }
+
+        void writeValue(Object value) throws Exception {
+            if (value == null) {
+                writeByte(TAG_NULL);
+                return;
+            }
+            Class<?> valueClass = value.getClass();
+            if (valueClass == String.class) {
+                writeString((String) value);
+            } else if (valueClass == Integer.class || valueClass == Long.class || valueClass == Short.class || valueClass == Byte.class || valueClass == AtomicInteger.class || valueClass == AtomicLong.class) {
+                writeLong(((Number) value).longValue());
+            } else if (valueClass == Double.class) {
+                writeDouble((Double) value);
+            } else if (valueClass == Float.class) {
+                writeFloat((Float) value);
+            } else if (valueClass == Boolean.class) {
+                writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Map) {
+                writeMap((Map) value);
+            } else if (value instanceof Collection) {
+                writeByte(TAG_ARRAY);
+                for (Object element : (Collection) value) {
+                    writeValue(element);
+                }
+                writeByte(TAG_END);
+            } else if (valueClass == byte[].class) {
+                byte[] bytes = (byte[]) value;
+                writeByte(TAG_BINARY);
+                writeVarint(bytes.length);
+                writeBytes(bytes, 0, bytes.length);
+            } else if (valueClass == char[].class) {
+                writeString(new String((char[]) value));
+            } else if (valueClass.isArray()) {
+                writeByte(TAG_ARRAY);
+                for (int i = 0, n = Array.getLength(value); i < n; ++i) {
+                    writeValue(Array.get(value, i));
+                }
+                writeByte(TAG_END);
+            } else if (value instanceof Number) {
+                writeByte(TAG_BIG_NUMBER);
+                writeUTF8(value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString(), 0);
+            } else if (value instanceof Enum) {
+                writeString(((Enum) value).name());
+            } else if (value instanceof CharSequence || valueClass == Character.class) {
+                writeString(value.toString());
+            } else if (value instanceof Date) {
+                writeLong(((Date) value).getTime());
+            } else {
+                JSONTypeSerializer typeSerializer = store.getTypeSerializer(valueClass);
+                if (typeSerializer instanceof JSONPojoSerializer) {
+                    writePojo(value, ((JSONPojoSerializer) typeSerializer).pojoStructure);
+                } else {
+                    writeValue(toGenericValue(value, typeSerializer));
+                }
+            }
+        }
+
+        void writeMap(Map<?, ?> map) throws Exception {
+            writeByte(TAG_OBJECT);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null && !fullProperty) continue;
+                writeKey(String.valueOf(entry.getKey()));
+                writeValue(value);
+            }
+            writeVarint(0);
+        }
+
+        void writePojo(Object entity, JSONPojoStructure pojoStructure) throws Exception {
+            pojoStructure.ensureInitializedFieldSerializers();
+            writeByte(TAG_OBJECT);
+            for (JSONPojoFieldSerializer fieldSerializer : pojoStructure.getFieldSerializers(useFields)) {
+                GetterInfo getterInfo = fieldSerializer.getterInfo;
+                if (!getterInfo.existField() && skipGetterOfNoneField) {
+                    continue;
+                }
+                Object value = JSON_SECURE_TRUSTED_ACCESS.get(getterInfo, entity);
+                if (value == null && !fullProperty) continue;
+                writeKey(camelCaseToUnderline ? getterInfo.getUnderlineName() : fieldSerializer.name);
+                writeValue(value);
+            }
+            writeVarint(0);
+        }
+
+        // 没有二进制表示的类型（java.time, UUID等）: 文本序列化后解析为通用结构
+        Object toGenericValue(Object value, JSONTypeSerializer typeSerializer) throws Exception {
+            JSONWriter writer = JSONWriter.forStringWriter(jsonConfig);
+            try {
+                typeSerializer.serialize(value, writer, jsonConfig, -1);
+                return JSON.parse(writer.toString());
+            } finally {
+                writer.reset();
+            }
+        }
+
+        byte[] toBytes() {
+            int bodyLength = count;
+            byte[] result;
+            if (dictionary == null) {
+                result = new byte[HEADER_LENGTH + bodyLength];
+                System.arraycopy(buf, 0, result, HEADER_LENGTH, bodyLength);
+            } else {
+                // 字典写在值之后再整体移动到头部
+                writeVarint(dictionary.size());
+                for (String key : dictionary.keySet()) {
+                    writeUTF8(key, 0);
+                }
+                int dictionaryLength = count - bodyLength;
+                result = new byte[HEADER_LENGTH + dictionaryLength + bodyLength];
+                System.arraycopy(buf, bodyLength, result, HEADER_LENGTH, dictionaryLength);
+                System.arraycopy(buf, 0, result, HEADER_LENGTH + dictionaryLength, bodyLength);
+            }
+            result[0] = 'W';
+            result[1] = 'B';
+            result[2] = VERSION;
+            result[3] = (byte) (dictionary == null ? 0 : FLAG_DICTIONARY);
+            return result;
+        }
+
+        void release() {
+            byte[] buf = this.buf;
+            this.buf = null;
+            if (buf != null) {
+                JSONBufferPool.BYTES.release(buf);
+            }
+        }
+    }
+
+    /**
+     * 解码器（按目标类型直接构建对象，不经过中间结构）
+     */
+    static final class Decoder {
+
+        final JSONStore store;
+        final byte[] buf;
+        final String[] dictionary;
+        int pos;
+
+        Decoder(JSONStore store, byte[] buf, String[] dictionary, int pos) {
+            this.store = store;
+            this.buf = buf;
+            this.dictionary = dictionary;
+            this.pos = pos;
+        }
+
+        /**
+         * 解析头部和字典，返回定位到根值的解码器
+         */
+        static Decoder of(JSONStore store, byte[] binary) {
+            if (binary == null || binary.length < HEADER_LENGTH + 1 || binary[0] != 'W' || binary[1] != 'B') {
+                throw new JSONException("invalid binary json, header mismatch");
+            }
+            if (binary[2] != VERSION) {
+                throw new JSONException("unsupported binary json version " + binary[2]);
+            }
+            Decoder decoder = new Decoder(store, binary, null, HEADER_LENGTH);
+            if ((binary[3] & FLAG_DICTIONARY) == 0) {
+                return decoder;
+            }
+            try {
+                int n = decoder.readLength();
+                String[] dictionary = new String[n];
+                for (int i = 0; i < n; ++i) {
+                    dictionary[i] = decoder.readUTF8(decoder.readLength());
+                }
+                return new Decoder(store, binary, dictionary, decoder.pos);
+            } catch (IndexOutOfBoundsException e) {
+                throw new JSONException("binary syntax error, unexpected end of dictionary", e);
+            }
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            while ((b = buf[pos++]) < 0) {
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            }
+            return value | (long) b << shift;
+        }
+
+        int readLength() {
+            long len = readVarint();
+            if (len < 0 || len > buf.length - pos) {
+                throw new JSONException("binary syntax error, invalid length " + len + " at pos " + pos);
+            }
+            return (int) len;
+        }
+
+        long readLong() {
+            long v = readVarint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        double readDouble() {
+            if (pos + 8 > buf.length) {
+                throw new JSONException("binary syntax error, unexpected end of binary at pos " + pos);
+            }
+            long bits = JSONMemoryHandle.getLong(buf, pos);
+            pos += 8;
+            return Double.longBitsToDouble(EnvUtils.LITTLE_ENDIAN ? bits : Long.reverseBytes(bits));
+        }
+
+        float readFloat() {
+            if (pos + 4 > buf.length) {
+                throw new JSONException("binary syntax error, unexpected end of binary at pos " + pos);
+            }
+            int bits = JSONMemoryHandle.getInt(buf, pos);
+            pos += 4;
+            return Float.intBitsToFloat(EnvUtils.LITTLE_ENDIAN ? bits : Integer.reverseBytes(bits));
+        }
+
+        String readUTF8(int len) {
+            String value = JSONUTF8Decoder.decode(buf, pos, len, false);
+            pos += len;
+            return value;
+        }
+
+        /**
+         * 读取对象的下一个key，对象结束时返回null
+         */
+        String readKey() {
+            long k = readVarint();
+            if (k == 0) return null;
+            if (dictionary != null) {
+                if (k > dictionary.length) {
+                    throw new JSONException("binary syntax error, invalid key index " + (k - 1) + " at pos " + pos);
+                }
+                return dictionary[(int) k - 1];
+            }
+            if (k - 1 > buf.length - pos) {
+                throw new JSONException("binary syntax error, invalid key length " + (k - 1) + " at pos " + pos);
+            }
+            return readUTF8((int) k - 1);
+        }
+
+        /**
+         * 跳过一个值（懒加载节点定位子元素时使用）
+         */
+        void skip() {
+            int tag = buf[pos++];
+            switch (tag) {
+                case TAG_NULL:
+                case TAG_FALSE:
+                case TAG_TRUE:
+                    return;
+                case TAG_INT:
+                    readVarint();
+                    return;
+                case TAG_DOUBLE:
+                    pos += 8;
+                    return;
+                case TAG_FLOAT:
+                    pos += 4;
+                    return;
+                case TAG_STRING:
+                case TAG_BINARY:
+                case TAG_BIG_NUMBER: {
+                    int len = readLength();
+                    pos += len;
+                    return;
+                }
+                case TAG_ARRAY:
+                    while (buf[pos] != TAG_END) {
+                        skip();
+                    }
+                    ++pos;
+                    return;
+                case TAG_OBJECT: {
+                    long k;
+                    while ((k = readVarint()) != 0) {
+                        if (dictionary == null) {
+                            pos += (int) k - 1;
+                        }
+                        skip();
+                    }
+                    return;
+                }
+                default:
+                    throw unexpectedTag(tag);
+            }
+        }
+
+        JSONException unexpectedTag(int tag) {
+            return new JSONException("binary syntax error, unexpected tag " + tag + " at pos " + (pos - 1));
+        }
+
+        /**
+         * 读取为通用结构（Map/List/String/Number/Boolean/byte[]）
+         */
+        Object readAny() {
+            int tag = buf[pos++];
+            switch (tag) {
+                case TAG_NULL:
+                    return null;
+                case TAG_FALSE:
+                    return false;
+                case TAG_TRUE:
+                    return true;
+                case TAG_INT: {
+                    long value = readLong();
+                    return value == (int) value ? (Object) (int) value : (Object) value;
+                }
+                case TAG_DOUBLE:
+                    return readDouble();
+                case TAG_FLOAT:
+                    return readFloat();
+                case TAG_STRING:
+                    return readUTF8(readLength());
+                case TAG_BINARY: {
+                    int len = readLength();
+                    byte[] bytes = Arrays.copyOfRange(buf, pos, pos + len);
+                    pos += len;
+                    return bytes;
+                }
+                case TAG_BIG_NUMBER: {
+                    String text = readUTF8(readLength());
+                    return text.indexOf('.') > -1 || text.indexOf('e') > -1 || text.indexOf('E') > -1 ? new BigDecimal(text) : new BigInteger(text);
+                }
+                case TAG_ARRAY: {
+                    List<Object> list = new ArrayList<Object>();
+                    while (buf[pos] != TAG_END) {
+                        list.add(readAny());
+                    }
+                    ++pos;
+                    return list;
+                }
+                case TAG_OBJECT: {
+                    Map<String, Object> map = new LinkedHashMap<String, Object>();
+                    String key;
+                    while ((key = readKey()) != null) {
+                        map.put(key, readAny());
+                    }
+                    return map;
+                }
+                default:
+                    throw unexpectedTag(tag);
+            }
+        }
+
+        /**
+         * 按类型读取
+         */
+        Object read(GenericParameterizedType<?> genericType) throws Exception {
+            if (buf[pos] == TAG_NULL) {
+                ++pos;
+                return null;
+            }
+            Class<?> actualType;
+            if (genericType == null || (actualType = genericType.getActualType()) == null || actualType == Object.class) {
+                return readAny();
+            }
+            ReflectConsts.ClassCategory classCategory = genericType.getActualClassCategory();
+            switch (classCategory) {
+                case CharSequence: {
+                    Object value = readAny();
+                    if (actualType == char.class || actualType == Character.class) {
+                        String text = value.toString();
+                        return text.isEmpty() ? null : text.charAt(0);
+                    }
+                    if (actualType == String.class || actualType.isInstance(value)) {
+                        return ObjectUtils.toType(value, actualType, classCategory);
+                    }
+                    return fallback(value, genericType);
+                }
+                case NumberCategory:
+                case BoolCategory:
+                case EnumCategory:
+                    return ObjectUtils.toType(readAny(), actualType, classCategory);
+                case DateCategory: {
+                    Object value = readAny();
+                    if (value instanceof Number) {
+                        return toDate(actualType, ((Number) value).longValue());
+                    }
+                    return ObjectUtils.toType(value, actualType, classCategory);
+                }
+                case Binary: {
+                    Object value = readAny();
+                    return value instanceof byte[] ? value : fallback(value, genericType);
+                }
+                case CollectionCategory:
+                    return readCollection(actualType, genericType.getValueType());
+                case ArrayCategory:
+                    return readArray(actualType.getComponentType(), genericType.getValueType());
+                case MapCategory:
+                    return readMap(genericType);
+                case ObjectCategory: {
+                    JSONTypeDeserializer typeDeserializer = store.getTypeDeserializer(actualType);
+                    if (typeDeserializer instanceof JSONPojoDeserializer) {
+                        return readPojo(store.getPojoStruc(actualType));
+                    }
+                    return fallback(readAny(), genericType);
+                }
+                default: {
+                    Object value = readAny();
+                    return actualType.isInstance(value) ? value : fallback(value, genericType);
+                }
+            }
+        }
+
+        // 其他类型使用已注册的文本反序列化器
+        Object fallback(Object value, GenericParameterizedType<?> genericType) {
+            return JSON.parse(JSON.toJsonString(value), genericType);
+        }
+
+        static Object toDate(Class<?> dateClass, long time) throws Exception {
+            if (dateClass == Date.class) {
+                return new Date(time);
+            }
+            if (dateClass == Timestamp.class) {
+                return new Timestamp(time);
+            }
+            Constructor constructor = dateClass.getDeclaredConstructor(long.class);
+            UnsafeHelper.setAccessible(constructor);
+            return constructor.newInstance(time);
+        }
+
+        void expectTag(int expected) {
+            int tag = buf[pos++];
+            if (tag != expected) {
+                throw unexpectedTag(tag);
+            }
+        }
+
+        Collection readCollection(Class<?> collectionClass, GenericParameterizedType<?> valueType) throws Exception {
+            expectTag(TAG_ARRAY);
+            Collection collection = createCollectionInstance(collectionClass);
+            while (buf[pos] != TAG_END) {
+                collection.add(read(valueType));
+            }
+            ++pos;
+            return collection;
+        }
+
+        Object readArray(Class<?> componentType, GenericParameterizedType<?> valueType) throws Exception {
+            if (componentType == char.class) {
+                Object value = readAny();
+                return value instanceof String ? ((String) value).toCharArray() : fallback(value, GenericParameterizedType.actualType(char[].class));
+            }
+            if (valueType == null) {
+                valueType = GenericParameterizedType.actualType(componentType);
+            }
+            expectTag(TAG_ARRAY);
+            List<Object> elements = new ArrayList<Object>();
+            while (buf[pos] != TAG_END) {
+                elements.add(read(valueType));
+            }
+            ++pos;
+            int n = elements.size();
+            Object array = Array.newInstance(componentType, n);
+            boolean primitive = componentType.isPrimitive();
+            for (int i = 0; i < n; ++i) {
+                Object element = elements.get(i);
+                if (element == null && primitive) continue;
+                Array.set(array, i, element);
+            }
+            return array;
+        }
+
+        Map readMap(GenericParameterizedType<?> genericType) throws Exception {
+            expectTag(TAG_OBJECT);
+            Map map = createMapInstance(genericType);
+            Class<?> mapKeyClass = genericType.getMapKeyClass();
+            boolean convertKey = mapKeyClass != null && mapKeyClass != String.class && mapKeyClass != Object.class;
+            GenericParameterizedType<?> valueType = genericType.getValueType();
+            String key;
+            while ((key = readKey()) != null) {
+                map.put(convertKey ? ObjectUtils.toType(key, mapKeyClass) : key, read(valueType));
+            }
+            return map;
+        }
+
+        Object readPojo(JSONPojoStructure pojoStructure) throws Exception {
+            pojoStructure.ensureInitializedFieldDeserializers();
+            expectTag(TAG_OBJECT);
+            boolean record = pojoStructure.isRecord();
+            Object entity = record ? pojoStructure.createConstructorArgs() : pojoStructure.newInstance();
+            String key;
+            while ((key = readKey()) != null) {
+                JSONPojoFieldDeserializer fieldDeserializer = pojoStructure.getFieldDeserializer(key);
+                if (fieldDeserializer == null) {
+                    skip();
+                    continue;
+                }
+                GenericParameterizedType<?> fieldType = fieldDeserializer.genericParameterizedType;
+                Object value = read(fieldType);
+                if (value == null && fieldType.getActualType().isPrimitive()) continue;
+                if (record) {
+                    ((Object[]) entity)[fieldDeserializer.fieldIndex] = value;
+                } else {
+                    JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
+                }
+            }
+            return record ? pojoStructure.newInstance((Object[]) entity) : entity;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.utils.ObjectUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> 二进制json的懒加载节点：只记录值在binary中的偏移，按需定位子元素（跳过无关子树不做解码）；
+ * <p> 子元素的偏移在第一次访问时建立索引；
+ *
+ * <pre>
+ *  JSONBinaryNode root = JSON.parseBinaryNode(binary);
+ *  String name = root.get("/data/users/0/name").getStringValue();
+ * </pre>
+ *
+ * @Created by wangyc
+ * @see JSON#parseBinaryNode(byte[])
+ * @see JSONBinary
+ */
+public final class JSONBinaryNode {
+
+    public final static int OBJECT = 1;
+    public final static int ARRAY = 2;
+    public final static int STRING = 3;
+    public final static int NUMBER = 4;
+    public final static int BOOLEAN = 5;
+    public final static int NULL = 6;
+    public final static int BINARY = 7;
+
+    final JSONStore store;
+    final byte[] buf;
+    final String[] dictionary;
+    final int offset;
+    final int tag;
+
+    // 子元素索引（对象或者数组）
+    private String[] childKeys;
+    private int[] childOffsets;
+    private JSONBinaryNode[] children;
+    private int childCount = -1;
+
+    JSONBinaryNode(JSONStore store, byte[] buf, String[] dictionary, int offset) {
+        this.store = store;
+        this.buf = buf;
+        this.dictionary = dictionary;
+        this.offset = offset;
+        this.tag = buf[offset];
+    }
+
+    static JSONBinaryNode parse(JSONStore store, byte[] binary) {
+        JSONBinary.Decoder decoder = JSONBinary.Decoder.of(store, binary);
+        return new JSONBinaryNode(store, binary, decoder.dictionary, decoder.pos);
+    }
+
+    JSONBinary.Decoder decoder() {
+        return new JSONBinary.Decoder(store, buf, dictionary, offset);
+    }
+
+    public int getType() {
+        switch (tag) {
+            case JSONBinary.TAG_OBJECT:
+                return OBJECT;
+            case JSONBinary.TAG_ARRAY:
+                return ARRAY;
+            case JSONBinary.TAG_STRING:
+                return STRING;
+            case JSONBinary.TAG_INT:
+            case JSONBinary.TAG_DOUBLE:
+            case JSONBinary.TAG_FLOAT:
+            case JSONBinary.TAG_BIG_NUMBER:
+                return NUMBER;
+            case JSONBinary.TAG_TRUE:
+            case JSONBinary.TAG_FALSE:
+                return BOOLEAN;
+            case JSONBinary.TAG_BINARY:
+                return BINARY;
+            default:
+                return NULL;
+        }
+    }
+
+    public boolean isObject() {
+        return tag == JSONBinary.TAG_OBJECT;
+    }
+
+    public boolean isArray() {
+        return tag == JSONBinary.TAG_ARRAY;
+    }
+
+    public boolean isNull() {
+        return tag == JSONBinary.TAG_NULL;
+    }
+
+    public boolean isLeaf() {
+        return tag != JSONBinary.TAG_OBJECT && tag != JSONBinary.TAG_ARRAY;
+    }
+
+    private void ensureIndexed() {
+        if (childCount > -1) return;
+        if (isLeaf()) {
+            childCount = 0;
+            return;
+        }
+        boolean object = isObject();
+        JSONBinary.Decoder decoder = decoder();
+        ++decoder.pos;
+        int n = 0;
+        String[] keys = object ? new String[8] : null;
+        int[] offsets = new int[8];
+        try {
+            while (true) {
+                String key = null;
+                if (object) {
+                    if ((key = decoder.readKey()) == null) break;
+                } else if (buf[decoder.pos] == JSONBinary.TAG_END) {
+                    break;
+                }
+                if (n == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, n << 1);
+                    if (object) {
+                        keys = Arrays.copyOf(keys, n << 1);
+                    }
+                }
+                if (object) {
+                    keys[n] = key;
+                }
+                offsets[n++] = decoder.pos;
+                decoder.skip();
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new JSONException("binary syntax error, unexpected end of binary", e);
+        }
+        childKeys = keys;
+        childOffsets = offsets;
+        children = new JSONBinaryNode[n];
+        childCount = n;
+    }
+
+    /**
+     * 对象的字段数或者数组的元素个数，叶子节点返回0
+     */
+    public int getElementCount() {
+        ensureIndexed();
+        return childCount;
+    }
+
+    public List<String> getFieldNames() {
+        if (!isObject()) return Collections.emptyList();
+        ensureIndexed();
+        List<String> fieldNames = new ArrayList<String>(childCount);
+        for (int i = 0; i < childCount; ++i) {
+            fieldNames.add(childKeys[i]);
+        }
+        return fieldNames;
+    }
+
+    JSONBinaryNode childAt(int index) {
+        JSONBinaryNode child = children[index];
+        if (child == null) {
+            children[index] = child = new JSONBinaryNode(store, buf, dictionary, childOffsets[index]);
+        }
+        return child;
+    }
+
+    /**
+     * 对象的子节点（多个同名字段时取最后一个，与文本解析一致），不存在返回null
+     */
+    public JSONBinaryNode getChild(String name) {
+        if (!isObject()) return null;
+        ensureIndexed();
+        for (int i = childCount - 1; i > -1; --i) {
+            if (childKeys[i].equals(name)) {
+                return childAt(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 数组的第index个元素，越界返回null
+     */
+    public JSONBinaryNode getElementAt(int index) {
+        if (!isArray()) return null;
+        ensureIndexed();
+        return index > -1 && index < childCount ? childAt(index) : null;
+    }
+
+    /**
+     * 按路径查找节点，使用'/'分隔，数组使用下标，例如 /data/users/0/name
+     */
+    public JSONBinaryNode get(String path) {
+        JSONBinaryNode node = this;
+        int len = path.length(), begin = 0;
+        while (node != null && begin < len) {
+            int end = path.indexOf('/', begin);
+            if (end == -1) end = len;
+            if (end > begin) {
+                String token = path.substring(begin, end);
+                if (node.isArray()) {
+                    int index;
+                    try {
+                        index = Integer.parseInt(token);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    node = node.getElementAt(index);
+                } else {
+                    node = node.getChild(token);
+                }
+            }
+            begin = end + 1;
+        }
+        return node;
+    }
+
+    /**
+     * 解码为通用结构（Map/List/String/Number/Boolean/byte[]）
+     */
+    public Object any() {
+        try {
+            return decoder().readAny();
+        } catch (IndexOutOfBoundsException e) {
+            throw new JSONException("binary syntax error, unexpected end of binary", e);
+        }
+    }
+
+    public <E> E getValue(Class<E> eClass) {
+        return toBean(GenericParameterizedType.actualType(eClass));
+    }
+
+    public <E> E toBean(Class<E> eClass) {
+        return toBean(GenericParameterizedType.actualType(eClass));
+    }
+
+    public <E> E toBean(GenericParameterizedType<E> genericType) {
+        try {
+            return (E) decoder().read(genericType);
+        } catch (JSONException e) {
+            throw e;
+        } catch (IndexOutOfBoundsException e) {
+            throw new JSONException("binary syntax error, unexpected end of binary", e);
+        } catch (Exception e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    public String getStringValue() {
+        if (tag == JSONBinary.TAG_STRING) {
+            JSONBinary.Decoder decoder = decoder();
+            ++decoder.pos;
+            return decoder.readUTF8(decoder.readLength());
+        }
+        Object value = any();
+        return value == null ? null : value.toString();
+    }
+
+    public long getLongValue() {
+        if (tag == JSONBinary.TAG_INT) {
+            JSONBinary.Decoder decoder = decoder();
+            ++decoder.pos;
+            try {
+                return decoder.readLong();
+            } catch (IndexOutOfBoundsException e) {
+                throw new JSONException("binary syntax error, unexpected end of binary", e);
+            }
+        }
+        Long value = ObjectUtils.toType(any(), Long.class);
+        return value == null ? 0 : value;
+    }
+
+    public int getIntValue() {
+        return (int) getLongValue();
+    }
+
+    public double getDoubleValue() {
+        if (tag == JSONBinary.TAG_DOUBLE) {
+            JSONBinary.Decoder decoder = decoder();
+            ++decoder.pos;
+            return decoder.readDouble();
+        }
+        Double value = ObjectUtils.toType(any(), Double.class);
+        return value == null ? 0 : value;
+    }
+
+    public boolean getBooleanValue() {
+        if (tag == JSONBinary.TAG_TRUE || tag == JSONBinary.TAG_FALSE) {
+            return tag == JSONBinary.TAG_TRUE;
+        }
+        Boolean value = ObjectUtils.toType(any(), Boolean.class);
+        return value != null && value;
+    }
+
+    @Override
+    public String toString() {
+        return JSON.toJsonString(any());
+    }
+}
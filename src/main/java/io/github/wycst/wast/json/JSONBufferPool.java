@@ -0,0 +1,271 @@
+package io.github.wycst.wast.json;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p> writer缓冲池（JSONCharArrayWriter/JSONByteArrayWriter）
+ * <p> 无锁分段（striped）实现：根据线程id散列到起始slot，通过CAS取出(getAndSet)或者归还(compareAndSet)缓冲，最多探测PROBES个slot；
+ * 不依赖ThreadLocal，大量线程或者虚拟线程场景下命中率只取决于池中空闲缓冲的个数；
+ * <p> 缓冲按大小分为small和large两个级别（分界为small-max-size），超过max-size的缓冲不再缓存；
+ * <p> 配置参考JSONVmOptions(wast.json.writer-buffer.*)，需要在JSON初始化之前设置；
+ *
+ * @Created by wangyc
+ * @see JSONVmOptions#getWriterBufferPoolSize()
+ * @see JSONVmOptions#getWriterBufferInitialSize()
+ * @see JSONVmOptions#getWriterBufferSmallMaxSize()
+ * @see JSONVmOptions#getWriterBufferMaxSize()
+ */
+public final class JSONBufferPool {
+
+    // slot间隔（避免相邻slot的伪共享）
+    final static int SLOT_STRIDE = 16;
+    // 计数器间隔（long）
+    final static int COUNTER_STRIDE = 16;
+    final static int MAX_COUNTER_STRIPES = 32;
+    final static int PROBES = 4;
+    final static int HITS = 0, MISSES = 1, DROPS = 2, RETAINED_BYTES = 3;
+
+    final static JSONBufferPool CHARS;
+    final static JSONBufferPool BYTES;
+
+    static {
+        int poolSize = JSONVmOptions.getWriterBufferPoolSize();
+        int initialSize = JSONVmOptions.getWriterBufferInitialSize();
+        int maxSize = JSONVmOptions.getWriterBufferMaxSize();
+        int smallMaxSize = Math.min(Math.max(JSONVmOptions.getWriterBufferSmallMaxSize(), initialSize), maxSize);
+        int initCount = Math.max(2, Runtime.getRuntime().availableProcessors() >> 3);
+        CHARS = new JSONBufferPool(true, poolSize, initialSize, smallMaxSize, maxSize, initCount);
+        BYTES = new JSONBufferPool(false, poolSize, initialSize, smallMaxSize, maxSize, initCount);
+    }
+
+    private final boolean chars;
+    private final int initialSize;
+    private final int smallMaxSize;
+    private final int maxSize;
+    private final int smallSlots;
+    private final int largeSlots;
+    private final AtomicReferenceArray<Object> small;
+    private final AtomicReferenceArray<Object> large;
+    private final int counterMask;
+    private final AtomicLongArray counters;
+
+    JSONBufferPool(boolean chars, int poolSize, int initialSize, int smallMaxSize, int maxSize, int initCount) {
+        this.chars = chars;
+        this.initialSize = initialSize;
+        this.smallMaxSize = smallMaxSize;
+        this.maxSize = maxSize;
+        this.smallSlots = tableSize(poolSize);
+        this.largeSlots = Math.max(2, smallSlots >> 2);
+        this.small = new AtomicReferenceArray<Object>(smallSlots * SLOT_STRIDE);
+        this.large = new AtomicReferenceArray<Object>(largeSlots * SLOT_STRIDE);
+        int counterStripes = Math.min(smallSlots, MAX_COUNTER_STRIPES);
+        this.counterMask = counterStripes - 1;
+        this.counters = new AtomicLongArray(counterStripes * COUNTER_STRIDE);
+        for (int i = 0, n = Math.min(initCount, smallSlots); i < n; ++i) {
+            small.set(i * SLOT_STRIDE, allocate(initialSize));
+            counters.addAndGet(RETAINED_BYTES, sizeOf(initialSize));
+        }
+    }
+
+    static int tableSize(int size) {
+        int n = 1;
+        while (n < size && n < 1 << 16) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    /**
+     * 字符缓冲池（toJsonString/writeJsonTo(Writer)）
+     */
+    public static JSONBufferPool charBufferPool() {
+        return CHARS;
+    }
+
+    /**
+     * 字节缓冲池（toJsonBytes/writeJsonTo(OutputStream)）
+     */
+    public static JSONBufferPool byteBufferPool() {
+        return BYTES;
+    }
+
+    // 散列线程id（虚拟线程的id单调递增）
+    static int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40);
+    }
+
+    Object allocate(int size) {
+        return chars ? new char[size] : new byte[size];
+    }
+
+    long sizeOf(int length) {
+        return chars ? (long) length << 1 : length;
+    }
+
+    int lengthOf(Object buf) {
+        return chars ? ((char[]) buf).length : ((byte[]) buf).length;
+    }
+
+    void count(int h, int counter, long delta) {
+        counters.addAndGet((h & counterMask) * COUNTER_STRIDE + counter, delta);
+    }
+
+    Object take(AtomicReferenceArray<Object> slots, int slotCount, int h) {
+        int mask = slotCount - 1;
+        for (int i = 0, n = Math.min(slotCount, PROBES); i < n; ++i) {
+            int index = ((h + i) & mask) * SLOT_STRIDE;
+            if (slots.get(index) != null) {
+                Object buf = slots.getAndSet(index, null);
+                if (buf != null) {
+                    return buf;
+                }
+            }
+        }
+        return null;
+    }
+
+    boolean put(AtomicReferenceArray<Object> slots, int slotCount, int h, Object buf) {
+        int mask = slotCount - 1;
+        for (int i = 0, n = Math.min(slotCount, PROBES); i < n; ++i) {
+            int index = ((h + i) & mask) * SLOT_STRIDE;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buf)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 取出缓冲，未命中时分配初始大小的新缓冲（使用完后归还即可进入池中）
+     */
+    Object acquire() {
+        int h = probe();
+        Object buf = take(small, smallSlots, h);
+        if (buf == null) {
+            buf = take(large, largeSlots, h);
+        }
+        if (buf != null) {
+            count(h, HITS, 1);
+            count(h, RETAINED_BYTES, -sizeOf(lengthOf(buf)));
+            return buf;
+        }
+        count(h, MISSES, 1);
+        return allocate(initialSize);
+    }
+
+    char[] acquireChars() {
+        return (char[]) acquire();
+    }
+
+    byte[] acquireBytes() {
+        return (byte[]) acquire();
+    }
+
+    /**
+     * 归还缓冲，超过maxSize或者探测的slot已满时丢弃
+     */
+    void release(Object buf) {
+        int h = probe();
+        int length = lengthOf(buf);
+        if (length <= maxSize) {
+            boolean retained = length <= smallMaxSize ? put(small, smallSlots, h, buf) : put(large, largeSlots, h, buf);
+            if (retained) {
+                count(h, RETAINED_BYTES, sizeOf(length));
+                return;
+            }
+        }
+        count(h, DROPS, 1);
+    }
+
+    long sum(int counter) {
+        long total = 0;
+        for (int i = 0, n = counterMask + 1; i < n; ++i) {
+            total += counters.get(i * COUNTER_STRIDE + counter);
+        }
+        return total;
+    }
+
+    /**
+     * 命中次数
+     */
+    public long getHits() {
+        return sum(HITS);
+    }
+
+    /**
+     * 未命中（新分配缓冲）次数
+     */
+    public long getMisses() {
+        return sum(MISSES);
+    }
+
+    /**
+     * 归还时丢弃的次数（超过max-size或者slot已满）
+     */
+    public long getDrops() {
+        return sum(DROPS);
+    }
+
+    /**
+     * 池中空闲缓冲占用的字节数
+     */
+    public long getRetainedBytes() {
+        return sum(RETAINED_BYTES);
+    }
+
+    /**
+     * 命中率
+     */
+    public double getHitRatio() {
+        long hits = getHits(), total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int getPoolSize() {
+        return smallSlots;
+    }
+
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    public int getSmallMaxSize() {
+        return smallMaxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 释放池中所有空闲缓冲
+     */
+    public void clear() {
+        int h = probe();
+        clear(small, h);
+        clear(large, h);
+    }
+
+    private void clear(AtomicReferenceArray<Object> slots, int h) {
+        for (int i = 0, n = slots.length(); i < n; i += SLOT_STRIDE) {
+            Object buf = slots.getAndSet(i, null);
+            if (buf != null) {
+                count(h, RETAINED_BYTES, -sizeOf(lengthOf(buf)));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JSONBufferPool{" +
+                "type=" + (chars ? "char[]" : "byte[]") +
+                ", poolSize=" + smallSlots +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", drops=" + getDrops() +
+                ", retainedBytes=" + getRetainedBytes() +
+                '}';
+    }
+}
@@ -9,6 +9,7 @@ import java.io.OutputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.UUID;
@@ -25,7 +26,7 @@ import java.util.UUID;
  */
 class JSONByteArrayWriter extends JSONWriter {
 
-    private final Charset charset;
+    final Charset charset;
     private final boolean utf8;
     // buff
     byte[] buf;
@@ -35,56 +36,19 @@ class JSONByteArrayWriter extends JSONWriter {
 
     // EMPTY buf
     static final byte[] EMPTY_BUF = new byte[0];
-    final static BufCache[] BYTE_BUF_CACHES = new BufCache[CACHE_COUNT];
-
-    static {
-        // init caches
-        for (int i = 0; i < CACHE_COUNT; ++i) {
-            BufCache bufCache = new BufCache();
-            bufCache.index = i;
-            if (i < INIT_CACHE_COUNT) {
-                bufCache.cacheBytes = new byte[CACHE_BUFFER_SIZE];
-            }
-            BYTE_BUF_CACHES[i] = bufCache;
-        }
-    }
 
     JSONByteArrayWriter(Charset charset) {
         this.charset = charset == null ? Charset.defaultCharset() : charset;
         utf8 = charset == EnvUtils.CHARSET_UTF_8;
         // use pool
-        BufCache bufCache = getByteBufCache(); // getOrReturnCache(null);
-        if (bufCache != null) {
-            buf = bufCache.cacheBytes;
-            this.bufCache = bufCache;
-        } else {
-            buf = new byte[512];
-        }
-    }
-
-    private static BufCache getByteBufCache() {
-        int cacheIndex = THREAD_CACHE_INDEX.get();
-        BufCache cache = BYTE_BUF_CACHES[cacheIndex];
-        synchronized (cache) {
-            if (cache.inUse) return null;
-            cache.inUse = true;
-            if (cache.cacheBytes == null) {
-                cache.cacheBytes = new byte[CACHE_BUFFER_SIZE];
-            }
-        }
-        return cache;
+        buf = JSONBufferPool.BYTES.acquireBytes();
+        pooled = true;
     }
 
     /**
-     * The current instance uses a cached instance
+     * The current buffer is taken from the pool
      */
-    private BufCache bufCache;
-
-    private static class BufCache {
-        byte[] cacheBytes;
-        boolean inUse;
-        int index;
-    }
+    private boolean pooled;
 
     /**
      * There are no double byte characters in the JSON scenario
@@ -271,6 +235,21 @@ class JSONByteArrayWriter extends JSONWriter {
         os.flush();
     }
 
+    @Override
+    void toByteBuffer(ByteBuffer buffer) {
+        checkRemaining(buffer, count);
+        buffer.put(buf, 0, count);
+    }
+
+    @Override
+    void toChannel(WritableByteChannel channel) throws IOException {
+        checkBlocking(channel);
+        ByteBuffer buffer = ByteBuffer.wrap(buf, 0, count);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
     @Override
     protected boolean endsWith(int c) {
         return count != 0 && buf[count - 1] == c;
@@ -544,9 +523,16 @@ class JSONByteArrayWriter extends JSONWriter {
     public void writeUTF16JSONString(String value, byte[] bytes) throws IOException {
         int len = value.length();
         ensureCapacity(len * 6 + (2 + SECURITY_UNCHECK_SPACE));
-        int count = this.count;
+        int count = this.count, i = 0;
         buf[count++] = '"';
-        for (int i = 0; i < len; ++i) {
+        if (len > 15) {
+            // ascii prefix without escape
+            i = JSONGeneral.JSON_UTIL.toNoEscapeAsciiOffset(bytes, 0);
+            for (int j = 0; j < i; ++j) {
+                buf[count++] = (byte) value.charAt(j);
+            }
+        }
+        for (; i < len; ++i) {
             char c = value.charAt(i);
             String escapeStr;
             if ((c > '"' && c != '\\') || (escapeStr = JSONGeneral.ESCAPE_VALUES[c & 0xFF]) == null) {
@@ -1003,13 +989,9 @@ class JSONByteArrayWriter extends JSONWriter {
     }
 
     void clearCache() {
-        if (bufCache != null) {
-            if (buf.length <= MAX_CACHE_BUFFER_SIZE) {
-                bufCache.cacheBytes = buf;
-            }
-            bufCache.inUse = false;
-            // getOrReturnCache(byteBufCache);
-            bufCache = null;
+        if (pooled) {
+            pooled = false;
+            JSONBufferPool.BYTES.release(buf);
         }
     }
 }
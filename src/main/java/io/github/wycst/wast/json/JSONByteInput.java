@@ -0,0 +1,132 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.utils.EnvUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * <p> 字节输入：将文件或者ByteBuffer的内容读取为字节数组区间，交给byte[]解析路径（ascii/utf8），
+ * <p> 避免InputStreamReader的字符解码以及char[]的双倍内存；
+ * <p> 文件不使用内存映射（FileChannel.map）：所有的解析器和反序列化器都基于byte[]/char[]下标访问，没有基于地址的输入源，
+ * 映射区域仍然需要拷贝到堆内数组才能解析，与FileChannel.read直接读入数组相比没有收益，并且映射在GC回收前无法释放；
+ * <p> 文件内容通过FileChannel一次读入堆内数组，超过上限（默认64M）的文件返回null，由调用方回退到流式读取（JSONReader）或者抛出异常；
+ * <p> 对于ByteBuffer，堆内缓冲区（包括偏移/切片）直接在底层数组的[position, limit)区间上解析，不拷贝；
+ * 直接内存缓冲区通过地址按8字节读取到堆内数组一次（同时检测是否ascii），解析器基于数组下标访问，无法直接解析堆外内存；
+ *
+ * @Author: wangy
+ * @Description:
+ */
+final class JSONByteInput {
+
+    // 数组最大长度
+    final static int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    // 一次读入内存解析的文件大小上限
+    final static int MAX_FILE_READ_SIZE = 64 << 20;
+
+    final byte[] bytes;
+    final int offset;
+    final int length;
+    // 区间内是否存在负字节（非ascii）: -1 未检测，0 不存在，1 存在
+    final int negatives;
+
+    JSONByteInput(byte[] bytes, int offset, int length) {
+        this(bytes, offset, length, -1);
+    }
+
+    JSONByteInput(byte[] bytes, int offset, int length, int negatives) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.negatives = negatives;
+    }
+
+    /**
+     * 读取文件
+     *
+     * @param file    文件
+     * @param maxSize 大小上限
+     * @return 如果文件超过上限或者无法获取文件大小返回null
+     * @throws IOException
+     */
+    static JSONByteInput readFile(File file, int maxSize) throws IOException {
+        FileInputStream fis = new FileInputStream(file);
+        try {
+            return readFile(fis, maxSize);
+        } finally {
+            fis.close();
+        }
+    }
+
+    /**
+     * 从文件流的当前位置读取剩余内容（不关闭流）
+     *
+     * @param fis     文件流
+     * @param maxSize 大小上限
+     * @return 如果剩余内容超过上限或者无法获取大小（空文件，管道等）返回null，此时流的位置不变
+     * @throws IOException
+     */
+    static JSONByteInput readFile(FileInputStream fis, int maxSize) throws IOException {
+        FileChannel channel = fis.getChannel();
+        long position = channel.position();
+        long size = channel.size() - position;
+        if (size <= 0 || size > maxSize) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) size];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining() && channel.read(buffer) > -1) ;
+        // 读取过程中文件可能被截断
+        return new JSONByteInput(bytes, 0, buffer.position());
+    }
+
+    /**
+     * 读取缓冲区中[position, limit)的剩余内容，不修改position（由调用方在解析成功后移动）
+     *
+     * @param buffer 堆内或者直接内存缓冲区
+     * @return 字节源（堆内缓冲区为底层数组的区间）
+     */
+    static JSONByteInput of(ByteBuffer buffer) {
+        int position = buffer.position(), remaining = buffer.limit() - position;
+        if (buffer.hasArray()) {
+            return new JSONByteInput(buffer.array(), buffer.arrayOffset() + position, remaining);
+        }
+        byte[] bytes = new byte[remaining];
+        int negatives = buffer.isDirect() ? JSONEndianUnsafe.readDirectBytes(buffer, position, bytes, remaining) : -1;
+        if (negatives == -1) {
+            buffer.duplicate().get(bytes);
+        }
+        return new JSONByteInput(bytes, 0, remaining, negatives);
+    }
+
+    /**
+     * 构建字节区间对应的CharSource（JDK9+），JDK8返回null
+     * <p> 字符串基于整个数组构建（不拷贝），CharSource使用的下标为数组的绝对下标，所以区间不需要覆盖整个数组；
+     */
+    CharSource charSource() {
+        if (EnvUtils.JDK_9_PLUS) {
+            String input = JSONMemoryHandle.createAsciiString(bytes);
+            boolean hasNegatives = negatives == -1 ? EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(bytes, offset, length) : negatives == 1;
+            return hasNegatives ? UTF8CharSource.of(input) : AsciiStringSource.of(input);
+        }
+        return null;
+    }
+
+    /**
+     * 字节区间为整个数组时直接返回，否则拷贝
+     */
+    byte[] toBytes() {
+        return offset == 0 && length == bytes.length ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * 是否空内容
+     */
+    boolean isEmpty() {
+        return length == 0;
+    }
+}
@@ -30,38 +30,12 @@ class JSONCharArrayWriter extends JSONWriter {
 
     // EMPTY chars
     static final char[] EMPTY_BUF = new char[0];
-    private final static BufCache[] CHAR_BUF_CACHES = new BufCache[CACHE_COUNT];
     private Charset charset;
 
-    static {
-        // init caches
-        for (int i = 0; i < CACHE_COUNT; ++i) {
-            BufCache bufCache = new BufCache();
-            bufCache.index = i;
-            if (i < INIT_CACHE_COUNT) {
-                bufCache.cacheChars = new char[CACHE_BUFFER_SIZE];
-            }
-            CHAR_BUF_CACHES[i] = bufCache;
-        }
-    }
-
-    private static BufCache getCharBufCache() {
-        int cacheIndex = THREAD_CACHE_INDEX.get();
-        BufCache cache = CHAR_BUF_CACHES[cacheIndex];
-        synchronized (cache) {
-            if (cache.inUse) return null;
-            cache.inUse = true;
-            if (cache.cacheChars == null) {
-                cache.cacheChars = new char[CACHE_BUFFER_SIZE];
-            }
-        }
-        return cache;
-    }
-
     /**
-     * The current instance uses a cached instance
+     * The current buffer is taken from the pool
      */
-    private BufCache bufCache;
+    private boolean pooled;
 
     void setCharAt(int index, char c) {
         buf[index] = c;
@@ -71,12 +45,6 @@ class JSONCharArrayWriter extends JSONWriter {
         return Arrays.copyOf(buf, count);
     }
 
-    private static class BufCache {
-        char[] cacheChars;
-        boolean inUse;
-        int index;
-    }
-
 //    // per thread use 16kb init
 //    // If using threadlocal, the cache size cannot be controlled
 //    static ThreadLocal<CharBufCache> LOCAL_BUF = new ThreadLocal<CharBufCache>() {
@@ -93,13 +61,8 @@ class JSONCharArrayWriter extends JSONWriter {
 
     JSONCharArrayWriter() {
         // use pool
-        BufCache bufCache = getCharBufCache();
-        if (bufCache != null) {
-            buf = bufCache.cacheChars;
-            this.bufCache = bufCache;
-        } else {
-            buf = new char[512];
-        }
+        buf = JSONBufferPool.CHARS.acquireChars();
+        pooled = true;
     }
 
     JSONCharArrayWriter(int cap) {
@@ -755,7 +718,9 @@ class JSONCharArrayWriter extends JSONWriter {
         buf[count++] = '"';
         if (len > 15) {
             int beginIndex = 0, i = 0;
-            if (JSONGeneral.isNoneEscaped8Bytes(JSONMemoryHandle.getLong(bytes, i))
+            if (len >= 32) {
+                i = JSONGeneral.JSON_UTIL.toNoEscapeOffset(bytes, 0);
+            } else if (JSONGeneral.isNoneEscaped8Bytes(JSONMemoryHandle.getLong(bytes, i))
                     && JSONGeneral.isNoneEscaped8Bytes(JSONMemoryHandle.getLong(bytes, i = i + 8))) {
                 i += 8;
             }
@@ -912,13 +877,9 @@ class JSONCharArrayWriter extends JSONWriter {
     }
 
     void clearCache() {
-        if (bufCache != null) {
-            if (buf.length <= MAX_CACHE_BUFFER_SIZE) {
-                bufCache.cacheChars = buf;
-            }
-            bufCache.inUse = false;
-            // getOrReturnCache(charBufCache);
-            bufCache = null;
+        if (pooled) {
+            pooled = false;
+            JSONBufferPool.CHARS.release(buf);
         }
     }
 
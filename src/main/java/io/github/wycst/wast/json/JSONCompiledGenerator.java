@@ -0,0 +1,171 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.compiler.JavaSourceObject;
+import io.github.wycst.wast.common.reflect.ReflectConsts;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.annotations.JsonCompiled;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> 构建阶段（编译之后）为标记了@JsonCompiled的pojo生成序列化器和反序列化器，并编译到classes目录中，
+ * 运行时JSONStore通过JSONCompiledRegistry按名称约定加载，不再依赖JDKCompiler（javax.tools）在运行时编译；
+ * <p> 由于代码生成基于pojo的反射结构（与运行时JIT生成的代码一致），需要在类编译完成后执行，例如maven的process-classes阶段：
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *     &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *     &lt;executions&gt;
+ *         &lt;execution&gt;
+ *             &lt;phase&gt;process-classes&lt;/phase&gt;
+ *             &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *             &lt;configuration&gt;
+ *                 &lt;mainClass&gt;io.github.wycst.wast.json.JSONCompiledGenerator&lt;/mainClass&gt;
+ *                 &lt;arguments&gt;
+ *                     &lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;
+ *                     &lt;argument&gt;${project.build.directory}/generated-sources/wast&lt;/argument&gt;
+ *                 &lt;/arguments&gt;
+ *             &lt;/configuration&gt;
+ *         &lt;/execution&gt;
+ *     &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ * <p> 参数: classes目录 [源码输出目录] [javac选项，例如 -source 8 -target 8]
+ *
+ * @Created by wangyc
+ */
+public final class JSONCompiledGenerator {
+
+    private JSONCompiledGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JSONCompiledGenerator <classesDir> [sourceDir] [javacOptions...]");
+            return;
+        }
+        File classesDir = new File(args[0]);
+        File sourceDir = args.length > 1 ? new File(args[1]) : null;
+        String[] javacOptions = new String[Math.max(args.length - 2, 0)];
+        System.arraycopy(args, args.length - javacOptions.length, javacOptions, 0, javacOptions.length);
+        List<String> classNames = generate(classesDir, sourceDir, javacOptions);
+        for (String className : classNames) {
+            System.out.println("[wast] generated " + className);
+        }
+    }
+
+    /**
+     * 扫描classes目录，生成并编译标记了@JsonCompiled的pojo的序列化器和反序列化器
+     *
+     * @param classesDir   classes目录（生成的class输出到此目录）
+     * @param sourceDir    源码输出目录，为null时使用临时目录
+     * @param javacOptions 额外的javac选项
+     * @return 生成的类名列表
+     * @throws IOException
+     */
+    public static List<String> generate(File classesDir, File sourceDir, String... javacOptions) throws IOException {
+        if (!classesDir.isDirectory()) {
+            throw new FileNotFoundException(classesDir + " is not a directory");
+        }
+        if (sourceDir == null) {
+            sourceDir = File.createTempFile("wast-json-compiled", "");
+            sourceDir.delete();
+        }
+        List<String> classNames = new ArrayList<String>();
+        scanClassNames(classesDir, "", classNames);
+
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toURI().toURL()}, parent == null ? JSONCompiledGenerator.class.getClassLoader() : parent);
+        List<JavaSourceObject> sourceObjects = new ArrayList<JavaSourceObject>();
+        for (String className : classNames) {
+            Class<?> pojoClass;
+            try {
+                pojoClass = Class.forName(className, false, classLoader);
+            } catch (Throwable throwable) {
+                continue;
+            }
+            JsonCompiled jsonCompiled = pojoClass.getAnnotation(JsonCompiled.class);
+            if (jsonCompiled == null) continue;
+            if (ReflectConsts.getClassCategory(pojoClass) != ReflectConsts.ClassCategory.ObjectCategory || pojoClass.getPackage() == null) {
+                throw new JSONException(pojoClass + " is not a pojo class");
+            }
+            JSONPojoStructure pojoStructure = JSONStore.INSTANCE.getPojoStruc(pojoClass);
+            if (jsonCompiled.serialize()) {
+                if (!pojoStructure.isSupportedJavaBeanConvention() || !pojoStructure.isPublic()) {
+                    throw new JSONException(pojoClass + " is not supported for code generator");
+                }
+                String genClassName = JSONCompiledRegistry.generatedClassName(pojoClass, JSONCompiledRegistry.SERIALIZER_PREFIX);
+                sourceObjects.add(JSONPojoSerializerCodeGen.generateJavaCodeSource(pojoStructure, genClassName, false, false));
+            }
+            if (jsonCompiled.deserialize() && !pojoStructure.isRecord()) {
+                if (!JSONPojoDeserializerCodeGen.isSupported(pojoStructure)) {
+                    throw new JSONException(pojoClass + " is not supported for deserializer code generator, a public class with a public no-arg constructor is required (or set @JsonCompiled(deserialize = false))");
+                }
+                String genClassName = JSONCompiledRegistry.generatedClassName(pojoClass, JSONCompiledRegistry.DESERIALIZER_PREFIX);
+                sourceObjects.add(JSONPojoDeserializerCodeGen.generateJavaCodeSource(pojoStructure, genClassName, false, false));
+            }
+        }
+        List<String> generatedNames = new ArrayList<String>();
+        if (sourceObjects.isEmpty()) {
+            return generatedNames;
+        }
+
+        List<String> compileArgs = new ArrayList<String>();
+        compileArgs.add("-encoding");
+        compileArgs.add("UTF-8");
+        compileArgs.add("-nowarn");
+        compileArgs.add("-d");
+        compileArgs.add(classesDir.getAbsolutePath());
+        compileArgs.add("-classpath");
+        compileArgs.add(classesDir.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"));
+        for (String javacOption : javacOptions) {
+            compileArgs.add(javacOption);
+        }
+        for (JavaSourceObject sourceObject : sourceObjects) {
+            File packageDir = new File(sourceDir, sourceObject.packageName.replace('.', File.separatorChar));
+            packageDir.mkdirs();
+            File sourceFile = new File(packageDir, sourceObject.className + ".java");
+            Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), EnvUtils.CHARSET_UTF_8);
+            try {
+                writer.write(sourceObject.javaSourceCode);
+            } finally {
+                writer.close();
+            }
+            compileArgs.add(sourceFile.getAbsolutePath());
+            generatedNames.add(sourceObject.canonicalName);
+        }
+
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        if (javaCompiler == null) {
+            throw new JSONException("javac is not available, please run with a JDK");
+        }
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int code = javaCompiler.run(null, null, err, compileArgs.toArray(new String[compileArgs.size()]));
+        if (code != 0) {
+            throw new JSONException("compile generated sources failed: \n" + new String(err.toByteArray()));
+        }
+        return generatedNames;
+    }
+
+    private static void scanClassNames(File dir, String packagePrefix, List<String> classNames) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                scanClassNames(file, packagePrefix + name + ".", classNames);
+            } else if (name.endsWith(".class") && !name.startsWith(JSONCompiledRegistry.SERIALIZER_PREFIX) && !name.startsWith(JSONCompiledRegistry.DESERIALIZER_PREFIX)
+                    && !name.equals("module-info.class") && !name.equals("package-info.class")) {
+                classNames.add(packagePrefix + name.substring(0, name.length() - 6));
+            }
+        }
+    }
+}
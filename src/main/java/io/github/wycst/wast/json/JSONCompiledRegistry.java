@@ -0,0 +1,70 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.UnsafeHelper;
+import io.github.wycst.wast.json.annotations.JsonCompiled;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * 构建阶段生成的序列化/反序列化类的注册查找
+ * <p> 生成类与pojo同包，按名称约定查找: __JPS_{name}（序列化），__JPD_{name}（反序列化），
+ * 其中name为pojo去掉包名后的类名（内部类的'$'替换为'_'）；
+ *
+ * @Created by wangyc
+ */
+final class JSONCompiledRegistry {
+
+    final static String SERIALIZER_PREFIX = "__JPS_";
+    final static String DESERIALIZER_PREFIX = "__JPD_";
+
+    static String generatedClassName(Class<?> pojoClass, String prefix) {
+        String packageName = pojoClass.getPackage().getName();
+        String name = pojoClass.getName();
+        if (packageName.length() > 0) {
+            name = name.substring(packageName.length() + 1);
+        }
+        return prefix + name.replace('$', '_');
+    }
+
+    /**
+     * 查找并创建生成的序列化器
+     *
+     * @param pojoStructure pojo结构
+     * @return 未标记@JsonCompiled或者未找到生成类返回null
+     */
+    static JSONPojoSerializer serializer(JSONPojoStructure pojoStructure) {
+        Class<?> pojoClass = pojoStructure.getSourceClass();
+        JsonCompiled jsonCompiled = pojoClass.getAnnotation(JsonCompiled.class);
+        if (jsonCompiled == null || !jsonCompiled.serialize()) {
+            return null;
+        }
+        return (JSONPojoSerializer) newInstance(pojoClass, SERIALIZER_PREFIX, pojoStructure);
+    }
+
+    /**
+     * 查找并创建生成的反序列化器
+     *
+     * @param pojoStructure pojo结构
+     * @return 未标记@JsonCompiled或者未找到生成类返回null
+     */
+    static JSONTypeDeserializer deserializer(JSONPojoStructure pojoStructure) {
+        Class<?> pojoClass = pojoStructure.getSourceClass();
+        JsonCompiled jsonCompiled = pojoClass.getAnnotation(JsonCompiled.class);
+        if (jsonCompiled == null || !jsonCompiled.deserialize()) {
+            return null;
+        }
+        return (JSONTypeDeserializer) newInstance(pojoClass, DESERIALIZER_PREFIX, pojoStructure);
+    }
+
+    private static Object newInstance(Class<?> pojoClass, String prefix, JSONPojoStructure pojoStructure) {
+        try {
+            String className = pojoClass.getPackage().getName() + "." + generatedClassName(pojoClass, prefix);
+            Class<?> generatedClass = Class.forName(className, true, pojoClass.getClassLoader());
+            Constructor constructor = generatedClass.getDeclaredConstructor(new Class[]{JSONPojoStructure.class});
+            UnsafeHelper.setAccessible(constructor);
+            return constructor.newInstance(pojoStructure);
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+}
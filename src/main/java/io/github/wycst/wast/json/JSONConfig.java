@@ -8,6 +8,11 @@ import java.util.TimeZone;
 
 public final class JSONConfig {
 
+    /**
+     * 并行序列化的默认阈值（元素个数）
+     */
+    public final static int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
     private static boolean defaultFullProperty;
     private static String defaultDateFormatPattern;
     private static boolean defaultFormatIndentUseSpace;
@@ -140,6 +145,21 @@ public final class JSONConfig {
      */
     boolean writeClassName;
 
+    /**
+     * 并行序列化阈值（集合或者数组元素个数），0为不开启
+     */
+    int parallelThreshold;
+
+    /**
+     * 并行序列化的并行度（同时执行的线程数，包括调用线程），默认为cpu核数
+     */
+    int parallelism = JSONParallel.DEFAULT_PARALLELISM;
+
+    /**
+     * 二进制序列化是否使用字段名字典
+     */
+    boolean binaryFieldNameDictionary;
+
     /**
      * 指定时区
      */
@@ -344,6 +364,40 @@ public final class JSONConfig {
         this.writeClassName = writeClassName;
     }
 
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * 设置并行序列化阈值，元素个数达到阈值的集合（List且RandomAccess）或者对象数组将分段并行序列化
+     *
+     * @param parallelThreshold 阈值，小于等于0时不开启
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = Math.max(parallelThreshold, 0);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 设置并行序列化的并行度（包括调用线程，超过线程池上限时按上限执行），小于等于1时不会并行序列化
+     *
+     * @param parallelism 并行度，默认为cpu核数
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    public boolean isBinaryFieldNameDictionary() {
+        return binaryFieldNameDictionary;
+    }
+
+    public void setBinaryFieldNameDictionary(boolean binaryFieldNameDictionary) {
+        this.binaryFieldNameDictionary = binaryFieldNameDictionary;
+    }
+
     void setStatus(int hashcode, int status) {
         if (skipCircularReference) {
             Map<Integer, Integer> hashCodeStatus = getOrSetIdentityHashCodes();
@@ -277,7 +277,9 @@ final class JSONDefaultParser extends JSONGeneral {
         char ch;
         int i = fromIndex;
         for (; ; ) {
-            while ((ch = buf[++i]) <= ' ') ;
+            if ((ch = buf[++i]) <= ' ') {
+                ch = buf[i = skipWhiteSpaces(buf, i + 1)];
+            }
             if (parseContext.allowComment) {
                 if (ch == '/') {
                     ch = buf[i = clearCommentAndWhiteSpaces(buf, i + 1, parseContext)];
@@ -307,7 +309,7 @@ final class JSONDefaultParser extends JSONGeneral {
                 }
                 case '\'':
                 case '"': {
-                    value = stringDeserializer.deserializeString(source, buf, i, ch, null, parseContext);
+                    value = parseContext.internValue ? stringDeserializer.deserializeInternString(source, buf, i, ch, parseContext) : stringDeserializer.deserializeString(source, buf, i, ch, null, parseContext);
                     list.add(value);
                     i = parseContext.endIndex;
                     break;
@@ -341,7 +343,9 @@ final class JSONDefaultParser extends JSONGeneral {
                     }
                 }
             }
-            while ((ch = buf[++i]) <= ' ') ;
+            if ((ch = buf[++i]) <= ' ') {
+                ch = buf[i = skipWhiteSpaces(buf, i + 1)];
+            }
             if (parseContext.allowComment) {
                 if (ch == '/') {
                     ch = buf[i = clearCommentAndWhiteSpaces(buf, i + 1, parseContext)];
@@ -365,7 +369,9 @@ final class JSONDefaultParser extends JSONGeneral {
         boolean empty = true;
         final boolean allowomment = parseContext.allowComment, disableCacheMapKey = parseContext.disableCacheMapKey;
         for (; ; ) {
-            while ((ch = buf[++i]) <= ' ') ;
+            if ((ch = buf[++i]) <= ' ') {
+                ch = buf[i = skipWhiteSpaces(buf, i + 1)];
+            }
             if (allowomment) {
                 if (ch == '/') {
                     ch = buf[i = clearCommentAndWhiteSpaces(buf, i + 1, parseContext)];
@@ -414,8 +420,8 @@ final class JSONDefaultParser extends JSONGeneral {
                     }
                 }
             }
-            while ((ch = buf[i]) <= ' ') {
-                ++i;
+            if ((ch = buf[i]) <= ' ') {
+                ch = buf[i = skipWhiteSpaces(buf, i + 1)];
             }
             if (allowomment) {
                 if (ch == '/') {
@@ -423,7 +429,9 @@ final class JSONDefaultParser extends JSONGeneral {
                 }
             }
             if (ch == ':') {
-                while ((ch = buf[++i]) <= ' ') ;
+                if ((ch = buf[++i]) <= ' ') {
+                    ch = buf[i = skipWhiteSpaces(buf, i + 1)];
+                }
                 if (allowomment) {
                     if (ch == '/') {
                         ch = buf[i = clearCommentAndWhiteSpaces(buf, i + 1, parseContext)];
@@ -446,7 +454,7 @@ final class JSONDefaultParser extends JSONGeneral {
                     }
                     case '"':
                     case '\'': {
-                        value = stringDeserializer.deserializeString(source, buf, i, ch, null, parseContext);
+                        value = parseContext.internValue ? stringDeserializer.deserializeInternString(source, buf, i, ch, parseContext) : stringDeserializer.deserializeString(source, buf, i, ch, null, parseContext);
                         i = parseContext.endIndex;
                         instance.put(key, value);
                         break;
@@ -479,7 +487,9 @@ final class JSONDefaultParser extends JSONGeneral {
                         }
                     }
                 }
-                while ((ch = buf[++i]) <= ' ') ;
+                if ((ch = buf[++i]) <= ' ') {
+                    ch = buf[i = skipWhiteSpaces(buf, i + 1)];
+                }
                 if (allowomment) {
                     if (ch == '/') {
                         ch = buf[i = clearCommentAndWhiteSpaces(buf, i + 1, parseContext)];
@@ -561,6 +571,7 @@ final class JSONDefaultParser extends JSONGeneral {
             throw new JSONException("Syntax error, not supported empty source");
         }
         parseContext.toIndex = toIndex;
+        parseContext.checkUTF8(source, bytes, fromIndex, toIndex);
         try {
             boolean allowComment = parseContext.allowComment;
             if (allowComment && beginByte == '/') {
@@ -667,7 +678,7 @@ final class JSONDefaultParser extends JSONGeneral {
                 }
                 case '\'':
                 case '"': {
-                    value = stringDeserializer.deserializeString(source, bytes, i, b, GenericParameterizedType.StringType, parseContext);
+                    value = parseContext.internValue ? stringDeserializer.deserializeInternString(source, bytes, i, b, parseContext) : stringDeserializer.deserializeString(source, bytes, i, b, GenericParameterizedType.StringType, parseContext);
                     list.add(value);
                     i = parseContext.endIndex;
                     break;
@@ -810,7 +821,7 @@ final class JSONDefaultParser extends JSONGeneral {
                     }
                     case '"':
                     case '\'': {
-                        value = stringDeserializer.deserializeString(source, bytes, i, b, GenericParameterizedType.StringType, parseContext);
+                        value = parseContext.internValue ? stringDeserializer.deserializeInternString(source, bytes, i, b, parseContext) : stringDeserializer.deserializeString(source, bytes, i, b, GenericParameterizedType.StringType, parseContext);
                         i = parseContext.endIndex;
                         instance.put(key, value);
                         break;
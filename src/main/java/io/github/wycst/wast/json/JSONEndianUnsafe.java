@@ -4,12 +4,16 @@ import io.github.wycst.wast.common.reflect.UnsafeHelper;
 import sun.misc.Unsafe;
 
 import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 
 abstract class JSONEndianUnsafe extends JSONEndian {
     protected static final Unsafe UNSAFE;
     static final long BYTE_ARRAY_OFFSET = UnsafeHelper.BYTE_ARRAY_OFFSET;
     static final long CHAR_ARRAY_OFFSET = UnsafeHelper.CHAR_ARRAY_OFFSET;
     static final long STRING_VALUE_OFFSET = UnsafeHelper.STRING_VALUE_OFFSET;
+    // java.nio.Buffer#address（直接内存缓冲区的起始地址）
+    static final long BUFFER_ADDRESS_OFFSET = UnsafeHelper.getDeclaredFieldOffset(Buffer.class, "address");
 
     static {
         Field theUnsafeField;
@@ -30,6 +34,31 @@ abstract class JSONEndianUnsafe extends JSONEndian {
         UNSAFE = instance;
     }
 
+    /**
+     * 通过地址按8字节读取直接内存缓冲区[position, position + len)的内容到dst，同时检测是否存在负字节（非ascii）
+     *
+     * @return 存在负字节返回1，否则返回0，无法获取地址时返回-1（不读取）
+     */
+    static int readDirectBytes(ByteBuffer buffer, int position, byte[] dst, int len) {
+        if (UNSAFE == null || BUFFER_ADDRESS_OFFSET == -1) {
+            return -1;
+        }
+        long address = UNSAFE.getLong(buffer, BUFFER_ADDRESS_OFFSET) + position;
+        long negatives = 0;
+        int i = 0;
+        for (int n = len - 7; i < n; i += 8) {
+            long v = UNSAFE.getLong(address + i);
+            negatives |= v;
+            UNSAFE.putLong(dst, BYTE_ARRAY_OFFSET + i, v);
+        }
+        for (; i < len; ++i) {
+            byte b = UNSAFE.getByte(address + i);
+            negatives |= b;
+            dst[i] = b;
+        }
+        return (negatives & 0x8080808080808080L) == 0 ? 0 : 1;
+    }
+
     @Override
     public final short getShort(byte[] buf, int offset) {
         return UNSAFE.getShort(buf, BYTE_ARRAY_OFFSET + offset);
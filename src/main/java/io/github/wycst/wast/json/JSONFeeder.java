@@ -0,0 +1,402 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p> 非阻塞的推送式（feed）解析器，适用于事件循环（Netty/NIO）中按任意分块到达的请求体；
+ * <p> 每次feed只扫描新到达的字节（跨分块保存字符串/转义/嵌套深度等状态），当一个完整的值到达时立即解析并返回，
+ * 不占用线程也不需要缓冲整个请求体，内部缓冲区只保留尚未完整的那一个值；
+ * <p> 支持三种模式:
+ * <ul>
+ *     <li> of(Class): 输入为一个或多个连续的json值（空白或者换行分隔，比如ndjson）；
+ *     <li> ofElements(Class): 输入为一个顶层数组，每个元素完整后立即返回（无需等待数组结束）；
+ *     <li> of(JSONReaderHook): 每个完整的值交给hook回调（路径相对于该值）；
+ * </ul>
+ * <p> 注: hook模式下每个顶层值完整到达后才解析并回调（值的内部不是增量回调，并且会缓冲整个值），
+ * 适用于由多个较小的值组成的输入（比如ndjson）；单个超大的值请使用JSONReader；
+ *
+ * <pre>
+ *     JSONFeeder&lt;Order&gt; feeder = JSONFeeder.ofElements(Order.class);
+ *     // on each chunk
+ *     for (Order order : feeder.feed(byteBuf.nioBuffer())) {
+ *         ...
+ *     }
+ *     // on last chunk
+ *     for (Order order : feeder.endOfInput()) {
+ *         ...
+ *     }
+ * </pre>
+ * <p> 注: 输入编码为utf-8（或ascii），实例非线程安全（同一连接的分块按顺序调用）；
+ *
+ * @author wangyunchao
+ * @see JSONLIterator
+ * @see JSONReader
+ */
+@SuppressWarnings({"all"})
+public final class JSONFeeder<T> extends JSONGeneral {
+
+    final static int DEFAULT_BUFFER_SIZE = 8 << 10;
+
+    private final JSONTypeDeserializer typeDeserializer;
+    private final GenericParameterizedType<?> parameterizedType;
+    private final JSONReaderHook readerHook;
+    private final ReadOption[] readOptions;
+    // 是否展开顶层数组
+    private final boolean elements;
+
+    // 缓冲区（预留一个字节用于在输入结束时追加结束符）
+    private byte[] buf = new byte[DEFAULT_BUFFER_SIZE];
+    private int count;
+    // 已扫描的位置
+    private int scanOffset;
+    // buf[0]在整个输入中的绝对位置
+    private long position;
+
+    // 当前值的开始位置（-1表示位于值之间）
+    private int valueStart = -1;
+    private int depth;
+    private boolean inString;
+    private boolean escape;
+    private boolean scalar;
+
+    // 顶层数组状态（elements模式）
+    private boolean arrayOpened;
+    private boolean arrayClosed;
+    private boolean expectElement;
+    private int elementCount;
+
+    private boolean ended;
+    private boolean aborted;
+
+    JSONFeeder(JSONTypeDeserializer typeDeserializer, GenericParameterizedType<?> parameterizedType, JSONReaderHook readerHook, boolean elements, ReadOption[] readOptions) {
+        this.typeDeserializer = typeDeserializer;
+        this.parameterizedType = parameterizedType;
+        this.readerHook = readerHook;
+        this.elements = elements;
+        this.readOptions = readOptions;
+    }
+
+    /**
+     * 构建feeder，输入为一个或者多个连续的json值
+     *
+     * @param actualType  值类型
+     * @param readOptions 读取配置
+     * @return feeder
+     */
+    public static <T> JSONFeeder<T> of(Class<T> actualType, ReadOption... readOptions) {
+        JSONTypeDeserializer typeDeserializer = JSONStore.INSTANCE.getTypeDeserializer(actualType);
+        return new JSONFeeder<T>(typeDeserializer, typeDeserializer.getGenericParameterizedType(actualType), null, false, readOptions);
+    }
+
+    /**
+     * 构建feeder，输入为一个顶层数组，数组元素完整后立即返回
+     *
+     * @param elementType 元素类型
+     * @param readOptions 读取配置
+     * @return feeder
+     */
+    public static <T> JSONFeeder<T> ofElements(Class<T> elementType, ReadOption... readOptions) {
+        JSONTypeDeserializer typeDeserializer = JSONStore.INSTANCE.getTypeDeserializer(elementType);
+        return new JSONFeeder<T>(typeDeserializer, typeDeserializer.getGenericParameterizedType(elementType), null, true, readOptions);
+    }
+
+    /**
+     * 构建feeder，每个完整的值交给hook回调，如果hook终止(abort)将忽略后续的输入
+     * <p> 注: 缓冲完整的顶层值后回调，单个值的内部不会增量回调
+     *
+     * @param readerHook  回调
+     * @param readOptions 读取配置
+     * @return feeder（feed返回空列表，结果通过hook获取）
+     */
+    public static JSONFeeder<Object> of(JSONReaderHook readerHook, ReadOption... readOptions) {
+        readerHook.getClass();
+        return new JSONFeeder<Object>(null, null, readerHook, false, readOptions);
+    }
+
+    /**
+     * 推送分块数据
+     *
+     * @param chunk 分块
+     * @return 本次推送后完整的值列表（可能为空）
+     */
+    public List<T> feed(byte[] chunk) {
+        return feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * 推送分块数据
+     *
+     * @param chunk  分块
+     * @param offset 开始位置
+     * @param len    长度
+     * @return 本次推送后完整的值列表（可能为空）
+     */
+    public List<T> feed(byte[] chunk, int offset, int len) {
+        checkState();
+        if (aborted || len == 0) return Collections.emptyList();
+        ensureCapacity(len);
+        System.arraycopy(chunk, offset, buf, count, len);
+        count += len;
+        return scan();
+    }
+
+    /**
+     * 推送分块数据（读取[position, limit)后position移动到limit）
+     *
+     * @param chunk 堆内或者直接内存缓冲区
+     * @return 本次推送后完整的值列表（可能为空）
+     */
+    public List<T> feed(ByteBuffer chunk) {
+        checkState();
+        int len = chunk.remaining();
+        if (aborted || len == 0) {
+            chunk.position(chunk.limit());
+            return Collections.emptyList();
+        }
+        ensureCapacity(len);
+        chunk.get(buf, count, len);
+        count += len;
+        return scan();
+    }
+
+    /**
+     * 输入结束，返回剩余完整的值（比如末尾没有分隔符的数字），如果存在不完整的值抛出异常
+     *
+     * @return 剩余值列表（可能为空）
+     */
+    public List<T> endOfInput() {
+        checkState();
+        ended = true;
+        if (aborted) return Collections.emptyList();
+        List<T> results = Collections.emptyList();
+        if (valueStart > -1 && scalar) {
+            // the last scalar value without delimiter
+            results = complete(valueStart, count, null);
+            if (results == null) {
+                results = Collections.emptyList();
+            }
+        }
+        if (valueStart > -1 || inString) {
+            throw new JSONException("Syntax error, at pos " + (position + valueStart) + ", unexpected end of input, the value is incomplete");
+        }
+        if (elements && !arrayClosed) {
+            throw new JSONException("Syntax error, at pos " + (position + count) + ", unexpected end of input, expected ']'");
+        }
+        buf = EMPTY_BYTES;
+        count = scanOffset = 0;
+        return results;
+    }
+
+    /**
+     * 是否已被hook终止
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    private void checkState() {
+        if (ended) {
+            throw new JSONException("the input is ended");
+        }
+    }
+
+    private List<T> scan() {
+        List<T> results = null;
+        byte[] buf = this.buf;
+        for (int i = scanOffset; i < count && !aborted; ++i) {
+            byte b = buf[i];
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (b == '\\') {
+                    escape = true;
+                } else if (b == '"') {
+                    inString = false;
+                    if (depth == 0) {
+                        results = complete(valueStart, i + 1, results);
+                    }
+                }
+                continue;
+            }
+            if (valueStart == -1) {
+                // 顶层值之间的空白以及逗号（ndjson中数字和布尔值以逗号结尾）为分隔符，与JSONL一致
+                if (b <= ' ' || (b == ',' && !elements)) continue;
+                if (elements && !checkElementBoundary(b, i)) continue;
+                valueStart = i;
+                if (b == '{' || b == '[') {
+                    depth = 1;
+                } else if (b == '"') {
+                    inString = true;
+                } else {
+                    scalar = true;
+                }
+                continue;
+            }
+            if (scalar) {
+                if (b <= ' ' || b == ',' || b == ']' || b == '}' || b == '{' || b == '[' || b == '"') {
+                    results = complete(valueStart, i, results);
+                    // the delimiter belongs to the outer context
+                    --i;
+                }
+                continue;
+            }
+            switch (b) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    ++depth;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth == 0) {
+                        results = complete(valueStart, i + 1, results);
+                    }
+                    break;
+            }
+        }
+        scanOffset = count;
+        compact();
+        return results == null ? Collections.<T>emptyList() : results;
+    }
+
+    /**
+     * 检查顶层数组的边界字符（'[' ',' ']'）
+     *
+     * @return 当前字符是否为元素的开始
+     */
+    private boolean checkElementBoundary(byte b, int i) {
+        if (arrayClosed) {
+            throw new JSONException("Syntax error, at pos " + (position + i) + ", extra character '" + (char) b + "' found after the top-level array");
+        }
+        if (!arrayOpened) {
+            if (b != '[') {
+                throw new JSONException("Syntax error, at pos " + (position + i) + ", expected '[' but found '" + (char) b + "'");
+            }
+            arrayOpened = true;
+            expectElement = true;
+            return false;
+        }
+        if (b == ']') {
+            if (expectElement && elementCount > 0) {
+                throw new JSONException("Syntax error, at pos " + (position + i) + ", unexpected token ']' after ','");
+            }
+            arrayClosed = true;
+            return false;
+        }
+        if (expectElement) {
+            if (b == ',') {
+                throw new JSONException("Syntax error, at pos " + (position + i) + ", unexpected token ','");
+            }
+            expectElement = false;
+            return true;
+        }
+        if (b != ',') {
+            throw new JSONException("Syntax error, at pos " + (position + i) + ", expected ',' or ']' but found '" + (char) b + "'");
+        }
+        expectElement = true;
+        return false;
+    }
+
+    private List<T> complete(int fromIndex, int endIndex, List<T> results) {
+        if (readerHook == null) {
+            Object value = parseValue(fromIndex, endIndex);
+            if (results == null) {
+                results = new ArrayList<T>();
+            }
+            results.add((T) value);
+        } else {
+            readHook(fromIndex, endIndex);
+        }
+        valueStart = -1;
+        depth = 0;
+        scalar = false;
+        ++elementCount;
+        return results;
+    }
+
+    private Object parseValue(int fromIndex, int endIndex) {
+        JSONParseContext parseContext = JSONParseContext.of(readOptions);
+        parseContext.toIndex = endIndex;
+        parseContext.multiple = true;
+        Object result;
+        // a scalar value (number/true/false/null) is terminated by ',' temporarily, the delimiter is restored after parsing
+        byte delimiter = buf[endIndex];
+        if (scalar) {
+            buf[endIndex] = ',';
+        }
+        try {
+            CharSource charSource = null;
+            if (EnvUtils.JDK_9_PLUS) {
+                String input = JSONMemoryHandle.createAsciiString(buf);
+                charSource = EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(buf, fromIndex, endIndex - fromIndex) ? UTF8CharSource.of(input) : AsciiStringSource.of(input);
+            }
+            result = typeDeserializer.deserialize(charSource, buf, fromIndex, parameterizedType, null, ZERO, parseContext);
+        } catch (Exception e) {
+            String errorContextTextAt = createErrorContextText(buf, fromIndex);
+            throw new JSONException("Syntax error, at pos " + (position + fromIndex) + ", " + errorContextTextAt, e);
+        } finally {
+            buf[endIndex] = delimiter;
+            parseContext.clear();
+        }
+        if (parseContext.endIndex != endIndex - 1 && !scalar) {
+            throw new JSONException("Syntax error, at pos " + (position + parseContext.endIndex) + ", unexpected end of the value");
+        }
+        return result;
+    }
+
+    private void readHook(int fromIndex, int endIndex) {
+        String source = JSONUTF8Decoder.decode(buf, fromIndex, endIndex - fromIndex, false);
+        JSONReader reader = JSONReader.from(source);
+        reader.setOptions(readOptions);
+        try {
+            reader.read(readerHook);
+        } catch (RuntimeException e) {
+            throw new JSONException("Syntax error, at pos " + (position + fromIndex) + ", " + e.getMessage(), e);
+        }
+        if (reader.isAborted()) {
+            aborted = true;
+        }
+    }
+
+    /**
+     * 丢弃已完成的值，仅保留当前不完整的值
+     */
+    private void compact() {
+        int keep = valueStart == -1 ? count : valueStart;
+        if (keep == 0) return;
+        int rem = count - keep;
+        if (rem > 0) {
+            System.arraycopy(buf, keep, buf, 0, rem);
+        }
+        position += keep;
+        count = rem;
+        scanOffset -= keep;
+        if (valueStart > -1) {
+            valueStart = 0;
+        }
+    }
+
+    private void ensureCapacity(int len) {
+        // reserve one byte for the terminator
+        long minCap = (long) count + len + 1;
+        if (minCap > buf.length) {
+            if (minCap > Integer.MAX_VALUE - 8) {
+                throw new JSONException("the incomplete value is too large: " + minCap);
+            }
+            int newCap = (int) Math.max(minCap, Math.min((long) buf.length << 1, Integer.MAX_VALUE - 8));
+            byte[] newBuf = new byte[newCap];
+            System.arraycopy(buf, 0, newBuf, 0, count);
+            buf = newBuf;
+        }
+    }
+}
@@ -6,8 +6,8 @@ import io.github.wycst.wast.common.beans.GregorianDate;
 import io.github.wycst.wast.common.compiler.MemoryClassLoader;
 import io.github.wycst.wast.common.reflect.GenericParameterizedType;
 import io.github.wycst.wast.common.reflect.UnsafeHelper;
-import io.github.wycst.wast.common.utils.ByteUtils;
 import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.common.utils.IOUtils;
 import io.github.wycst.wast.common.utils.NumberUtils;
 import io.github.wycst.wast.json.exceptions.JSONException;
 import io.github.wycst.wast.json.options.ReadOption;
@@ -93,6 +93,9 @@ class JSONGeneral {
     // cache keys
     static final JSONKeyValueMap<String> KEY_32_TABLE = new JSONKeyValueMap<String>(4096);
     static final JSONKeyValueMap<String> KEY_8_TABLE = new JSONKeyValueMap<String>(2048);
+    // cache values (ReadOption.InternValueString/@JsonProperty(internValue = true))
+    static final JSONKeyValueMap<String> VALUE_TABLE = new JSONKeyValueMap<String>(4096);
+    static final int INTERN_VALUE_MAX_LENGTH = 32;
 
     static {
         for (int i = 0; i < 160; i++) {
@@ -232,10 +235,7 @@ class JSONGeneral {
         if (EnvUtils.SUPPORTED_VECTOR && !JSONVmOptions.isIncubatorVectorDisabled()) {
             // jdk17 supported jdk.incubator.vector
             try {
-                MemoryClassLoader memoryClassLoader = new MemoryClassLoader();
-                Class<?> utilClass = memoryClassLoader.loadClass("io.github.wycst.wast.json.JSONUtilVectorImpl",
-                        ByteUtils.hexString2Bytes("CAFEBABE0000003D00AD0A000200030700040C00050006010022696F2F6769746875622F77796373742F776173742F6A736F6E2F4A534F4E5574696C0100063C696E69743E010003282956090008000907000A0C000B000C01002C696F2F6769746875622F77796373742F776173742F6A736F6E2F4A534F4E5574696C566563746F72496D706C01001D425954455F535045434945535F5052454645525245445F4C454E47544801000149090008000E0C000F0010010016425954455F535045434945535F5052454645525245440100244C6A646B2F696E63756261746F722F766563746F722F566563746F72537065636965733B0A001200130700140C0015001601001F6A646B2F696E63756261746F722F766563746F722F42797465566563746F7201000966726F6D417272617901004A284C6A646B2F696E63756261746F722F766563746F722F566563746F72537065636965733B5B4249294C6A646B2F696E63756261746F722F766563746F722F42797465566563746F723B0A001200180C0019001A01000265710100242842294C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3B0A001C001D07001E0C001F002001001F6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B0100096669727374547275650100032829490A002200230700240C002500260100106A6176612F6C616E672F537472696E67010007696E6465784F6601000528494929490A001C00280C0029002A0100026F72010044284C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3B294C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3B0A0012002C0C002D001A0100026C74090008002F0C0030000C01001E425954455F535045434945535F5052454645525245445F4C454E475448320A000800320C00330034010024676574496E6465784F6651756F74654F724261636B736C6173684F724E65676174697665010007285B42494929490A000200360C00370038010027656E73757265496E6465784F6651756F74654F724261636B736C6173684F725554463842797465010008285B4249494A2949090008003A0C003B001001001753484F52545F535045434945535F5052454645525245440A003D003E07003F0C004000410100206A646B2F696E63756261746F722F766563746F722F53686F7274566563746F7201000D66726F6D43686172417272617901004B284C6A646B2F696E63756261746F722F766563746F722F566563746F72537065636965733B5B4349294C6A646B2F696E63756261746F722F766563746F722F53686F7274566563746F723B0A003D00430C001900440100242853294C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3B09000800460C0047000C01001F53484F52545F535045434945535F5052454645525245445F4C454E475448320A000800490C004A004B01001E676574496E6465784F6651756F74654F724261636B736C61736843686172010007285B4349492949090008004D0C004E000C01001E53484F52545F535045434945535F5052454645525245445F4C454E4754480A000200500C00510052010021656E73757265496E6465784F6651756F74654F724261636B736C61736843686172010008285B4349434A294909001200540C0055001001000B535045434945535F3235360A005700580700590C005A005B0100106A6176612F7574696C2F41727261797301000466696C6C010006285B4242295603009896800A005E005F0700600C006100620100106A6176612F6C616E672F53797374656D01001163757272656E7454696D654D696C6C697301000328294A0A000800640C00650066010018696E6465784F664261636B736C6173684279566563746F72010006285B424229490A000800680C00690066010015696E6465784F664261636B736C6173684C6F63616C090012006B0C006C0010010011535045434945535F5052454645525245440B006E006F0700700C007100200100226A646B2F696E63756261746F722F766563746F722F566563746F72537065636965730100066C656E67746809003D006B0100095369676E61747572650100364C6A646B2F696E63756261746F722F766563746F722F566563746F72537065636965733C4C6A6176612F6C616E672F427974653B3E3B0100045A45524F0100014201000D436F6E7374616E7456616C756503000000000100094241434B534C415348030000005C0100374C6A646B2F696E63756261746F722F766563746F722F566563746F72537065636965733C4C6A6176612F6C616E672F53686F72743B3E3B010004436F646501000F4C696E654E756D6265725461626C650100124C6F63616C5661726961626C655461626C650100047468697301002E4C696F2F6769746875622F77796373742F776173742F6A736F6E2F4A534F4E5574696C566563746F72496D706C3B010019284C6A6176612F6C616E672F537472696E673B5B4249492949010006766563746F720100214C6A646B2F696E63756261746F722F766563746F722F42797465566563746F723B01000A766563746F724D61736B0100214C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3B0100086669727374506F73010006736F757263650100124C6A6176612F6C616E672F537472696E673B0100036275660100025B420100066F6666736574010005746F6B656E0100056C696D69740100164C6F63616C5661726961626C65547970655461626C650100334C6A646B2F696E63756261746F722F766563746F722F566563746F724D61736B3C4C6A6176612F6C616E672F427974653B3E3B01000D537461636B4D61705461626C6507008A01000571756F746501000971756F74654D61736B0100014A0100066C696D6974320100096C696D6974466C61670100015A0100025B430100224C6A646B2F696E63756261746F722F766563746F722F53686F7274566563746F723B01000143010010746F4E6F4573636170654F6666736574010006285B424929490100056275663634010001620100176973537570706F7274566563746F7257656C6C5465737401000328295A01000169010003636E74010005696E64657801000274300100027431010009766563746F725573650100086C6F63616C5573650100036C656E01000576616C75650100083C636C696E69743E01000A536F7572636546696C650100174A534F4E5574696C566563746F72496D706C2E6A617661003000080002000000080018000F0010000100730000000200740018000B000C000000180030000C0000001800750076000100770000000200780018007900760001007700000002007A0018003B00100001007300000002007B0018004E000C000000180047000C0000000B0000000500060001007C0000003300010001000000052AB70001B100000002007D0000000A00020000001700040018007E0000000C000100000005007F008000000001002500810001007C0000011500030009000000442CBEB200076436051D1505A20031B2000D2C1DB800113A061906150491B600173A071907B6001B36081508B200079F000815081D60AC1DB20007603E2B15041DB60021AC00000004007D0000002600090000001C0008001D000E001E0018001F00220020002900210031002200360024003C0026007E0000005C0009001800240082008300060022001A008400850007002900130086000C000800000044007F0080000000000044008700880001000000440089008A000200000044008B000C000300000044008C000C00040008003C008D000C0005008E0000000C00010022001A0084008F000700900000001F0002FF0036000907000807002207009101010107001207001C010000F800050008003300340001007C000000700003000400000024B2000D2A1BB800114E2D1C91B600172D105CB60017B600272D03B6002BB60027B6001BAC00000002007D0000000A00020000002A0009002B007E0000002A0004000000240089008A000000000024008B000C0001000000240092000C00020009001B0082008300030001003700380001007C000001B20006000A000000D32BBEB2002E6436060336071C1506A3000704A700040359360899006B2B1C1DB80031593607B20007A0005C2B1CB2000760593D1DB80031593607B20007A000471CB20007603D1C1506A3000704A70004035936089900302B1C1DB80031593607B20007A000212B1CB2000760593D1DB80031593607B20007A0000C1CB20007603DA7FFC515089900081C150760AC2BBEB200076436091C1509A3000704A700040359360899001B2B1C1DB80031593607B20007A0000C1CB20007603DA7FFDA15089900081C150760AC2A2B1C1D1604B70035AC00000003007D0000004A00120000003000080031000B0033001F0034003400350040003700460038005A0039006F003A007B003C0084003F00890040008E00420096004300B6004400BF004600C4004700C90049007E0000005C00090096003D008D000C0009000000D3007F00800000000000D30089008A0001000000D3008B000C0002000000D30092000C0003000000D3009300940004000800CB0095000C0006000B00C80086000C0007001900BA00960097000800900000001B000CFD001501014001FC002F010940013209FC0007010940011D090008004A004B0001007C00000068000300040000001CB200392A1BB8003C4E2D1C93B600422D105CB60042B60027B6001BAC00000002007D0000000A00020000004E0009004F007E0000002A00040000001C0089009800000000001C008B000C00010000001C0092000C0002000900130082009900030001005100520001007C000001B20006000A000000D32BBEB200456436060336071C1506A3000704A700040359360899006B2B1C1DB80048593607B2004CA0005C2B1CB2004C60593D1DB80048593607B2004CA000471CB2004C603D1C1506A3000704A70004035936089900302B1C1DB80048593607B2004CA000212B1CB2004C60593D1DB80048593607B2004CA0000C1CB2004C603DA7FFC515089900081C150760AC2BBEB2004C6436091C1509A3000704A700040359360899001B2B1C1DB80048593607B2004CA0000C1CB2004C603DA7FFDA15089900081C150760AC2A2B1C1D1604B7004FAC00000003007D0000004A00120000005400080055000B0057001F0058003400590040005B0046005C005A005D006F005E007B00600084006300890064008E00660096006700B6006800BF006A00C4006B00C9006D007E0000005C00090096003D008D000C0009000000D3007F00800000000000D3008900980001000000D3008B000C0002000000D30092009A0003000000D3009300940004000800CB0095000C0006000B00C80086000C0007001900BA00960097000800900000001B000CFD001501014001FC002F010940013209FC0007010940011D090001009B009C0001007C0000011D000300060000007CB200532B1CB800114E2D1022B600172D105CB60017B600272D1020B6002BB60027B6001B360415041020A0004D8402202BBE10206436051C1505A3003BB200532B1CB800114E2D1022B600172D105CB60017B600272D1020B6002BB60027B6001B3604150410209F00081C150460AC840220A7FFC51CAC1C150460AC00000003007D00000036000D000000730009007400260075002D00760030007700370078003D00790046007A0063007B006A007C006F007E0075008000770082007E0000003E000600370040008D000C00050000007C007F008000000000007C0089008A00010000007C008B000C000200090073008200830003002600560086000C000400900000000F0004FE003707001201013705FA0001000A006500660001007C000000CA0003000500000045033DB200532A1CB800114E2D1BB60017B6001B360415041020A00029840220B200532A1CB800114E2D1BB60017B6001B360415041020A0000702A700071C150460AC1504AC00000003007D0000002600090000008700020088000B00890015008A001C008B001F008C0028008D0032008E00420090007E00000034000500000045009D008A000000000045009E0076000100020043008B000C0002000B003A008200830003001500300086000C000400900000000D0003FE003D01070012014301000001009F00A00001007C000001950004000D0000008AB200071020A2000503AC1040BC084C2B1061B80056105C3D125C3E2B103F105C54023604B8005D37050336071507125CA200112B105CB800633604840701A7FFEEB8005D370716071605653709B8005D370503360B150B125CA200112B105CB800673604840B01A7FFEEB8005D37071607160565370B2B1504105C54160B1609949E000704A7000403AC00000003007D00000056001500000096000A0097000F0098001500990018009A001B009B0021009C0024009D0029009E0033009F003B009E004100A1004600A2004D00A3005200A4005C00A5006400A4006A00A7006F00A8007600A9007C00AA007E00000070000B002C001500A1000C00070055001500A1000C000B0000008A007F00800000000F007B0089008A000100180072009E00760002001B006F00A2000C00030024006600A3000C00040029006100A4009400050046004400A500940007004D003D00A6009400090076001400A70094000B00900000002700070AFF0021000707000807009101010104010000FA0014FE0013040401FA0014FC001D044001000A006900660001007C00000084000200040000001B033D2ABE3E1C1DA200122A1C331BA000051CAC840201A7FFEF02AC00000003007D000000160005000000AE000A00AF001100B0001300AE001900B3007E0000002A00040002001700A1000C00020005001400A8000C00030000001B00A9008A00000000001B009E0076000100900000000B0003FD000501010DF90005000800AA00060001007C0000005F0002000000000033B2006AB3000DB2000DB9006D0100B30007B200070478B3002EB20072B30039B20039B9006D0100B3004CB2004C0478B30045B100000001007D0000001A00060000000D0006000E0011000F00190013001F0014002A0015000100AB0000000200AC"));
-                JSONUtil vectorUtil = (JSONUtil) UnsafeHelper.newInstance(utilClass);
+                JSONUtil vectorUtil = loadVectorUtil();
                 enableVector = vectorUtil.isSupportVectorWellTest();
                 if (enableVector) {
                     envUtil = vectorUtil;
@@ -1399,6 +1399,34 @@ class JSONGeneral {
         }
     }
 
+    /**
+     * <p> 加载jdk.incubator.vector实现（源码位于src/main/java17，编译输出到META-INF/versions/17）；
+     * <p> 以multi-release jar运行时直接从classpath加载，否则（比如classes目录或者shade后的jar）读取class资源通过MemoryClassLoader加载；
+     *
+     * @return JSONUtilVectorImpl实例（未做性能测试）
+     * @throws Throwable 不支持vector api或者class不存在
+     */
+    static JSONUtil loadVectorUtil() throws Throwable {
+        final String className = "io.github.wycst.wast.json.JSONUtilVectorImpl";
+        Class<?> utilClass;
+        try {
+            utilClass = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            InputStream is = JSONGeneral.class.getResourceAsStream("/META-INF/versions/17/" + className.replace('.', '/') + ".class");
+            if (is == null) {
+                throw e;
+            }
+            byte[] codeBytes;
+            try {
+                codeBytes = IOUtils.readBytes(is);
+            } finally {
+                is.close();
+            }
+            utilClass = new MemoryClassLoader(JSONGeneral.class.getClassLoader()).loadClass(className, codeBytes);
+        }
+        return (JSONUtil) UnsafeHelper.newInstance(utilClass);
+    }
+
     /**
      * Starting from offset, search for the first visible byte (>32).
      *
@@ -1413,7 +1441,7 @@ class JSONGeneral {
                 && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' '
                 && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' '
         ) {
-            while (buf[++offset] <= ' ') ;
+            return JSON_UTIL.skipWhiteSpaces(buf, offset + 1);
         }
         return offset;
     }
@@ -1432,11 +1460,109 @@ class JSONGeneral {
                 && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' '
                 && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' ' && buf[++offset] <= ' '
         ) {
-            while (buf[++offset] <= ' ') ;
+            return JSON_UTIL.skipWhiteSpaces(buf, offset + 1);
         }
         return offset;
     }
 
+    /**
+     * <p> 快速跳过offset开始的一个值（不构建任何值，也不做逐元素的语法校验），只识别字符串边界和括号嵌套深度；
+     * <p> 不支持注释和单引号字符串；
+     *
+     * @param buf
+     * @param offset 值的第一个字节
+     * @return 值的最后一个字节位置
+     */
+    final static int skipValueFast(byte[] buf, int offset) {
+        byte b = buf[offset];
+        if (b == '"') {
+            return skipStringFast(buf, offset + 1);
+        }
+        if (b != '{' && b != '[') {
+            while ((b = buf[++offset]) > ' ' && b != ',' && b != '}' && b != ']') ;
+            return offset - 1;
+        }
+        int depth = 1;
+        final int limit8 = buf.length - 8;
+        for (; ; ) {
+            // 8个字节中没有引号和括号时整体跳过
+            while (offset < limit8 && structuralMask(JSONMemoryHandle.JSON_ENDIAN.getLong(buf, offset + 1)) == 0) {
+                offset += 8;
+            }
+            b = buf[++offset];
+            if (b == '"') {
+                offset = skipStringFast(buf, offset + 1);
+            } else if (b == '{' || b == '[') {
+                ++depth;
+            } else if (b == '}' || b == ']') {
+                if (--depth == 0) {
+                    return offset;
+                }
+            }
+        }
+    }
+
+    // 引号或者括号（'[' | 0x20 == '{', ']' | 0x20 == '}'）
+    static long structuralMask(long value) {
+        long v = value | 0x2020202020202020L;
+        long a = v ^ 0x7B7B7B7B7B7B7B7BL, b = v ^ 0x7D7D7D7D7D7D7D7DL, q = v ^ DOUBLE_QUOTE_MASK;
+        return ((a - 0x0101010101010101L) & ~a | (b - 0x0101010101010101L) & ~b | (q - 0x0101010101010101L) & ~q) & 0x8080808080808080L;
+    }
+
+    // offset为引号后的第一个字节，返回结束引号位置
+    final static int skipStringFast(byte[] buf, int offset) {
+        for (; ; ) {
+            offset = JSON_UTIL.ensureIndexOfQuoteOrBackslashOrUTF8Byte(buf, offset, '"', DOUBLE_QUOTE_MASK);
+            byte b = buf[offset];
+            if (b == '"') {
+                return offset;
+            }
+            offset += b == '\\' ? 2 : 1;
+        }
+    }
+
+    /**
+     * 快速跳过offset开始的一个值
+     *
+     * @param buf
+     * @param offset 值的第一个字符
+     * @return 值的最后一个字符位置
+     * @see #skipValueFast(byte[], int)
+     */
+    final static int skipValueFast(char[] buf, int offset) {
+        char c = buf[offset];
+        if (c == '"') {
+            return skipStringFast(buf, offset + 1);
+        }
+        if (c != '{' && c != '[') {
+            while ((c = buf[++offset]) > ' ' && c != ',' && c != '}' && c != ']') ;
+            return offset - 1;
+        }
+        int depth = 1;
+        for (; ; ) {
+            c = buf[++offset];
+            if (c == '"') {
+                offset = skipStringFast(buf, offset + 1);
+            } else if (c == '{' || c == '[') {
+                ++depth;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return offset;
+                }
+            }
+        }
+    }
+
+    final static int skipStringFast(char[] buf, int offset) {
+        for (; ; ) {
+            offset = JSON_UTIL.ensureIndexOfQuoteOrBackslashChar(buf, offset, '"', DOUBLE_QUOTE_CHAR_MASK);
+            if (buf[offset] == '"') {
+                return offset;
+            }
+            offset += 2;
+        }
+    }
+
     /**
      * Starting from offset, search for the first char that is not digit.
      *
@@ -0,0 +1,358 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * <p> 增量流式输出（utf-8），适用于从游标等数据源导出超大json（不需要先构建List）；
+ * <p> 内容先写入缓冲，每次写入后缓冲字节数超过flushThreshold时写出到OutputStream/WritableByteChannel，内存占用保持在阈值附近；
+ * <p> 值的序列化使用已注册的JSONTypeSerializer（与JSON.toJsonString一致）；
+ * <p> 根级别允许写入多个值（以换行分隔，即ndjson）；
+ *
+ * <pre>
+ *  JSONGenerator generator = JSON.createGenerator(os);
+ *  generator.writeStartObject();
+ *  generator.writeFieldName("rows");
+ *  generator.writeStartArray();
+ *  while (cursor.next()) {
+ *      generator.writeValue(cursor.get());
+ *  }
+ *  generator.writeEnd();
+ *  generator.writeEnd();
+ *  generator.close();
+ * </pre>
+ *
+ * @Created by wangyc
+ * @see JSON#createGenerator(OutputStream, io.github.wycst.wast.json.options.WriteOption...)
+ * @see JSON#createGenerator(WritableByteChannel, io.github.wycst.wast.json.options.WriteOption...)
+ */
+public final class JSONGenerator implements Closeable, Flushable {
+
+    public final static int DEFAULT_FLUSH_THRESHOLD = 1 << 16;
+
+    final static int OBJECT = 1;
+    final static int ARRAY = 2;
+    final static int NOT_EMPTY = 4;
+    final static int NAME_WRITTEN = 8;
+
+    private final JSONStore store;
+    private final JSONConfig jsonConfig;
+    private final boolean formatOut;
+    private final boolean formatOutColonSpace;
+    private final OutputStream os;
+    private final WritableByteChannel channel;
+    private final JSONByteArrayWriter writer;
+    private int flushThreshold = DEFAULT_FLUSH_THRESHOLD;
+
+    private int[] states = new int[16];
+    private int depth;
+    private boolean rootWritten;
+    private boolean closed;
+
+    JSONGenerator(JSONStore store, OutputStream os, JSONConfig jsonConfig) {
+        this(store, os, null, jsonConfig);
+    }
+
+    JSONGenerator(JSONStore store, WritableByteChannel channel, JSONConfig jsonConfig) {
+        this(store, null, channel, jsonConfig);
+        JSONWriter.checkBlocking(channel);
+    }
+
+    private JSONGenerator(JSONStore store, OutputStream os, WritableByteChannel channel, JSONConfig jsonConfig) {
+        this.store = store;
+        this.os = os;
+        this.channel = channel;
+        this.jsonConfig = jsonConfig;
+        this.formatOut = jsonConfig.isFormatOut();
+        this.formatOutColonSpace = formatOut && jsonConfig.isFormatOutColonSpace();
+        this.writer = new JSONByteArrayWriter(EnvUtils.CHARSET_UTF_8);
+    }
+
+    /**
+     * 设置自动写出的阈值（字节）
+     *
+     * @param flushThreshold 缓冲字节数达到此值时写出
+     */
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = Math.max(flushThreshold, 1);
+    }
+
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    /**
+     * 当前嵌套深度（0为根级别）
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public void writeStartObject() {
+        writeStart(OBJECT, '{');
+    }
+
+    public void writeStartArray() {
+        writeStart(ARRAY, '[');
+    }
+
+    /**
+     * 结束当前对象或者数组
+     */
+    public void writeEnd() {
+        checkOpen();
+        if (depth == 0) {
+            throw new JSONException("no object or array to end");
+        }
+        int state = states[depth - 1];
+        if ((state & NAME_WRITTEN) != 0) {
+            throw new JSONException("the value of the field is not written");
+        }
+        try {
+            if ((state & NOT_EMPTY) != 0) {
+                JSONGeneral.writeEndFormatOutSymbols(writer, depth - 1, formatOut, jsonConfig);
+            }
+            writer.write((state & OBJECT) != 0 ? '}' : ']');
+            --depth;
+            afterWrite();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 写入对象的字段名（当前必须在对象中）
+     *
+     * @param name 字段名
+     */
+    public void writeFieldName(String name) {
+        checkOpen();
+        int state;
+        if (depth == 0 || ((state = states[depth - 1]) & OBJECT) == 0) {
+            throw new JSONException("field name is only allowed in object");
+        }
+        if ((state & NAME_WRITTEN) != 0) {
+            throw new JSONException("the value of the previous field is not written");
+        }
+        try {
+            if ((state & NOT_EMPTY) != 0) {
+                writer.write(',');
+            }
+            JSONGeneral.writeFormatOutSymbols(writer, depth, formatOut, jsonConfig);
+            writer.writeJSONKeyAndColon(name);
+            if (formatOutColonSpace) {
+                writer.write(' ');
+            }
+            states[depth - 1] = state | NOT_EMPTY | NAME_WRITTEN;
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 写入值（使用已注册的JSONTypeSerializer序列化）
+     *
+     * @param value 任意对象
+     */
+    public void writeValue(Object value) {
+        beforeValue();
+        try {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                store.getTypeSerializer(value.getClass()).serialize(value, writer, jsonConfig, formatOut ? depth : -1);
+                jsonConfig.clear();
+            }
+            afterWrite();
+        } catch (Exception e) {
+            throw (e instanceof JSONException) ? (JSONException) e : new JSONException(e);
+        }
+    }
+
+    public void writeValue(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        beforeValue();
+        try {
+            writer.writeJSONString(value);
+            afterWrite();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    public void writeValue(long value) {
+        beforeValue();
+        try {
+            writer.writeLong(value, jsonConfig);
+            afterWrite();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    public void writeValue(double value) {
+        beforeValue();
+        writer.writeDouble(value);
+        afterWrite();
+    }
+
+    public void writeValue(boolean value) {
+        beforeValue();
+        try {
+            writer.write(value ? "true" : "false");
+            afterWrite();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    public void writeNull() {
+        beforeValue();
+        try {
+            writer.writeNull();
+            afterWrite();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 写入字段名和值
+     *
+     * @param name  字段名
+     * @param value 值
+     */
+    public void writeField(String name, Object value) {
+        writeFieldName(name);
+        writeValue(value);
+    }
+
+    /**
+     * 将缓冲中的内容写出并flush输出流
+     */
+    public void flush() {
+        checkOpen();
+        try {
+            flushBuffer();
+            if (os != null) {
+                os.flush();
+            }
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 结束所有未关闭的对象或者数组并写出缓冲，如果配置了autoCloseStream（默认）同时关闭输出流或者通道
+     *
+     * @throws JSONException 写出或者关闭失败（写出失败时仍然会关闭输出流或者通道）
+     */
+    public void close() {
+        if (closed) return;
+        boolean completed = false;
+        try {
+            while (depth > 0) {
+                writeEnd();
+            }
+            flush();
+            completed = true;
+        } finally {
+            closed = true;
+            writer.reset();
+            if (jsonConfig.isAutoCloseStream()) {
+                try {
+                    if (os != null) {
+                        os.close();
+                    } else {
+                        channel.close();
+                    }
+                } catch (IOException e) {
+                    // 写出失败时保留原始异常
+                    if (completed) {
+                        throw new JSONException(e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    void writeStart(int type, char token) {
+        beforeValue();
+        writer.write(token);
+        if (depth == states.length) {
+            states = Arrays.copyOf(states, depth << 1);
+        }
+        states[depth++] = type;
+    }
+
+    void beforeValue() {
+        checkOpen();
+        if (depth == 0) {
+            if (rootWritten) {
+                writer.write('\n');
+            }
+            rootWritten = true;
+            return;
+        }
+        int state = states[depth - 1];
+        if ((state & OBJECT) != 0) {
+            if ((state & NAME_WRITTEN) == 0) {
+                throw new JSONException("field name is required before the value in object");
+            }
+            states[depth - 1] = state & ~NAME_WRITTEN;
+        } else {
+            try {
+                if ((state & NOT_EMPTY) != 0) {
+                    writer.write(',');
+                }
+                JSONGeneral.writeFormatOutSymbols(writer, depth, formatOut, jsonConfig);
+            } catch (IOException e) {
+                throw new JSONException(e.getMessage(), e);
+            }
+            states[depth - 1] = state | NOT_EMPTY;
+        }
+    }
+
+    void afterWrite() {
+        if (writer.count >= flushThreshold) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                throw new JSONException(e.getMessage(), e);
+            }
+        }
+    }
+
+    void flushBuffer() throws IOException {
+        int count = writer.count;
+        if (count == 0) return;
+        if (os != null) {
+            os.write(writer.buf, 0, count);
+        } else {
+            // 创建后channel可能被切换为非阻塞模式
+            JSONWriter.checkBlocking(channel);
+            ByteBuffer buffer = ByteBuffer.wrap(writer.buf, 0, count);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        writer.clear();
+    }
+
+    void checkOpen() {
+        if (closed) {
+            throw new JSONException("generator is closed");
+        }
+    }
+}
@@ -13,6 +13,9 @@ import java.io.*;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.*;
 
@@ -414,7 +417,7 @@ public final class JSONInstance {
      * @return 对象
      */
     private Object parseInternal(final CharSource charSource, byte[] buf, final Class<?> actualType, ReadOption... readOptions) {
-        return deserialize(buf, 0, buf.length, new Deserializer() {
+        return deserialize(charSource, buf, 0, buf.length, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
                 byte beginByte = buf[fromIndex];
                 if (beginByte == '[') {
@@ -472,12 +475,13 @@ public final class JSONInstance {
     /***
      * 提取重复代码
      *
+     * @param charSource 源
      * @param buf 字节数组
      * @param deserializer 处理器
      * @param readOptions 读取配置
      * @return 结果
      */
-    private Object deserialize(byte[] buf, int fromIndex, int toIndex, Deserializer deserializer, ReadOption... readOptions) {
+    private Object deserialize(CharSource charSource, byte[] buf, int fromIndex, int toIndex, Deserializer deserializer, ReadOption... readOptions) {
         JSONParseContext parseContext = JSONParseContext.of(readOptions);
         try {
             byte beginByte;
@@ -488,6 +492,7 @@ public final class JSONInstance {
                 --toIndex;
             }
             parseContext.toIndex = toIndex;
+            parseContext.checkUTF8(charSource, buf, fromIndex, toIndex);
             boolean allowComment = parseContext.allowComment;
             if (allowComment && beginByte == '/') {
                 fromIndex = JSONGeneral.clearCommentAndWhiteSpaces(buf, fromIndex + 1, parseContext);
@@ -528,6 +533,20 @@ public final class JSONInstance {
      * @return T对象
      */
     public <T> T parseObject(String json, Class<T> actualType, ReadOption... readOptions) {
+        return parseObject(json, actualType, null, readOptions);
+    }
+
+    /**
+     * <p> 将json字符串（{}）部分反序列化为指定class的实例，只反序列化投影中的字段，其他字段快速跳过
+     *
+     * @param json        源字符串
+     * @param actualType  类型
+     * @param projection  字段投影（null时反序列化全部字段）
+     * @param readOptions 解析配置项
+     * @return T对象
+     * @see JSONProjection
+     */
+    public <T> T parseObject(String json, Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
         if (json == null) return null;
         JSONTypeDeserializer deserializer = store.getTypeDeserializer(actualType);
         if (EnvUtils.JDK_9_PLUS) {
@@ -535,19 +554,27 @@ public final class JSONInstance {
             if (bytes.length == json.length()) {
                 // use ascii bytes
                 AsciiStringSource charSource = new AsciiStringSource(json);
-                return parseObjectInternal(deserializer, charSource, bytes, actualType, readOptions);
+                return parseObjectInternal(deserializer, charSource, bytes, actualType, projection, readOptions);
             } else {
                 // utf16
                 char[] chars = json.toCharArray();
-                return parseObjectInternal(deserializer, UTF16ByteArraySource.of(json), chars, actualType, readOptions);
+                return parseObjectInternal(deserializer, UTF16ByteArraySource.of(json), chars, actualType, projection, readOptions);
             }
         }
-        return parseObjectInternal(deserializer, null, (char[]) JSONMemoryHandle.getStringValue(json), actualType, readOptions);
+        return parseObjectInternal(deserializer, null, (char[]) JSONMemoryHandle.getStringValue(json), actualType, projection, readOptions);
     }
 
     <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, char[] buf, final Class<T> actualType, ReadOption... readOptions) {
+        return parseObjectInternal(deserializer, charSource, buf, actualType, null, readOptions);
+    }
+
+    <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, char[] buf, final Class<T> actualType, final JSONProjection projection, ReadOption... readOptions) {
         return (T) deserialize(buf, 0, buf.length, new Deserializer() {
             Object deserialize(char[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
+                if (projection != null) {
+                    jsonParseContext.projection = projection;
+                    jsonParseContext.fastSkip = true;
+                }
                 GenericParameterizedType<?> genericParameterizedType = deserializer.getGenericParameterizedType(actualType);
                 return deserializer.deserialize(charSource, buf, fromIndex, genericParameterizedType, null, '\0', jsonParseContext);
             }
@@ -555,8 +582,24 @@ public final class JSONInstance {
     }
 
     <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, byte[] buf, final Class<T> actualType, ReadOption... readOptions) {
-        return (T) deserialize(buf, 0, buf.length, new Deserializer() {
+        return parseObjectInternal(deserializer, charSource, buf, 0, buf.length, actualType, null, readOptions);
+    }
+
+    <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, byte[] buf, final Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
+        return parseObjectInternal(deserializer, charSource, buf, 0, buf.length, actualType, projection, readOptions);
+    }
+
+    <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, byte[] buf, int fromIndex, int toIndex, final Class<T> actualType, ReadOption... readOptions) {
+        return parseObjectInternal(deserializer, charSource, buf, fromIndex, toIndex, actualType, null, readOptions);
+    }
+
+    <T> T parseObjectInternal(final JSONTypeDeserializer deserializer, final CharSource charSource, byte[] buf, int fromIndex, int toIndex, final Class<T> actualType, final JSONProjection projection, ReadOption... readOptions) {
+        return (T) deserialize(charSource, buf, fromIndex, toIndex, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
+                if (projection != null) {
+                    jsonParseContext.projection = projection;
+                    jsonParseContext.fastSkip = true;
+                }
                 GenericParameterizedType<?> genericParameterizedType = deserializer.getGenericParameterizedType(actualType);
                 return deserializer.deserialize(charSource, buf, fromIndex, genericParameterizedType, null, JSONGeneral.ZERO, jsonParseContext);
             }
@@ -573,15 +616,50 @@ public final class JSONInstance {
      * @return 类型对象
      */
     public <T> T parseObject(byte[] buf, final Class<T> actualType, ReadOption... readOptions) {
+        return parseObject(buf, actualType, null, readOptions);
+    }
+
+    /**
+     * <p> 将字节数组部分反序列化为指定class的实例，只反序列化投影中的字段，其他字段快速跳过
+     *
+     * @param buf         字节数组
+     * @param actualType  类型
+     * @param projection  字段投影（null时反序列化全部字段）
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     * @see JSONProjection
+     */
+    public <T> T parseObject(byte[] buf, final Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
         JSONTypeDeserializer typeDeserializer = store.getTypeDeserializer(actualType);
         if (EnvUtils.JDK_9_PLUS) {
             if (!EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(buf, 0, buf.length)) {
-                return parseObjectInternal(typeDeserializer, AsciiStringSource.of(JSONMemoryHandle.createAsciiString(buf)), buf, actualType, readOptions);
+                return parseObjectInternal(typeDeserializer, AsciiStringSource.of(JSONMemoryHandle.createAsciiString(buf)), buf, actualType, projection, readOptions);
             } else {
-                return parseObjectInternal(typeDeserializer, UTF8CharSource.of(JSONMemoryHandle.createAsciiString(buf)), buf, actualType, readOptions);
+                return parseObjectInternal(typeDeserializer, UTF8CharSource.of(JSONMemoryHandle.createAsciiString(buf)), buf, actualType, projection, readOptions);
             }
         }
-        return parseObjectInternal(typeDeserializer, null, buf, actualType, readOptions);
+        return parseObjectInternal(typeDeserializer, null, buf, actualType, projection, readOptions);
+    }
+
+    /**
+     * <p> 将ByteBuffer中剩余的内容（[position, limit)）转化为指定class的实例，解析成功后position移动到limit（解析失败时不修改）
+     * <p> 堆内缓冲区（包括偏移/切片的缓冲区）直接在底层数组的区间上解析，直接内存缓冲区通过地址读取剩余内容到数组一次后解析
+     *
+     * @param buffer      字节缓冲区（编码为utf-8或者ascii）
+     * @param actualType  类型
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象(没有剩余内容时返回null)
+     */
+    public <T> T parseObject(ByteBuffer buffer, final Class<T> actualType, ReadOption... readOptions) {
+        if (buffer == null) return null;
+        JSONByteInput source = JSONByteInput.of(buffer);
+        if (source.isEmpty()) return null;
+        JSONTypeDeserializer typeDeserializer = store.getTypeDeserializer(actualType);
+        T result = parseObjectInternal(typeDeserializer, source.charSource(), source.bytes, source.offset, source.offset + source.length, actualType, readOptions);
+        buffer.position(buffer.limit());
+        return result;
     }
 
     /**
@@ -618,6 +696,21 @@ public final class JSONInstance {
      * @return 类型对象
      */
     public <T> T parseObject(char[] buf, final Class<T> actualType, ReadOption... readOptions) {
+        return parseObject(buf, actualType, null, readOptions);
+    }
+
+    /**
+     * <p> 将字符数组部分反序列化为指定class的实例，只反序列化投影中的字段，其他字段快速跳过
+     *
+     * @param buf         字符数组
+     * @param actualType  类型
+     * @param projection  字段投影（null时反序列化全部字段）
+     * @param readOptions 读取配置
+     * @param <T>         泛型
+     * @return 类型对象
+     * @see JSONProjection
+     */
+    public <T> T parseObject(char[] buf, final Class<T> actualType, JSONProjection projection, ReadOption... readOptions) {
         JSONTypeDeserializer typeDeserializer = store.getTypeDeserializer(actualType);
         if (EnvUtils.JDK_9_PLUS) {
             String json = new String(buf);
@@ -625,13 +718,13 @@ public final class JSONInstance {
             if (bytes.length == buf.length) {
                 // use ascii bytes
                 AsciiStringSource charSource = new AsciiStringSource(json);
-                return parseObjectInternal(typeDeserializer, charSource, bytes, actualType, readOptions);
+                return parseObjectInternal(typeDeserializer, charSource, bytes, actualType, projection, readOptions);
             } else {
                 // utf16
-                return parseObjectInternal(typeDeserializer, UTF16ByteArraySource.of(json), buf, actualType, readOptions);
+                return parseObjectInternal(typeDeserializer, UTF16ByteArraySource.of(json), buf, actualType, projection, readOptions);
             }
         }
-        return parseObjectInternal(typeDeserializer, null, buf, actualType, readOptions);
+        return parseObjectInternal(typeDeserializer, null, buf, actualType, projection, readOptions);
     }
 
     /**
@@ -708,7 +801,7 @@ public final class JSONInstance {
      * @return 对象或者数组
      */
     private <T> T parseInternal(final CharSource charSource, byte[] buf, final GenericParameterizedType<T> genericParameterizedType, ReadOption... readOptions) {
-        return (T) deserialize(buf, 0, buf.length, new Deserializer() {
+        return (T) deserialize(charSource, buf, 0, buf.length, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
                 JSONTypeDeserializer deserializer = store.getTypeDeserializer(genericParameterizedType.getActualType());
                 return deserializer.deserialize(charSource, buf, fromIndex, genericParameterizedType, null, JSONGeneral.ZERO, jsonParseContext);
@@ -829,7 +922,7 @@ public final class JSONInstance {
      * @return 集合
      */
     private <T> List<T> parseArrayInternal(final CharSource charSource, byte[] buf, final Class<T> actualType, ReadOption... readOptions) {
-        return (List<T>) deserialize(buf, 0, buf.length, new Deserializer() {
+        return (List<T>) deserialize(charSource, buf, 0, buf.length, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
                 return store.COLLECTION_DESER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.collectionType(ArrayList.class, actualType), null, JSONGeneral.ZERO, jsonParseContext);
             }
@@ -895,6 +988,79 @@ public final class JSONInstance {
         return JSONL.parseNdJson(json, store.getTypeDeserializer(actualType), readOptions);
     }
 
+    /**
+     * 并行解析ndjson（jsonl）字节数组，按换行符切分为parallelism个分片后由parallelism个线程（包括调用线程，使用共享线程池）解析，结果按输入顺序返回
+     * <p>
+     * 注: 记录之间必须使用换行符分隔，数据量较小时（每个分片不足64KB）减少分片数或者退化为单线程解析
+     *
+     * @param bytes       字节数组
+     * @param actualType  实例对象类型
+     * @param parallelism 并行度（分片数以及同时解析的线程数）
+     * @param readOptions 解析配置项
+     * @param <T>         泛型
+     * @return 列表
+     */
+    public <T> List<T> parseNdJsonParallel(byte[] bytes, Class<T> actualType, int parallelism, ReadOption... readOptions) {
+        return JSONL.parseNdJsonParallel(bytes, store.getTypeDeserializer(actualType), actualType, parallelism, readOptions);
+    }
+
+    /**
+     * 并行解析ndjson（jsonl）字节数组，并行度为cpu核数
+     *
+     * @param bytes       字节数组
+     * @param actualType  实例对象类型
+     * @param readOptions 解析配置项
+     * @param <T>         泛型
+     * @return 列表
+     * @see #parseNdJsonParallel(byte[], Class, int, ReadOption...)
+     */
+    public <T> List<T> parseNdJsonParallel(byte[] bytes, Class<T> actualType, ReadOption... readOptions) {
+        return parseNdJsonParallel(bytes, actualType, JSONParallel.DEFAULT_PARALLELISM, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）输入流，每次调用next时才读取并解析一条记录，内存占用与流大小无关
+     * <p>
+     * 注: 记录之间必须使用换行符分隔，迭代结束或者出现异常时自动关闭流
+     *
+     * @param is          输入流
+     * @param actualType  实例对象类型
+     * @param readOptions 解析配置项
+     * @param <T>         泛型
+     * @return 可关闭的迭代器
+     */
+    public <T> JSONLIterator<T> iterateNdJson(InputStream is, Class<T> actualType, ReadOption... readOptions) {
+        return JSONLIterator.of(is, store.getTypeDeserializer(actualType), actualType, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）文件
+     *
+     * @param file        文件
+     * @param actualType  实例对象类型
+     * @param readOptions 解析配置项
+     * @param <T>         泛型
+     * @return 可关闭的迭代器
+     * @see #iterateNdJson(InputStream, Class, ReadOption...)
+     */
+    public <T> JSONLIterator<T> iterateNdJson(File file, Class<T> actualType, ReadOption... readOptions) throws IOException {
+        return iterateNdJson(new FileInputStream(file), actualType, readOptions);
+    }
+
+    /**
+     * 流式迭代ndjson（jsonl）通道
+     *
+     * @param channel     字节通道
+     * @param actualType  实例对象类型
+     * @param readOptions 解析配置项
+     * @param <T>         泛型
+     * @return 可关闭的迭代器
+     * @see #iterateNdJson(InputStream, Class, ReadOption...)
+     */
+    public <T> JSONLIterator<T> iterateNdJson(ReadableByteChannel channel, Class<T> actualType, ReadOption... readOptions) {
+        return JSONLIterator.of(channel, store.getTypeDeserializer(actualType), actualType, readOptions);
+    }
+
     /**
      * 将json解析到指定实例对象中
      *
@@ -935,7 +1101,7 @@ public final class JSONInstance {
     }
 
     private Object parseToObjectInternal(final CharSource charSource, byte[] buf, final Object instance, ReadOption... readOptions) {
-        return deserialize(buf, 0, buf.length, new Deserializer() {
+        return deserialize(charSource, buf, 0, buf.length, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
                 if (instance instanceof Map) {
                     return store.MAP_DESER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.DefaultMap, instance, JSONGeneral.ZERO, jsonParseContext);
@@ -984,7 +1150,7 @@ public final class JSONInstance {
     }
 
     private <E> Object parseToListInternal(final CharSource charSource, byte[] buf, final Collection<?> instance, final Class<E> actualType, ReadOption... readOptions) {
-        return deserialize(buf, 0, buf.length, new Deserializer() {
+        return deserialize(charSource, buf, 0, buf.length, new Deserializer() {
             Object deserialize(byte[] buf, int fromIndex, JSONParseContext jsonParseContext) throws Exception {
                 return store.COLLECTION_DESER.deserializeCollection(charSource, buf, fromIndex, GenericParameterizedType.collectionType(instance.getClass(), actualType), instance, jsonParseContext);
             }
@@ -1011,6 +1177,12 @@ public final class JSONInstance {
      * @return 集合或者Map对象
      */
     private Object read(InputStream is, long size, ReadOption... readOptions) throws IOException {
+        if (is instanceof FileInputStream) {
+            JSONByteInput source = JSONByteInput.readFile((FileInputStream) is, JSONByteInput.MAX_FILE_READ_SIZE);
+            if (source != null) {
+                return source.isEmpty() ? null : parse(source.toBytes(), readOptions);
+            }
+        }
         if (size <= 0) size = is.available();
         if (size <= JSONGeneral.DIRECT_READ_BUFFER_SIZE) {
             char[] buf = JSONGeneral.readOnceInputStream(is, (int) size);
@@ -1044,6 +1216,12 @@ public final class JSONInstance {
      * @return T对象
      */
     <T> T read(InputStream is, long size, Class<T> actualType, ReadOption... readOptions) throws IOException {
+        if (is instanceof FileInputStream) {
+            JSONByteInput source = JSONByteInput.readFile((FileInputStream) is, JSONByteInput.MAX_FILE_READ_SIZE);
+            if (source != null) {
+                return source.isEmpty() ? null : (T) parse(source.toBytes(), actualType, readOptions);
+            }
+        }
         if (size <= 0) size = is.available();
         if (size <= JSONGeneral.DIRECT_READ_BUFFER_SIZE) {
             if (size == 0) return null;
@@ -1065,7 +1243,7 @@ public final class JSONInstance {
      * @return T对象
      */
     public <T> T read(File file, Class<T> actualType, ReadOption... readOptions) throws IOException {
-        return read(new FileInputStream(file), Integer.MAX_VALUE, actualType, readOptions);
+        return read(file, GenericParameterizedType.actualType(actualType), readOptions);
     }
 
     /**
@@ -1110,6 +1288,10 @@ public final class JSONInstance {
      * @return T对象
      */
     public <T> T read(File file, GenericParameterizedType<T> genericType, ReadOption... readOptions) throws IOException {
+        JSONByteInput source = JSONByteInput.readFile(file, JSONByteInput.MAX_FILE_READ_SIZE);
+        if (source != null) {
+            return source.isEmpty() ? null : parse(source.toBytes(), genericType, readOptions);
+        }
         JSONReader jsonReader = JSONReader.from(file);
         jsonReader.setOptions(readOptions);
         return jsonReader.readAsResult(genericType);
@@ -1124,6 +1306,12 @@ public final class JSONInstance {
      * @return T对象
      */
     public <T> T read(InputStream is, GenericParameterizedType<T> genericType, ReadOption... readOptions) throws IOException {
+        if (is instanceof FileInputStream) {
+            JSONByteInput source = JSONByteInput.readFile((FileInputStream) is, JSONByteInput.MAX_FILE_READ_SIZE);
+            if (source != null) {
+                return source.isEmpty() ? null : parse(source.toBytes(), genericType, readOptions);
+            }
+        }
         JSONReader jsonReader = JSONReader.from(is);
         jsonReader.setOptions(readOptions);
         return jsonReader.readAsResult(genericType);
@@ -1377,6 +1565,46 @@ public final class JSONInstance {
         }
     }
 
+    /**
+     * 将对象序列化内容（utf-8）写入ByteBuffer（从position开始写入，写入后position后移）
+     *
+     * @param object  目标对象
+     * @param buffer  堆内或者直接内存缓冲区
+     * @param options 配置
+     * @throws JSONException 如果缓冲区剩余空间不足（此时缓冲区不会被修改）
+     */
+    public void writeJsonTo(Object object, ByteBuffer buffer, WriteOption... options) {
+        JSONConfig jsonConfig = JSONConfig.of(options);
+        JSONWriter bytesWriter = JSONWriter.forBytesWriter(EnvUtils.CHARSET_UTF_8, jsonConfig);
+        try {
+            writeToJSONWriter(object, bytesWriter, jsonConfig);
+            bytesWriter.toByteBuffer(buffer);
+        } finally {
+            bytesWriter.reset();
+        }
+    }
+
+    /**
+     * 将对象序列化内容（utf-8）写入channel（不会关闭channel，只支持阻塞模式的channel）
+     *
+     * @param object  目标对象
+     * @param channel 目标通道
+     * @param options 配置
+     */
+    public void writeJsonTo(Object object, WritableByteChannel channel, WriteOption... options) {
+        JSONWriter.checkBlocking(channel);
+        JSONConfig jsonConfig = JSONConfig.of(options);
+        JSONWriter bytesWriter = JSONWriter.forBytesWriter(EnvUtils.CHARSET_UTF_8, jsonConfig);
+        try {
+            writeToJSONWriter(object, bytesWriter, jsonConfig);
+            bytesWriter.toChannel(channel);
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        } finally {
+            bytesWriter.reset();
+        }
+    }
+
     /**
      * 将对象序列化内容直接写入os
      *
@@ -1496,6 +1724,75 @@ public final class JSONInstance {
         writeToJSONWriter(object, JSONWriter.wrap(writer), JSONConfig.of(options));
     }
 
+    /**
+     * 创建增量流式输出（utf-8），缓冲超过阈值时自动写出到os
+     *
+     * @param os      目标os
+     * @param options 序列化选项
+     * @return generator
+     * @see JSONGenerator
+     */
+    public JSONGenerator createGenerator(OutputStream os, WriteOption... options) {
+        return new JSONGenerator(store, os, JSONConfig.of(options));
+    }
+
+    /**
+     * 创建增量流式输出（utf-8），缓冲超过阈值时自动写出到channel（只支持阻塞模式的channel）
+     *
+     * @param channel 目标通道
+     * @param options 序列化选项
+     * @return generator
+     * @see JSONGenerator
+     */
+    public JSONGenerator createGenerator(WritableByteChannel channel, WriteOption... options) {
+        return new JSONGenerator(store, channel, JSONConfig.of(options));
+    }
+
+    /**
+     * 序列化为紧凑的二进制json
+     *
+     * @param obj     对象
+     * @param options 序列化选项
+     * @return 二进制json，obj为null时返回null
+     * @see JSONBinary
+     */
+    public byte[] toBinary(Object obj, WriteOption... options) {
+        if (obj == null) return null;
+        return JSONBinary.encode(store, obj, JSONConfig.of(options));
+    }
+
+    /**
+     * 二进制json反序列化为指定类型
+     *
+     * @param binary     二进制json
+     * @param actualType 类型
+     * @return 对象
+     */
+    public <T> T fromBinary(byte[] binary, Class<T> actualType) {
+        return JSONBinary.decode(store, binary, GenericParameterizedType.actualType(actualType));
+    }
+
+    /**
+     * 二进制json反序列化为指定泛型结构
+     *
+     * @param binary      二进制json
+     * @param genericType 泛型结构
+     * @return 对象
+     */
+    public <T> T fromBinary(byte[] binary, GenericParameterizedType<T> genericType) {
+        return JSONBinary.decode(store, binary, genericType);
+    }
+
+    /**
+     * 二进制json的懒加载节点
+     *
+     * @param binary 二进制json
+     * @return 根节点
+     */
+    public JSONBinaryNode parseBinaryNode(byte[] binary) {
+        return JSONBinaryNode.parse(store, binary);
+    }
+
     /**
      * 支持自定义的对象反序列化器注册
      *
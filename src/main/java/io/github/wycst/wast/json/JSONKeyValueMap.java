@@ -1,5 +1,7 @@
 package io.github.wycst.wast.json;
 
+import io.github.wycst.wast.common.utils.EnvUtils;
+
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -55,7 +57,7 @@ class JSONKeyValueMap<T> {
                     String name = names[i];
                     long hashValue = hashValues[i];
                     E value = values.get(name);
-                    valueEntryNodes[remValues[i]] = new EntryNode<E>(name.toCharArray(), name.getBytes(), value, hashValue);
+                    valueEntryNodes[remValues[i]] = new EntryNode<E>(name.toCharArray(), name.getBytes(EnvUtils.CHARSET_UTF8_OR_DEF), value, hashValue);
                 }
                 if (bits == 0) {
                     return new PlhvImpl<E>(size, capacity, valueEntryNodes);
@@ -92,7 +94,7 @@ class JSONKeyValueMap<T> {
                     String name = names[i];
                     long hashValue = hashValues[i];
                     E value = values.get(name);
-                    valueEntryNodes[remValues[i]] = new EntryNode<E>(name.toCharArray(), name.getBytes(), value, hashValue);
+                    valueEntryNodes[remValues[i]] = new EntryNode<E>(name.toCharArray(), name.getBytes(EnvUtils.CHARSET_UTF8_OR_DEF), value, hashValue);
                 }
                 return dftNameValueMap;
             }
@@ -168,7 +170,7 @@ class JSONKeyValueMap<T> {
             count++;
         }
         int index = (int) (keyHash & mask);
-        EntryNode valueEntryNode = new EntryNode(name.toCharArray(), name.getBytes(), value, keyHash);
+        EntryNode valueEntryNode = new EntryNode(name.toCharArray(), name.getBytes(EnvUtils.CHARSET_UTF8_OR_DEF), value, keyHash);
         EntryNode oldEntryNode = valueEntryNodes[index];
         valueEntryNodes[index] = valueEntryNode;
         if (oldEntryNode != null) {
@@ -442,7 +444,7 @@ class JSONKeyValueMap<T> {
     static final long bitHash(String name, int bits, boolean forByte) {
         long val = 0;
         if (forByte) {
-            byte[] bytes = name.getBytes();
+            byte[] bytes = name.getBytes(EnvUtils.CHARSET_UTF8_OR_DEF);
             for (int i = 0, len = bytes.length; i < len; ++i) {
                 val = (val << bits) + bytes[i];
             }
@@ -457,7 +459,7 @@ class JSONKeyValueMap<T> {
     static final long primeHash(String name, int primeValue, boolean forByte) {
         long val = 0;
         if (forByte) {
-            byte[] bytes = name.getBytes();
+            byte[] bytes = name.getBytes(EnvUtils.CHARSET_UTF8_OR_DEF);
             for (int i = 0, len = bytes.length; i < len; ++i) {
                 val = val * primeValue + bytes[i];
             }
@@ -8,6 +8,7 @@ import io.github.wycst.wast.json.options.ReadOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * 支持ndjson读写
@@ -84,6 +85,89 @@ final class JSONL extends JSONGeneral {
         }
     }
 
+    // 并行解析时每个分片的最小字节数，避免过小的分片带来调度开销
+    final static int PARALLEL_MIN_CHUNK_SIZE = 64 << 10;
+
+    /**
+     * 并行解析ndjson字节数组，按换行符将缓冲区切分为多个分片，每个分片使用独立的解析上下文，结果按输入顺序返回
+     * <p> 注: 记录之间必须使用换行符分隔，单条记录不允许跨行
+     *
+     * @param bytes            字节数组
+     * @param typeDeserializer 反序列化器
+     * @param actualType       实例类型
+     * @param parallelism      并行度（分片数以及同时解析的线程数，包括调用线程）
+     * @param readOptions      解析配置项
+     * @return 列表
+     */
+    static List parseNdJsonParallel(final byte[] bytes, final JSONTypeDeserializer typeDeserializer, Class<?> actualType, int parallelism, final ReadOption[] readOptions) {
+        bytes.getClass();
+        final int length = bytes.length;
+        parallelism = Math.min(parallelism, length / PARALLEL_MIN_CHUNK_SIZE);
+        final GenericParameterizedType<?> parameterizedType = typeDeserializer.getGenericParameterizedType(actualType);
+        final String input = EnvUtils.JDK_9_PLUS ? JSONMemoryHandle.createAsciiString(bytes) : null;
+        if (parallelism <= 1) {
+            return parseNdJsonRange(typeDeserializer, parameterizedType, input, bytes, 0, length, readOptions);
+        }
+        List<Callable<List>> tasks = new ArrayList<Callable<List>>(parallelism);
+        int chunkSize = length / parallelism, fromIndex = 0;
+        for (int i = 1; i <= parallelism && fromIndex < length; ++i) {
+            int toIndex = i == parallelism ? length : Math.max(fromIndex, i * chunkSize);
+            while (toIndex < length && bytes[toIndex++] != '\n') ;
+            final int beginIndex = fromIndex, endIndex = toIndex;
+            tasks.add(new Callable<List>() {
+                public List call() {
+                    return parseNdJsonRange(typeDeserializer, parameterizedType, input, bytes, beginIndex, endIndex, readOptions);
+                }
+            });
+            fromIndex = toIndex;
+        }
+        List<List> chunkResults = JSONParallel.invokeAll(tasks, parallelism);
+        int size = 0;
+        for (List chunkResult : chunkResults) {
+            size += chunkResult.size();
+        }
+        List results = new ArrayList(size);
+        for (List chunkResult : chunkResults) {
+            results.addAll(chunkResult);
+        }
+        return results;
+    }
+
+    /**
+     * 解析[fromIndex, toIndex)区间内以换行符分隔的记录，出现错误时返回在整个字节数组中的绝对位置
+     */
+    static List parseNdJsonRange(JSONTypeDeserializer typeDeserializer, GenericParameterizedType<?> parameterizedType, String input, byte[] bytes, int fromIndex, final int toIndex, ReadOption[] readOptions) {
+        JSONParseContext parseContext = JSONParseContext.of(readOptions);
+        parseContext.toIndex = toIndex;
+        parseContext.multiple = true;
+        CharSource charSource = null;
+        if (input != null) {
+            charSource = EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(bytes, fromIndex, toIndex - fromIndex) ? UTF8CharSource.of(input) : AsciiStringSource.of(input);
+        }
+        List results = new ArrayList();
+        try {
+            while (true) {
+                byte b;
+                while (fromIndex < toIndex && ((b = bytes[fromIndex]) <= ' ' || b == ',')) {
+                    ++fromIndex;
+                }
+                if (fromIndex == toIndex) break;
+                Object result = typeDeserializer.deserialize(charSource, bytes, fromIndex, parameterizedType, null, ZERO, parseContext);
+                if (parseContext.endIndex >= toIndex) {
+                    throw new JSONException("the record is not terminated by '\\n'");
+                }
+                results.add(result);
+                fromIndex = parseContext.endIndex + 1;
+            }
+            return results;
+        } catch (Exception e) {
+            String errorContextTextAt = createErrorContextText(bytes, fromIndex);
+            throw new JSONException("Syntax error, at pos " + fromIndex + ", " + errorContextTextAt, e);
+        } finally {
+            parseContext.clear();
+        }
+    }
+
     static void writeNdJsonTo(JSONStore store, JSONWriter content, Collection collection, JSONConfig jsonConfig) {
         try {
             int indentLevel = 0;
@@ -0,0 +1,240 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p> ndjson（jsonl）流式迭代器，按需读取流并逐条解析记录，不会将整个流读入内存；
+ * <p> 内部使用有界的字节缓冲区，只有当单条记录超过缓冲区大小时才会扩容，内存占用与流的总大小无关；
+ * <p> 注: 记录之间必须使用换行符'\n'分隔（即标准的ndjson格式），单条记录不允许跨行；通道只支持阻塞模式；
+ *
+ * <pre>
+ *     JSONLIterator&lt;Order&gt; iterator = JSON.iterateNdJson(new FileInputStream("/tmp/orders.jsonl"), Order.class);
+ *     try {
+ *         while (iterator.hasNext()) {
+ *             Order order = iterator.next();
+ *             ...
+ *         }
+ *     } finally {
+ *         iterator.close();
+ *     }
+ * </pre>
+ *
+ * @author wangyunchao
+ * @see JSON#iterateNdJson(InputStream, Class, ReadOption...)
+ * @see JSON#parseNdJson(String, Class, ReadOption...)
+ */
+@SuppressWarnings({"all"})
+public final class JSONLIterator<T> extends JSONGeneral implements Iterator<T>, Closeable {
+
+    final static int DEFAULT_BUFFER_SIZE = 64 << 10;
+
+    private final InputStream is;
+    private final ReadableByteChannel channel;
+    private final JSONTypeDeserializer typeDeserializer;
+    private final GenericParameterizedType<?> parameterizedType;
+    private final ReadOption[] readOptions;
+
+    // 缓冲区（预留一个字节用于在流结束时追加换行符）
+    private byte[] buf;
+    // 当前读取位置
+    private int offset;
+    // 缓冲区有效长度
+    private int count;
+    // buf[0]在整个流中的绝对位置
+    private long position;
+    private boolean eof;
+    private boolean closed;
+
+    private T next;
+    private boolean nextReady;
+
+    JSONLIterator(InputStream is, ReadableByteChannel channel, JSONTypeDeserializer typeDeserializer, Class<T> actualType, int bufferSize, ReadOption[] readOptions) {
+        this.is = is;
+        this.channel = channel;
+        this.typeDeserializer = typeDeserializer;
+        this.parameterizedType = typeDeserializer.getGenericParameterizedType(actualType);
+        this.readOptions = readOptions;
+        this.buf = new byte[Math.max(bufferSize, 64)];
+    }
+
+    static <T> JSONLIterator<T> of(InputStream is, JSONTypeDeserializer typeDeserializer, Class<T> actualType, ReadOption[] readOptions) {
+        is.getClass();
+        return new JSONLIterator<T>(is, null, typeDeserializer, actualType, DEFAULT_BUFFER_SIZE, readOptions);
+    }
+
+    static <T> JSONLIterator<T> of(ReadableByteChannel channel, JSONTypeDeserializer typeDeserializer, Class<T> actualType, ReadOption[] readOptions) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new JSONException("non-blocking channel is not supported");
+        }
+        return new JSONLIterator<T>(null, channel, typeDeserializer, actualType, DEFAULT_BUFFER_SIZE, readOptions);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextReady) return true;
+        if (closed) return false;
+        try {
+            nextReady = readNext();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (!nextReady) {
+            close();
+        }
+        return nextReady;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        nextReady = false;
+        return result;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * 读取下一条记录
+     *
+     * @return 是否存在记录
+     */
+    private boolean readNext() {
+        for (; ; ) {
+            byte b;
+            while (offset < count && ((b = buf[offset]) <= ' ' || b == ',')) {
+                // 支持以逗号结尾来兼容单行的数字
+                ++offset;
+            }
+            if (offset == count) {
+                if (eof || !fill()) {
+                    return false;
+                }
+                continue;
+            }
+            int lineEnd = indexOfLineEnd(offset);
+            if (lineEnd == -1) {
+                if (!eof && fill()) {
+                    continue;
+                }
+                // the last record without '\n'
+                buf[lineEnd = count] = '\n';
+            }
+            next = (T) parseRecord(offset, lineEnd);
+            return true;
+        }
+    }
+
+    private Object parseRecord(int fromIndex, int lineEnd) {
+        JSONParseContext parseContext = JSONParseContext.of(readOptions);
+        parseContext.toIndex = lineEnd;
+        parseContext.multiple = true;
+        Object result;
+        try {
+            CharSource charSource = null;
+            if (EnvUtils.JDK_9_PLUS) {
+                String input = JSONMemoryHandle.createAsciiString(buf);
+                charSource = EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(buf, fromIndex, lineEnd - fromIndex) ? UTF8CharSource.of(input) : AsciiStringSource.of(input);
+            }
+            result = typeDeserializer.deserialize(charSource, buf, fromIndex, parameterizedType, null, ZERO, parseContext);
+        } catch (Exception e) {
+            String errorContextTextAt = createErrorContextText(buf, fromIndex);
+            throw new JSONException("Syntax error, at pos " + (position + fromIndex) + ", " + errorContextTextAt, e);
+        } finally {
+            parseContext.clear();
+        }
+        int endIndex = parseContext.endIndex;
+        if (endIndex >= lineEnd) {
+            throw new JSONException("Syntax error, at pos " + (position + fromIndex) + ", the record is not terminated by '\\n'");
+        }
+        offset = endIndex + 1;
+        return result;
+    }
+
+    private int indexOfLineEnd(int from) {
+        for (int i = from; i < count; ++i) {
+            if (buf[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 将未读取的内容移动到缓冲区头部后从流中读取数据，如果单条记录占满缓冲区将扩容
+     *
+     * @return 是否读取到新数据
+     */
+    private boolean fill() {
+        if (offset > 0) {
+            int rem = count - offset;
+            if (rem > 0) {
+                System.arraycopy(buf, offset, buf, 0, rem);
+            }
+            position += offset;
+            count = rem;
+            offset = 0;
+        }
+        if (count >= buf.length - 1) {
+            byte[] newBuf = new byte[buf.length << 1];
+            System.arraycopy(buf, 0, newBuf, 0, count);
+            buf = newBuf;
+        }
+        try {
+            int n;
+            int len = buf.length - 1 - count;
+            if (is != null) {
+                n = is.read(buf, count, len);
+            } else {
+                n = channel.read(ByteBuffer.wrap(buf, count, len));
+            }
+            if (n == -1) {
+                eof = true;
+                return false;
+            }
+            if (n == 0 && channel != null) {
+                // 非阻塞通道没有就绪的数据，避免空转
+                throw new JSONException("channel read returned no data, only blocking channel is supported");
+            }
+            count += n;
+            return true;
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 关闭流
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            if (is != null) {
+                is.close();
+            } else {
+                channel.close();
+            }
+        } catch (IOException e) {
+        }
+    }
+}
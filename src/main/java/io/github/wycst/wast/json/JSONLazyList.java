@@ -0,0 +1,47 @@
+package io.github.wycst.wast.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * <p> 基于源缓冲区的只读懒加载List，元素在第一次访问时才解码并缓存；
+ *
+ * @Created by wangyc
+ * @see JSONLazyMap
+ */
+final class JSONLazyList extends AbstractList<Object> implements RandomAccess {
+
+    final JSONNode node;
+    private Object[] values = new Object[8];
+
+    JSONLazyList(JSONNode node) {
+        this.node = node;
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index < values.length) {
+            Object value = values[index];
+            if (value != null) {
+                return value == JSONLazyMap.NULL ? null : value;
+            }
+        }
+        // 只解析到index位置（不需要先计算数组长度）
+        JSONNode element = index < 0 ? null : node.getElementAt(index);
+        if (element == null) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Object value = JSONLazyMap.valueOf(element);
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length << 1, index + 1));
+        }
+        values[index] = value == null ? JSONLazyMap.NULL : value;
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return node.getElementCount();
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p> 基于源缓冲区的只读懒加载Map：只记录偏移（JSONNode的懒加载模式），值在第一次访问时才解码并缓存；
+ * <p> 对象或者数组类型的值同样返回懒加载的Map/List，未访问的子树只做一次快速扫描跳过，不构建任何值；
+ * <p> 非线程安全；
+ *
+ * @Created by wangyc
+ * @see JSON#parseLazy(byte[], ReadOption...)
+ * @see JSONLazyList
+ */
+final class JSONLazyMap extends AbstractMap<String, Object> {
+
+    // 缓存null值
+    final static Object NULL = new Object();
+
+    final JSONNode node;
+    final Map<String, Object> values = new HashMap<String, Object>();
+    private Set<Entry<String, Object>> entrySet;
+
+    JSONLazyMap(JSONNode node) {
+        this.node = node;
+    }
+
+    /**
+     * 构建懒加载的解析结果（根节点为对象时返回Map，数组时返回List，其他返回值本身）
+     */
+    static Object parse(byte[] bytes, ReadOption... readOptions) {
+        if (bytes == null) return null;
+        return valueOf(JSONNode.parseInternal(bytes, null, lazyContext(readOptions)));
+    }
+
+    static Object parse(String json, ReadOption... readOptions) {
+        if (json == null) return null;
+        return valueOf(JSONNode.parseInternal(json, null, lazyContext(readOptions)));
+    }
+
+    // 与JSON.parse的语法一致（JSONNodeContext默认开启了非标准语法）
+    static JSONNodeContext lazyContext(ReadOption[] readOptions) {
+        JSONNodeContext parseContext = new JSONNodeContext();
+        parseContext.allowLastEndComma = false;
+        parseContext.allowSingleQuotes = false;
+        parseContext.allowUnquotedFieldNames = false;
+        parseContext.fastSkip = true;
+        JSONOptions.readOptions(readOptions, parseContext);
+        return parseContext;
+    }
+
+    static Object valueOf(JSONNode node) {
+        if (node == null) return null;
+        if (node.isObject()) {
+            return new JSONLazyMap(node);
+        }
+        if (node.isArray()) {
+            return new JSONLazyList(node);
+        }
+        // 根节点的字符串值在访问时才解码
+        return node.getType() == JSONNode.STRING ? node.getStringValue() : node.any();
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) return null;
+        String name = (String) key;
+        Object value = values.get(name);
+        if (value == null) {
+            value = valueOf(node.getChild(name));
+            values.put(name, value == null ? NULL : value);
+            return value;
+        }
+        return value == NULL ? null : value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && node.getChild((String) key) != null;
+    }
+
+    @Override
+    public int size() {
+        return node.keyNames().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final Iterator<Serializable> iterator = node.keyNames().iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        public Entry<String, Object> next() {
+                            String key = String.valueOf(iterator.next());
+                            return new SimpleImmutableEntry<String, Object>(key, get(key));
+                        }
+
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return JSONLazyMap.this.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+}
@@ -24,6 +24,7 @@ import io.github.wycst.wast.common.utils.*;
 import io.github.wycst.wast.json.exceptions.JSONException;
 import io.github.wycst.wast.json.options.ReadOption;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
@@ -1061,7 +1062,11 @@ public abstract class JSONNode implements Comparable<JSONNode> {
             switch (ch) {
                 case '{': {
                     if (lazy) {
-                        JSONStore.INSTANCE.MAP_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        if (parseContext.isFastSkip()) {
+                            parseContext.endIndex = JSONGeneral.skipValueFast(buf, beginIndex);
+                        } else {
+                            JSONStore.INSTANCE.MAP_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        }
                         node = new C(charSource, buf, beginIndex, parseContext.endIndex + 1, OBJECT, parseContext, root);
                     } else {
                         node = completeObjectNode(charSource, buf, beginIndex, createObj);
@@ -1070,7 +1075,11 @@ public abstract class JSONNode implements Comparable<JSONNode> {
                 }
                 case '[': {
                     if (lazy) {
-                        JSONStore.INSTANCE.COLLECTION_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        if (parseContext.isFastSkip()) {
+                            parseContext.endIndex = JSONGeneral.skipValueFast(buf, beginIndex);
+                        } else {
+                            JSONStore.INSTANCE.COLLECTION_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        }
                         node = new C(charSource, buf, beginIndex, parseContext.endIndex + 1, ARRAY, parseContext, root);
                     } else {
                         node = completeArrayNode(charSource, buf, beginIndex, createObj);
@@ -1545,7 +1554,11 @@ public abstract class JSONNode implements Comparable<JSONNode> {
             switch (ch) {
                 case '{': {
                     if (lazy) {
-                        JSONStore.INSTANCE.MAP_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        if (parseContext.isFastSkip()) {
+                            parseContext.endIndex = JSONGeneral.skipValueFast(buf, beginIndex);
+                        } else {
+                            JSONStore.INSTANCE.MAP_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        }
                         node = new B(charSource, buf, beginIndex, parseContext.endIndex + 1, OBJECT, parseContext, root);
                     } else {
                         node = completeObjectNode(charSource, buf, beginIndex, createObj);
@@ -1554,7 +1567,11 @@ public abstract class JSONNode implements Comparable<JSONNode> {
                 }
                 case '[': {
                     if (lazy) {
-                        JSONStore.INSTANCE.COLLECTION_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        if (parseContext.isFastSkip()) {
+                            parseContext.endIndex = JSONGeneral.skipValueFast(buf, beginIndex);
+                        } else {
+                            JSONStore.INSTANCE.COLLECTION_DESER.skip(charSource, buf, beginIndex, parseContext);
+                        }
                         node = new B(charSource, buf, beginIndex, parseContext.endIndex + 1, ARRAY, parseContext, root);
                     } else {
                         node = completeArrayNode(charSource, buf, beginIndex, createObj);
@@ -1696,6 +1713,46 @@ public abstract class JSONNode implements Comparable<JSONNode> {
         }
     }
 
+    /**
+     * Return the complete JSON tree node
+     * <p> the file content is read onto the heap once (not memory-mapped, the node parser works on byte arrays),
+     * files larger than 64MB are rejected, use JSONReader to stream them
+     *
+     * @param file
+     * @param readOptions
+     * @return
+     */
+    public final static JSONNode parse(File file, ReadOption... readOptions) {
+        return parse(readFileBytes(file), null, readOptions);
+    }
+
+    /**
+     * Return the complete JSON tree node (the file content is read onto the heap once, up to 64MB)
+     *
+     * @param file
+     * @param path        the exact path
+     * @param readOptions
+     * @return
+     */
+    public final static JSONNode parse(File file, String path, ReadOption... readOptions) {
+        return parse(readFileBytes(file), path, readOptions);
+    }
+
+    static byte[] readFileBytes(File file) {
+        try {
+            JSONByteInput source = JSONByteInput.readFile(file, JSONByteInput.MAX_FILE_READ_SIZE);
+            if (source == null) {
+                if (file.length() > JSONByteInput.MAX_FILE_READ_SIZE) {
+                    throw new JSONException("file size " + file.length() + " exceeds the in-memory limit " + JSONByteInput.MAX_FILE_READ_SIZE + ", please use JSONReader: " + file);
+                }
+                return new byte[0];
+            }
+            return source.toBytes();
+        } catch (IOException e) {
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Return the complete JSON tree node
      *
@@ -1709,9 +1766,13 @@ public abstract class JSONNode implements Comparable<JSONNode> {
     public final static JSONNode parse(byte[] bytes, String path, ReadOption... readOptions) {
         if (bytes == null)
             return null;
+        JSONNodeContext parseContext = new JSONNodeContext();
+        JSONOptions.readOptions(readOptions, parseContext);
+        return parseInternal(bytes, path, parseContext);
+    }
+
+    final static JSONNode parseInternal(byte[] bytes, String path, JSONNodeContext parseContext) {
         try {
-            JSONNodeContext parseContext = new JSONNodeContext();
-            JSONOptions.readOptions(readOptions, parseContext);
             parseContext.toIndex = bytes.length;
             JSONNode root;
             if (EnvUtils.JDK_9_PLUS) {
@@ -1738,10 +1799,14 @@ public abstract class JSONNode implements Comparable<JSONNode> {
     final static JSONNode parseInternal(String source, String path, ReadOption... readOptions) {
         if (source == null)
             return null;
+        JSONNodeContext parseContext = new JSONNodeContext();
+        JSONOptions.readOptions(readOptions, parseContext);
+        return parseInternal(source, path, parseContext);
+    }
+
+    final static JSONNode parseInternal(String source, String path, JSONNodeContext parseContext) {
         source = source.trim();
         try {
-            JSONNodeContext parseContext = new JSONNodeContext();
-            JSONOptions.readOptions(readOptions, parseContext);
             parseContext.toIndex = source.length();
             JSONNode root;
             if (EnvUtils.JDK_9_PLUS) {
@@ -1780,13 +1845,13 @@ public abstract class JSONNode implements Comparable<JSONNode> {
         if (EnvUtils.JDK_9_PLUS) {
             byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json.toString());
             if (bytes.length == json.length()) {
-                return parseInternal(AsciiStringSource.of(json), bytes, JSONNodePath.parse(path), readOptions);
+                return parseInternal(AsciiStringSource.of(json), bytes, JSONNodePath.parseCached(path), readOptions);
             } else {
                 char[] chars = json.toCharArray();
-                return parseInternal(UTF16ByteArraySource.of(json), chars, JSONNodePath.parse(path), readOptions);
+                return parseInternal(UTF16ByteArraySource.of(json), chars, JSONNodePath.parseCached(path), readOptions);
             }
         } else {
-            return parseInternal(null, (char[]) JSONMemoryHandle.getStringValue(json.toString()), JSONNodePath.parse(path), readOptions);
+            return parseInternal(null, (char[]) JSONMemoryHandle.getStringValue(json.toString()), JSONNodePath.parseCached(path), readOptions);
         }
     }
 
@@ -1801,12 +1866,12 @@ public abstract class JSONNode implements Comparable<JSONNode> {
     public final static JSONNode from(byte[] bytes, String path, ReadOption... readOptions) {
         if (EnvUtils.JDK_9_PLUS) {
             if (!EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(bytes, 0, bytes.length)) {
-                return parseInternal(AsciiStringSource.of(JSONMemoryHandle.createAsciiString(bytes)), bytes, JSONNodePath.parse(path), readOptions);
+                return parseInternal(AsciiStringSource.of(JSONMemoryHandle.createAsciiString(bytes)), bytes, JSONNodePath.parseCached(path), readOptions);
             } else {
-                return parseInternal(UTF8CharSource.of(JSONMemoryHandle.createAsciiString(bytes)), bytes, JSONNodePath.parse(path), readOptions);
+                return parseInternal(UTF8CharSource.of(JSONMemoryHandle.createAsciiString(bytes)), bytes, JSONNodePath.parseCached(path), readOptions);
             }
         } else {
-            return parseInternal(null, bytes, JSONNodePath.parse(path), readOptions);
+            return parseInternal(null, bytes, JSONNodePath.parseCached(path), readOptions);
         }
     }
 
@@ -1858,7 +1923,7 @@ public abstract class JSONNode implements Comparable<JSONNode> {
      * @return
      */
     public final static List<JSONNode> extract(String json, String xpath, ReadOption... readOptions) {
-        return extract(json, JSONNodePath.parse(xpath), JSONNodeCollector.DEFAULT, readOptions);
+        return extract(json, JSONNodePath.parseCached(xpath), JSONNodeCollector.DEFAULT, readOptions);
     }
 
     /**
@@ -2730,7 +2795,7 @@ public abstract class JSONNode implements Comparable<JSONNode> {
      * @see JSONNodePath
      */
     public final static List<JSONNode> collect(String json, String xpath, ReadOption... options) {
-        return collect(json, JSONNodePath.parse(xpath), JSONNodeCollector.DEFAULT, options);
+        return collect(json, JSONNodePath.parseCached(xpath), JSONNodeCollector.DEFAULT, options);
     }
 
     /**
@@ -2748,7 +2813,34 @@ public abstract class JSONNode implements Comparable<JSONNode> {
      * @see JSONNodePath
      */
     public final static List<JSONNode> collect(byte[] bytes, String xpath, ReadOption... options) {
-        return collect(bytes, JSONNodePath.parse(xpath), JSONNodeCollector.DEFAULT, options);
+        return collect(bytes, JSONNodePath.parseCached(xpath), JSONNodeCollector.DEFAULT, options);
+    }
+
+    /**
+     * 读取文件（一次读入堆内字节数组，不超过64M，更大的文件请使用JSONReader）并收集
+     *
+     * @param file
+     * @param xpath
+     * @param options
+     * @return
+     * @see JSONNodePath
+     */
+    public final static List<JSONNode> collect(File file, String xpath, ReadOption... options) {
+        return collect(readFileBytes(file), JSONNodePath.parseCached(xpath), JSONNodeCollector.DEFAULT, options);
+    }
+
+    /**
+     * 读取文件（一次读入堆内字节数组，不超过64M，更大的文件请使用JSONReader）并收集
+     *
+     * @param file
+     * @param path
+     * @param collector
+     * @param options
+     * @return
+     * @see JSONNodePath
+     */
+    public final static <T> List<T> collect(File file, JSONNodePath path, JSONNodeCollector<T> collector, ReadOption... options) {
+        return collect(readFileBytes(file), path, collector, options);
     }
 
     /**
@@ -2796,7 +2888,7 @@ public abstract class JSONNode implements Comparable<JSONNode> {
      * @see JSONNodePath
      */
     public final static <T> List<T> collect(String json, String xpath, JSONNodeCollector<T> collector, ReadOption... options) {
-        return collect(json, JSONNodePath.parse(xpath), collector, options);
+        return collect(json, JSONNodePath.parseCached(xpath), collector, options);
     }
 
     public final static <T> List<T> collect(String json, JSONNodePath path, JSONNodeCollector<T> nodeCollector, ReadOption... options) {
@@ -2866,7 +2958,7 @@ public abstract class JSONNode implements Comparable<JSONNode> {
     }
 
     public final List<JSONNode> collect(String xpath) {
-        return JSONNodePath.parse(xpath).collect(this, JSONNodeCollector.DEFAULT);
+        return JSONNodePath.parseCached(xpath).collect(this, JSONNodeCollector.DEFAULT);
     }
 
     /**
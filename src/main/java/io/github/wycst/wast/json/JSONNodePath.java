@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JSON xpath
@@ -23,6 +24,10 @@ import java.util.List;
 public final class JSONNodePath {
 
     final static JSONNodePath ALL = JSONNodePath.collectors(JSONNodePathCollector.any().recursive(true));
+    // xpath解析缓存（无锁读取，超过256个时整体清空后重新缓存），缓存的path包含过滤器编译状态
+    final static ConcurrentHashMap<String, JSONNodePath> PATH_CACHE = new ConcurrentHashMap<String, JSONNodePath>(512);
+    final static int MAX_CACHE_SIZE = 256;
+    final static int MAX_CACHE_XPATH_LENGTH = 1 << 10;
     private int depth;
     JSONNodePathCollector head;
     JSONNodePathCollector tail;
@@ -89,6 +94,32 @@ public final class JSONNodePath {
         return new JSONNodePath();
     }
 
+    /**
+     * 解析xpath并缓存（内部使用，返回的path不能修改）
+     *
+     * @param xpath
+     * @return
+     */
+    static JSONNodePath parseCached(String xpath) {
+        if (xpath == null || xpath.length() > MAX_CACHE_XPATH_LENGTH) {
+            return parse(xpath);
+        }
+        JSONNodePath nodePath = PATH_CACHE.get(xpath);
+        if (nodePath == null) {
+            nodePath = parse(xpath);
+            if (nodePath != null) {
+                if (PATH_CACHE.size() >= MAX_CACHE_SIZE) {
+                    PATH_CACHE.clear();
+                }
+                JSONNodePath previous = PATH_CACHE.putIfAbsent(xpath, nodePath);
+                if (previous != null) {
+                    nodePath = previous;
+                }
+            }
+        }
+        return nodePath;
+    }
+
     /**
      * 解析xpath字符串（通过字符串构建path模型功能有限）
      * <ul>
@@ -1,12 +1,16 @@
 package io.github.wycst.wast.json;
 
 import io.github.wycst.wast.common.expression.EvaluateEnvironment;
+import io.github.wycst.wast.common.expression.ExprParser;
 import io.github.wycst.wast.common.expression.Expression;
+import io.github.wycst.wast.common.expression.compile.CompilerEnvironment;
+import io.github.wycst.wast.common.expression.compile.CompilerExpression;
 import io.github.wycst.wast.common.utils.CollectionUtils;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <p>
@@ -64,7 +68,7 @@ public abstract class JSONNodePathFilter {
 //    }
 
     /**
-     * <p> 支持表达式过滤，表达式为解析模式（非编译模式）；
+     * <p> 支持表达式过滤，表达式为解析模式，热点表达式（变量均为数字或者布尔类型）会自动编译为字节码执行；
      * <p> 表达式执行上下文是当前节点映射的map对象；
      * <p> 表达式结果为false或者0时则视为不通过，其他非零非false均代表通过；
      * <p> 只支持对象节点，数组节点暂时不支持表达式；
@@ -150,6 +154,13 @@ public abstract class JSONNodePathFilter {
     final static EvaluateEnvironment EVALUATE_ENVIRONMENT = EvaluateEnvironment.create();
     final static List<String> CONTEXT_VARS = CollectionUtils.listOf("$", "self", "parent", "this");
 
+    // 解析模式执行达到阈值后尝试编译
+    final static int COMPILE_THRESHOLD = 1024;
+    // 编译时变量绑定的类型
+    final static int BIND_BOOLEAN = 1;
+    final static int BIND_LONG = 2;
+    final static int BIND_DOUBLE = 3;
+
     static {
         // 支持空属性
         EVALUATE_ENVIRONMENT.setAllowVariableNull(true);
@@ -169,17 +180,28 @@ public abstract class JSONNodePathFilter {
         final Expression expression;
         final String cacheStr;
         final boolean shouldNewContext;
+        // 可编译的变量（均为根变量）
+        final String[] variables;
+        volatile CompilerExpression compiled;
+        // 变量绑定的类型（BIND_BOOLEAN/BIND_LONG/BIND_DOUBLE）
+        int[] bindTypes;
+        int evaluateCount;
+        // 已提交编译（编译失败后不再重试）
+        boolean compiling;
 
         ExpressionFilterImpl(String condition) {
-            expression = Expression.parse(condition);
-            cacheStr = "[" + condition + "]";
-            shouldNewContext = checkShouldNewContext();
+            this(Expression.parse(condition), "[" + condition + "]");
         }
 
         public ExpressionFilterImpl(Expression expression) {
+            this(expression, "[" + expression.getSource() + "]");
+        }
+
+        ExpressionFilterImpl(Expression expression, String cacheStr) {
             this.expression = expression;
-            cacheStr = "[" + expression.getSource() + "]";
-            shouldNewContext = checkShouldNewContext();
+            this.cacheStr = cacheStr;
+            this.shouldNewContext = checkShouldNewContext();
+            this.variables = compilableVariables();
         }
 
         private boolean checkShouldNewContext() {
@@ -192,6 +214,14 @@ public abstract class JSONNodePathFilter {
             return false;
         }
 
+        // 只编译变量均为当前对象节点属性的表达式，否则返回null
+        private String[] compilableVariables() {
+            if (shouldNewContext || !(expression instanceof ExprParser)) return null;
+            List<String> vars = expression.getVariables();
+            if (vars.isEmpty() || !vars.equals(expression.getRootVariables())) return null;
+            return vars.toArray(new String[vars.size()]);
+        }
+
         @Override
         public boolean doFilter(JSONNode node) {
             Object any = node.any();
@@ -214,6 +244,14 @@ public abstract class JSONNodePathFilter {
                         newContext.put("this", node);
                     }
                     context = newContext;
+                } else if (variables != null) {
+                    CompilerExpression compiled = this.compiled;
+                    if (compiled != null && isBound(context, bindTypes)) {
+                        return toBoolean(compiled.evaluate(context));
+                    }
+                    if (compiled == null && ++evaluateCount >= COMPILE_THRESHOLD) {
+                        scheduleCompile(context);
+                    }
                 }
             } else {
                 context = new HashMap();
@@ -226,12 +264,78 @@ public abstract class JSONNodePathFilter {
                 context.put("parent", node.parent);
             }
             evalResult = expression.evaluate(context, EVALUATE_ENVIRONMENT);
+            return toBoolean(evalResult);
+        }
+
+        static boolean toBoolean(Object evalResult) {
             if (evalResult instanceof Boolean) {
                 return (Boolean) evalResult;
             }
             return evalResult != null && !evalResult.equals(0);
         }
 
+        static int bindTypeOf(Object value) {
+            if (value instanceof Boolean) return BIND_BOOLEAN;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) return BIND_LONG;
+            // Float/BigDecimal等在解析模式下的运算规则与double不同
+            if (value instanceof Double) return BIND_DOUBLE;
+            return 0;
+        }
+
+        /**
+         * 变量值与编译时绑定的类型一致（整数绑定为long，与解析模式的整数运算（例如除法和取余）保持一致）
+         */
+        final boolean isBound(Map context, int[] bindTypes) {
+            for (int i = 0; i < variables.length; ++i) {
+                if (bindTypeOf(context.get(variables[i])) != bindTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 根据当前节点的属性值绑定变量类型（boolean/long/double）并在后台编译，编译完成前继续使用解析模式；
+         * <p> 字符串等其他类型的变量仍使用解析模式（编译模式下字符串按引用比较）
+         */
+        private synchronized void scheduleCompile(Map context) {
+            if (compiled != null || compiling || evaluateCount < COMPILE_THRESHOLD) return;
+            final int[] bindTypes = new int[variables.length];
+            final CompilerEnvironment environment = CompilerExpression.createEnvironment();
+            for (int i = 0; i < variables.length; ++i) {
+                int bindType = bindTypeOf(context.get(variables[i]));
+                if (bindType == 0) {
+                    // 当前样本不满足，下一个阈值周期重试
+                    evaluateCount = 0;
+                    return;
+                }
+                bindTypes[i] = bindType;
+                environment.setVariableType(bindType == BIND_BOOLEAN ? boolean.class : bindType == BIND_LONG ? long.class : double.class, variables[i]);
+            }
+            compiling = true;
+            evaluateCount = Integer.MIN_VALUE;
+            try {
+                JSONParallel.asyncExecutor().execute(new Runnable() {
+                    public void run() {
+                        compile(environment, bindTypes);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                compiling = false;
+                evaluateCount = 0;
+            }
+        }
+
+        void compile(CompilerEnvironment environment, int[] bindTypes) {
+            try {
+                CompilerExpression compilerExpression = CompilerExpression.compile(expression.getSource(), environment);
+                this.bindTypes = bindTypes;
+                this.compiled = compilerExpression;
+            } catch (Throwable throwable) {
+                // 不支持编译（例如运行环境没有编译器）则一直使用解析模式
+            }
+        }
+
         @Override
         public String toString() {
             return cacheStr;
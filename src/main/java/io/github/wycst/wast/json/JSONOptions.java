@@ -87,6 +87,12 @@ final class JSONOptions {
                 case WriteClassName:
                     jsonConfig.setWriteClassName(true);
                     break;
+                case ParallelWrite:
+                    jsonConfig.setParallelThreshold(JSONConfig.DEFAULT_PARALLEL_THRESHOLD);
+                    break;
+                case BinaryFieldNameDictionary:
+                    jsonConfig.setBinaryFieldNameDictionary(true);
+                    break;
             }
         }
     }
@@ -124,12 +130,21 @@ final class JSONOptions {
                 case DisableCacheMapKey:
                     parseContext.disableCacheMapKey = true;
                     break;
+                case InternValueString:
+                    parseContext.internValue = true;
+                    break;
+                case FastSkipUnknownFields:
+                    parseContext.fastSkip = true;
+                    break;
                 case IgnoreEscapeCheck:
                     parseContext.setIgnoreEscapeCheck();
                     break;
                 case StrictMode:
                     parseContext.strictMode = true;
                     break;
+                case ValidateUTF8:
+                    parseContext.validateUTF8 = true;
+                    break;
             }
         }
     }
@@ -0,0 +1,191 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 并行任务执行（ndjson并行解析等场景）
+ * <p> 使用延迟创建的共享线程池（守护线程，空闲60秒后回收），线程数上限为cpu核数与16的较大值；
+ * <p> 调用线程也参与执行任务，工作线程和调用线程从同一个批次中依次领取任务，任务数超过线程数时不会死锁；
+ * <p> 异步流读取（阻塞IO）使用单独的执行器: JDK21+使用虚拟线程，否则使用共享的有界守护线程池（线程数上限同上，空闲线程60秒后回收）；
+ *
+ * @Author: wangy
+ * @Description:
+ */
+final class JSONParallel {
+
+    static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    static final int MAX_POOL_SIZE = Math.max(DEFAULT_PARALLELISM, 16);
+
+    private static volatile ThreadPoolExecutor executorService;
+    private static volatile Executor asyncExecutor;
+
+    final static class WorkerThread extends Thread {
+        WorkerThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+
+    final static class WorkerThreadFactory implements ThreadFactory {
+        final String prefix;
+        final boolean parallel;
+        final AtomicInteger seq = new AtomicInteger();
+
+        WorkerThreadFactory(String prefix, boolean parallel) {
+            this.prefix = prefix;
+            this.parallel = parallel;
+        }
+
+        public Thread newThread(Runnable r) {
+            String name = prefix + seq.incrementAndGet();
+            if (parallel) {
+                return new WorkerThread(r, name);
+            }
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    static ThreadPoolExecutor executorService() {
+        ThreadPoolExecutor service = executorService;
+        if (service == null) {
+            synchronized (JSONParallel.class) {
+                if ((service = executorService) == null) {
+                    service = new ThreadPoolExecutor(MAX_POOL_SIZE, MAX_POOL_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory("wast-json-parallel-", true));
+                    service.allowCoreThreadTimeOut(true);
+                    executorService = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * 当前线程是否为并行任务的工作线程（避免嵌套提交任务）
+     */
+    static boolean inWorkerThread() {
+        return Thread.currentThread() instanceof WorkerThread;
+    }
+
+    /**
+     * 异步读取以及后台任务（例如过滤表达式的编译）的默认执行器
+     */
+    static Executor asyncExecutor() {
+        Executor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (JSONParallel.class) {
+                if ((executor = asyncExecutor) == null) {
+                    asyncExecutor = executor = createAsyncExecutor();
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static Executor createAsyncExecutor() {
+        if (EnvUtils.JDK_VERSION >= 21) {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (Executor) method.invoke(null);
+            } catch (Throwable throwable) {
+            }
+        }
+        // 线程数有界，所有线程忙碌时读取任务排队等待
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_POOL_SIZE, MAX_POOL_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory("wast-json-reader-", false));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 任务批次：调用线程和工作线程依次领取任务，按任务下标保存结果
+     */
+    final static class Batch<T> implements Runnable {
+        final List<? extends Callable<T>> tasks;
+        final int size;
+        final Object[] results;
+        final Throwable[] errors;
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch latch;
+
+        Batch(List<? extends Callable<T>> tasks) {
+            this.tasks = tasks;
+            this.size = tasks.size();
+            this.results = new Object[size];
+            this.errors = new Throwable[size];
+            this.latch = new CountDownLatch(size);
+        }
+
+        public void run() {
+            int index;
+            while ((index = next.getAndIncrement()) < size) {
+                try {
+                    results[index] = tasks.get(index).call();
+                } catch (Throwable throwable) {
+                    errors[index] = throwable;
+                } finally {
+                    latch.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * 并行执行任务并按提交顺序返回结果，并行度为任务数
+     *
+     * @param tasks 任务列表
+     * @return 结果列表（与任务顺序一致）
+     * @see #invokeAll(List, int)
+     */
+    static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        return invokeAll(tasks, tasks.size());
+    }
+
+    /**
+     * 并行执行任务并按提交顺序返回结果，任意任务失败时抛出顺序上第一个失败任务的异常
+     *
+     * @param tasks       任务列表
+     * @param parallelism 同时执行的线程数（包括调用线程，超过线程池上限时按上限执行）
+     * @return 结果列表（与任务顺序一致）
+     */
+    static <T> List<T> invokeAll(List<? extends Callable<T>> tasks, int parallelism) {
+        Batch<T> batch = new Batch<T>(tasks);
+        int workers = inWorkerThread() ? 0 : Math.min(Math.min(parallelism, batch.size) - 1, MAX_POOL_SIZE);
+        if (workers > 0) {
+            ThreadPoolExecutor service = executorService();
+            try {
+                for (int i = 0; i < workers; ++i) {
+                    service.execute(batch);
+                }
+            } catch (RejectedExecutionException e) {
+                // 由调用线程执行剩余任务
+            }
+        }
+        batch.run();
+        try {
+            batch.latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JSONException(e.getMessage(), e);
+        }
+        for (Throwable throwable : batch.errors) {
+            if (throwable == null) continue;
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            }
+            if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+            throw new JSONException(throwable.getMessage(), throwable);
+        }
+        return (List<T>) new ArrayList<Object>(Arrays.asList(batch.results));
+    }
+}
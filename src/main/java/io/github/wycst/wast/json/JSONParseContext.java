@@ -1,5 +1,6 @@
 package io.github.wycst.wast.json;
 
+import io.github.wycst.wast.json.exceptions.JSONException;
 import io.github.wycst.wast.json.options.ReadOption;
 
 import java.io.Serializable;
@@ -75,12 +76,31 @@ public class JSONParseContext {
      * 禁用cache key
      */
     public boolean disableCacheMapKey;
+
+    /**
+     * 值字符串缓存
+     */
+    public boolean internValue;
+
+    /**
+     * 未匹配字段使用快速扫描跳过（不校验跳过部分的语法）
+     */
+    public boolean fastSkip;
+    // 当前对象的字段投影（部分反序列化）
+    JSONProjection projection;
     public boolean unMatchedEmptyAsNull;
     public boolean strictMode;
+
+    /**
+     * 校验utf-8字节编码
+     */
+    public boolean validateUTF8;
     int toIndex;
     boolean multiple;
     boolean escape = true;
     int escapeOffset = -1;
+    // escapeOffset的查找起始位置
+    int escapeFrom;
     private String[] strings;
     protected int elementSize;
 
@@ -116,6 +136,21 @@ public class JSONParseContext {
         return strings;
     }
 
+    // 开启ValidateUTF8时校验utf-8字节源（ascii和latin1字符串走字节解析时不需要校验）
+    final void checkUTF8(CharSource source, byte[] buf, int fromIndex, int toIndex) {
+        if (validateUTF8 && source instanceof UTF8CharSource) {
+            int index = JSONUTF8Decoder.indexOfMalformed(buf, fromIndex, toIndex);
+            if (index > -1) {
+                throw new JSONException("Syntax error, at pos " + index + ", malformed utf-8 sequence");
+            }
+        }
+    }
+
+    // 快速跳过不支持注释和单引号
+    final boolean isFastSkip() {
+        return fastSkip && !allowComment && !allowSingleQuotes;
+    }
+
     void clear() {
         if (writer != null) {
             writer.reset();
@@ -125,9 +160,14 @@ public class JSONParseContext {
     }
 
     final boolean checkEscapeBackslashJDK16(String input, int fromIndex, int endIndex) {
+        if (fromIndex < escapeFrom) {
+            // 懒加载节点可能回退解析（先访问后面的元素再访问前面的元素），需要重新查找
+            escapeOffset = input.indexOf('\\', escapeFrom = fromIndex);
+            escape = escapeOffset > -1;
+        }
         if (!escape || endIndex < escapeOffset) return false;
         if (fromIndex > escapeOffset) {
-            escapeOffset = input.indexOf('\\', fromIndex);
+            escapeOffset = input.indexOf('\\', escapeFrom = fromIndex);
             escape = escapeOffset > -1;
             if (!escape) return false;
         }
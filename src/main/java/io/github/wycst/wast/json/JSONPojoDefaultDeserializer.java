@@ -34,7 +34,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
         return c == '{' || c == 'n';
     }
 
-    JSONPojoDefaultDeserializer(JSONPojoStructure pojoStructure) {
+    protected JSONPojoDefaultDeserializer(JSONPojoStructure pojoStructure) {
         this.pojoStructure = pojoStructure;
         this.genericType = pojoStructure.getGenericType();
         this.fieldDeserializerMatcher = pojoStructure.fieldDeserializerMatcher;
@@ -97,6 +97,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
         boolean empty = true;
         char c;
         final boolean allowComment = parseContext.allowComment;
+        final JSONProjection projection = parseContext.projection;
         int i = fromIndex;
         for (; ; ) {
             if ((c = buf[++i]) <= ' ') {
@@ -169,6 +170,12 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                     }
                 }
                 boolean isDeserialize = fieldDeserializer != null;
+                if (projection != null && isDeserialize) {
+                    JSONProjection fieldProjection = projection.get(fieldDeserializer.name);
+                    if (isDeserialize = fieldProjection != null) {
+                        parseContext.projection = fieldProjection.isAll() ? null : fieldProjection;
+                    }
+                }
                 Object defaultFieldValue = null;
                 GenericParameterizedType<?> valueType = null;
                 JSONTypeDeserializer deserializer = null;
@@ -226,6 +233,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                                                 return throwUnexpectedException(buf, i, c, ',', '}');
                                             }
                                             setFieldValue((T) entity, fieldDeserializer, value);
+                                            parseContext.projection = projection;
                                             while ((c = buf[++i]) <= ' ') ;
                                             if (c == ',') {
                                                 continue;
@@ -246,6 +254,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                                 Object value = ANY.deserialize(charSource, buf, i, null, null, '}', parseContext);
                                 if (fieldDeserializer.isInstance(value)) {
                                     setFieldValue((T) entity, fieldDeserializer, value);
+                                    parseContext.projection = projection;
                                     i = parseContext.endIndex;
                                     while ((c = buf[++i]) <= ' ') ;
                                     if (c == ',') {
@@ -266,8 +275,9 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                     Object value = deserializer.deserialize(charSource, buf, i, valueType, defaultFieldValue, '}', parseContext);
                     setFieldValue((T) entity, fieldDeserializer, value);
                 } else {
-                    JSONTypeDeserializer.ANY.skip(charSource, buf, i, '}', parseContext);
+                    skipFieldValue(charSource, buf, i, '}', parseContext);
                 }
+                parseContext.projection = projection;
                 i = parseContext.endIndex;
                 while ((c = buf[++i]) <= ' ') ;
                 if (allowComment) {
@@ -300,6 +310,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
         boolean empty = true;
         byte c;
         final boolean allowComment = parseContext.allowComment;
+        final JSONProjection projection = parseContext.projection;
         int i = fromIndex;
         for (; ; ) {
             c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)];
@@ -354,6 +365,12 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
             if (c == COLON_SIGN) {
                 i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext);
                 boolean isDeserialize = fieldDeserializer != null;
+                if (projection != null && isDeserialize) {
+                    JSONProjection fieldProjection = projection.get(fieldDeserializer.name);
+                    if (isDeserialize = fieldProjection != null) {
+                        parseContext.projection = fieldProjection.isAll() ? null : fieldProjection;
+                    }
+                }
                 Object defaultFieldValue = null;
                 GenericParameterizedType<?> valueType = null;
                 JSONTypeDeserializer deserializer = null;
@@ -410,6 +427,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                                                 return throwUnexpectedException(buf, i, c, ',', '}');
                                             }
                                             setFieldValue((T) entity, fieldDeserializer, value);
+                                            parseContext.projection = projection;
                                             while ((c = buf[++i]) <= ' ') ;
                                             if (c == ',') {
                                                 continue;
@@ -430,6 +448,7 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                                 Object value = ANY.deserialize(charSource, buf, i, null, null, (byte) '}', parseContext);
                                 if (fieldDeserializer.isInstance(value)) {
                                     setFieldValue((T) entity, fieldDeserializer, value);
+                                    parseContext.projection = projection;
                                     i = parseContext.endIndex;
                                     while ((c = buf[++i]) <= ' ') ;
                                     if (c == ',') {
@@ -449,8 +468,9 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
                     Object value = deserializer.deserialize(charSource, buf, i, valueType, defaultFieldValue, END_OBJECT, parseContext);
                     setFieldValue((T) entity, fieldDeserializer, value);
                 } else {
-                    JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                    skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
                 }
+                parseContext.projection = projection;
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == COMMA) {
                     continue;
@@ -559,6 +579,11 @@ public class JSONPojoDefaultDeserializer<T> extends JSONPojoDeserializer {
         return pojoStructure.newInstance();
     }
 
+    // 字段在pojo字段反序列化器列表中的位置（生成的代码中使用）
+    protected final static int ordinal(JSONPojoFieldDeserializer fieldDeserializer) {
+        return fieldDeserializer.ordinal;
+    }
+
     protected final <E> GenericParameterizedType<?> getGenericParameterizedType(Class<E> actualType) {
         return genericType;
     }
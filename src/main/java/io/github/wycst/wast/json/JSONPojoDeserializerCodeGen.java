@@ -0,0 +1,260 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.beans.GregorianDate;
+import io.github.wycst.wast.common.compiler.JavaSourceObject;
+import io.github.wycst.wast.common.idgenerate.providers.IdGenerator;
+import io.github.wycst.wast.common.reflect.SetterInfo;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 反序列化代码生成
+ * <p> 生成的类继承JSONPojoGeneratedDeserializer，按序列化的字段顺序推测下一个字段名并直接比较字段名的字节（字符），
+ * int/long/double/boolean直接解析不装箱，对象创建使用new，通过public的setter方法或者字段赋值；
+ * <p> 字段名不匹配（顺序不一致，转义，未知字段等）时剩余的字段交给优化反序列化器（不支持时默认反序列化器）继续读取；
+ * <p> 无法直接访问的字段（private字段或者非public的setter）回退到反射(unsafe)设置；
+ *
+ * @Created by wangyc
+ */
+@SuppressWarnings({"all"})
+final class JSONPojoDeserializerCodeGen {
+
+    final static String IMPORT_CODE_TEXT =
+            "import io.github.wycst.wast.common.reflect.GenericParameterizedType;\n" +
+                    "import io.github.wycst.wast.json.CharSource;\n" +
+                    "import io.github.wycst.wast.json.JSONParseContext;\n" +
+                    "import io.github.wycst.wast.json.JSONPojoStructure;\n";
+
+    /**
+     * 检查pojo是否支持生成反序列化器（public，非内部类，不在默认包中，存在public无参构造方法）
+     */
+    static boolean isSupported(JSONPojoStructure jsonPojoStructure) {
+        Class<?> pojoClass = jsonPojoStructure.getSourceClass();
+        int modifiers = pojoClass.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers) || pojoClass.getCanonicalName() == null || pojoClass.getPackage() == null || pojoClass.getPackage().getName().length() == 0) {
+            return false;
+        }
+        if (pojoClass.isMemberClass() && !Modifier.isStatic(modifiers)) {
+            return false;
+        }
+        try {
+            pojoClass.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    static JavaSourceObject generateJavaCodeSource(JSONPojoStructure jsonPojoStructure, boolean printSource, boolean runtime) {
+        return generateJavaCodeSource(jsonPojoStructure, "__JPD_" + jsonPojoStructure.getSourceClass().getSimpleName() + "_" + IdGenerator.hex(), printSource, runtime);
+    }
+
+    static JavaSourceObject generateJavaCodeSource(JSONPojoStructure jsonPojoStructure, String genClassName, boolean printSource, boolean runtime) {
+        if (!isSupported(jsonPojoStructure)) {
+            throw new JSONException(jsonPojoStructure.getSourceClass() + " is not supported for deserializer code generator, a public class with a public no-arg constructor is required");
+        }
+        final Class<?> pojoClass = jsonPojoStructure.getSourceClass();
+        final String canonicalName = pojoClass.getCanonicalName();
+        final String packageName = pojoClass.getPackage().getName();
+        List<JSONPojoFieldDeserializer> fieldDeserializers = inlineFieldDeserializers(jsonPojoStructure);
+
+        StringBuilder codeBuilder = new StringBuilder(4096);
+        codeBuilder.append("package ").append(packageName).append(";\n");
+        codeBuilder.append(IMPORT_CODE_TEXT);
+        if (!runtime) {
+            codeBuilder.append("/**\n");
+            codeBuilder.append(" * pojo deserializer \n");
+            codeBuilder.append(" * @Date ").append(new GregorianDate()).append("\n");
+            codeBuilder.append(" * @Created by code generator\n");
+            codeBuilder.append(" */\n");
+        }
+        codeBuilder.append("public final class ").append(genClassName).append(" extends io.github.wycst.wast.json.JSONPojoGeneratedDeserializer<").append(canonicalName).append("> {\n\n");
+
+        // constructor
+        codeBuilder.append("\tpublic ").append(genClassName).append("(JSONPojoStructure pojoStructure) {\n");
+        codeBuilder.append("\t\tsuper(pojoStructure, new int[]{");
+        for (int k = 0; k < fieldDeserializers.size(); ++k) {
+            if (k > 0) codeBuilder.append(", ");
+            codeBuilder.append(fieldDeserializers.get(k).ordinal);
+        }
+        codeBuilder.append("});\n");
+        codeBuilder.append("\t}\n\n");
+
+        // createPojo
+        codeBuilder.append("\tprotected Object createPojo() throws Exception {\n");
+        codeBuilder.append("\t\treturn new ").append(canonicalName).append("();\n");
+        codeBuilder.append("\t}\n\n");
+
+        generateDeserializeFields(codeBuilder, canonicalName, fieldDeserializers, false);
+        codeBuilder.append("\n");
+        generateDeserializeFields(codeBuilder, canonicalName, fieldDeserializers, true);
+
+        codeBuilder.append("}\n\n");
+
+        String code = codeBuilder.toString();
+        if (printSource) {
+            System.out.println(code);
+        }
+        return new JavaSourceObject(packageName, genClassName, code);
+    }
+
+    /**
+     * 生成代码中按顺序读取的字段：先按序列化顺序，再按ordinal追加其他字段；
+     * 需要运行时确定类型的字段（泛型变量，unfixedType，没有实现类的接口或者抽象类）不在生成代码中读取；
+     */
+    static List<JSONPojoFieldDeserializer> inlineFieldDeserializers(JSONPojoStructure jsonPojoStructure) {
+        List<JSONPojoFieldDeserializer> fieldDeserializers = new ArrayList<JSONPojoFieldDeserializer>();
+        for (JSONPojoFieldSerializer fieldSerializer : jsonPojoStructure.getFieldSerializers(false)) {
+            JSONPojoFieldDeserializer fieldDeserializer = jsonPojoStructure.getFieldDeserializer(fieldSerializer.getName());
+            if (fieldDeserializer != null && isInlineField(fieldDeserializer) && !fieldDeserializers.contains(fieldDeserializer)) {
+                fieldDeserializers.add(fieldDeserializer);
+            }
+        }
+        JSONPojoFieldDeserializer[] ordinalFieldDeserializers = new JSONPojoFieldDeserializer[jsonPojoStructure.fieldDeserializers.size()];
+        for (JSONPojoFieldDeserializer fieldDeserializer : jsonPojoStructure.fieldDeserializers) {
+            ordinalFieldDeserializers[fieldDeserializer.ordinal] = fieldDeserializer;
+        }
+        for (JSONPojoFieldDeserializer fieldDeserializer : ordinalFieldDeserializers) {
+            if (isInlineField(fieldDeserializer) && !fieldDeserializers.contains(fieldDeserializer)) {
+                fieldDeserializers.add(fieldDeserializer);
+            }
+        }
+        return fieldDeserializers;
+    }
+
+    static boolean isInlineField(JSONPojoFieldDeserializer fieldDeserializer) {
+        if (fieldDeserializer.genericParameterizedType.isCamouflage()) {
+            return false;
+        }
+        JSONPropertyDefinition propertyDefinition = fieldDeserializer.propertyDefinition;
+        boolean possible = propertyDefinition != null && (propertyDefinition.possibleTypes().length > 0 || propertyDefinition.impl() != Object.class);
+        if (propertyDefinition != null && propertyDefinition.unfixedType() && !possible) {
+            return false;
+        }
+        return possible || !fieldDeserializer.setterInfo.isNonInstanceType();
+    }
+
+    // int/long/double/boolean且没有自定义反序列化时直接解析
+    static boolean isDirectPrimitive(JSONPojoFieldDeserializer fieldDeserializer) {
+        Class<?> parameterType = fieldDeserializer.setterInfo.getParameterType();
+        if (parameterType != int.class && parameterType != long.class && parameterType != double.class && parameterType != boolean.class) {
+            return false;
+        }
+        JSONPropertyDefinition propertyDefinition = fieldDeserializer.propertyDefinition;
+        return propertyDefinition == null || (propertyDefinition.mapper() == JSONTypeFieldMapper.class && propertyDefinition.impl() == Object.class && propertyDefinition.possibleTypes().length == 0);
+    }
+
+    static void generateDeserializeFields(StringBuilder codeBuilder, String canonicalName, List<JSONPojoFieldDeserializer> fieldDeserializers, boolean bytes) {
+        final String bufType = bytes ? "byte[]" : "char[]";
+        codeBuilder.append("\tprotected Object deserializeFields(CharSource charSource, ").append(bufType).append(" buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {\n");
+        codeBuilder.append("\t\t").append(canonicalName).append(" entity = (").append(canonicalName).append(") instance;\n");
+        codeBuilder.append("\t\tint i = fromIndex, j = skipWhiteSpaces(buf, fromIndex + 1);\n");
+        codeBuilder.append("\t\tif (buf[j] == '}') {\n");
+        codeBuilder.append("\t\t\tparseContext.endIndex = j;\n");
+        codeBuilder.append("\t\t\treturn entity;\n");
+        codeBuilder.append("\t\t}\n");
+        boolean utf8Checked = false;
+        for (JSONPojoFieldDeserializer fieldDeserializer : fieldDeserializers) {
+            final String name = fieldDeserializer.name;
+            final int ordinal = fieldDeserializer.ordinal;
+            final SetterInfo setterInfo = fieldDeserializer.setterInfo;
+            if (name.matches("[A-Za-z0-9_$]+")) {
+                codeBuilder.append("\t\t// ").append(name).append("\n");
+            }
+            // key: "name"
+            int[] units;
+            boolean ascii = true;
+            if (bytes) {
+                byte[] nameBytes = name.getBytes(EnvUtils.CHARSET_UTF_8);
+                ascii = nameBytes.length == name.length();
+                units = new int[nameBytes.length];
+                for (int k = 0; k < nameBytes.length; ++k) {
+                    units[k] = nameBytes[k];
+                }
+            } else {
+                units = new int[name.length()];
+                for (int k = 0; k < units.length; ++k) {
+                    units[k] = name.charAt(k);
+                }
+            }
+            codeBuilder.append("\t\tif (");
+            if (!ascii) {
+                // the bytes of latin1 strings are not utf-8
+                codeBuilder.append("isUTF8(charSource) && ");
+            }
+            codeBuilder.append("buf[j] == '\"'");
+            for (int k = 0; k < units.length; ++k) {
+                codeBuilder.append(" && buf[j + ").append(k + 1).append("] == ").append(units[k]);
+            }
+            codeBuilder.append(" && buf[j + ").append(units.length + 1).append("] == '\"') {\n");
+            codeBuilder.append("\t\t\tj = valueIndex(buf, j + ").append(units.length + 2).append(");\n");
+
+            // value
+            Class<?> parameterType = setterInfo.getParameterType();
+            String methodName = setterInfo.getMethodName();
+            boolean access = setterInfo.isPublic() && isAccessibleType(parameterType);
+            String target = methodName != null ? "entity." + methodName + "(" : "entity." + setterInfo.getFieldName() + " = ";
+            String targetEnd = methodName != null ? ");\n" : ";\n";
+            String boxedCode = "setFieldValue(" + ordinal + ", entity, value(" + ordinal + ", charSource, buf, j, parseContext));\n";
+            if (isDirectPrimitive(fieldDeserializer)) {
+                String parseCode;
+                if (parameterType == boolean.class) {
+                    codeBuilder.append("\t\t\tif (buf[j] == 't' || buf[j] == 'f') {\n");
+                    parseCode = "buf[j] == 't' ? parseTrue(buf, j, parseContext) : parseFalse(buf, j, parseContext)";
+                } else {
+                    codeBuilder.append("\t\t\tif (buf[j] == '-' || (buf[j] >= '0' && buf[j] <= '9')) {\n");
+                    parseCode = (parameterType == int.class ? "parseInt" : parameterType == long.class ? "parseLong" : "parseDouble") + "(charSource, buf, j, parseContext)";
+                }
+                if (access) {
+                    codeBuilder.append("\t\t\t\t").append(target).append(parseCode).append(targetEnd);
+                } else if (methodName == null) {
+                    // write the private field without boxing
+                    String primitiveName = parameterType.getName();
+                    codeBuilder.append("\t\t\t\tset").append(Character.toUpperCase(primitiveName.charAt(0))).append(primitiveName.substring(1)).append("(").append(ordinal).append(", entity, ").append(parseCode).append(");\n");
+                } else {
+                    codeBuilder.append("\t\t\t\tsetFieldValue(").append(ordinal).append(", entity, ").append(parseCode).append(");\n");
+                }
+                codeBuilder.append("\t\t\t} else {\n");
+                // null or other text
+                codeBuilder.append("\t\t\t\t").append(boxedCode);
+                codeBuilder.append("\t\t\t}\n");
+            } else if (access && !parameterType.isPrimitive()) {
+                String valueCode = "value(" + ordinal + ", charSource, buf, j, parseContext)";
+                if (parameterType != Object.class) {
+                    valueCode = "(" + JSONPojoSerializerCodeGen.getCanonicalName(parameterType) + ") " + valueCode;
+                }
+                codeBuilder.append("\t\t\t").append(target).append(valueCode).append(targetEnd);
+            } else {
+                codeBuilder.append("\t\t\t").append(boxedCode);
+            }
+            codeBuilder.append("\t\t\tif ((i = nextIndex(buf, parseContext)) == -1) {\n");
+            codeBuilder.append("\t\t\t\treturn entity;\n");
+            codeBuilder.append("\t\t\t}\n");
+            codeBuilder.append("\t\t\tj = skipWhiteSpaces(buf, i + 1);\n");
+            codeBuilder.append("\t\t} else {\n");
+            codeBuilder.append("\t\t\treturn deserializeRemaining(charSource, buf, i, j, parameterizedType, entity, parseContext);\n");
+            codeBuilder.append("\t\t}\n");
+        }
+        codeBuilder.append("\t\treturn deserializeRemaining(charSource, buf, i, j, parameterizedType, entity, parseContext);\n");
+        codeBuilder.append("\t}\n");
+    }
+
+    // 类型在生成的代码中是否可以直接引用
+    static boolean isAccessibleType(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) return true;
+        if (type.getCanonicalName() == null) return false;
+        for (Class<?> cls = type; cls != null; cls = cls.getDeclaringClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,6 +17,8 @@ public final class JSONPojoFieldDeserializer extends JSONTypeDeserializer implem
     final JSONStore store;
     final String name;
     final int fieldIndex;
+    // 在pojo字段反序列化器列表中的位置（生成的反序列化器代码中使用）
+    int ordinal;
     final SetterInfo setterInfo;
     final JSONPropertyDefinition propertyDefinition;
     /**
@@ -0,0 +1,271 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+/**
+ * 生成的pojo反序列化器（JSONPojoDeserializerCodeGen）的基类
+ * <p> 生成的代码按字段的序列化顺序推测下一个字段名，直接比较字段名的字节（字符），基本类型(int/long/double/boolean)直接解析不装箱，通过setter或者public字段赋值；
+ * <p> 字段名与推测的不一致（顺序不同，转义，未知字段等）时，剩余的字段由优化反序列化器（不支持时使用默认反序列化器）继续读取；
+ * <p> 注释，部分反序列化（JSONProjection）以及需要运行时确定类型的字段使用上述反序列化器读取整个对象；
+ *
+ * @param <T>
+ * @Created by wangyc
+ */
+public abstract class JSONPojoGeneratedDeserializer<T> extends JSONPojoDeserializer {
+
+    protected final JSONPojoStructure pojoStructure;
+    final GenericParameterizedType<?> genericType;
+    // 按ordinal索引
+    final JSONPojoFieldDeserializer[] fieldDeserializers;
+    // 字段的内存偏移（非public的基本类型字段直接写入，避免装箱）
+    final long[] fieldOffsets;
+    final int[] inlineOrdinals;
+    final JSONPojoDeserializer fallback;
+    // 生成代码中读取的字段都可以直接反序列化（初始化完成后确定）
+    boolean inline;
+
+    /**
+     * @param pojoStructure  pojo结构
+     * @param inlineOrdinals 生成代码中读取的字段的ordinal
+     */
+    protected JSONPojoGeneratedDeserializer(JSONPojoStructure pojoStructure, int[] inlineOrdinals) {
+        this.pojoStructure = pojoStructure;
+        this.genericType = pojoStructure.getGenericType();
+        int size = pojoStructure.fieldDeserializers.size();
+        this.fieldDeserializers = new JSONPojoFieldDeserializer[size];
+        this.fieldOffsets = new long[size];
+        for (JSONPojoFieldDeserializer fieldDeserializer : pojoStructure.fieldDeserializers) {
+            fieldDeserializers[fieldDeserializer.ordinal] = fieldDeserializer;
+            fieldOffsets[fieldDeserializer.ordinal] = fieldDeserializer.setterInfo.getFieldOffset();
+        }
+        this.inlineOrdinals = inlineOrdinals;
+        this.fallback = pojoStructure.isSupportedOptimize() ? JSONPojoOptimizeDeserializer.optimize(pojoStructure) : JSONPojoDefaultDeserializer.create(pojoStructure);
+    }
+
+    @Override
+    final JSONTypeDeserializer ensureInitialized() {
+        pojoStructure.ensureInitializedFieldDeserializers();
+        boolean inline = true;
+        for (int ordinal : inlineOrdinals) {
+            JSONPojoFieldDeserializer fieldDeserializer = fieldDeserializers[ordinal];
+            if (fieldDeserializer.deserializer == null || fieldDeserializer.genericParameterizedType.isCamouflage()) {
+                inline = false;
+                break;
+            }
+        }
+        this.inline = inline;
+        return this;
+    }
+
+    @Override
+    protected final boolean checkIfSupportedStartsWith(int c) {
+        // null
+        return c == '{' || c == 'n';
+    }
+
+    @Override
+    protected final Object pojo(Object value) {
+        return value;
+    }
+
+    protected final <E> GenericParameterizedType<?> getGenericParameterizedType(Class<E> actualType) {
+        return genericType;
+    }
+
+    protected final T deserialize(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, int endToken, JSONParseContext parseContext) throws Exception {
+        char c = buf[fromIndex];
+        if (c == '{') {
+            return (T) deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        } else if (c == 'n') {
+            parseNull(buf, fromIndex, parseContext);
+            return null;
+        } else {
+            if (parseContext.unMatchedEmptyAsNull && (c == '"' || c == '\'') && buf[fromIndex + 1] == c) {
+                parseContext.endIndex = fromIndex + 1;
+                return null;
+            }
+            return throwUnexpectedException(buf, fromIndex, c, '{');
+        }
+    }
+
+    protected final T deserialize(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, int endToken, JSONParseContext parseContext) throws Exception {
+        byte c = buf[fromIndex];
+        if (c == '{') {
+            return (T) deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        } else if (c == 'n') {
+            parseNull(buf, fromIndex, parseContext);
+            return null;
+        } else {
+            if (parseContext.unMatchedEmptyAsNull && (c == DOUBLE_QUOTATION || c == '\'') && buf[fromIndex + 1] == c) {
+                parseContext.endIndex = fromIndex + 1;
+                return null;
+            }
+            return throwUnexpectedException(buf, fromIndex, c, '{');
+        }
+    }
+
+    final Object deserializePojo(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (!inline || parseContext.projection != null || parseContext.allowComment) {
+            return fallback.deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        }
+        return deserializeFields(charSource, buf, fromIndex, parameterizedType, entity == null ? createPojo() : entity, parseContext);
+    }
+
+    final Object deserializePojo(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (!inline || parseContext.projection != null || parseContext.allowComment) {
+            return fallback.deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        }
+        return deserializeFields(charSource, buf, fromIndex, parameterizedType, entity == null ? createPojo() : entity, parseContext);
+    }
+
+    /**
+     * 读取对象的字段（生成的代码实现）
+     *
+     * @param fromIndex '{'的位置
+     * @param entity    pojo实例
+     * @return entity
+     */
+    protected abstract Object deserializeFields(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception;
+
+    protected abstract Object deserializeFields(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception;
+
+    /**
+     * 从offset（'{'或者','的位置）开始读取剩余的字段
+     *
+     * @param offset   '{'或者','的位置
+     * @param keyIndex 下一个字段的起始位置（已跳过空白）
+     */
+    protected final Object deserializeRemaining(CharSource charSource, char[] buf, int offset, int keyIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (buf[keyIndex] == '}' && buf[offset] == ',' && !parseContext.allowLastEndComma) {
+            String errorContextTextAt = createErrorContextText(buf, keyIndex);
+            throw new JSONException("Syntax error, at pos " + keyIndex + ", context text by '" + errorContextTextAt + "' the closing symbol '}' is not allowed here.");
+        }
+        return fallback.deserializePojo(charSource, buf, offset, parameterizedType, entity, parseContext);
+    }
+
+    protected final Object deserializeRemaining(CharSource charSource, byte[] buf, int offset, int keyIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (buf[keyIndex] == '}' && buf[offset] == ',' && !parseContext.allowLastEndComma) {
+            String errorContextTextAt = createErrorContextText(buf, keyIndex);
+            throw new JSONException("Syntax error, at pos " + keyIndex + ", context text by '" + errorContextTextAt + "' the closing symbol '}' is not allowed here.");
+        }
+        return fallback.deserializePojo(charSource, buf, offset, parameterizedType, entity, parseContext);
+    }
+
+    /**
+     * 字段名之后（结束引号的下一个位置）跳过冒号和空白，返回值的起始位置
+     */
+    protected final static int valueIndex(char[] buf, int offset) {
+        char c;
+        if ((c = buf[offset = skipWhiteSpaces(buf, offset)]) != ':') {
+            throwUnexpectedException(buf, offset, c, ':');
+        }
+        return skipWhiteSpaces(buf, offset + 1);
+    }
+
+    protected final static int valueIndex(byte[] buf, int offset) {
+        byte c;
+        if ((c = buf[offset = skipWhiteSpaces(buf, offset)]) != ':') {
+            throwUnexpectedException(buf, offset, c, ':');
+        }
+        return skipWhiteSpaces(buf, offset + 1);
+    }
+
+    /**
+     * 值之后的逗号位置，对象结束时返回-1（endIndex为'}'的位置）
+     */
+    protected final static int nextIndex(char[] buf, JSONParseContext parseContext) {
+        int i;
+        char c = buf[i = skipWhiteSpaces(buf, parseContext.endIndex + 1)];
+        if (c == ',') {
+            return i;
+        }
+        if (c == '}') {
+            parseContext.endIndex = i;
+            return -1;
+        }
+        return throwUnexpectedException(buf, i, c, ',', '}');
+    }
+
+    protected final static int nextIndex(byte[] buf, JSONParseContext parseContext) {
+        int i;
+        byte c = buf[i = skipWhiteSpaces(buf, parseContext.endIndex + 1)];
+        if (c == ',') {
+            return i;
+        }
+        if (c == '}') {
+            parseContext.endIndex = i;
+            return -1;
+        }
+        return throwUnexpectedException(buf, i, c, ',', '}');
+    }
+
+    /**
+     * 字节是否为utf-8编码（JDK9+的latin1字符串的字节不是utf-8，非ascii字段名不能按utf-8字节比较）
+     */
+    protected final static boolean isUTF8(CharSource charSource) {
+        return !(charSource instanceof AsciiStringSource);
+    }
+
+    /**
+     * 使用字段的反序列化器读取值（可能装箱）
+     */
+    protected final Object value(int ordinal, CharSource charSource, char[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        JSONPojoFieldDeserializer fieldDeserializer = fieldDeserializers[ordinal];
+        return fieldDeserializer.deserializer.deserialize(charSource, buf, fromIndex, fieldDeserializer.genericParameterizedType, null, '}', parseContext);
+    }
+
+    protected final Object value(int ordinal, CharSource charSource, byte[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        JSONPojoFieldDeserializer fieldDeserializer = fieldDeserializers[ordinal];
+        return fieldDeserializer.deserializer.deserialize(charSource, buf, fromIndex, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
+    }
+
+    /**
+     * 无法直接访问的字段（非public）通过反射设置
+     */
+    protected final void setFieldValue(int ordinal, Object entity, Object value) {
+        JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializers[ordinal].setterInfo, entity, value);
+    }
+
+    protected final void setInt(int ordinal, Object entity, int value) {
+        JSON_SECURE_TRUSTED_ACCESS.putInt(entity, fieldOffsets[ordinal], value);
+    }
+
+    protected final void setLong(int ordinal, Object entity, long value) {
+        JSON_SECURE_TRUSTED_ACCESS.putLong(entity, fieldOffsets[ordinal], value);
+    }
+
+    protected final void setDouble(int ordinal, Object entity, double value) {
+        JSON_SECURE_TRUSTED_ACCESS.putDouble(entity, fieldOffsets[ordinal], value);
+    }
+
+    protected final void setBoolean(int ordinal, Object entity, boolean value) {
+        JSON_SECURE_TRUSTED_ACCESS.putBoolean(entity, fieldOffsets[ordinal], value);
+    }
+
+    // 以下基本类型的解析要求值以数字开始，非标准的数字回退到数字反序列化器
+
+    protected final static int parseInt(CharSource charSource, char[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseIntElement(charSource, buf, fromIndex, '}', parseContext);
+    }
+
+    protected final static int parseInt(CharSource charSource, byte[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseIntElement(charSource, buf, fromIndex, END_OBJECT, parseContext);
+    }
+
+    protected final static long parseLong(CharSource charSource, char[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseLongElement(charSource, buf, fromIndex, '}', parseContext);
+    }
+
+    protected final static long parseLong(CharSource charSource, byte[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseLongElement(charSource, buf, fromIndex, END_OBJECT, parseContext);
+    }
+
+    protected final static double parseDouble(CharSource charSource, char[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseDoubleElement(charSource, buf, fromIndex, '}', parseContext);
+    }
+
+    protected final static double parseDouble(CharSource charSource, byte[] buf, int fromIndex, JSONParseContext parseContext) throws Exception {
+        return NumberImpl.parseDoubleElement(charSource, buf, fromIndex, END_OBJECT, parseContext);
+    }
+}
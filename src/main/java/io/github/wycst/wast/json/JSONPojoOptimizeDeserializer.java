@@ -162,6 +162,10 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
     }
 
     final Object deserializePojo(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (parseContext.projection != null) {
+            // 部分反序列化使用默认反序列化器（按投影跳过字段）
+            return pojoStructure.projectionDeserializer().deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        }
         if (entity == null) {
             entity = pojoStructure.newInstance();
         }
@@ -184,7 +188,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                     Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, '}', parseContext);
                     JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
                 } else {
-                    JSONTypeDeserializer.ANY.skip(charSource, buf, i, '}', parseContext);
+                    skipFieldValue(charSource, buf, i, '}', parseContext);
                 }
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -245,6 +249,10 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
     }
 
     final Object deserializePojo(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object entity, JSONParseContext parseContext) throws Exception {
+        if (parseContext.projection != null) {
+            // 部分反序列化使用默认反序列化器（按投影跳过字段）
+            return pojoStructure.projectionDeserializer().deserializePojo(charSource, buf, fromIndex, parameterizedType, entity, parseContext);
+        }
         if (entity == null) {
             entity = pojoStructure.newInstance();
         }
@@ -267,7 +275,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                 Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
                 JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
             } else {
-                JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
             }
             c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
             if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -289,7 +297,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                 Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
                 JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
             } else {
-                JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
             }
             c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
             if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -311,7 +319,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                 Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
                 JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
             } else {
-                JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
             }
             c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
             if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -333,7 +341,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                 Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
                 JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
             } else {
-                JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
             }
             c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
             if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -356,7 +364,7 @@ public abstract class JSONPojoOptimizeDeserializer<T> extends JSONPojoDeserializ
                     Object value = fieldDeserializer.deserializer.deserialize(charSource, buf, i, fieldDeserializer.genericParameterizedType, null, END_OBJECT, parseContext);
                     JSON_SECURE_TRUSTED_ACCESS.set(fieldDeserializer.setterInfo, entity, value);
                 } else {
-                    JSONTypeDeserializer.ANY.skip(charSource, buf, i, END_OBJECT, parseContext);
+                    skipFieldValue(charSource, buf, i, END_OBJECT, parseContext);
                 }
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_OBJECT || ((isComma = c == COMMA) && ((c = buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)]) == END_OBJECT) && allowLastEndComma)) {
@@ -33,10 +33,12 @@ final class JSONPojoSerializerCodeGen {
     }
 
     static JavaSourceObject generateJavaCodeSource(JSONPojoStructure jsonPojoStructure, boolean printSource, boolean runtime) {
+        return generateJavaCodeSource(jsonPojoStructure, "__JPS_" + jsonPojoStructure.getSourceClass().getSimpleName() + "_" + IdGenerator.hex(), printSource, runtime);
+    }
+
+    static JavaSourceObject generateJavaCodeSource(JSONPojoStructure jsonPojoStructure, String genClassName, boolean printSource, boolean runtime) {
         final Class<?> pojoClass = jsonPojoStructure.getSourceClass();
-        final String simpleName = pojoClass.getSimpleName();
         final String canonicalName = pojoClass.getCanonicalName();
-        final String genClassName = "__JPS_" + simpleName + "_" + IdGenerator.hex();
         final String packageName = pojoClass.getPackage().getName();
         StringBuilder codeBuilder = new StringBuilder(2048);
         codeBuilder.append("package ").append(packageName).append(";\n");
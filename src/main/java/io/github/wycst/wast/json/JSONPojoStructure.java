@@ -23,6 +23,10 @@ public final class JSONPojoStructure {
     final JSONValueMatcher<JSONPojoFieldDeserializer> fieldDeserializerMatcher;
     // deserializers
     final List<JSONPojoFieldDeserializer> fieldDeserializers;
+    // name -> deserializer（二进制等非文本的反序列化按名称查找）
+    private final Map<String, JSONPojoFieldDeserializer> fieldDeserializerHashMap;
+    // 部分反序列化（JSONProjection）使用的默认反序列化器
+    private JSONPojoDefaultDeserializer projectionDeserializer;
 
     // getter methods
     private final JSONPojoFieldSerializer[] getterMethodSerializers;
@@ -147,7 +151,14 @@ public final class JSONPojoStructure {
             }
         }
         this.fieldDeserializers = new ArrayList<JSONPojoFieldDeserializer>(fieldDeserializerHashMap.values());
+        // ordinal by sorted names (stable for the code generated at build time)
+        String[] fieldNames = fieldDeserializerHashMap.keySet().toArray(new String[fieldDeserializerHashMap.size()]);
+        Arrays.sort(fieldNames);
+        for (int i = 0; i < fieldNames.length; ++i) {
+            fieldDeserializerHashMap.get(fieldNames[i]).ordinal = i;
+        }
         this.fieldDeserializerMatcher = JSONValueMatcher.build(fieldDeserializerHashMap);
+        this.fieldDeserializerHashMap = fieldDeserializerHashMap;
 
         this.enableJIT = jsonTypeSetting != null && jsonTypeSetting.enableJIT();
         this.supportedDeserOptimize = /*this.enableJIT && */deserializeOptimizable;
@@ -191,6 +202,19 @@ public final class JSONPojoStructure {
         }
     }
 
+    JSONPojoFieldDeserializer getFieldDeserializer(String name) {
+        return fieldDeserializerHashMap.get(name);
+    }
+
+    JSONPojoDefaultDeserializer projectionDeserializer() {
+        JSONPojoDefaultDeserializer deserializer = projectionDeserializer;
+        if (deserializer == null) {
+            projectionDeserializer = deserializer = JSONPojoDefaultDeserializer.create(this);
+            deserializer.ensureInitialized();
+        }
+        return deserializer;
+    }
+
     public Class<?> getSourceClass() {
         return classStrucWrap.getSourceClass();
     }
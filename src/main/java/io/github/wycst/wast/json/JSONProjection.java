@@ -0,0 +1,103 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p> 部分反序列化的字段投影：只反序列化声明的路径，其他字段（包括未声明字段的整棵子树）使用快速扫描直接跳过，不构建任何值；
+ * <p> 路径使用'.'分隔，集合或者数组字段的路径作用于每个元素；
+ *
+ * <pre>
+ *  JSONProjection projection = JSONProjection.of("id", "user.name", "ts");
+ *  Event event = JSON.parseObject(bytes, Event.class, projection);
+ * </pre>
+ *
+ * @Created by wangyc
+ * @see JSON#parseObject(byte[], Class, JSONProjection, io.github.wycst.wast.json.options.ReadOption...)
+ */
+public final class JSONProjection {
+
+    // 包含整棵子树
+    final static JSONProjection ALL = new JSONProjection(null);
+
+    final Map<String, JSONProjection> children;
+
+    private JSONProjection(Map<String, JSONProjection> children) {
+        this.children = children;
+    }
+
+    /**
+     * 构建投影
+     *
+     * @param paths 字段路径，例如 "id", "user.name"
+     * @return
+     */
+    public static JSONProjection of(String... paths) {
+        JSONProjection root = new JSONProjection(new HashMap<String, JSONProjection>());
+        for (String path : paths) {
+            if (path == null || path.length() == 0) {
+                throw new JSONException("projection path cannot be empty");
+            }
+            JSONProjection node = root;
+            int len = path.length(), begin = 0;
+            while (node != ALL) {
+                int end = path.indexOf('.', begin);
+                if (end == -1) end = len;
+                if (end == begin) {
+                    throw new JSONException("invalid projection path '" + path + "'");
+                }
+                String name = path.substring(begin, end);
+                if (end == len) {
+                    node.children.put(name, ALL);
+                    break;
+                }
+                JSONProjection child = node.children.get(name);
+                if (child == null) {
+                    node.children.put(name, child = new JSONProjection(new HashMap<String, JSONProjection>()));
+                }
+                node = child;
+                begin = end + 1;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * 字段对应的子投影，不包含返回null
+     */
+    final JSONProjection get(String name) {
+        return children == null ? ALL : children.get(name);
+    }
+
+    /**
+     * 是否包含整棵子树
+     */
+    public boolean isAll() {
+        return children == null;
+    }
+
+    /**
+     * 是否包含指定路径（前缀或者完整路径）
+     *
+     * @param path '.'分隔的字段路径
+     * @return
+     */
+    public boolean contains(String path) {
+        JSONProjection node = this;
+        int len = path.length(), begin = 0;
+        while (node != null && node != ALL && begin <= len) {
+            int end = path.indexOf('.', begin);
+            if (end == -1) end = len;
+            node = node.get(path.substring(begin, end));
+            begin = end + 1;
+        }
+        return node != null;
+    }
+
+    @Override
+    public String toString() {
+        return children == null ? "*" : children.toString();
+    }
+}
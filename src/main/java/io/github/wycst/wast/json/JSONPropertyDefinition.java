@@ -56,6 +56,10 @@ public class JSONPropertyDefinition {
      * @see JsonProperty#unfixedType()
      */
     boolean unfixedType;
+    /**
+     * @see JsonProperty#internValue()
+     */
+    boolean internValue;
 
     public JSONPropertyDefinition() {
         this("", true, true, JSONTypeFieldMapper.class, "", false, "", Object.class, new Class<?>[0], "", false);
@@ -70,7 +74,8 @@ public class JSONPropertyDefinition {
     }
 
     public static JSONPropertyDefinition of(JsonProperty jsonProperty) {
-        return jsonProperty == null ? null : new JSONPropertyDefinition(
+        if (jsonProperty == null) return null;
+        JSONPropertyDefinition definition = new JSONPropertyDefinition(
                 jsonProperty.name().trim(),
                 jsonProperty.serialize(),
                 jsonProperty.deserialize(),
@@ -82,6 +87,8 @@ public class JSONPropertyDefinition {
                 jsonProperty.possibleTypes(),
                 jsonProperty.possibleExpression(),
                 jsonProperty.unfixedType());
+        definition.internValue = jsonProperty.internValue();
+        return definition;
     }
 
     public JSONPropertyDefinition(String name, boolean serialize, boolean deserialize, Class<? extends JSONTypeFieldMapper> mapper, String pattern, boolean asTimestamp, String timezone, Class<?> impl, Class<?>[] possibleTypes, String possibleExpression, boolean unfixedType) {
@@ -121,6 +128,9 @@ public class JSONPropertyDefinition {
         if (possibleExpression().isEmpty()) {
             this.possibleExpression = source.possibleExpression();
         }
+        if (!internValue) {
+            this.internValue = source.internValue();
+        }
     }
 
     public String name() {
@@ -210,4 +220,12 @@ public class JSONPropertyDefinition {
     public void setUnfixedType(boolean unfixedType) {
         this.unfixedType = unfixedType;
     }
+
+    public boolean internValue() {
+        return internValue;
+    }
+
+    public void setInternValue(boolean internValue) {
+        this.internValue = internValue;
+    }
 }
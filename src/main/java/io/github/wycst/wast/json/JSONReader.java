@@ -20,6 +20,7 @@ import io.github.wycst.wast.common.reflect.GenericParameterizedType;
 import io.github.wycst.wast.json.exceptions.JSONException;
 
 import java.io.*;
+import java.util.Map;
 
 /**
  * 1,JSON parsing based on stream (character stream):
@@ -55,6 +56,10 @@ import java.io.*;
  *             }
  *         }, true);
  * </pre>
+ * 3、Asynchronous read (executed on the executor, no thread creation per read)
+ * <pre>
+ *     Future&lt;Map&gt; future = reader.executor(executor).readAsync(Map.class);
+ * </pre>
  * <p>
  * <p> Calling abort() can terminate stream read at any time
  *
@@ -212,6 +217,39 @@ public class JSONReader extends JSONAbstractReader {
         return readerHook.first();
     }
 
+    /**
+     * 一次读取提取多个路径的数据，所有路径确定后立即终止读取
+     *
+     * <pre>
+     *     Map&lt;String, Object&gt; values = JSONReader.extract(is, "$.meta.id", "$.items[*].price");
+     * </pre>
+     *
+     * @param is
+     * @param paths 路径，例如 $.meta.id, $.items[*].price, $.items[0], /meta/id
+     * @return 路径 -&gt; 值（包含'*'的路径为列表，未找到为null）
+     */
+    public final static Map<String, Object> extract(InputStream is, String... paths) {
+        return extract(from(is), paths);
+    }
+
+    /**
+     * 一次读取提取多个路径的数据，所有路径确定后立即终止读取
+     *
+     * @param json
+     * @param paths
+     * @return
+     * @see #extract(InputStream, String...)
+     */
+    public final static Map<String, Object> extract(String json, String... paths) {
+        return extract(from(json), paths);
+    }
+
+    static Map<String, Object> extract(JSONReader jsonReader, String... paths) {
+        JSONReaderHookExtract readerHook = new JSONReaderHookExtract(paths);
+        jsonReader.read(readerHook);
+        return readerHook.toMap();
+    }
+
     /**
      * 直接从流中提取数据并转化为指定类型
      *
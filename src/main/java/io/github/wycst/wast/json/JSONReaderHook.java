@@ -163,6 +163,15 @@ public abstract class JSONReaderHook {
         return new JSONReaderHookExact(exactPath);
     }
 
+    /**
+     * 构建多路径提取的JSONReaderCallback，结果按路径顺序存放在getResults()中，所有路径确定后自动终止
+     *
+     * @param paths 路径，例如 $.meta.id, $.items[*].price
+     */
+    public final static JSONReaderHook extract(String... paths) {
+        return new JSONReaderHookExtract(paths);
+    }
+
     /**
      * 构建JSONReaderCallback
      *
@@ -0,0 +1,359 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.*;
+
+/**
+ * <p> 多路径提取：将多个路径编译为一棵路径段的前缀树，读取时按状态转移（惰性子集构造）匹配；
+ * <p> 不在任何路径前缀上的对象或者数组直接跳过，所有路径都已确定时终止读取（不再读取剩余的流）；
+ *
+ * <p> 路径格式：$.meta.id, $.items[*].price, $.items[0], $['a.b'] 或者 /meta/id, '*'匹配任意key或者下标；
+ * <p> 包含'*'的路径结果为列表，当最外层'*'所在的容器读取完成时确定；其他路径第一次匹配或者所在的容器读取完成（未找到）时确定；
+ *
+ * @Created by wangyc
+ * @see JSONReader#extract(java.io.InputStream, String...)
+ */
+final class JSONReaderHookExtract extends JSONReaderHook {
+
+    final static class Node {
+        final Map<String, Node> children = new HashMap<String, Node>();
+        Node any;
+        // 当前节点结束的路径
+        int[] targets = new int[0];
+        // 子树（包含当前节点）中的所有路径
+        int[] subtreeTargets;
+        // 从根节点到当前节点没有经过'*'
+        final boolean exact;
+
+        Node(boolean exact) {
+            this.exact = exact;
+        }
+
+        int[] collectTargets() {
+            Set<Integer> set = new TreeSet<Integer>();
+            for (int target : targets) set.add(target);
+            for (Node child : children.values()) {
+                for (int target : child.collectTargets()) set.add(target);
+            }
+            if (any != null) {
+                for (int target : any.collectTargets()) set.add(target);
+            }
+            int[] result = new int[set.size()];
+            int i = 0;
+            for (Integer target : set) result[i++] = target;
+            return subtreeTargets = result;
+        }
+    }
+
+    final static class State {
+        final Node[] nodes;
+        final int[] targets;
+        // 捕获状态，需要构建完整的值（自身是路径终点或者在路径终点的子树中）
+        final boolean captured;
+        Map<String, State> next;
+        // 不匹配任何具体key的转移结果
+        State otherNext;
+        boolean otherResolved;
+
+        State(Node[] nodes, boolean parentCaptured) {
+            this.nodes = nodes;
+            int count = 0;
+            for (Node node : nodes) count += node.targets.length;
+            int[] targets = new int[count];
+            count = 0;
+            for (Node node : nodes) {
+                System.arraycopy(node.targets, 0, targets, count, node.targets.length);
+                count += node.targets.length;
+            }
+            this.targets = targets;
+            this.captured = parentCaptured || count > 0;
+        }
+    }
+
+    private final String[] paths;
+    private final boolean[] wildcards;
+    private final State rootState;
+    // 已打开（未读取完成）的容器状态，按层级存储（path与reader回调的path是同一个实例，key中可能包含'/'，不能通过拆分path查找）
+    private State[] openStates = new State[8];
+    private String[] openPaths = new String[8];
+    private int depth;
+    private boolean[] resolved;
+    private int remaining;
+
+    JSONReaderHookExtract(String... paths) {
+        if (paths == null || paths.length == 0) {
+            throw new JSONException("extract paths cannot be empty");
+        }
+        this.paths = paths;
+        this.wildcards = new boolean[paths.length];
+        Node root = new Node(true);
+        for (int i = 0; i < paths.length; ++i) {
+            Node node = root;
+            for (String segment : parseSegments(paths[i])) {
+                if (segment == null) {
+                    wildcards[i] = true;
+                    if (node.any == null) {
+                        node.any = new Node(false);
+                    }
+                    node = node.any;
+                } else {
+                    Node child = node.children.get(segment);
+                    if (child == null) {
+                        node.children.put(segment, child = new Node(node.exact));
+                    }
+                    node = child;
+                }
+            }
+            int[] targets = Arrays.copyOf(node.targets, node.targets.length + 1);
+            targets[node.targets.length] = i;
+            node.targets = targets;
+        }
+        root.collectTargets();
+        this.rootState = new State(new Node[]{root}, false);
+        this.reset();
+    }
+
+    /**
+     * 解析路径段，'*'返回null
+     */
+    static List<String> parseSegments(String path) {
+        if (path == null) {
+            throw new JSONException("extract path cannot be null");
+        }
+        List<String> segments = new ArrayList<String>();
+        int len = path.length(), i = 0;
+        if (len > 0 && path.charAt(0) == '/') {
+            // /a/b/0
+            for (String segment : path.substring(1).split("/", -1)) {
+                if (segment.length() == 0) {
+                    if (len == 1) break;
+                    throw new JSONException("invalid extract path '" + path + "'");
+                }
+                segments.add("*".equals(segment) ? null : segment);
+            }
+            return segments;
+        }
+        if (len > 0 && path.charAt(0) == '$') {
+            ++i;
+        }
+        boolean requireDot = i > 0;
+        while (i < len) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                char quote = i + 1 < len ? path.charAt(i + 1) : 0;
+                if (quote == '\'' || quote == '"') {
+                    // ['a.b']
+                    int end = path.indexOf(quote + "]", i + 2);
+                    if (end == -1) {
+                        throw new JSONException("invalid extract path '" + path + "', the closing symbol ']' is not found");
+                    }
+                    segments.add(path.substring(i + 2, end));
+                    i = end + 2;
+                    requireDot = true;
+                    continue;
+                }
+                int end = path.indexOf(']', i);
+                if (end == -1) {
+                    throw new JSONException("invalid extract path '" + path + "', the closing symbol ']' is not found");
+                }
+                String segment = path.substring(i + 1, end).trim();
+                if (segment.length() == 0) {
+                    throw new JSONException("invalid extract path '" + path + "'");
+                }
+                segments.add("*".equals(segment) ? null : segment);
+                i = end + 1;
+                requireDot = true;
+                continue;
+            }
+            if (c == '.') {
+                ++i;
+            } else if (requireDot) {
+                throw new JSONException("invalid extract path '" + path + "', pos " + i);
+            }
+            int end = i;
+            while (end < len && (c = path.charAt(end)) != '.' && c != '[') {
+                ++end;
+            }
+            if (end == i) {
+                throw new JSONException("invalid extract path '" + path + "', pos " + i);
+            }
+            String segment = path.substring(i, end);
+            segments.add("*".equals(segment) ? null : segment);
+            i = end;
+            requireDot = true;
+        }
+        return segments;
+    }
+
+    /**
+     * 状态转移，不匹配时返回null
+     */
+    State transition(State state, String segment) {
+        if (state == null) return null;
+        Map<String, State> next = state.next;
+        State target;
+        if (next != null && (target = next.get(segment)) != null) {
+            return target;
+        }
+        boolean matchedKey = false;
+        for (Node node : state.nodes) {
+            if (node.children.containsKey(segment)) {
+                matchedKey = true;
+                break;
+            }
+        }
+        if (!matchedKey) {
+            if (!state.otherResolved) {
+                state.otherNext = createState(state, null);
+                state.otherResolved = true;
+            }
+            return state.otherNext;
+        }
+        target = createState(state, segment);
+        if (next == null) {
+            state.next = next = new HashMap<String, State>();
+        }
+        next.put(segment, target);
+        return target;
+    }
+
+    private State createState(State state, String segment) {
+        List<Node> nodes = new ArrayList<Node>();
+        for (Node node : state.nodes) {
+            Node child;
+            if (segment != null && (child = node.children.get(segment)) != null) {
+                nodes.add(child);
+            }
+            if (node.any != null) {
+                nodes.add(node.any);
+            }
+        }
+        if (nodes.isEmpty() && !state.captured) {
+            return null;
+        }
+        return new State(nodes.toArray(new Node[nodes.size()]), state.captured);
+    }
+
+    @Override
+    protected boolean filter(String path, int type) {
+        if (path.length() == 0) {
+            // 根容器（空的根容器不会回调isAboredOnParsed）
+            depth = 0;
+        }
+        State state = depth == 0 ? rootState : transition(openStates[depth - 1], path.substring(openPaths[depth - 1].length() + 1));
+        if (state == null) {
+            return false;
+        }
+        if (depth == openStates.length) {
+            openStates = Arrays.copyOf(openStates, depth << 1);
+            openPaths = Arrays.copyOf(openPaths, depth << 1);
+        }
+        openStates[depth] = state;
+        openPaths[depth++] = path;
+        return true;
+    }
+
+    @Override
+    protected Map createdMap(String path) {
+        return openStates[depth - 1].captured ? new LinkedHashMap() : null;
+    }
+
+    @Override
+    protected Collection<?> createdCollection(String path) {
+        return openStates[depth - 1].captured ? new ArrayList<Object>() : null;
+    }
+
+    @Override
+    protected void parseValue(String key, Object value, Object host, int elementIndex, String path, int type) throws Exception {
+        if (host != null) {
+            if (host instanceof Map) {
+                ((Map) host).put(key, value);
+            } else {
+                ((List) host).add(value);
+            }
+        }
+        if (type > 2) {
+            // leaf node
+            State state = transition(openStates[depth - 1], key != null ? key : String.valueOf(elementIndex));
+            if (state != null) {
+                for (int target : state.targets) {
+                    matched(target, value);
+                }
+            }
+        } else if (depth > 1 && openPaths[depth - 1] == path) {
+            // 容器读取完成（空容器不会回调isAboredOnParsed）
+            completed(value);
+        }
+        if (remaining == 0) {
+            abort();
+        }
+    }
+
+    @Override
+    protected boolean isAboredOnParsed(Object value, String path, int type) {
+        // 非根容器在parseValue中处理
+        if (depth == 1 && openPaths[0] == path) {
+            completed(value);
+        }
+        return remaining == 0;
+    }
+
+    private void completed(Object value) {
+        State state = openStates[--depth];
+        openStates[depth] = null;
+        openPaths[depth] = null;
+        for (int target : state.targets) {
+            matched(target, value);
+        }
+        for (Node node : state.nodes) {
+            if (node.exact) {
+                // 容器已经读取完成，子树中的路径不会再出现
+                for (int target : node.subtreeTargets) {
+                    resolve(target);
+                }
+            }
+        }
+    }
+
+    private void matched(int target, Object value) {
+        if (resolved[target]) return;
+        if (wildcards[target]) {
+            ((List) results.get(target)).add(value);
+        } else {
+            results.set(target, value);
+            resolve(target);
+        }
+    }
+
+    private void resolve(int target) {
+        if (!resolved[target]) {
+            resolved[target] = true;
+            --remaining;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        Arrays.fill(openStates, null);
+        Arrays.fill(openPaths, null);
+        depth = 0;
+        resolved = new boolean[paths.length];
+        remaining = paths.length;
+        for (boolean wildcard : wildcards) {
+            results.add(wildcard ? new ArrayList<Object>() : null);
+        }
+    }
+
+    /**
+     * 路径 -> 提取结果
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < paths.length; ++i) {
+            map.put(paths[i], results.get(i));
+        }
+        return map;
+    }
+}
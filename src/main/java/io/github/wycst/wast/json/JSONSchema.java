@@ -466,6 +466,16 @@ public final class JSONSchema extends JSONSchemaBase implements Serializable {
         }
     }
 
+    /**
+     * 编译为流式校验器（直接在原始字符/字节上一次扫描完成校验，不构建JSONNode）
+     *
+     * @return
+     * @see JSONSchemaValidator
+     */
+    public JSONSchemaValidator compile() {
+        return JSONSchemaValidator.of(this);
+    }
+
     /**
      * schema校验
      *
@@ -0,0 +1,815 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.beans.DateParser;
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.utils.CollectionUtils;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * <p> 编译后的JSONSchema校验器：将schema编译为规则图，直接在原始的byte[]/char[]上一次扫描完成校验，不构建JSONNode树；
+ * <p> 校验语义（包括错误信息和路径）与JSONNode.validateSchema一致，遇到第一个错误立即返回（多个错误时返回的先后顺序可能不同）；
+ * <p> 声明了rules或者anyOf/allOf/oneOf的值（以及根节点为非对象数组的情况）会退化为在该子树上构建JSONNode校验，其中表达式规则的上下文（$/parent）为该子树；
+ * <p> 编译后的校验器（包括正则）是线程安全的，可以全局复用；
+ *
+ * <pre>
+ *  JSONSchemaValidator validator = JSONSchemaValidator.of(schema);
+ *  JSONSchemaResult result = validator.validate(bytes);
+ * </pre>
+ *
+ * @Created by wangyc
+ * @see JSONSchema#compile()
+ */
+public final class JSONSchemaValidator {
+
+    final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    final static class Rule {
+        final JSONSchema schema;
+        // 不做任何校验（SUCCESS_SKIP）
+        boolean skip;
+        // 在子树上构建JSONNode校验
+        boolean fallback;
+        // $ref引用的规则（支持递归引用）
+        Rule ref;
+        // 允许的节点类型位（1 << type）
+        int typeMask;
+        String typeDesc;
+        boolean must;
+        boolean integer;
+
+        // object
+        Map<String, Rule> properties;
+        String[] requiredFields;
+        boolean disableExtra;
+
+        // array
+        Integer maxItems;
+        Integer minItems;
+        boolean hasElementSchema;
+        Rule elementRule;
+        Rule[] itemRules;
+
+        // number
+        Number maximum;
+        Number minimum;
+        boolean exclusiveMaximum;
+        boolean exclusiveMinimum;
+        boolean numberChecks;
+
+        // string
+        Integer maxLength;
+        Integer minLength;
+        Pattern pattern;
+        int format;
+        boolean stringChecks;
+
+        Rule(JSONSchema schema) {
+            this.schema = schema;
+        }
+
+        Rule elementRuleAt(int index) {
+            if (itemRules == null) return elementRule;
+            return index < itemRules.length ? itemRules[index] : null;
+        }
+    }
+
+    final static int FORMAT_URL = 1;
+    final static int FORMAT_EMAIL = 2;
+    final static int FORMAT_DATE = 3;
+
+    final static class ValidateContext extends JSONParseContext {
+        String[] paths = new String[16];
+        int depth;
+        JSONSchemaResult result;
+
+        void push(String path) {
+            if (depth == paths.length) {
+                String[] newPaths = new String[depth << 1];
+                System.arraycopy(paths, 0, newPaths, 0, depth);
+                paths = newPaths;
+            }
+            paths[depth++] = path;
+        }
+
+        // 与JSONNode.getAbsolutePath一致，根节点为'/'
+        String absolutePath() {
+            if (depth == 0) return "/";
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < depth; ++i) {
+                builder.append('/').append(paths[i]);
+            }
+            return builder.toString();
+        }
+
+        int fail(String message) {
+            result = JSONSchemaResult.fail(message, absolutePath());
+            return -1;
+        }
+    }
+
+    private final JSONSchema schema;
+    private final Rule rootRule;
+
+    JSONSchemaValidator(JSONSchema schema) {
+        this.schema = schema;
+        this.rootRule = compile(schema, new IdentityHashMap<JSONSchema, Rule>());
+    }
+
+    /**
+     * 编译schema
+     *
+     * @param schema
+     * @return
+     */
+    public static JSONSchemaValidator of(JSONSchema schema) {
+        schema.getClass();
+        return new JSONSchemaValidator(schema);
+    }
+
+    static Rule compile(JSONSchema schema, Map<JSONSchema, Rule> compiled) {
+        if (schema == null) {
+            return null;
+        }
+        Rule rule = compiled.get(schema);
+        if (rule != null) {
+            return rule;
+        }
+        rule = new Rule(schema);
+        compiled.put(schema, rule);
+        Object type = schema.getType();
+        if (type == null) {
+            if (schema.ifAnyOf() || schema.ifAllOf() || schema.ifOneOf()) {
+                rule.fallback = true;
+            } else if (schema.ifRef()) {
+                rule.ref = compile(schema.refSchema(), compiled);
+                rule.skip = rule.ref == null;
+            } else if (schema.ifTypeEnums()) {
+                for (String enumType : schema.getEnums()) {
+                    JSONType jsonType = JSONType.typeOf(enumType);
+                    if (jsonType != null && JSONNode.TYPE_DESCS[jsonType.value].equals(enumType)) {
+                        rule.typeMask |= 1 << jsonType.value;
+                    }
+                }
+                rule.typeDesc = JSON.toJsonString(schema.getEnums());
+            } else {
+                rule.skip = true;
+            }
+            return rule;
+        }
+        if (!CollectionUtils.isEmpty(schema.getRules())) {
+            rule.fallback = true;
+            rule.must = schema.getMust();
+            return rule;
+        }
+        rule.must = schema.getMust();
+        rule.typeDesc = JSON.toJsonString(type);
+        if (type instanceof JSONType) {
+            rule.typeMask = 1 << ((JSONType) type).value;
+            rule.integer = type == JSONType.NUMBER_INTEGER;
+        } else if (type instanceof JSONType[]) {
+            for (JSONType jsonType : (JSONType[]) type) {
+                rule.typeMask |= 1 << jsonType.value;
+            }
+        }
+        // object
+        Map<Serializable, JSONSchema> fieldSchemas = schema.getProperties();
+        if (fieldSchemas != null && !fieldSchemas.isEmpty()) {
+            rule.disableExtra = schema.getDisableExtra();
+            rule.properties = new HashMap<String, Rule>();
+            int requiredCount = 0;
+            for (Map.Entry<Serializable, JSONSchema> entry : fieldSchemas.entrySet()) {
+                JSONSchema value = entry.getValue();
+                if (value != null) {
+                    rule.properties.put(entry.getKey().toString(), compile(value, compiled));
+                    if (value.getMust()) ++requiredCount;
+                }
+            }
+            rule.requiredFields = new String[requiredCount];
+            requiredCount = 0;
+            for (Map.Entry<Serializable, JSONSchema> entry : fieldSchemas.entrySet()) {
+                JSONSchema value = entry.getValue();
+                if (value != null && value.getMust()) {
+                    rule.requiredFields[requiredCount++] = entry.getKey().toString();
+                }
+            }
+        }
+        // array
+        rule.maxItems = schema.getMaxItems();
+        rule.minItems = schema.getMinItems();
+        if (rule.hasElementSchema = schema.hasElementSchema()) {
+            Object items = schema.getItems();
+            if (items instanceof JSONSchema[]) {
+                JSONSchema[] schemaItems = (JSONSchema[]) items;
+                rule.itemRules = new Rule[schemaItems.length];
+                for (int i = 0; i < schemaItems.length; ++i) {
+                    rule.itemRules[i] = compile(schemaItems[i], compiled);
+                }
+            } else {
+                rule.elementRule = compile(schema.getElementSchemaAt(0), compiled);
+            }
+        }
+        // number
+        rule.maximum = schema.getMaximum();
+        rule.minimum = schema.getMinimum();
+        rule.exclusiveMaximum = schema.getExclusiveMaximum();
+        rule.exclusiveMinimum = schema.getExclusiveMinimum();
+        rule.numberChecks = rule.integer || rule.maximum != null || rule.minimum != null;
+        // string
+        rule.maxLength = schema.getMaxLength();
+        rule.minLength = schema.getMinLength();
+        rule.pattern = schema.patternObject();
+        if (schema.getFormat() != null) {
+            rule.format = schema.formatUrl() ? FORMAT_URL : schema.formatEmail() ? FORMAT_EMAIL : schema.formatDate() ? FORMAT_DATE : 0;
+        }
+        rule.stringChecks = rule.maxLength != null || rule.minLength != null || rule.pattern != null || rule.format > 0;
+        return rule;
+    }
+
+    public JSONSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 校验json字符串
+     *
+     * @param json
+     * @return
+     */
+    public JSONSchemaResult validate(String json) {
+        if (EnvUtils.JDK_9_PLUS) {
+            byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json);
+            if (bytes.length == json.length()) {
+                return validate(AsciiStringSource.of(json), bytes);
+            } else {
+                return validate(UTF16ByteArraySource.of(json), json.toCharArray());
+            }
+        }
+        return validate(null, (char[]) JSONMemoryHandle.getStringValue(json));
+    }
+
+    /**
+     * 校验json字符数组
+     *
+     * @param buf
+     * @return
+     */
+    public JSONSchemaResult validate(char[] buf) {
+        if (EnvUtils.JDK_9_PLUS) {
+            String json = new String(buf);
+            byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json);
+            if (bytes.length == buf.length) {
+                return validate(AsciiStringSource.of(json), bytes);
+            }
+            // utf16直接校验字符数组
+            return validate(UTF16ByteArraySource.of(json), buf);
+        }
+        return validate(null, buf);
+    }
+
+    /**
+     * 校验json字节数组（UTF-8）
+     *
+     * @param buf
+     * @return
+     */
+    public JSONSchemaResult validate(byte[] buf) {
+        if (EnvUtils.JDK_9_PLUS) {
+            if (!EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(buf, 0, buf.length)) {
+                return validate(AsciiStringSource.of(JSONMemoryHandle.createAsciiString(buf)), buf);
+            } else {
+                return validate(UTF8CharSource.of(JSONMemoryHandle.createAsciiString(buf)), buf);
+            }
+        }
+        return validate(null, buf);
+    }
+
+    public boolean validateSuccess(String json) {
+        return validate(json).isSuccess();
+    }
+
+    public boolean validateSuccess(char[] buf) {
+        return validate(buf).isSuccess();
+    }
+
+    public boolean validateSuccess(byte[] buf) {
+        return validate(buf).isSuccess();
+    }
+
+    JSONSchemaResult validate(CharSource charSource, char[] buf) {
+        try {
+            int len = buf.length, i = skipWhiteSpaces(buf, 0, len);
+            if (i == len) {
+                return JSONSchemaResult.fail("Syntax error, empty json");
+            }
+            if (buf[i] != '{' && buf[i] != '[') {
+                return JSONNode.parse(new String(buf)).validateSchema(schema);
+            }
+            ValidateContext context = new ValidateContext();
+            int endIndex = validateValue(charSource, buf, i, ']', rootRule, context);
+            if (endIndex == -1) {
+                return context.result;
+            }
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                return JSONSchemaResult.fail("Syntax error, extra characters found, '" + buf[i] + "', pos " + i);
+            }
+            return JSONSchemaResult.SUCCESS;
+        } catch (Exception exception) {
+            return failOf(exception, buf);
+        }
+    }
+
+    JSONSchemaResult validate(CharSource charSource, byte[] buf) {
+        try {
+            int len = buf.length, i = skipWhiteSpaces(buf, 0, len);
+            if (i == len) {
+                return JSONSchemaResult.fail("Syntax error, empty json");
+            }
+            if (buf[i] != '{' && buf[i] != '[') {
+                return JSONNode.parse(buf).validateSchema(schema);
+            }
+            ValidateContext context = new ValidateContext();
+            int endIndex = validateValue(charSource, buf, i, ']', rootRule, context);
+            if (endIndex == -1) {
+                return context.result;
+            }
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                return JSONSchemaResult.fail("Syntax error, extra characters found, '" + (char) buf[i] + "', pos " + i);
+            }
+            return JSONSchemaResult.SUCCESS;
+        } catch (Exception exception) {
+            return failOf(exception, buf);
+        }
+    }
+
+    /**
+     * 异常转为校验失败结果（越界表示json不完整，与解析的异常信息一致）
+     */
+    static JSONSchemaResult failOf(Exception exception, char[] buf) {
+        try {
+            JSONGeneral.handleCatchException(exception, buf, buf.length);
+        } catch (RuntimeException runtimeException) {
+            return JSONSchemaResult.fail(runtimeException.getMessage());
+        }
+        return JSONSchemaResult.fail(exception.getMessage());
+    }
+
+    static JSONSchemaResult failOf(Exception exception, byte[] buf) {
+        try {
+            JSONGeneral.handleCatchException(exception, buf, buf.length);
+        } catch (RuntimeException runtimeException) {
+            return JSONSchemaResult.fail(runtimeException.getMessage());
+        }
+        return JSONSchemaResult.fail(exception.getMessage());
+    }
+
+    static int skipWhiteSpaces(char[] buf, int i, int len) {
+        while (i < len && buf[i] <= ' ') ++i;
+        return i;
+    }
+
+    static int skipWhiteSpaces(byte[] buf, int i, int len) {
+        while (i < len && buf[i] <= ' ' && buf[i] >= 0) ++i;
+        return i;
+    }
+
+    static int typeOf(int ch) {
+        switch (ch) {
+            case '{':
+                return JSONNode.OBJECT;
+            case '[':
+                return JSONNode.ARRAY;
+            case '"':
+                return JSONNode.STRING;
+            case 'n':
+                return JSONNode.NULL;
+            case 't':
+            case 'f':
+                return JSONNode.BOOLEAN;
+            default:
+                return JSONNode.NUMBER;
+        }
+    }
+
+    /**
+     * 必填和类型校验，不通过返回false
+     */
+    static boolean checkType(Rule rule, int type, ValidateContext context) {
+        if (rule.must && type == JSONNode.NULL) {
+            context.result = JSONSchemaResult.fail(context.absolutePath() + " is required");
+            return false;
+        }
+        if (rule.fallback || (rule.typeMask & (1 << type)) != 0) {
+            return true;
+        }
+        context.fail("type not match, expect " + rule.typeDesc + " but '" + JSONNode.TYPE_DESCS[type] + "'");
+        return false;
+    }
+
+    /**
+     * 在子树上构建JSONNode校验，结果的路径映射为绝对路径（叶子节点包装为数组元素避免根叶子节点没有值）
+     */
+    static JSONSchemaResult fallbackValidate(String source, Rule rule, ValidateContext context) {
+        boolean leaf = source.charAt(0) != '{' && source.charAt(0) != '[';
+        JSONNode node = leaf ? JSONNode.parse("[" + source + "]").getElementAt(0) : JSONNode.parse(source);
+        JSONSchemaResult result = node.validateSchema(rule.schema);
+        String path;
+        if (result.isSuccess() || (path = result.getPath()) == null) {
+            return result;
+        }
+        String absolutePath = context.absolutePath();
+        if (leaf || path.equals("/")) {
+            path = absolutePath;
+        } else if (context.depth > 0) {
+            path = absolutePath + path;
+        }
+        return JSONSchemaResult.fail(result.getMessage(), path);
+    }
+
+    static int checkNumber(Rule rule, Number value, ValidateContext context) {
+        if (rule.integer && !(value instanceof Integer) && !(value instanceof Long)) {
+            return context.fail("the value type is not integer");
+        }
+        double doubleValue = value.doubleValue();
+        Number maxValue = rule.maximum, minValue = rule.minimum;
+        if (maxValue != null && (maxValue.doubleValue() < doubleValue || (rule.exclusiveMaximum && maxValue.doubleValue() == doubleValue))) {
+            return context.fail("max value is " + maxValue + ", input " + value);
+        }
+        if (minValue != null && (minValue.doubleValue() > doubleValue || (rule.exclusiveMinimum && minValue.doubleValue() == doubleValue))) {
+            return context.fail("min value is " + minValue + ", input " + value);
+        }
+        return 0;
+    }
+
+    static int checkString(Rule rule, String value, ValidateContext context) {
+        Integer maxLength = rule.maxLength, minLength = rule.minLength;
+        if (maxLength != null && maxLength > -1 && maxLength < value.length()) {
+            return context.fail("the maxLength is " + maxLength + ", input " + value.length());
+        }
+        if (minLength != null && minLength > value.length()) {
+            return context.fail("the minLength is " + minLength + ", input " + value.length());
+        }
+        if (rule.pattern != null && !rule.pattern.matcher(value).matches()) {
+            return context.fail("pattern[" + rule.schema.getPattern() + "] validate fail, input " + value);
+        }
+        switch (rule.format) {
+            case FORMAT_URL:
+                if (!JSONSchema.PATTERN_URL.matcher(value).matches()) {
+                    return context.fail("format[url] validate fail, input " + value);
+                }
+                break;
+            case FORMAT_EMAIL:
+                if (!JSONSchema.PATTERN_EMAIL.matcher(value).matches()) {
+                    return context.fail("format[email] validate fail, input " + value);
+                }
+                break;
+            case FORMAT_DATE:
+                try {
+                    DateParser.parseDate(value);
+                } catch (Exception e) {
+                    return context.fail("format[date] validate fail, input " + value);
+                }
+                break;
+        }
+        return 0;
+    }
+
+    static int checkItems(Rule rule, int size, ValidateContext context) {
+        Integer maxElementSize = rule.maxItems, minElementSize = rule.minItems;
+        if (maxElementSize != null && maxElementSize > -1 && maxElementSize < size) {
+            return context.fail("the maxElementSize is " + maxElementSize + ", input " + size);
+        }
+        if (minElementSize != null && minElementSize > size) {
+            return context.fail("the minElementSize is " + minElementSize + ", input " + size);
+        }
+        return 0;
+    }
+
+    /**
+     * 校验值
+     *
+     * @return 值最后一个字符的位置，不通过返回-1
+     */
+    static int validateValue(CharSource charSource, char[] buf, int fromIndex, char endToken, Rule rule, ValidateContext context) throws Exception {
+        char ch = buf[fromIndex];
+        while (rule != null && rule.ref != null) {
+            rule = rule.ref;
+        }
+        if (rule != null && rule.skip) {
+            rule = null;
+        }
+        if (rule == null) {
+            JSONTypeDeserializer.ANY.skip(charSource, buf, fromIndex, endToken, context);
+            return context.endIndex;
+        }
+        int type = typeOf(ch);
+        if (!checkType(rule, type, context)) {
+            return -1;
+        }
+        if (rule.fallback) {
+            JSONTypeDeserializer.ANY.skip(charSource, buf, fromIndex, endToken, context);
+            int endIndex = context.endIndex;
+            JSONSchemaResult result = fallbackValidate(new String(buf, fromIndex, endIndex + 1 - fromIndex), rule, context);
+            if (!result.isSuccess()) {
+                context.result = result;
+                return -1;
+            }
+            return endIndex;
+        }
+        switch (type) {
+            case JSONNode.OBJECT:
+                return validateObject(charSource, buf, fromIndex, rule, context);
+            case JSONNode.ARRAY:
+                return validateArray(charSource, buf, fromIndex, rule, context);
+            case JSONNode.STRING:
+                if (rule.stringChecks) {
+                    String value = (String) JSONTypeDeserializer.CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, fromIndex, '"', GenericParameterizedType.StringType, context);
+                    if (checkString(rule, value, context) == -1) return -1;
+                } else {
+                    JSONTypeDeserializer.CHAR_SEQUENCE_STRING.skip(charSource, buf, fromIndex, '"', context);
+                }
+                return context.endIndex;
+            case JSONNode.NUMBER:
+                if (rule.numberChecks) {
+                    Number value = (Number) JSONTypeDeserializer.NUMBER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.AnyType, null, endToken, context);
+                    int endIndex = context.endIndex;
+                    if (checkNumber(rule, value, context) == -1) return -1;
+                    return endIndex;
+                }
+                JSONTypeDeserializer.NUMBER_SKIPPER.deserialize(charSource, buf, fromIndex, null, null, endToken, context);
+                return context.endIndex;
+            case JSONNode.NULL:
+                JSONTypeDeserializer.parseNull(buf, fromIndex, context);
+                return context.endIndex;
+            default:
+                if (ch == 't') {
+                    JSONTypeDeserializer.parseTrue(buf, fromIndex, context);
+                } else {
+                    JSONTypeDeserializer.parseFalse(buf, fromIndex, context);
+                }
+                return context.endIndex;
+        }
+    }
+
+    static int validateObject(CharSource charSource, char[] buf, int fromIndex, Rule rule, ValidateContext context) throws Exception {
+        final Map<String, Rule> properties = rule.properties;
+        final int len = buf.length;
+        String[] requiredFields = properties == null ? null : rule.requiredFields;
+        boolean[] found = requiredFields == null || requiredFields.length == 0 ? null : new boolean[requiredFields.length];
+        int i = skipWhiteSpaces(buf, fromIndex + 1, len);
+        if (i < len && buf[i] == '}') {
+            return checkRequired(requiredFields, found, context) ? i : -1;
+        }
+        for (; ; ) {
+            if (i == len || buf[i] != '"') {
+                throw new JSONException("Syntax error, unexpected token character '" + (i == len ? "EOF" : String.valueOf(buf[i])) + "', position " + i + ", expected '\"'");
+            }
+            String key = (String) JSONTypeDeserializer.CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, i, '"', GenericParameterizedType.StringType, context);
+            i = skipWhiteSpaces(buf, context.endIndex + 1, len);
+            if (i == len || buf[i] != ':') {
+                throw new JSONException("Syntax error, unexpected token character '" + (i == len ? "EOF" : String.valueOf(buf[i])) + "', position " + i + ", expected ':'");
+            }
+            i = skipWhiteSpaces(buf, i + 1, len);
+            Rule fieldRule = null;
+            context.push(key);
+            if (properties != null) {
+                fieldRule = properties.get(key);
+                if (fieldRule == null && rule.disableExtra) {
+                    context.fail("field: " + key + " not allowed");
+                    return -1;
+                }
+                if (found != null && fieldRule != null && fieldRule.must) {
+                    markRequired(requiredFields, found, key);
+                }
+            }
+            if (i == len) {
+                throw new JSONException("Syntax error, unexpected EOF");
+            }
+            int endIndex = validateValue(charSource, buf, i, '}', fieldRule, context);
+            if (endIndex == -1) return -1;
+            --context.depth;
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                char ch = buf[i];
+                if (ch == ',') {
+                    i = skipWhiteSpaces(buf, i + 1, len);
+                    continue;
+                }
+                if (ch == '}') {
+                    return checkRequired(requiredFields, found, context) ? i : -1;
+                }
+            }
+            throw new JSONException("Syntax error, the closing symbol '}' is not found, position " + i);
+        }
+    }
+
+    static int validateArray(CharSource charSource, char[] buf, int fromIndex, Rule rule, ValidateContext context) throws Exception {
+        final int len = buf.length;
+        int i = skipWhiteSpaces(buf, fromIndex + 1, len), size = 0;
+        if (i < len && buf[i] == ']') {
+            return checkItems(rule, 0, context) == -1 ? -1 : i;
+        }
+        for (; ; ) {
+            if (i == len) {
+                throw new JSONException("Syntax error, unexpected EOF");
+            }
+            context.push(String.valueOf(size));
+            int endIndex = validateValue(charSource, buf, i, ']', rule.hasElementSchema ? rule.elementRuleAt(size) : null, context);
+            if (endIndex == -1) return -1;
+            --context.depth;
+            ++size;
+            if (rule.maxItems != null && rule.maxItems > -1 && rule.maxItems < size) {
+                // 元素数量已超出，不再继续扫描
+                return checkItems(rule, size, context);
+            }
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                char ch = buf[i];
+                if (ch == ',') {
+                    i = skipWhiteSpaces(buf, i + 1, len);
+                    continue;
+                }
+                if (ch == ']') {
+                    return checkItems(rule, size, context) == -1 ? -1 : i;
+                }
+            }
+            throw new JSONException("Syntax error, the closing symbol ']' is not found, position " + i);
+        }
+    }
+
+    static int validateValue(CharSource charSource, byte[] buf, int fromIndex, char endToken, Rule rule, ValidateContext context) throws Exception {
+        byte b = buf[fromIndex];
+        while (rule != null && rule.ref != null) {
+            rule = rule.ref;
+        }
+        if (rule != null && rule.skip) {
+            rule = null;
+        }
+        if (rule == null) {
+            JSONTypeDeserializer.ANY.skip(charSource, buf, fromIndex, endToken, context);
+            return context.endIndex;
+        }
+        int type = typeOf(b);
+        if (!checkType(rule, type, context)) {
+            return -1;
+        }
+        if (rule.fallback) {
+            JSONTypeDeserializer.ANY.skip(charSource, buf, fromIndex, endToken, context);
+            int endIndex = context.endIndex;
+            JSONSchemaResult result = fallbackValidate(new String(buf, fromIndex, endIndex + 1 - fromIndex, UTF_8), rule, context);
+            if (!result.isSuccess()) {
+                context.result = result;
+                return -1;
+            }
+            return endIndex;
+        }
+        switch (type) {
+            case JSONNode.OBJECT:
+                return validateObject(charSource, buf, fromIndex, rule, context);
+            case JSONNode.ARRAY:
+                return validateArray(charSource, buf, fromIndex, rule, context);
+            case JSONNode.STRING:
+                if (rule.stringChecks) {
+                    String value = (String) JSONTypeDeserializer.CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, fromIndex, '"', GenericParameterizedType.StringType, context);
+                    if (checkString(rule, value, context) == -1) return -1;
+                } else {
+                    JSONTypeDeserializer.CHAR_SEQUENCE_STRING.skip(charSource, buf, fromIndex, '"', context);
+                }
+                return context.endIndex;
+            case JSONNode.NUMBER:
+                if (rule.numberChecks) {
+                    Number value = (Number) JSONTypeDeserializer.NUMBER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.AnyType, null, endToken, context);
+                    int endIndex = context.endIndex;
+                    if (checkNumber(rule, value, context) == -1) return -1;
+                    return endIndex;
+                }
+                JSONTypeDeserializer.NUMBER_SKIPPER.deserialize(charSource, buf, fromIndex, null, null, endToken, context);
+                return context.endIndex;
+            case JSONNode.NULL:
+                JSONTypeDeserializer.parseNull(buf, fromIndex, context);
+                return context.endIndex;
+            default:
+                if (b == 't') {
+                    JSONTypeDeserializer.parseTrue(buf, fromIndex, context);
+                } else {
+                    JSONTypeDeserializer.parseFalse(buf, fromIndex, context);
+                }
+                return context.endIndex;
+        }
+    }
+
+    static int validateObject(CharSource charSource, byte[] buf, int fromIndex, Rule rule, ValidateContext context) throws Exception {
+        final Map<String, Rule> properties = rule.properties;
+        final int len = buf.length;
+        String[] requiredFields = properties == null ? null : rule.requiredFields;
+        boolean[] found = requiredFields == null || requiredFields.length == 0 ? null : new boolean[requiredFields.length];
+        int i = skipWhiteSpaces(buf, fromIndex + 1, len);
+        if (i < len && buf[i] == '}') {
+            return checkRequired(requiredFields, found, context) ? i : -1;
+        }
+        for (; ; ) {
+            if (i == len || buf[i] != '"') {
+                throw new JSONException("Syntax error, unexpected token character '" + (i == len ? "EOF" : String.valueOf((char) buf[i])) + "', position " + i + ", expected '\"'");
+            }
+            String key = (String) JSONTypeDeserializer.CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, i, '"', GenericParameterizedType.StringType, context);
+            i = skipWhiteSpaces(buf, context.endIndex + 1, len);
+            if (i == len || buf[i] != ':') {
+                throw new JSONException("Syntax error, unexpected token character '" + (i == len ? "EOF" : String.valueOf((char) buf[i])) + "', position " + i + ", expected ':'");
+            }
+            i = skipWhiteSpaces(buf, i + 1, len);
+            Rule fieldRule = null;
+            context.push(key);
+            if (properties != null) {
+                fieldRule = properties.get(key);
+                if (fieldRule == null && rule.disableExtra) {
+                    context.fail("field: " + key + " not allowed");
+                    return -1;
+                }
+                if (found != null && fieldRule != null && fieldRule.must) {
+                    markRequired(requiredFields, found, key);
+                }
+            }
+            if (i == len) {
+                throw new JSONException("Syntax error, unexpected EOF");
+            }
+            int endIndex = validateValue(charSource, buf, i, '}', fieldRule, context);
+            if (endIndex == -1) return -1;
+            --context.depth;
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                byte b = buf[i];
+                if (b == ',') {
+                    i = skipWhiteSpaces(buf, i + 1, len);
+                    continue;
+                }
+                if (b == '}') {
+                    return checkRequired(requiredFields, found, context) ? i : -1;
+                }
+            }
+            throw new JSONException("Syntax error, the closing symbol '}' is not found, position " + i);
+        }
+    }
+
+    static int validateArray(CharSource charSource, byte[] buf, int fromIndex, Rule rule, ValidateContext context) throws Exception {
+        final int len = buf.length;
+        int i = skipWhiteSpaces(buf, fromIndex + 1, len), size = 0;
+        if (i < len && buf[i] == ']') {
+            return checkItems(rule, 0, context) == -1 ? -1 : i;
+        }
+        for (; ; ) {
+            if (i == len) {
+                throw new JSONException("Syntax error, unexpected EOF");
+            }
+            context.push(String.valueOf(size));
+            int endIndex = validateValue(charSource, buf, i, ']', rule.hasElementSchema ? rule.elementRuleAt(size) : null, context);
+            if (endIndex == -1) return -1;
+            --context.depth;
+            ++size;
+            if (rule.maxItems != null && rule.maxItems > -1 && rule.maxItems < size) {
+                // 元素数量已超出，不再继续扫描
+                return checkItems(rule, size, context);
+            }
+            i = skipWhiteSpaces(buf, endIndex + 1, len);
+            if (i < len) {
+                byte b = buf[i];
+                if (b == ',') {
+                    i = skipWhiteSpaces(buf, i + 1, len);
+                    continue;
+                }
+                if (b == ']') {
+                    return checkItems(rule, size, context) == -1 ? -1 : i;
+                }
+            }
+            throw new JSONException("Syntax error, the closing symbol ']' is not found, position " + i);
+        }
+    }
+
+    static void markRequired(String[] requiredFields, boolean[] found, String key) {
+        for (int j = 0; j < requiredFields.length; ++j) {
+            if (requiredFields[j].equals(key)) {
+                found[j] = true;
+                return;
+            }
+        }
+    }
+
+    static boolean checkRequired(String[] requiredFields, boolean[] found, ValidateContext context) {
+        if (found == null) return true;
+        for (int j = 0; j < found.length; ++j) {
+            if (!found[j]) {
+                context.fail("field: '" + requiredFields[j] + "' is required but not found");
+                return false;
+            }
+        }
+        return true;
+    }
+}
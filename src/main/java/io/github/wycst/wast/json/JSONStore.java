@@ -306,6 +306,11 @@ final class JSONStore {
         // Find matching deserializers or new deserializer instance by type
         switch (classCategory) {
             case CollectionCategory:
+                // registered collection type (eg: DoubleList)
+                JSONTypeDeserializer registered = JSONTypeDeserializer.GLOBAL_DESERIALIZERS.get(genericParameterizedType.getActualType());
+                if (registered != null) {
+                    return registered;
+                }
                 // collection Deserializer instance
                 int collectionType = JSONTypeDeserializer.getCollectionType(genericParameterizedType.getActualType());
                 switch (collectionType) {
@@ -328,6 +333,12 @@ final class JSONStore {
                     ClassStrucWrap.ClassWrapperType classWrapperType = classStrucWrap.getClassWrapperType();
                     return JSONTemporalDeserializer.getTemporalDeserializerInstance(classWrapperType, genericParameterizedType, property);
                 }
+                break;
+            }
+            case CharSequence: {
+                if (property != null && property.internValue() && genericParameterizedType.getActualType() == String.class) {
+                    return JSONTypeDeserializer.STRING_INTERN;
+                }
             }
         }
 
@@ -345,11 +356,25 @@ final class JSONStore {
                 return JSONTemporalDeserializer.getTemporalDeserializerInstance(classWrapperType, GenericParameterizedType.actualType(type), null);
             }
             JSONPojoStructure pojoStructure = getPojoStruc(type);
+            // generated at build time (@JsonCompiled)
+            JSONTypeDeserializer compiledDeserializer = JSONCompiledRegistry.deserializer(pojoStructure);
+            if (compiledDeserializer != null) {
+                return compiledDeserializer;
+            }
+            // the generated deserializer matches field names inline and falls back to the optimize (or default) deserializer for the remaining fields
+            if (enableJIT && pojoStructure.isSupportedJIT() && JSONPojoDeserializerCodeGen.isSupported(pojoStructure)) {
+                try {
+                    Class<?> deserializerClass = JDKCompiler.compileJavaSource(JSONPojoDeserializerCodeGen.generateJavaCodeSource(pojoStructure, false, true));
+                    Constructor constructor = deserializerClass.getDeclaredConstructor(new Class[]{JSONPojoStructure.class});
+                    UnsafeHelper.setAccessible(constructor);
+                    return (JSONTypeDeserializer) constructor.newInstance(pojoStructure);
+                } catch (Throwable throwable) {
+                }
+            }
             if (pojoStructure.isSupportedOptimize()) {
                 return JSONPojoOptimizeDeserializer.optimize(pojoStructure);
-            } else {
-                return JSONPojoDefaultDeserializer.create(pojoStructure);
             }
+            return JSONPojoDefaultDeserializer.create(pojoStructure);
         }
     }
 
@@ -574,17 +599,21 @@ final class JSONStore {
                     serializer = JSONTypeSerializer.ENUM;
                 } else {
                     JSONPojoStructure pojoStructure = getPojoStruc(cls);
-                    if (enableJIT && pojoStructure.isSupportedJIT()) {
-                        try {
-                            Class<?> serializerClass = JDKCompiler.compileJavaSource(JSONPojoSerializer.generateRuntimeJavaCodeSource(pojoStructure));
-                            Constructor constructor = serializerClass.getDeclaredConstructor(new Class[]{JSONPojoStructure.class});
-                            UnsafeHelper.setAccessible(constructor);
-                            serializer = (JSONPojoSerializer) constructor.newInstance(pojoStructure);
-                        } catch (Throwable throwable) {
+                    // generated at build time (@JsonCompiled)
+                    serializer = JSONCompiledRegistry.serializer(pojoStructure);
+                    if (serializer == null) {
+                        if (enableJIT && pojoStructure.isSupportedJIT()) {
+                            try {
+                                Class<?> serializerClass = JDKCompiler.compileJavaSource(JSONPojoSerializer.generateRuntimeJavaCodeSource(pojoStructure));
+                                Constructor constructor = serializerClass.getDeclaredConstructor(new Class[]{JSONPojoStructure.class});
+                                UnsafeHelper.setAccessible(constructor);
+                                serializer = (JSONPojoSerializer) constructor.newInstance(pojoStructure);
+                            } catch (Throwable throwable) {
+                                serializer = new JSONTypeSerializer.ObjectImpl.ObjectWrapperImpl(cls, pojoStructure);
+                            }
+                        } else {
                             serializer = new JSONTypeSerializer.ObjectImpl.ObjectWrapperImpl(cls, pojoStructure);
                         }
-                    } else {
-                        serializer = new JSONTypeSerializer.ObjectImpl.ObjectWrapperImpl(cls, pojoStructure);
                     }
                 }
             } else {
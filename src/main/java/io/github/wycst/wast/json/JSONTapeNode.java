@@ -0,0 +1,697 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.common.utils.ObjectUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p> 基于结构索引（tape）的只读JSON节点，适用于大文档的只读导航（按路径查找/遍历/收集）；
+ * <p> 解析时只对源字节做一次扫描（字符串内容使用SWAR每次跳过8个字节，同时校验结构以及数字的语法），为每个值（包括key）生成一个long类型的tape条目，
+ * 不创建任何节点对象，节点（JSONTapeNode）只是tape的轻量视图（flyweight），叶子值在访问时才解码；
+ * <p> tape条目格式（64位）:
+ * <ul>
+ *     <li> 高4位: 类型（与JSONNode的类型定义一致）；
+ *     <li> object/array: 低32位为源中的开始位置，中间28位为子树结束后的下一个tape下标（用于跳过整个子树）；
+ *     <li> string: 低32位为开始引号的位置，中间27位为内容长度（超过上限时饱和），1位标记是否存在转义；
+ *     <li> number/boolean/null: 低32位为源中的开始位置；
+ * </ul>
+ * <p> 与JSONNode的对比: JSONNode为每个节点创建对象（路径/父节点/值/子节点集合），JSONTapeNode每个值只占用8个字节；
+ * 如果需要修改节点请使用{@link #toJSONNode()}转换；
+ *
+ * <pre>
+ *     JSONTapeNode root = JSONTapeNode.parse(bytes);
+ *     String name = root.get("/students/[0]/name").getStringValue();
+ *     List&lt;JSONTapeNode&gt; ages = root.collect("/students/&#42;/age");
+ * </pre>
+ *
+ * @author wangyunchao
+ * @see JSONNode
+ */
+@SuppressWarnings({"all"})
+public final class JSONTapeNode extends JSONGeneral {
+
+    final static int OBJECT = JSONNode.OBJECT;
+    final static int ARRAY = JSONNode.ARRAY;
+    final static int STRING = JSONNode.STRING;
+    final static int NUMBER = JSONNode.NUMBER;
+    final static int BOOLEAN = JSONNode.BOOLEAN;
+    final static int NULL = JSONNode.NULL;
+
+    final static int TYPE_SHIFT = 60;
+    final static long OFFSET_MASK = 0xFFFFFFFFL;
+    final static int MAX_TAPE_SIZE = (1 << 28) - 1;
+    final static int MAX_STRING_LENGTH = (1 << 27) - 1;
+    // string: escape flag
+    final static long ESCAPED_BIT = 1L << 59;
+    // boolean: true flag
+    final static long TRUE_BIT = 1L << 59;
+
+    /**
+     * 结构索引
+     */
+    final static class Tape {
+        final byte[] buf;
+        final int fromIndex;
+        final int toIndex;
+        final CharSource charSource;
+        final ReadOption[] readOptions;
+        long[] entries;
+        int size;
+
+        Tape(byte[] buf, int fromIndex, int toIndex, ReadOption[] readOptions) {
+            this.buf = buf;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.readOptions = readOptions;
+            CharSource charSource = null;
+            if (EnvUtils.JDK_9_PLUS) {
+                String input = JSONMemoryHandle.createAsciiString(buf);
+                charSource = EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(buf, fromIndex, toIndex - fromIndex) ? UTF8CharSource.of(input) : AsciiStringSource.of(input);
+            }
+            this.charSource = charSource;
+            // 从较小的容量开始按需扩容（值的数量无法从源的长度预估）
+            this.entries = new long[Math.min(64, Math.max(16, (toIndex - fromIndex) >> 3))];
+        }
+
+        long[] expand(int size) {
+            if (size == MAX_TAPE_SIZE) {
+                throw new JSONException("the number of values exceeds the tape limit " + MAX_TAPE_SIZE + ", please use JSONNode or JSONReader");
+            }
+            return entries = Arrays.copyOf(entries, (int) Math.min((long) size + (size >> 1) + 16, MAX_TAPE_SIZE));
+        }
+
+        int next(int index) {
+            long entry = entries[index];
+            int type = (int) (entry >>> TYPE_SHIFT);
+            if (type == OBJECT || type == ARRAY) {
+                return (int) (entry >>> 32) & MAX_TAPE_SIZE;
+            }
+            return index + 1;
+        }
+    }
+
+    final Tape tape;
+    final int index;
+    // 值结束时的期望字符（父节点的结束字符）
+    final byte endToken;
+
+    JSONTapeNode(Tape tape, int index, byte endToken) {
+        this.tape = tape;
+        this.index = index;
+        this.endToken = endToken;
+    }
+
+    /**
+     * 构建结构索引并返回根节点
+     *
+     * @param bytes       json源（utf-8）
+     * @param readOptions 读取配置（值解码时使用）
+     * @return 根节点
+     */
+    public static JSONTapeNode parse(byte[] bytes, ReadOption... readOptions) {
+        return parse(bytes, 0, bytes.length, readOptions);
+    }
+
+    /**
+     * 构建结构索引并返回根节点
+     *
+     * @param json        json源
+     * @param readOptions 读取配置（值解码时使用）
+     * @return 根节点
+     */
+    public static JSONTapeNode parse(String json, ReadOption... readOptions) {
+        if (EnvUtils.JDK_9_PLUS) {
+            byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json);
+            if (bytes.length == json.length() && !EnvUtils.JDK_AGENT_INSTANCE.hasNegatives(bytes, 0, bytes.length)) {
+                return parse(bytes, 0, bytes.length, readOptions);
+            }
+        }
+        return parse(json.getBytes(EnvUtils.CHARSET_UTF_8), readOptions);
+    }
+
+    /**
+     * 构建结构索引并返回根节点（文件内容一次读入堆内字节数组，不超过64M）
+     *
+     * @param file        json文件（utf-8）
+     * @param readOptions 读取配置（值解码时使用）
+     * @return 根节点
+     */
+    public static JSONTapeNode parse(File file, ReadOption... readOptions) {
+        return parse(JSONNode.readFileBytes(file), readOptions);
+    }
+
+    static JSONTapeNode parse(byte[] buf, int fromIndex, int toIndex, ReadOption... readOptions) {
+        Tape tape = new Tape(buf, fromIndex, toIndex, readOptions);
+        build(tape);
+        return new JSONTapeNode(tape, 0, ZERO);
+    }
+
+    // 容器内的解析状态
+    final static int EXPECT_VALUE = 0;
+    final static int EXPECT_KEY = 1;
+    final static int EXPECT_COLON = 2;
+    final static int EXPECT_COMMA_OR_END = 3;
+
+    /**
+     * 一次扫描构建tape（同时校验结构: 括号匹配，key/冒号/逗号的位置）
+     */
+    static void build(Tape tape) {
+        final byte[] buf = tape.buf;
+        final int toIndex = tape.toIndex;
+        long[] entries = tape.entries;
+        int size = 0;
+        // stack of the container start index (tape)
+        int[] stack = new int[32];
+        int depth = 0;
+        int containerType = 0;
+        int state = EXPECT_VALUE;
+        boolean rootCompleted = false;
+        int i = tape.fromIndex;
+        byte b;
+        while (true) {
+            while (i < toIndex && (b = buf[i]) <= ' ') {
+                ++i;
+            }
+            if (i == toIndex) break;
+            b = buf[i];
+            if (rootCompleted) {
+                throw new JSONException("Syntax error, at pos " + i + ", extra characters found, " + createErrorContextText(buf, i));
+            }
+            if (size == entries.length) {
+                entries = tape.expand(size);
+            }
+            switch (b) {
+                case '{':
+                case '[': {
+                    checkState(state == EXPECT_VALUE, buf, i);
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth << 1);
+                    }
+                    stack[depth++] = size;
+                    if (b == '{') {
+                        containerType = OBJECT;
+                        state = EXPECT_KEY;
+                    } else {
+                        containerType = ARRAY;
+                        state = EXPECT_VALUE;
+                    }
+                    entries[size++] = (long) containerType << TYPE_SHIFT | i++;
+                    continue;
+                }
+                case '}':
+                case ']': {
+                    int startIndex = depth > 0 ? stack[depth - 1] : -1;
+                    // allow empty container: '{}' or '[]'
+                    checkState(containerType == (b == '}' ? OBJECT : ARRAY) && (state == EXPECT_COMMA_OR_END || startIndex == size - 1), buf, i);
+                    entries[startIndex] |= (long) size << 32;
+                    containerType = --depth == 0 ? 0 : (int) (entries[stack[depth - 1]] >>> TYPE_SHIFT);
+                    ++i;
+                    break;
+                }
+                case '"': {
+                    checkState(state == EXPECT_VALUE || state == EXPECT_KEY, buf, i);
+                    long result = scanString(buf, i, toIndex);
+                    int endIndex = (int) result;
+                    long len = Math.min(endIndex - i - 1, MAX_STRING_LENGTH);
+                    entries[size++] = (long) STRING << TYPE_SHIFT | (result < 0 ? ESCAPED_BIT : 0) | len << 32 | i;
+                    i = endIndex + 1;
+                    if (state == EXPECT_KEY) {
+                        state = EXPECT_COLON;
+                        continue;
+                    }
+                    break;
+                }
+                case ':': {
+                    checkState(state == EXPECT_COLON, buf, i);
+                    state = EXPECT_VALUE;
+                    ++i;
+                    continue;
+                }
+                case ',': {
+                    checkState(state == EXPECT_COMMA_OR_END && depth > 0, buf, i);
+                    state = containerType == OBJECT ? EXPECT_KEY : EXPECT_VALUE;
+                    ++i;
+                    continue;
+                }
+                case 't': {
+                    checkState(state == EXPECT_VALUE && matchLiteral(buf, i, toIndex, "true"), buf, i);
+                    entries[size++] = (long) BOOLEAN << TYPE_SHIFT | TRUE_BIT | i;
+                    i += 4;
+                    break;
+                }
+                case 'f': {
+                    checkState(state == EXPECT_VALUE && matchLiteral(buf, i, toIndex, "false"), buf, i);
+                    entries[size++] = (long) BOOLEAN << TYPE_SHIFT | i;
+                    i += 5;
+                    break;
+                }
+                case 'n': {
+                    checkState(state == EXPECT_VALUE && matchLiteral(buf, i, toIndex, "null"), buf, i);
+                    entries[size++] = (long) NULL << TYPE_SHIFT | i;
+                    i += 4;
+                    break;
+                }
+                default: {
+                    checkState(state == EXPECT_VALUE && (b == '-' || (b >= '0' && b <= '9')), buf, i);
+                    entries[size++] = (long) NUMBER << TYPE_SHIFT | i;
+                    i = scanNumber(buf, i, toIndex);
+                    break;
+                }
+            }
+            // a value is completed
+            state = EXPECT_COMMA_OR_END;
+            if (depth == 0) {
+                rootCompleted = true;
+            }
+        }
+        tape.size = size;
+        if (depth > 0 || !rootCompleted) {
+            throw new JSONException("Syntax error, unexpected end of input, pos " + toIndex);
+        }
+    }
+
+    /**
+     * 校验数字的语法（-?(0|[1-9]\d*)(\.\d+)?([eE][+-]?\d+)?），返回数字结束的位置
+     */
+    private static int scanNumber(byte[] buf, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        if (buf[i] == '-') ++i;
+        if (i < toIndex && buf[i] == '0') {
+            ++i;
+        } else {
+            int digitsFrom = i;
+            while (i < toIndex && isDigit(buf[i])) ++i;
+            if (i == digitsFrom) throwInvalidNumber(buf, fromIndex);
+        }
+        if (i < toIndex && buf[i] == '.') {
+            int digitsFrom = ++i;
+            while (i < toIndex && isDigit(buf[i])) ++i;
+            if (i == digitsFrom) throwInvalidNumber(buf, fromIndex);
+        }
+        if (i < toIndex && (buf[i] == 'e' || buf[i] == 'E')) {
+            ++i;
+            if (i < toIndex && (buf[i] == '+' || buf[i] == '-')) ++i;
+            int digitsFrom = i;
+            while (i < toIndex && isDigit(buf[i])) ++i;
+            if (i == digitsFrom) throwInvalidNumber(buf, fromIndex);
+        }
+        return i;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static void throwInvalidNumber(byte[] buf, int fromIndex) {
+        throw new JSONException("Syntax error, at pos " + fromIndex + ", invalid number, " + createErrorContextText(buf, fromIndex));
+    }
+
+    private static boolean isNumberByte(byte b) {
+        return (b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '-' || b == '+';
+    }
+
+    private static boolean matchLiteral(byte[] buf, int i, int toIndex, String literal) {
+        int len = literal.length();
+        if (i + len > toIndex) return false;
+        for (int j = 1; j < len; ++j) {
+            if (buf[i + j] != literal.charAt(j)) return false;
+        }
+        return true;
+    }
+
+    private static void checkState(boolean expected, byte[] buf, int i) {
+        if (!expected) {
+            throw new JSONException("Syntax error, at pos " + i + ", unexpected character '" + (char) buf[i] + "', " + createErrorContextText(buf, i));
+        }
+    }
+
+    /**
+     * 扫描字符串（SWAR: 每次检测8个字节中的引号/反斜杠）
+     *
+     * @return 结束引号的位置（存在转义时返回值为负数，低32位为位置）
+     */
+    private static long scanString(byte[] buf, int fromIndex, int toIndex) {
+        int i = fromIndex + 1;
+        long escaped = 0;
+        while (true) {
+            if (i + 8 <= toIndex) {
+                long result = JSONUtil.getQuoteOrBackslashOrUTF8Mask(buf, i, DOUBLE_QUOTE_MASK);
+                if (result == 0) {
+                    i += 8;
+                    continue;
+                }
+                i += JSONUtil.offsetTokenBytes(result);
+            } else if (i >= toIndex) {
+                throw new JSONException("Syntax error, at pos " + fromIndex + ", the string is not closed");
+            }
+            byte b = buf[i];
+            if (b == '"') {
+                return escaped | i;
+            }
+            if (b == '\\') {
+                escaped = Long.MIN_VALUE;
+                i += 2;
+            } else {
+                ++i;
+            }
+        }
+    }
+
+    final long entry() {
+        return tape.entries[index];
+    }
+
+    final int offset() {
+        return (int) (tape.entries[index] & OFFSET_MASK);
+    }
+
+    /**
+     * 节点类型（与JSONNode一致）
+     */
+    public int getType() {
+        return (int) (entry() >>> TYPE_SHIFT);
+    }
+
+    public boolean isObject() {
+        return getType() == OBJECT;
+    }
+
+    public boolean isArray() {
+        return getType() == ARRAY;
+    }
+
+    public boolean isLeaf() {
+        int type = getType();
+        return type != OBJECT && type != ARRAY;
+    }
+
+    public boolean isNull() {
+        return getType() == NULL;
+    }
+
+    /**
+     * 根据字段名称（对象）或者下标（数组）获取子节点
+     *
+     * @param field 字段名称或者下标
+     * @return 子节点，不存在返回null
+     */
+    public JSONTapeNode getChild(String field) {
+        int type = getType();
+        if (type == OBJECT) {
+            return getFieldNode(field);
+        }
+        if (type == ARRAY) {
+            int elementIndex = readArrayIndex(field);
+            if (elementIndex < 0) {
+                throw new IllegalArgumentException("mismatch array index: '" + field + "'");
+            }
+            return getElementAt(elementIndex);
+        }
+        throw new UnsupportedOperationException("leaf node has no child");
+    }
+
+    /**
+     * 根据路径获取节点（以'/'分割，数组下标支持n或者[n]）
+     *
+     * @param path 相对路径（以'/'开头时也是相对当前节点）
+     * @return 节点，不存在返回null
+     */
+    public JSONTapeNode get(String path) {
+        JSONTapeNode node = this;
+        int beginIndex = 0, len = path.length();
+        while (node != null && beginIndex < len) {
+            int splitIndex = path.indexOf('/', beginIndex);
+            if (splitIndex == -1) splitIndex = len;
+            if (splitIndex > beginIndex) {
+                if (node.isLeaf()) return null;
+                node = node.getChild(path.substring(beginIndex, splitIndex));
+            }
+            beginIndex = splitIndex + 1;
+        }
+        return node;
+    }
+
+    /**
+     * 按路径收集节点，路径语法同{@link #get(String)}，另外支持'*'匹配所有的子节点
+     *
+     * @param path 路径
+     * @return 节点列表
+     */
+    public List<JSONTapeNode> collect(String path) {
+        List<JSONTapeNode> results = new ArrayList<JSONTapeNode>();
+        String[] segments = path.split("/");
+        collect(segments, 0, results);
+        return results;
+    }
+
+    private void collect(String[] segments, int segmentIndex, List<JSONTapeNode> results) {
+        while (segmentIndex < segments.length && segments[segmentIndex].length() == 0) {
+            ++segmentIndex;
+        }
+        if (segmentIndex == segments.length) {
+            results.add(this);
+            return;
+        }
+        if (isLeaf()) return;
+        String segment = segments[segmentIndex];
+        if (segment.equals("*")) {
+            boolean object = isObject();
+            int end = tape.next(index);
+            for (int i = index + 1; i < end; i = tape.next(i)) {
+                if (object) ++i;
+                new JSONTapeNode(tape, i, object ? (byte) '}' : (byte) ']').collect(segments, segmentIndex + 1, results);
+            }
+        } else {
+            JSONTapeNode child = getChild(segment);
+            if (child != null) {
+                child.collect(segments, segmentIndex + 1, results);
+            }
+        }
+    }
+
+    /**
+     * 获取数组元素
+     *
+     * @param elementIndex 下标
+     * @return 元素节点，越界返回null
+     */
+    public JSONTapeNode getElementAt(int elementIndex) {
+        if (getType() != ARRAY) {
+            throw new UnsupportedOperationException("not an array node");
+        }
+        int end = tape.next(index);
+        for (int i = index + 1, n = 0; i < end; i = tape.next(i), ++n) {
+            if (n == elementIndex) {
+                return new JSONTapeNode(tape, i, (byte) ']');
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 数组元素个数或者对象字段个数
+     */
+    public int getElementCount() {
+        int type = getType();
+        if (type != OBJECT && type != ARRAY) return 0;
+        int end = tape.next(index), count = 0;
+        for (int i = index + 1; i < end; i = tape.next(i)) {
+            ++count;
+        }
+        return type == OBJECT ? count >> 1 : count;
+    }
+
+    /**
+     * 对象的字段名称列表
+     */
+    public List<String> keyNames() {
+        if (getType() != OBJECT) {
+            throw new UnsupportedOperationException("not an object node");
+        }
+        List<String> keys = new ArrayList<String>();
+        int end = tape.next(index);
+        for (int i = index + 1; i < end; i = tape.next(i + 1)) {
+            keys.add(keyAt(i));
+        }
+        return keys;
+    }
+
+    private JSONTapeNode getFieldNode(String field) {
+        byte[] fieldBytes = field.getBytes(EnvUtils.CHARSET_UTF_8);
+        int end = tape.next(index);
+        for (int i = index + 1; i < end; i = tape.next(i + 1)) {
+            if (matchKey(i, field, fieldBytes)) {
+                return new JSONTapeNode(tape, i + 1, (byte) '}');
+            }
+        }
+        return null;
+    }
+
+    private boolean matchKey(int keyIndex, String field, byte[] fieldBytes) {
+        long entry = tape.entries[keyIndex];
+        int len = (int) (entry >>> 32) & MAX_STRING_LENGTH;
+        if ((entry & ESCAPED_BIT) == 0 && len < MAX_STRING_LENGTH) {
+            if (len != fieldBytes.length) return false;
+            byte[] buf = tape.buf;
+            int offset = (int) (entry & OFFSET_MASK) + 1;
+            for (int j = 0; j < len; ++j) {
+                if (buf[offset + j] != fieldBytes[j]) return false;
+            }
+            return true;
+        }
+        return field.equals(keyAt(keyIndex));
+    }
+
+    private String keyAt(int keyIndex) {
+        return (String) new JSONTapeNode(tape, keyIndex, (byte) ':').any();
+    }
+
+    /**
+     * 解码当前节点的值
+     *
+     * @return map/list/string/number/boolean/null
+     */
+    public Object any() {
+        long entry = entry();
+        switch ((int) (entry >>> TYPE_SHIFT)) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return (entry & TRUE_BIT) != 0;
+            default:
+                return decode(JSONStore.INSTANCE.getTypeDeserializer(Object.class), GenericParameterizedType.AnyType);
+        }
+    }
+
+    public String getStringValue() {
+        Object value = any();
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * 将当前节点的值解码为指定类型
+     *
+     * @param eClass 类型（叶子节点支持基本类型转换，对象/数组节点支持实体类/集合/数组等）
+     * @return 值
+     */
+    public <E> E getValue(Class<E> eClass) {
+        if (isLeaf()) {
+            Object value = any();
+            if (value == null || eClass == null || eClass.isInstance(value)) {
+                return (E) value;
+            }
+            return ObjectUtils.toType(value, eClass);
+        }
+        JSONTypeDeserializer typeDeserializer = JSONStore.INSTANCE.getTypeDeserializer(eClass);
+        return (E) decode(typeDeserializer, typeDeserializer.getGenericParameterizedType(eClass));
+    }
+
+    private Object decode(JSONTypeDeserializer typeDeserializer, GenericParameterizedType parameterizedType) {
+        byte[] buf = tape.buf;
+        int offset = offset();
+        if (endToken == ZERO && isLeaf()) {
+            // root scalar: terminated by ',' on a copy
+            int endIndex = endOffset(index);
+            buf = Arrays.copyOfRange(buf, offset, endIndex + 1);
+            buf[endIndex - offset] = ',';
+            offset = 0;
+        }
+        JSONParseContext parseContext = JSONParseContext.of(tape.readOptions);
+        parseContext.toIndex = tape.toIndex;
+        parseContext.multiple = true;
+        try {
+            return typeDeserializer.deserialize(tape.charSource, buf, offset, parameterizedType, null, endToken, parseContext);
+        } catch (Exception e) {
+            throw new JSONException("Syntax error, at pos " + offset() + ", " + createErrorContextText(tape.buf, offset()), e);
+        } finally {
+            parseContext.clear();
+        }
+    }
+
+    /**
+     * 当前节点的json源文本
+     */
+    public String source() {
+        int offset = offset();
+        return JSONUTF8Decoder.decode(tape.buf, offset, endOffset(index) - offset, false);
+    }
+
+    /**
+     * 计算值在源中的结束位置（不包含）
+     */
+    private int endOffset(int valueIndex) {
+        long entry = tape.entries[valueIndex];
+        int offset = (int) (entry & OFFSET_MASK);
+        byte[] buf = tape.buf;
+        int type = (int) (entry >>> TYPE_SHIFT);
+        int i;
+        switch (type) {
+            case OBJECT:
+            case ARRAY: {
+                int end = tape.next(valueIndex), last = -1;
+                for (int j = valueIndex + 1; j < end; j = tape.next(j)) {
+                    last = j;
+                }
+                i = last == -1 ? offset + 1 : endOffset(last);
+                byte closeToken = type == OBJECT ? (byte) '}' : (byte) ']';
+                while (buf[i] != closeToken) {
+                    ++i;
+                }
+                return i + 1;
+            }
+            case STRING: {
+                i = offset + 1;
+                while (buf[i] != '"') {
+                    i += buf[i] == '\\' ? 2 : 1;
+                }
+                return i + 1;
+            }
+            case BOOLEAN:
+                return offset + ((entry & TRUE_BIT) != 0 ? 4 : 5);
+            case NULL:
+                return offset + 4;
+            default: {
+                i = offset + 1;
+                while (i < tape.toIndex && isNumberByte(buf[i])) {
+                    ++i;
+                }
+                return i;
+            }
+        }
+    }
+
+    /**
+     * 转换为可修改的JSONNode（重新解析当前节点的源）
+     */
+    public JSONNode toJSONNode() {
+        return JSONNode.parse(source(), tape.readOptions);
+    }
+
+    private static int readArrayIndex(String field) {
+        int len = field.length(), beginIndex = 0;
+        if (len > 2 && field.charAt(0) == '[' && field.charAt(len - 1) == ']') {
+            beginIndex = 1;
+            --len;
+        }
+        if (beginIndex == len) return -1;
+        int value = 0;
+        for (int i = beginIndex; i < len; ++i) {
+            char ch = field.charAt(i);
+            if (ch < '0' || ch > '9') return -1;
+            value = value * 10 + ch - '0';
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return source();
+    }
+}
@@ -9,6 +9,7 @@ import io.github.wycst.wast.common.utils.*;
 import io.github.wycst.wast.json.exceptions.JSONException;
 
 import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -35,6 +36,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
     final static CharSequenceImpl STRING_JDK16 = new CharSequenceImpl.StringJDK16PlusImpl();
     final static CharSequenceImpl CHAR_SEQUENCE_STRING;
     final static CharSequenceImpl STRING_SKIPPER = new CharSequenceImpl.Skipper();
+    final static CharSequenceImpl STRING_INTERN = new CharSequenceImpl.StringInternImpl();
     final static NumberImpl NUMBER = new NumberImpl();
     final static NumberImpl.Skipper NUMBER_SKIPPER = new NumberImpl.Skipper();
     final static NumberImpl NUMBER_LONG = new NumberImpl.LongImpl();
@@ -89,6 +91,9 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
     final static ArrayImpl.IntArrayImpl INTEGER_ARRAY = new ArrayImpl.IntArrayImpl();
     final static ArrayImpl.PrimitiveIntArrayImpl PRIMITIVE_INT_ARRAY = new ArrayImpl.PrimitiveIntArrayImpl();
     final static ArrayImpl BYTE_ARRAY = new ArrayImpl.ByteArrayImpl();
+    final static ArrayImpl DOUBLE_LIST = new ArrayImpl.DoubleListImpl();
+    final static ArrayImpl LONG_LIST = new ArrayImpl.LongListImpl();
+    final static ArrayImpl INT_LIST = new ArrayImpl.IntListImpl();
 
     static {
         putTypeDeserializer(GLOBAL_DESERIALIZERS, BOOLEAN, boolean.class, Boolean.class);
@@ -110,6 +115,12 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
         putTypeDeserializer(GLOBAL_DESERIALIZERS, INTEGER_ARRAY, Integer[].class);
         putTypeDeserializer(GLOBAL_DESERIALIZERS, PRIMITIVE_INT_ARRAY, int[].class);
         putTypeDeserializer(GLOBAL_DESERIALIZERS, BYTE_ARRAY, Byte[].class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, new ArrayImpl.PrimitiveArray2DImpl(PRIMITIVE_DOUBLE_ARRAY, double[].class), double[][].class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, new ArrayImpl.PrimitiveArray2DImpl(PRIMITIVE_LONG_ARRAY, long[].class), long[][].class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, new ArrayImpl.PrimitiveArray2DImpl(PRIMITIVE_INT_ARRAY, int[].class), int[][].class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, DOUBLE_LIST, DoubleList.class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, LONG_LIST, LongList.class);
+        putTypeDeserializer(GLOBAL_DESERIALIZERS, INT_LIST, IntList.class);
         putTypeDeserializer(GLOBAL_DESERIALIZERS, BINARY, byte[].class);
         putTypeDeserializer(GLOBAL_DESERIALIZERS, CHAR_SEQUENCE_STRING, String.class, CharSequence.class);
         putTypeDeserializer(GLOBAL_DESERIALIZERS, CHAR_SEQUENCE, StringBuilder.class, StringBuffer.class, char[].class);
@@ -158,6 +169,25 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * 跳过pojo中未匹配（或者不在投影中）的字段值；开启快速跳过并且没有注释和单引号时只扫描字符串边界和括号
+     */
+    static void skipFieldValue(CharSource charSource, char[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+        if (parseContext.isFastSkip()) {
+            parseContext.endIndex = skipValueFast(buf, fromIndex);
+        } else {
+            ANY.skip(charSource, buf, fromIndex, endToken, parseContext);
+        }
+    }
+
+    static void skipFieldValue(CharSource charSource, byte[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+        if (parseContext.isFastSkip()) {
+            parseContext.endIndex = skipValueFast(buf, fromIndex);
+        } else {
+            ANY.skip(charSource, buf, fromIndex, endToken, parseContext);
+        }
+    }
+
     /**
      * 校验JSON是否正确(短路模式)
      */
@@ -336,6 +366,9 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
         protected Object deserialize(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, int endToken, JSONParseContext parseContext) throws Exception {
             char beginChar = buf[fromIndex];
             if (beginChar == '"' || beginChar == '\'') {
+                if (parseContext.internValue && this == CHAR_SEQUENCE_STRING) {
+                    return deserializeInternString(charSource, buf, fromIndex, beginChar, parseContext);
+                }
                 return deserializeString(charSource, buf, fromIndex, beginChar, parameterizedType, parseContext);
             } else if (beginChar == 'n') {
                 return parseNull(buf, fromIndex, parseContext);
@@ -356,6 +389,9 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
         protected Object deserialize(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object defaultValue, int endToken, JSONParseContext parseContext) throws Exception {
             byte b = buf[fromIndex];
             if (b == '"' || b == '\'') {
+                if (parseContext.internValue && this == CHAR_SEQUENCE_STRING) {
+                    return deserializeInternString(charSource, buf, fromIndex, b, parseContext);
+                }
                 return deserializeString(charSource, buf, fromIndex, b, parameterizedType, parseContext);
             } else if (b == 'n') {
                 return parseNull(buf, fromIndex, parseContext);
@@ -374,6 +410,83 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
             }
         }
 
+        /**
+         * 值字符串缓存：长度不超过32且没有转义的字符串先按原始内容的hash查找缓存（VALUE_TABLE），命中时不再创建String
+         */
+        String deserializeInternString(CharSource charSource, char[] buf, int fromIndex, char endChar, JSONParseContext parseContext) {
+            final int beginIndex = fromIndex + 1, limit = Math.min(beginIndex + INTERN_VALUE_MAX_LENGTH, buf.length);
+            long hashValue = 0;
+            char c;
+            for (int i = beginIndex; i < limit; ++i) {
+                if ((c = buf[i]) == endChar) {
+                    String value = VALUE_TABLE.getValue(buf, beginIndex, i, hashValue);
+                    if (value != null) {
+                        parseContext.endIndex = i;
+                        return value;
+                    }
+                    value = (String) deserializeString(charSource, buf, fromIndex, endChar, GenericParameterizedType.StringType, parseContext);
+                    if (value != null && VALUE_TABLE.count < VALUE_TABLE.maxCount) {
+                        VALUE_TABLE.putValue(value, hashValue, value);
+                    }
+                    return value;
+                }
+                if (c == '\\') break;
+                hashValue = hashValue * 31 + c;
+            }
+            return (String) deserializeString(charSource, buf, fromIndex, endChar, GenericParameterizedType.StringType, parseContext);
+        }
+
+        /**
+         * 值字符串缓存（字节）：只在字节为utf-8编码（或者全部是ascii）时使用，缓存项按utf-8字节比较
+         */
+        String deserializeInternString(CharSource charSource, byte[] buf, int fromIndex, int endByte, JSONParseContext parseContext) {
+            final boolean utf8 = charSource == null || charSource instanceof UTF8CharSource;
+            if (utf8 || charSource instanceof AsciiStringSource) {
+                final int beginIndex = fromIndex + 1, limit = Math.min(beginIndex + INTERN_VALUE_MAX_LENGTH, buf.length);
+                long hashValue = 0;
+                byte b;
+                for (int i = beginIndex; i < limit; ++i) {
+                    if ((b = buf[i]) == endByte) {
+                        String value = VALUE_TABLE.getValue(buf, beginIndex, i, hashValue);
+                        if (value != null) {
+                            parseContext.endIndex = i;
+                            return value;
+                        }
+                        value = (String) deserializeString(charSource, buf, fromIndex, endByte, GenericParameterizedType.StringType, parseContext);
+                        if (value != null && VALUE_TABLE.count < VALUE_TABLE.maxCount) {
+                            VALUE_TABLE.putValue(value, hashValue, value);
+                        }
+                        return value;
+                    }
+                    if (b == '\\' || (b < 0 && !utf8)) break;
+                    hashValue = hashValue * 31 + b;
+                }
+            }
+            return (String) deserializeString(charSource, buf, fromIndex, endByte, GenericParameterizedType.StringType, parseContext);
+        }
+
+        // @JsonProperty(internValue = true)
+        final static class StringInternImpl extends CharSequenceImpl {
+
+            @Override
+            protected Object deserialize(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, int endToken, JSONParseContext parseContext) throws Exception {
+                char beginChar = buf[fromIndex];
+                if (beginChar == '"' || beginChar == '\'') {
+                    return CHAR_SEQUENCE_STRING.deserializeInternString(charSource, buf, fromIndex, beginChar, parseContext);
+                }
+                return CHAR_SEQUENCE_STRING.deserialize(charSource, buf, fromIndex, parameterizedType, instance, endToken, parseContext);
+            }
+
+            @Override
+            protected Object deserialize(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object defaultValue, int endToken, JSONParseContext parseContext) throws Exception {
+                byte b = buf[fromIndex];
+                if (b == '"' || b == '\'') {
+                    return CHAR_SEQUENCE_STRING.deserializeInternString(charSource, buf, fromIndex, b, parseContext);
+                }
+                return CHAR_SEQUENCE_STRING.deserialize(charSource, buf, fromIndex, parameterizedType, defaultValue, endToken, parseContext);
+            }
+        }
+
         // JDK(6-8)
         final static class StringJDK8Impl extends CharSequenceImpl {
 
@@ -959,6 +1072,16 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
                 return null;
             }
+
+            @Override
+            String deserializeInternString(CharSource charSource, char[] buf, int fromIndex, char endChar, JSONParseContext parseContext) {
+                return (String) deserializeString(charSource, buf, fromIndex, endChar, null, parseContext);
+            }
+
+            @Override
+            String deserializeInternString(CharSource charSource, byte[] buf, int fromIndex, int endByte, JSONParseContext parseContext) {
+                return (String) deserializeString(charSource, buf, fromIndex, endByte, null, parseContext);
+            }
         }
     }
 
@@ -1010,6 +1133,216 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
             return Number.class;
         }
 
+        /**
+         * <p> 数组（集合）元素的数值解析，不装箱直接返回基本类型
+         * <p> 常规的十进制数（没有指数，有效位数在long范围内）直接计算；科学计数法、超长数字、null、字符串等回退到NumberImpl
+         */
+        final static double parseDoubleElement(CharSource charSource, byte[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            byte b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            long value = 0;
+            int v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Bytes(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin, decimalCount = 0;
+            if (b == '.' && cnt > 0) {
+                final int decimalBegin = ++i;
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Bytes(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+                decimalCount = i - decimalBegin;
+                cnt = decimalCount == 0 ? 0 : cnt + decimalCount;
+            }
+            if (cnt > 0 && cnt <= 18 && (b == ',' || b == endToken || (b >= 0 && b <= ' '))) {
+                parseContext.endIndex = i - 1;
+                double doubleVal = NumberUtils.scientificToIEEEDouble(value, decimalCount);
+                return negative ? -doubleVal : doubleVal;
+            }
+            return (Double) NUMBER_DOUBLE.deserialize(charSource, buf, fromIndex, GenericParameterizedType.DoubleType, null, endToken, parseContext);
+        }
+
+        final static long parseLongElement(CharSource charSource, byte[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            byte b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            long value = 0;
+            int v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Bytes(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin;
+            if (cnt > 0 && cnt <= 18 && (b == ',' || b == endToken || (b >= 0 && b <= ' '))) {
+                parseContext.endIndex = i - 1;
+                return negative ? -value : value;
+            }
+            return (Long) NUMBER_LONG.deserialize(charSource, buf, fromIndex, GenericParameterizedType.LongType, null, endToken, parseContext);
+        }
+
+        final static int parseIntElement(CharSource charSource, byte[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            byte b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            int value = 0, v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Bytes(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin;
+            if (cnt > 0 && cnt <= 9 && (b == ',' || b == endToken || (b >= 0 && b <= ' '))) {
+                parseContext.endIndex = i - 1;
+                return negative ? -value : value;
+            }
+            return (Integer) NUMBER_INTEGER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.IntType, null, endToken, parseContext);
+        }
+
+        final static double parseDoubleElement(CharSource charSource, char[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            char b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            long value = 0;
+            int v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Chars(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin, decimalCount = 0;
+            if (b == '.' && cnt > 0) {
+                final int decimalBegin = ++i;
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Chars(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+                decimalCount = i - decimalBegin;
+                cnt = decimalCount == 0 ? 0 : cnt + decimalCount;
+            }
+            if (cnt > 0 && cnt <= 18 && (b == ',' || b == endToken || b <= ' ')) {
+                parseContext.endIndex = i - 1;
+                double doubleVal = NumberUtils.scientificToIEEEDouble(value, decimalCount);
+                return negative ? -doubleVal : doubleVal;
+            }
+            return (Double) NUMBER_DOUBLE.deserialize(charSource, buf, fromIndex, GenericParameterizedType.DoubleType, null, endToken, parseContext);
+        }
+
+        final static long parseLongElement(CharSource charSource, char[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            char b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            long value = 0;
+            int v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Chars(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin;
+            if (cnt > 0 && cnt <= 18 && (b == ',' || b == endToken || b <= ' ')) {
+                parseContext.endIndex = i - 1;
+                return negative ? -value : value;
+            }
+            return (Long) NUMBER_LONG.deserialize(charSource, buf, fromIndex, GenericParameterizedType.LongType, null, endToken, parseContext);
+        }
+
+        final static int parseIntElement(CharSource charSource, char[] buf, int fromIndex, int endToken, JSONParseContext parseContext) throws Exception {
+            int i = fromIndex;
+            char b = buf[i];
+            final boolean negative = b == '-';
+            if (negative) {
+                b = buf[++i];
+            }
+            final int begin = i;
+            int value = 0, v;
+            if (b == '0') {
+                b = buf[++i];
+            } else {
+                while ((v = JSONMemoryHandle.JSON_ENDIAN.digits2Chars(buf, i)) != -1) {
+                    value = value * 100 + v;
+                    i += 2;
+                }
+                if (NumberUtils.isDigit(b = buf[i])) {
+                    value = (value << 3) + (value << 1) + (b & 0xF);
+                    b = buf[++i];
+                }
+            }
+            int cnt = i - begin;
+            if (cnt > 0 && cnt <= 9 && (b == ',' || b == endToken || b <= ' ')) {
+                parseContext.endIndex = i - 1;
+                return negative ? -value : value;
+            }
+            return (Integer) NUMBER_INTEGER.deserialize(charSource, buf, fromIndex, GenericParameterizedType.IntType, null, endToken, parseContext);
+        }
+
         protected static final Object numberNotMatch(int beginChar, char[] buf, final int offset, GenericParameterizedType<?> parameterizedType, NumberImpl deserializer, JSONParseContext parseContext) throws Exception {
             if (beginChar == 'n') {
                 parseNull(buf, offset, parseContext);
@@ -3129,7 +3462,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                double v1 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                double v1 = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3139,7 +3472,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v2 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                double v2 = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3149,7 +3482,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v3 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                double v3 = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3159,7 +3492,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v4 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                double v4 = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3169,7 +3502,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v5 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                double v5 = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3187,7 +3520,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    double value = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, ']', parseContext);
+                    double value = NumberImpl.parseDoubleElement(charSource, buf, i, ']', parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3216,7 +3549,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                double v1 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                double v1 = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3226,7 +3559,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v2 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                double v2 = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3236,7 +3569,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v3 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                double v3 = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3246,7 +3579,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v4 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                double v4 = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3256,7 +3589,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                double v5 = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                double v5 = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3274,7 +3607,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    double value = (Double) NUMBER_DOUBLE.deserialize(charSource, buf, i, GenericParameterizedType.DoubleType, null, END_ARRAY, parseContext);
+                    double value = NumberImpl.parseDoubleElement(charSource, buf, i, END_ARRAY, parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3340,7 +3673,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                long v1 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                long v1 = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3350,7 +3683,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v2 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                long v2 = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3360,7 +3693,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v3 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                long v3 = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3370,7 +3703,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v4 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                long v4 = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3380,7 +3713,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v5 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                long v5 = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3398,7 +3731,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    long value = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, ']', parseContext);
+                    long value = NumberImpl.parseLongElement(charSource, buf, i, ']', parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3427,7 +3760,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                long v1 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                long v1 = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3437,7 +3770,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v2 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                long v2 = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3447,7 +3780,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v3 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                long v3 = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3457,7 +3790,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v4 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                long v4 = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3467,7 +3800,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                long v5 = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                long v5 = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3485,7 +3818,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    long value = (Long) NUMBER_LONG.deserialize(charSource, buf, i, GenericParameterizedType.LongType, null, END_ARRAY, parseContext);
+                    long value = NumberImpl.parseLongElement(charSource, buf, i, END_ARRAY, parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3626,7 +3959,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                int v1 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                int v1 = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3636,7 +3969,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v2 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                int v2 = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3646,7 +3979,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v3 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                int v3 = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3656,7 +3989,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v4 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                int v4 = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3666,7 +3999,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v5 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                int v5 = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3684,7 +4017,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    int value = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, ']', parseContext);
+                    int value = NumberImpl.parseIntElement(charSource, buf, i, ']', parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3713,7 +4046,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 }
 
                 boolean isComma;
-                int v1 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                int v1 = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3723,7 +4056,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v2 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                int v2 = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3733,7 +4066,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v3 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                int v3 = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3743,7 +4076,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v4 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                int v4 = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3753,7 +4086,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     throwUnexpectedException(buf, i, c, ',', ']');
                 }
 
-                int v5 = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                int v5 = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                 c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
                 if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
                     parseContext.endIndex = i;
@@ -3771,7 +4104,7 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                 arr[4] = v5;
                 int size = arr.length, len = 5;
                 for (; ; ) {
-                    int value = (Integer) NUMBER_INTEGER.deserialize(charSource, buf, i, GenericParameterizedType.IntType, null, END_ARRAY, parseContext);
+                    int value = NumberImpl.parseIntElement(charSource, buf, i, END_ARRAY, parseContext);
                     if (len >= size) {
                         arr = Arrays.copyOf(arr, size = (size << 1));
                     }
@@ -3788,6 +4121,155 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
             }
         }
 
+        /**
+         * DoubleList/LongList/IntList：复用基本类型数组的解析（线程缓冲区 + 一次精确拷贝），结果数组直接作为List的存储
+         */
+        final static class DoubleListImpl extends ArrayImpl {
+            @Override
+            Object deserializeArray(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                double[] values = (double[]) PRIMITIVE_DOUBLE_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            @Override
+            Object deserializeArray(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                double[] values = (double[]) PRIMITIVE_DOUBLE_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            static DoubleList toList(double[] values, Object instance) {
+                if (instance instanceof DoubleList) {
+                    DoubleList list = (DoubleList) instance;
+                    list.addAll(values);
+                    return list;
+                }
+                return new DoubleList(values, values.length);
+            }
+        }
+
+        final static class LongListImpl extends ArrayImpl {
+            @Override
+            Object deserializeArray(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                long[] values = (long[]) PRIMITIVE_LONG_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            @Override
+            Object deserializeArray(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                long[] values = (long[]) PRIMITIVE_LONG_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            static LongList toList(long[] values, Object instance) {
+                if (instance instanceof LongList) {
+                    LongList list = (LongList) instance;
+                    list.addAll(values);
+                    return list;
+                }
+                return new LongList(values, values.length);
+            }
+        }
+
+        final static class IntListImpl extends ArrayImpl {
+            @Override
+            Object deserializeArray(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                int[] values = (int[]) PRIMITIVE_INT_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            @Override
+            Object deserializeArray(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                int[] values = (int[]) PRIMITIVE_INT_ARRAY.deserializeArray(charSource, buf, fromIndex, parameterizedType, null, parseContext);
+                return toList(values, instance);
+            }
+
+            static IntList toList(int[] values, Object instance) {
+                if (instance instanceof IntList) {
+                    IntList list = (IntList) instance;
+                    list.addAll(values);
+                    return list;
+                }
+                return new IntList(values, values.length);
+            }
+        }
+
+        /**
+         * 二维基本类型数组（double[][], long[][], int[][]），直接调用一维数组的解析，不经过ArrayList和元素类型查找（如GeoJSON坐标）
+         */
+        final static class PrimitiveArray2DImpl extends ArrayImpl {
+            final ArrayImpl componentDeserializer;
+            final Class<?> componentType;
+
+            PrimitiveArray2DImpl(ArrayImpl componentDeserializer, Class<?> componentType) {
+                this.componentDeserializer = componentDeserializer;
+                this.componentType = componentType;
+            }
+
+            @Override
+            Object deserializeArray(CharSource charSource, char[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                final boolean allowComment = parseContext.allowComment, allowLastEndComma = parseContext.allowLastEndComma;
+                int i = skipWhiteSpacesOrComment(buf, fromIndex, allowComment, parseContext);
+                char c = buf[i];
+                if (c == ']') {
+                    parseContext.endIndex = i;
+                    return Array.newInstance(componentType, 0);
+                }
+                Object[] arr = new Object[8];
+                int len = 0;
+                boolean isComma;
+                for (; ; ) {
+                    Object value = componentDeserializer.deserialize(charSource, buf, i, null, null, ']', parseContext);
+                    if (len == arr.length) {
+                        arr = Arrays.copyOf(arr, len << 1);
+                    }
+                    arr[len++] = value;
+                    c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
+                    if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
+                        parseContext.endIndex = i;
+                        return toArray(arr, len);
+                    }
+                    if (!isComma) {
+                        throwUnexpectedException(buf, i, c, ',', ']');
+                    }
+                }
+            }
+
+            @Override
+            Object deserializeArray(CharSource charSource, byte[] buf, int fromIndex, GenericParameterizedType<?> parameterizedType, Object instance, JSONParseContext parseContext) throws Exception {
+                final boolean allowComment = parseContext.allowComment, allowLastEndComma = parseContext.allowLastEndComma;
+                int i = skipWhiteSpacesOrComment(buf, fromIndex, allowComment, parseContext);
+                byte c = buf[i];
+                if (c == ']') {
+                    parseContext.endIndex = i;
+                    return Array.newInstance(componentType, 0);
+                }
+                Object[] arr = new Object[8];
+                int len = 0;
+                boolean isComma;
+                for (; ; ) {
+                    Object value = componentDeserializer.deserialize(charSource, buf, i, null, null, END_ARRAY, parseContext);
+                    if (len == arr.length) {
+                        arr = Arrays.copyOf(arr, len << 1);
+                    }
+                    arr[len++] = value;
+                    c = buf[i = skipWhiteSpacesOrComment(buf, parseContext.endIndex, allowComment, parseContext)];
+                    if (c == END_ARRAY || ((isComma = c == COMMA) && (buf[i = skipWhiteSpacesOrComment(buf, i, allowComment, parseContext)] == END_ARRAY) && allowLastEndComma)) {
+                        parseContext.endIndex = i;
+                        return toArray(arr, len);
+                    }
+                    if (!isComma) {
+                        throwUnexpectedException(buf, i, c, ',', ']');
+                    }
+                }
+            }
+
+            Object toArray(Object[] arr, int len) {
+                Object[] result = (Object[]) Array.newInstance(componentType, len);
+                System.arraycopy(arr, 0, result, 0, len);
+                return result;
+            }
+        }
+
         final static class ByteArrayImpl extends ArrayInstanceImpl {
             @Override
             public Object empty() {
@@ -5196,6 +5678,9 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     return parser.parseJSONArray(charSource, buf, fromIndex, parseContext.defaultList(), parseContext);
                 case '\'':
                 case '"':
+                    if (parseContext.internValue) {
+                        return CHAR_SEQUENCE_STRING.deserializeInternString(charSource, buf, fromIndex, beginChar, parseContext);
+                    }
                     return CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, fromIndex, beginChar, GenericParameterizedType.StringType, parseContext);
                 case 'n':
                     return parseNull(buf, fromIndex, parseContext);
@@ -5221,6 +5706,9 @@ public abstract class JSONTypeDeserializer extends JSONGeneral {
                     return parser.parseJSONArray(charSource, buf, fromIndex, parseContext.defaultList(), parseContext);
                 case '\'':
                 case '"':
+                    if (parseContext.internValue) {
+                        return CHAR_SEQUENCE_STRING.deserializeInternString(charSource, buf, fromIndex, beginByte, parseContext);
+                    }
                     return CHAR_SEQUENCE_STRING.deserializeString(charSource, buf, fromIndex, beginByte, GenericParameterizedType.StringType, parseContext);
                 case 'n':
                     return parseNull(buf, fromIndex, parseContext);
@@ -9,8 +9,10 @@ import io.github.wycst.wast.common.utils.StringUtils;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.Charset;
 import java.sql.Time;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -452,6 +454,10 @@ public abstract class JSONTypeSerializer extends JSONGeneral {
                 }
                 jsonConfig.setStatus(hashcode, 0);
             }
+            if (obj instanceof Object[] && isParallel(((Object[]) obj).length, jsonConfig)) {
+                writeParallel(Arrays.asList((Object[]) obj), store, null, writer, jsonConfig, indent);
+                return;
+            }
             writeArray(obj, writer, jsonConfig, indent);
             jsonConfig.setStatus(hashcode, -1);
         }
@@ -561,6 +567,96 @@ public abstract class JSONTypeSerializer extends JSONGeneral {
         }
     }
 
+    // 并行序列化每个分段的元素个数范围（分段缓冲尽量不超过缓冲池可缓存的大小）
+    final static int PARALLEL_MIN_CHUNK_SIZE = 1024;
+    final static int PARALLEL_MAX_CHUNK_SIZE = 16384;
+
+    static boolean isParallel(int size, JSONConfig jsonConfig) {
+        int threshold = jsonConfig.parallelThreshold;
+        return threshold > 0 && size >= threshold && jsonConfig.parallelism > 1 && !jsonConfig.skipCircularReference && !JSONParallel.inWorkerThread();
+    }
+
+    /**
+     * 并行序列化大集合（RandomAccess）或者对象数组
+     * <p> 按分段提交到JSONParallel（共享线程池），每个分段写入独立的writer（使用缓冲池），然后按顺序追加到writer；
+     * <p> 每批最多提交并行度（JSONConfig#parallelism）个分段，中间缓冲占用的内存是有界的；
+     *
+     * @param list            元素列表
+     * @param store           序列化器查找
+     * @param valueSerializer 元素类型确定时的序列化器（可以为null）
+     */
+    static void writeParallel(final List<?> list, final JSONStore store, final JSONTypeSerializer valueSerializer, JSONWriter writer, final JSONConfig jsonConfig, int indentLevel) throws Exception {
+        final boolean formatOut = jsonConfig.isFormatOut();
+        final int indentLevelPlus = indentLevel + 1;
+        final Charset charset = writer instanceof JSONByteArrayWriter ? ((JSONByteArrayWriter) writer).charset : null;
+        int size = list.size(), parallelism = Math.min(jsonConfig.parallelism, JSONParallel.MAX_POOL_SIZE + 1);
+        int chunkSize = Math.min(Math.max(size / (parallelism << 2), PARALLEL_MIN_CHUNK_SIZE), PARALLEL_MAX_CHUNK_SIZE);
+        writer.write('[');
+        boolean notEmpty = false;
+        List<Callable<JSONWriter>> tasks = new ArrayList<Callable<JSONWriter>>(parallelism);
+        for (int from = 0; from < size; ) {
+            tasks.clear();
+            for (int n = 0; n < parallelism && from < size; ++n) {
+                final int begin = from, end = Math.min(from + chunkSize, size);
+                tasks.add(new Callable<JSONWriter>() {
+                    public JSONWriter call() throws Exception {
+                        JSONWriter segment = charset != null ? new JSONByteArrayWriter(charset) : new JSONCharArrayWriter();
+                        try {
+                            Class<?> firstElementClass = null;
+                            JSONTypeSerializer firstSerializer = null;
+                            for (int i = begin; i < end; ++i) {
+                                if (i > begin) {
+                                    segment.writeJSONToken(',');
+                                }
+                                writeFormatOutSymbols(segment, indentLevelPlus, formatOut, jsonConfig);
+                                Object value = list.get(i);
+                                if (value == null) {
+                                    segment.writeNull();
+                                } else if (valueSerializer != null) {
+                                    valueSerializer.serialize(value, segment, jsonConfig, indentLevelPlus);
+                                } else {
+                                    Class<?> valueClass = value.getClass();
+                                    if (valueClass != firstElementClass) {
+                                        firstElementClass = valueClass;
+                                        firstSerializer = store.getTypeSerializer(valueClass);
+                                    }
+                                    firstSerializer.serialize(value, segment, jsonConfig, indentLevelPlus);
+                                }
+                            }
+                            return segment;
+                        } catch (Exception e) {
+                            segment.reset();
+                            throw e;
+                        }
+                    }
+                });
+                from = end;
+            }
+            List<JSONWriter> segments = JSONParallel.invokeAll(tasks, parallelism);
+            try {
+                for (JSONWriter segment : segments) {
+                    if (notEmpty) {
+                        writer.write(',');
+                    }
+                    notEmpty = true;
+                    if (charset != null) {
+                        JSONByteArrayWriter bytesSegment = (JSONByteArrayWriter) segment;
+                        ((JSONByteArrayWriter) writer).writeBytes(bytesSegment.buf, 0, bytesSegment.count);
+                    } else {
+                        JSONCharArrayWriter charsSegment = (JSONCharArrayWriter) segment;
+                        writer.write(charsSegment.buf, 0, charsSegment.count);
+                    }
+                }
+            } finally {
+                for (JSONWriter segment : segments) {
+                    segment.reset();
+                }
+            }
+        }
+        writeEndFormatOutSymbols(writer, indentLevel, formatOut, jsonConfig);
+        writer.write(']');
+    }
+
     static class CollectionImpl extends JSONTypeSerializer {
 
         final JSONStore store;
@@ -621,10 +717,18 @@ public abstract class JSONTypeSerializer extends JSONGeneral {
                 }
                 jsonConfig.setStatus(hashcode, 0);
             }
+            if (obj instanceof List && obj instanceof RandomAccess && isParallel(((List) obj).size(), jsonConfig)) {
+                writeParallel((List) obj, store, getValueSerializer(), writer, jsonConfig, indent);
+                return;
+            }
             writeCollection(obj, writer, jsonConfig, indent);
             jsonConfig.setStatus(hashcode, -1);
         }
 
+        protected JSONTypeSerializer getValueSerializer() {
+            return null;
+        }
+
         final static class CollectionFinalTypeImpl extends CollectionImpl {
             private final JSONTypeSerializer valueSerializer;
 
@@ -633,6 +737,11 @@ public abstract class JSONTypeSerializer extends JSONGeneral {
                 this.valueSerializer = valueSerializer;
             }
 
+            @Override
+            protected JSONTypeSerializer getValueSerializer() {
+                return valueSerializer;
+            }
+
             @Override
             protected void writeCollection(Object obj, JSONWriter writer, JSONConfig jsonConfig, int indentLevel) throws Exception {
                 boolean formatOut = jsonConfig.isFormatOut();
@@ -0,0 +1,335 @@
+package io.github.wycst.wast.json;
+
+import io.github.wycst.wast.common.reflect.UnsafeHelper;
+import io.github.wycst.wast.common.utils.EnvUtils;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.Arrays;
+
+/**
+ * <p> utf-8按块解码：ascii以8个字节为单位整体拷贝（或者扩展为utf16），连续的两个3字节序列（中日韩字符）一次解码，其他序列逐个解码；
+ * <p> JDK9+直接构建latin1或者utf16编码的字符串（value为byte[]），避免通过char[]中转以及压缩检测带来的额外拷贝；
+ * <p> 解码时始终校验编码（超长编码，代理区间，超过U+10FFFF的码点以及截断的序列），validate为false时错误的编码按JDK的方式替换为'�'；
+ *
+ * @Created by wangyc
+ * @see UTF8CharSource
+ */
+final class JSONUTF8Decoder {
+
+    final static boolean LITTLE_ENDIAN = !EnvUtils.BIG_ENDIAN;
+    // 可以直接通过value和coder构建字符串
+    final static boolean COMPACT_STRING = EnvUtils.JDK_9_PLUS && UnsafeHelper.STRING_CODER_OFFSET > -1;
+
+    private JSONUTF8Decoder() {
+    }
+
+    /**
+     * 解码offset开始的len个字节为字符串
+     *
+     * @param buf
+     * @param offset
+     * @param len
+     * @param validate 编码错误时是否抛出异常
+     * @return
+     */
+    static String decode(byte[] buf, int offset, int len, boolean validate) {
+        if (!COMPACT_STRING) {
+            return decodeFallback(buf, offset, len, validate);
+        }
+        final JSONEndian endian = JSONMemoryHandle.JSON_ENDIAN;
+        final int end = offset + len;
+        int i = offset;
+        while (i + 8 <= end && (endian.getLong(buf, i) & 0x8080808080808080L) == 0) {
+            i += 8;
+        }
+        while (i < end && buf[i] >= 0) {
+            ++i;
+        }
+        if (i == end) {
+            return JSONMemoryHandle.createAsciiString(buf, offset, len);
+        }
+        byte b = buf[i];
+        if (b == (byte) 0xC2 || b == (byte) 0xC3) {
+            // latin1阶段（U+0080 ~ U+00FF）
+            byte[] latin1 = new byte[len];
+            int n = i - offset;
+            System.arraycopy(buf, offset, latin1, 0, n);
+            for (; ; ) {
+                if (i == end) {
+                    return JSONMemoryHandle.createAsciiString(n == len ? latin1 : Arrays.copyOf(latin1, n));
+                }
+                b = buf[i];
+                if (b >= 0) {
+                    latin1[n++] = b;
+                    ++i;
+                    continue;
+                }
+                if ((b == (byte) 0xC2 || b == (byte) 0xC3) && i + 1 < end && (buf[i + 1] & 0xC0) == 0x80) {
+                    latin1[n++] = (byte) (((b & 0x1F) << 6) | (buf[i + 1] & 0x3F));
+                    i += 2;
+                    continue;
+                }
+                break;
+            }
+        }
+        // utf16阶段: 预先统计字符数（非后续字节数 + 4字节序列数）, 避免分配后再截取
+        byte[] utf16 = new byte[charCount(buf, offset, end) << 1];
+        int count = decodeUTF16(buf, offset, end, utf16, 0);
+        if (count << 1 != utf16.length) {
+            if (validate) {
+                throw new JSONException("Syntax error, at pos " + indexOfMalformed(buf, offset, end) + ", malformed utf-8 sequence");
+            }
+            return new String(buf, offset, len, EnvUtils.CHARSET_UTF_8);
+        }
+        return UnsafeHelper.getUTF16String(utf16);
+    }
+
+    /**
+     * 正确编码时[offset, end)解码后的字符数
+     */
+    static int charCount(byte[] buf, int offset, int end) {
+        final JSONEndian endian = JSONMemoryHandle.JSON_ENDIAN;
+        int i = offset, count = end - offset;
+        for (; i + 8 <= end; i += 8) {
+            long v = endian.getLong(buf, i);
+            if ((v & 0x8080808080808080L) == 0) continue;
+            // 后续字节10xxxxxx减1, 4字节序列首字节11110xxx加1
+            count -= Long.bitCount(v & ~(v << 1) & 0x8080808080808080L);
+            count += Long.bitCount(v & (v << 1) & (v << 2) & (v << 3) & 0x8080808080808080L);
+        }
+        for (; i < end; ++i) {
+            int b = buf[i] & 0xFF;
+            if ((b & 0xC0) == 0x80) {
+                --count;
+            } else if (b >= 0xF0) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    static String decodeFallback(byte[] buf, int offset, int len, boolean validate) {
+        if (validate) {
+            int index = indexOfMalformed(buf, offset, offset + len);
+            if (index > -1) {
+                throw new JSONException("Syntax error, at pos " + index + ", malformed utf-8 sequence");
+            }
+        }
+        return new String(buf, offset, len, EnvUtils.CHARSET_UTF_8);
+    }
+
+    /**
+     * 解码[offset, end)到utf16编码的字节数组（本地字节序）
+     *
+     * @return 字符总数，编码错误返回-1
+     */
+    static int decodeUTF16(byte[] buf, int offset, int end, byte[] utf16, int n) {
+        final JSONEndian endian = JSONMemoryHandle.JSON_ENDIAN;
+        // 错误的编码可能导致预统计的字符数偏小，写入前需要检查容量（unsafe写入没有越界检查）
+        final int cap = utf16.length >> 1;
+        int i = offset;
+        while (i < end) {
+            if (n >= cap) return -1;
+            if (i + 8 <= end && n + 8 <= cap) {
+                long v = endian.getLong(buf, i);
+                if ((v & 0x8080808080808080L) == 0) {
+                    // 8个ascii字节扩展为8个字符
+                    endian.putLong(utf16, n << 1, spread((int) (LITTLE_ENDIAN ? v : v >>> 32)));
+                    endian.putLong(utf16, (n + 4) << 1, spread((int) (LITTLE_ENDIAN ? v >>> 32 : v)));
+                    i += 8;
+                    n += 8;
+                    continue;
+                }
+                // 以下按字节在低位的顺序匹配，大端需要先翻转
+                if (!LITTLE_ENDIAN) v = Long.reverseBytes(v);
+                // 连续两个3字节序列: 1110xxxx 10xxxxxx 10xxxxxx 1110xxxx 10xxxxxx 10xxxxxx
+                if ((v & 0xC0C0F0C0C0F0L) == 0x8080E08080E0L) {
+                    int c0 = (int) (((v & 0x0F) << 12) | ((v & 0x3F00) >> 2) | ((v >> 16) & 0x3F));
+                    int c1 = (int) ((((v >> 24) & 0x0F) << 12) | (((v >> 32) & 0x3F) << 6) | ((v >> 40) & 0x3F));
+                    if (c0 < 0x800 || c1 < 0x800 || (c0 & 0xF800) == 0xD800 || (c1 & 0xF800) == 0xD800) {
+                        return -1;
+                    }
+                    endian.putInt(utf16, n << 1, pack(c0, c1));
+                    i += 6;
+                    n += 2;
+                    continue;
+                }
+                // 4字节序列: 11110xxx 10xxxxxx 10xxxxxx 10xxxxxx
+                if ((v & 0xC0C0C0F8L) == 0x808080F0L) {
+                    int cp = (int) (((v & 0x07) << 18) | ((v & 0x3F00) << 4) | ((v >> 10) & 0xFC0) | ((v >> 24) & 0x3F));
+                    if (cp < 0x10000 || cp > 0x10FFFF) return -1;
+                    endian.putInt(utf16, n << 1, pack(highSurrogate(cp), lowSurrogate(cp)));
+                    i += 4;
+                    n += 2;
+                    continue;
+                }
+            }
+            int b0 = buf[i];
+            if (b0 >= 0) {
+                endian.putShort(utf16, n++ << 1, (short) b0);
+                ++i;
+                continue;
+            }
+            b0 &= 0xFF;
+            if (b0 < 0xC2) {
+                return -1;
+            }
+            if (b0 < 0xE0) {
+                int b1;
+                if (i + 1 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80) return -1;
+                endian.putShort(utf16, n++ << 1, (short) (((b0 & 0x1F) << 6) | (b1 & 0x3F)));
+                i += 2;
+                continue;
+            }
+            if (b0 < 0xF0) {
+                int b1, b2;
+                if (i + 2 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80 || ((b2 = buf[i + 2]) & 0xC0) != 0x80) return -1;
+                int c = ((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F);
+                if (c < 0x800 || (c & 0xF800) == 0xD800) return -1;
+                endian.putShort(utf16, n++ << 1, (short) c);
+                i += 3;
+                continue;
+            }
+            if (b0 < 0xF5) {
+                int b1, b2, b3;
+                if (i + 3 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80 || ((b2 = buf[i + 2]) & 0xC0) != 0x80 || ((b3 = buf[i + 3]) & 0xC0) != 0x80)
+                    return -1;
+                int cp = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+                if (cp < 0x10000 || cp > 0x10FFFF || n + 1 >= cap) return -1;
+                endian.putShort(utf16, n++ << 1, (short) highSurrogate(cp));
+                endian.putShort(utf16, n++ << 1, (short) lowSurrogate(cp));
+                i += 4;
+                continue;
+            }
+            return -1;
+        }
+        return n;
+    }
+
+    /**
+     * 解码[offset, end)到字符数组（用于转义字符串的写入，避免构建中间字符串）
+     *
+     * @return 解码后chars的结束位置，编码错误返回-1
+     */
+    static int decode(byte[] buf, int offset, int end, char[] chars, int n) {
+        final JSONEndian endian = JSONMemoryHandle.JSON_ENDIAN;
+        int i = offset;
+        while (i < end) {
+            if (i + 8 <= end) {
+                long v = endian.getLong(buf, i);
+                if ((v & 0x8080808080808080L) == 0) {
+                    endian.putLong(chars, n, spread((int) (LITTLE_ENDIAN ? v : v >>> 32)));
+                    endian.putLong(chars, n + 4, spread((int) (LITTLE_ENDIAN ? v >>> 32 : v)));
+                    i += 8;
+                    n += 8;
+                    continue;
+                }
+                if (!LITTLE_ENDIAN) v = Long.reverseBytes(v);
+                if ((v & 0xC0C0F0C0C0F0L) == 0x8080E08080E0L) {
+                    int c0 = (int) (((v & 0x0F) << 12) | ((v & 0x3F00) >> 2) | ((v >> 16) & 0x3F));
+                    int c1 = (int) ((((v >> 24) & 0x0F) << 12) | (((v >> 32) & 0x3F) << 6) | ((v >> 40) & 0x3F));
+                    if (c0 < 0x800 || c1 < 0x800 || (c0 & 0xF800) == 0xD800 || (c1 & 0xF800) == 0xD800) {
+                        return -1;
+                    }
+                    chars[n++] = (char) c0;
+                    chars[n++] = (char) c1;
+                    i += 6;
+                    continue;
+                }
+                if ((v & 0xC0C0C0F8L) == 0x808080F0L) {
+                    int cp = (int) (((v & 0x07) << 18) | ((v & 0x3F00) << 4) | ((v >> 10) & 0xFC0) | ((v >> 24) & 0x3F));
+                    if (cp < 0x10000 || cp > 0x10FFFF) return -1;
+                    chars[n++] = highSurrogate(cp);
+                    chars[n++] = lowSurrogate(cp);
+                    i += 4;
+                    continue;
+                }
+            }
+            int b0 = buf[i];
+            if (b0 >= 0) {
+                chars[n++] = (char) b0;
+                ++i;
+                continue;
+            }
+            b0 &= 0xFF;
+            if (b0 < 0xC2) {
+                return -1;
+            }
+            if (b0 < 0xE0) {
+                int b1;
+                if (i + 1 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80) return -1;
+                chars[n++] = (char) (((b0 & 0x1F) << 6) | (b1 & 0x3F));
+                i += 2;
+                continue;
+            }
+            if (b0 < 0xF0) {
+                int b1, b2;
+                if (i + 2 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80 || ((b2 = buf[i + 2]) & 0xC0) != 0x80) return -1;
+                int c = ((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F);
+                if (c < 0x800 || (c & 0xF800) == 0xD800) return -1;
+                chars[n++] = (char) c;
+                i += 3;
+                continue;
+            }
+            if (b0 < 0xF5) {
+                int b1, b2, b3;
+                if (i + 3 >= end || ((b1 = buf[i + 1]) & 0xC0) != 0x80 || ((b2 = buf[i + 2]) & 0xC0) != 0x80 || ((b3 = buf[i + 3]) & 0xC0) != 0x80)
+                    return -1;
+                int cp = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+                if (cp < 0x10000 || cp > 0x10FFFF) return -1;
+                chars[n++] = highSurrogate(cp);
+                chars[n++] = lowSurrogate(cp);
+                i += 4;
+                continue;
+            }
+            return -1;
+        }
+        return n;
+    }
+
+    // 两个字符按本地字节序合并为一个int写入
+    static int pack(int c0, int c1) {
+        return LITTLE_ENDIAN ? c0 | c1 << 16 : c0 << 16 | c1;
+    }
+
+    // 等价于Character.highSurrogate(jdk7)
+    static char highSurrogate(int cp) {
+        return (char) ((cp >>> 10) + 0xD7C0);
+    }
+
+    static char lowSurrogate(int cp) {
+        return (char) ((cp & 0x3FF) + 0xDC00);
+    }
+
+    // 4个字节扩展为4个字符（每个字节后补0）
+    static long spread(int value) {
+        long t = value & 0xFFFFFFFFL;
+        t = (t | (t << 16)) & 0x0000FFFF0000FFFFL;
+        return (t | (t << 8)) & 0x00FF00FF00FF00FFL;
+    }
+
+    /**
+     * 查找第一个错误的utf-8序列（ascii以8个字节为单位跳过）
+     *
+     * @return 错误序列开始的位置，不存在返回-1
+     */
+    static int indexOfMalformed(byte[] buf, int offset, int end) {
+        int i = offset;
+        while (i < end) {
+            if (i + 8 <= end && (JSONMemoryHandle.JSON_ENDIAN.getLong(buf, i) & 0x8080808080808080L) == 0) {
+                i += 8;
+                continue;
+            }
+            if (buf[i] >= 0) {
+                ++i;
+                continue;
+            }
+            int next = JSONValidator.utf8Sequence(buf, i, end);
+            if (next == -1) {
+                return i;
+            }
+            i = next;
+        }
+        return -1;
+    }
+}
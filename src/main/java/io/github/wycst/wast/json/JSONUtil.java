@@ -299,7 +299,7 @@ public class JSONUtil {
      * @param offset 0
      * @return the first position（4n） of escaped
      */
-    public final int toNoEscapeOffset(char[] buf, int offset) {
+    public int toNoEscapeOffset(char[] buf, int offset) {
         // 64
         if (isNoneEscaped4Chars(buf, offset)
                 && isNoneEscaped4Chars(buf, offset = offset + 4)
@@ -332,6 +332,78 @@ public class JSONUtil {
         return offset;
     }
 
+    // 4个字符均为ascii并且不需要转义
+    static final boolean isNoneEscapedAscii4Chars(long value) {
+        return (value & 0xFF80FF80FF80FF80L) == 0
+                && (((value + 0x7FE07FE07FE07FE0L) & (value ^ 0xFFDDFFDDFFDDFFDDL) + 0x0001000100010001L & (value ^ 0xFFA3FFA3FFA3FFA3L) + 0x0001000100010001L) & 0x8000800080008000L) == 0x8000800080008000L;
+    }
+
+    /**
+     * <p> 从UTF16编码的字节数组(String.value)中查找第一个非ascii或者需要转义的字符位置</p>
+     * <p> 内部调用 </p>
+     *
+     * @param utf16  String.value（UTF16，本地字节序）
+     * @param offset 字符位置
+     * @return the first position（4n） of non-ascii or escaped
+     */
+    public int toNoEscapeAsciiOffset(byte[] utf16, int offset) {
+        final int limit = (utf16.length >> 1) - 4;
+        while (offset <= limit && isNoneEscapedAscii4Chars(JSONMemoryHandle.getLong(utf16, offset << 1))) {
+            offset += 4;
+        }
+        return offset;
+    }
+
+    /**
+     * <p> 从offset开始查找第一个大于空格(有符号比较)的字节位置，与<code>while (buf[offset] <= ' ') ++offset;</code>等价</p>
+     * <p> 用于跳过较长的空白（格式化缩进）</p>
+     *
+     * @param buf
+     * @param offset
+     * @return
+     * @throws IndexOutOfBoundsException if not found
+     */
+    public int skipWhiteSpaces(byte[] buf, int offset) {
+        final int limit8 = buf.length - 8;
+        long v, result;
+        while (offset <= limit8) {
+            v = JSONMemoryHandle.getLong(buf, offset);
+            // 0x21 ~ 0x7F
+            if ((result = ((v & 0x7F7F7F7F7F7F7F7FL) + 0x5F5F5F5F5F5F5F5FL) & ~v & 0x8080808080808080L) != 0) {
+                return offset + offsetTokenBytes(result);
+            }
+            offset += 8;
+        }
+        while (buf[offset] <= ' ') {
+            ++offset;
+        }
+        return offset;
+    }
+
+    /**
+     * <p> 从offset开始查找第一个大于空格的字符位置，与<code>while (buf[offset] <= ' ') ++offset;</code>等价</p>
+     *
+     * @param buf
+     * @param offset
+     * @return
+     * @throws IndexOutOfBoundsException if not found
+     */
+    public int skipWhiteSpaces(char[] buf, int offset) {
+        final int limit4 = buf.length - 4;
+        long v, result;
+        while (offset <= limit4) {
+            v = JSONMemoryHandle.getLong(buf, offset);
+            if ((result = (((v & 0x7FFF7FFF7FFF7FFFL) + 0x7FDF7FDF7FDF7FDFL) | v) & 0x8000800080008000L) != 0) {
+                return offset + offsetChars(result);
+            }
+            offset += 4;
+        }
+        while (buf[offset] <= ' ') {
+            ++offset;
+        }
+        return offset;
+    }
+
     public boolean isSupportVectorWellTest() {
         return false;
     }
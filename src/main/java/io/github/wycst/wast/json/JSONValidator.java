@@ -4,7 +4,10 @@ import io.github.wycst.wast.common.reflect.GenericParameterizedType;
 import io.github.wycst.wast.common.utils.EnvUtils;
 import io.github.wycst.wast.json.options.ReadOption;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * json校验
@@ -16,10 +19,24 @@ import java.util.Arrays;
  */
 final class JSONValidator extends JSONGeneral {
 
+    final static int VALID = 1;
+    final static int INVALID = 0;
+    final static int UNDETERMINED = -1;
+
+    // 超过4M的字节数组分块并行校验
+    final static int PARALLEL_THRESHOLD = 1 << 22;
+    final static int MIN_CHUNK_SIZE = 1 << 20;
+    // 分块边界的查找范围
+    final static int SPLIT_SEARCH_LIMIT = 1 << 16;
+
     static boolean validate(String json, ReadOption[] readOptions) {
         if (EnvUtils.JDK_9_PLUS) {
             byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json);
             if (bytes.length == json.length()) {
+                int result = validateStrict(bytes, false);
+                if (result != UNDETERMINED) {
+                    return result == VALID;
+                }
                 return validate(AsciiStringSource.of(json), bytes, readOptions);
             } else {
                 char[] chars = json.toCharArray();
@@ -35,6 +52,10 @@ final class JSONValidator extends JSONGeneral {
             String json = new String(buf);
             byte[] bytes = (byte[]) JSONMemoryHandle.getStringValue(json);
             if (bytes.length == json.length()) {
+                int result = validateStrict(bytes, false);
+                if (result != UNDETERMINED) {
+                    return result == VALID;
+                }
                 return validate(AsciiStringSource.of(json), bytes, readOptions);
             } else {
                 return validate(UTF16ByteArraySource.of(json), buf, readOptions);
@@ -44,6 +65,10 @@ final class JSONValidator extends JSONGeneral {
     }
 
     public static boolean validate(byte[] buf, ReadOption[] readOptions) {
+        int result = validateStrict(buf, true);
+        if (result != UNDETERMINED) {
+            return result == VALID;
+        }
         if (EnvUtils.JDK_9_PLUS) {
             return validate(AsciiStringSource.of(JSONMemoryHandle.createAsciiString(buf)), buf, readOptions);
         }
@@ -209,4 +234,461 @@ final class JSONValidator extends JSONGeneral {
             parseContext.clear();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * <p> 严格模式（RFC 8259）快速校验，不构建任何值，使用SWAR/向量跳过字符串内容，使用显式栈（不递归）校验语法；
+     * <p> 严格模式通过的一定是合法的json；严格模式未通过时（单引号，非标准的数字或者转义，字符串中未转义的控制字符等）返回UNDETERMINED，由兼容模式决定；
+     * <p> utf8为true时校验字符串中的utf-8编码，编码错误直接返回INVALID；
+     *
+     * @param buf
+     * @param utf8 是否为utf-8编码（latin1字符串的字节数组为false）
+     * @return VALID/INVALID/UNDETERMINED
+     */
+    static int validateStrict(byte[] buf, boolean utf8) {
+        int fromIndex = 0, toIndex = buf.length;
+        while (fromIndex < toIndex && buf[fromIndex] <= ' ' && buf[fromIndex] >= 0) {
+            fromIndex++;
+        }
+        while (toIndex > fromIndex && buf[toIndex - 1] <= ' ' && buf[toIndex - 1] >= 0) {
+            toIndex--;
+        }
+        if (fromIndex == toIndex) {
+            return INVALID;
+        }
+        if (toIndex - fromIndex >= PARALLEL_THRESHOLD && JSONParallel.DEFAULT_PARALLELISM > 1 && !JSONParallel.inWorkerThread()) {
+            if (validateParallel(buf, fromIndex, toIndex, utf8, JSONParallel.DEFAULT_PARALLELISM)) {
+                return VALID;
+            }
+        }
+        StrictScanner scanner = new StrictScanner(buf, fromIndex, toIndex, utf8, false);
+        scanner.call();
+        if (scanner.valid && scanner.state == StrictScanner.AFTER && scanner.depth == 0) {
+            return VALID;
+        }
+        return scanner.malformed ? INVALID : UNDETERMINED;
+    }
+
+    /**
+     * <p> 分块并行校验：在'}'或者']'之后的逗号处切分（推测逗号不在字符串中），每块独立校验并记录对外层容器的要求（弹出的容器类型）和未闭合的容器；
+     * <p> 第一块从文档开始校验，前一块正确校验且以逗号结束时，后一块的推测成立，依次归纳合并各块的栈；
+     * <p> 任意一块失败（包括推测错误，例如逗号在字符串中）返回false，由调用方顺序校验；
+     */
+    static boolean validateParallel(byte[] buf, int fromIndex, int toIndex, boolean utf8, int parallelism) {
+        int len = toIndex - fromIndex;
+        int count = Math.min(parallelism, len / MIN_CHUNK_SIZE);
+        if (count < 2) return false;
+        int chunkSize = len / count;
+        List<StrictScanner> scanners = new ArrayList<StrictScanner>(count);
+        int begin = fromIndex;
+        for (int i = 1; i < count && begin < toIndex; ++i) {
+            int split = findSplit(buf, Math.max(begin, fromIndex + chunkSize * i), toIndex);
+            if (split == -1) continue;
+            scanners.add(new StrictScanner(buf, begin, split, utf8, begin != fromIndex));
+            begin = split;
+        }
+        if (scanners.isEmpty()) return false;
+        scanners.add(new StrictScanner(buf, begin, toIndex, utf8, true));
+        List<StrictScanner> results;
+        try {
+            results = JSONParallel.invokeAll(scanners);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        StrictScanner first = results.get(0);
+        if (!first.valid || !first.comma) return false;
+        byte[] stack = Arrays.copyOf(first.stack, Math.max(16, first.depth));
+        int size = first.depth;
+        for (int k = 1, n = results.size(); k < n; ++k) {
+            StrictScanner scanner = results.get(k);
+            boolean last = k == n - 1;
+            if (!scanner.valid || (!last && !scanner.comma)) return false;
+            // 逗号所在的层级和弹出的层级必须存在
+            if (scanner.lastCommaLevel >= size || scanner.needCount > size || scanner.pops > size) return false;
+            for (int p = 0; p < scanner.needCount; ++p) {
+                if (stack[size - 1 - p] != scanner.needs[p]) return false;
+            }
+            size -= scanner.pops;
+            if (size + scanner.depth > stack.length) {
+                stack = Arrays.copyOf(stack, (size + scanner.depth) << 1);
+            }
+            System.arraycopy(scanner.stack, 0, stack, size, scanner.depth);
+            size += scanner.depth;
+            if (last) {
+                return scanner.state == StrictScanner.AFTER && size == 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 从offset开始查找'}'或者']'（可以有空白）之后的逗号，返回逗号的下一个位置
+     */
+    static int findSplit(byte[] buf, int offset, int toIndex) {
+        int limit = Math.min(toIndex - 1, offset + SPLIT_SEARCH_LIMIT);
+        for (int i = offset; i < limit; ++i) {
+            byte b = buf[i];
+            if (b == '}' || b == ']') {
+                int j = i + 1;
+                while (j < limit && ((b = buf[j]) == ' ' || b == '\n' || b == '\r' || b == '\t')) ++j;
+                if (j < limit && buf[j] == ',') {
+                    return j + 1;
+                }
+                i = j - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 严格模式的扫描器（支持片段模式：从逗号之后开始，所在容器未知）
+     * <p> 范围的最后一个字节一定不是空白（文档已去除首尾空白，分块以逗号结束），跳过空白时不需要检查边界；
+     */
+    final static class StrictScanner implements Callable<StrictScanner> {
+
+        // 期望值
+        final static int VALUE = 0;
+        // 期望key
+        final static int KEY = 1;
+        // 值之后，期望逗号或者结束符
+        final static int AFTER = 2;
+        // '['之后
+        final static int VALUE_OR_END = 3;
+        // '{'之后
+        final static int KEY_OR_END = 4;
+        // 片段模式下逗号之后（所在容器未知），期望key或者值
+        final static int ELEMENT = 5;
+
+        final byte[] buf;
+        final int from;
+        final int to;
+        final boolean utf8;
+        final boolean fragment;
+
+        // 未闭合的容器（'{' 或者 '['）
+        byte[] stack = new byte[16];
+        int depth;
+        // 片段模式下对外层容器类型的要求（从内到外）
+        byte[] needs = new byte[8];
+        int needCount;
+        // 弹出的外层容器数量
+        int pops;
+        // 片段模式下最后一个逗号所在的外层层级
+        int lastCommaLevel = -1;
+        // 当前外层容器的类型（0未知）
+        byte base;
+
+        int state;
+        // 是否以逗号结束
+        boolean comma;
+        boolean valid;
+        // utf-8编码错误
+        boolean malformed;
+
+        StrictScanner(byte[] buf, int from, int to, boolean utf8, boolean fragment) {
+            this.buf = buf;
+            this.from = from;
+            this.to = to;
+            this.utf8 = utf8;
+            this.fragment = fragment;
+        }
+
+        public StrictScanner call() {
+            try {
+                valid = scan();
+            } catch (RuntimeException e) {
+                valid = false;
+            }
+            return this;
+        }
+
+        boolean scan() {
+            final byte[] buf = this.buf;
+            final int to = this.to;
+            byte[] stack = this.stack;
+            int depth = 0, i = from, state = fragment ? ELEMENT : VALUE;
+            byte b = 0;
+            try {
+                for (; ; ) {
+                    if (i == to) break;
+                    while ((b = buf[i]) <= ' ' && (b == ' ' || b == '\n' || b == '\r' || b == '\t')) ++i;
+                    switch (state) {
+                        case VALUE_OR_END:
+                            if (b == ']') {
+                                --depth;
+                                ++i;
+                                state = AFTER;
+                                continue;
+                            }
+                        case VALUE:
+                            if (b == '{' || b == '[') {
+                                if (depth == stack.length) {
+                                    stack = Arrays.copyOf(stack, depth << 1);
+                                }
+                                stack[depth++] = b;
+                                ++i;
+                                state = b == '{' ? KEY_OR_END : VALUE_OR_END;
+                                continue;
+                            }
+                            if ((i = scalar(i, b)) == -1) return false;
+                            // 紧跟的逗号（最常见的情况）直接处理
+                            if (depth > 0 && i < to && buf[i] == ',') {
+                                ++i;
+                                state = stack[depth - 1] == '{' ? KEY : VALUE;
+                                continue;
+                            }
+                            state = AFTER;
+                            continue;
+                        case KEY_OR_END:
+                            if (b == '}') {
+                                --depth;
+                                ++i;
+                                state = AFTER;
+                                continue;
+                            }
+                        case KEY:
+                            // 对象成员：key，冒号和非容器的值在循环中连续处理
+                            for (; ; ) {
+                                if (b != '"' || (i = string(i + 1)) == -1) return false;
+                                if (i < to && buf[i] == ':') {
+                                    ++i;
+                                } else if ((i = colon(i)) == -1) {
+                                    return false;
+                                }
+                                if (i == to) {
+                                    state = VALUE;
+                                    break;
+                                }
+                                while ((b = buf[i]) <= ' ' && (b == ' ' || b == '\n' || b == '\r' || b == '\t')) ++i;
+                                if (b == '{' || b == '[') {
+                                    state = VALUE;
+                                    break;
+                                }
+                                if ((i = scalar(i, b)) == -1) return false;
+                                if (i < to && buf[i] == ',' && depth > 0) {
+                                    if (++i == to) {
+                                        state = KEY;
+                                        break;
+                                    }
+                                    while ((b = buf[i]) <= ' ' && (b == ' ' || b == '\n' || b == '\r' || b == '\t')) ++i;
+                                    continue;
+                                }
+                                state = AFTER;
+                                break;
+                            }
+                            continue;
+                        case ELEMENT:
+                            if (b == '"') {
+                                if ((i = string(i + 1)) == -1) return false;
+                                int j = colon(i);
+                                if (j != -1) {
+                                    if (!determine((byte) '{')) return false;
+                                    i = j;
+                                    state = VALUE;
+                                } else {
+                                    if (!determine((byte) '[')) return false;
+                                    state = AFTER;
+                                }
+                                continue;
+                            }
+                            if (!determine((byte) '[')) return false;
+                            state = VALUE;
+                            continue;
+                        default:
+                            // AFTER
+                            ++i;
+                            if (b == ',') {
+                                if (depth > 0) {
+                                    state = stack[depth - 1] == '{' ? KEY : VALUE;
+                                } else if (fragment) {
+                                    lastCommaLevel = pops;
+                                    state = base == 0 ? ELEMENT : base == '{' ? KEY : VALUE;
+                                } else {
+                                    return false;
+                                }
+                            } else if (b == '}' || b == ']') {
+                                byte type = (byte) (b - 2);
+                                if (depth > 0) {
+                                    if (stack[--depth] != type) return false;
+                                } else if (fragment) {
+                                    if (!determine(type)) return false;
+                                    ++pops;
+                                    base = 0;
+                                } else {
+                                    return false;
+                                }
+                            } else {
+                                return false;
+                            }
+                    }
+                }
+            } finally {
+                this.stack = stack;
+                this.depth = depth;
+            }
+            this.state = state;
+            // 最后一个token是否为逗号（逗号只在AFTER状态下消费）
+            int j = to - 1;
+            while (j > from && ((b = buf[j]) == ' ' || b == '\n' || b == '\r' || b == '\t')) --j;
+            comma = buf[j] == ',';
+            return true;
+        }
+
+        // 确定当前外层容器的类型
+        boolean determine(byte type) {
+            if (base == 0) {
+                if (needCount == needs.length) {
+                    needs = Arrays.copyOf(needs, needCount << 1);
+                }
+                needs[needCount++] = base = type;
+                return true;
+            }
+            return base == type;
+        }
+
+        // 校验字符串，数字或者true/false/null，返回下一个位置
+        int scalar(int i, byte b) {
+            final byte[] buf = this.buf;
+            switch (b) {
+                case '"':
+                    return string(i + 1);
+                case 't':
+                    return i + 3 < to && buf[i + 1] == 'r' && buf[i + 2] == 'u' && buf[i + 3] == 'e' ? i + 4 : -1;
+                case 'f':
+                    return i + 4 < to && buf[i + 1] == 'a' && buf[i + 2] == 'l' && buf[i + 3] == 's' && buf[i + 4] == 'e' ? i + 5 : -1;
+                case 'n':
+                    return i + 3 < to && buf[i + 1] == 'u' && buf[i + 2] == 'l' && buf[i + 3] == 'l' ? i + 4 : -1;
+                default:
+                    return number(i);
+            }
+        }
+
+        // -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+        int number(int i) {
+            final byte[] buf = this.buf;
+            final int to = this.to;
+            if (buf[i] == '-' && ++i == to) return -1;
+            byte b = buf[i];
+            if (b == '0') {
+                ++i;
+            } else if (b >= '1' && b <= '9') {
+                while (++i < to && (b = buf[i]) >= '0' && b <= '9') ;
+            } else {
+                return -1;
+            }
+            if (i < to && buf[i] == '.') {
+                int s = ++i;
+                while (i < to && (b = buf[i]) >= '0' && b <= '9') ++i;
+                if (i == s) return -1;
+            }
+            if (i < to && (buf[i] | 0x20) == 'e') {
+                if (++i < to && ((b = buf[i]) == '+' || b == '-')) ++i;
+                int s = i;
+                while (i < to && (b = buf[i]) >= '0' && b <= '9') ++i;
+                if (i == s) return -1;
+            }
+            return i;
+        }
+
+        // 跳过空白后期望':'，返回':'的下一个位置
+        int colon(int i) {
+            final byte[] buf = this.buf;
+            byte b;
+            if (i == to) return -1;
+            while ((b = buf[i]) <= ' ' && (b == ' ' || b == '\n' || b == '\r' || b == '\t')) ++i;
+            return b == ':' ? i + 1 : -1;
+        }
+
+        // 引号，反斜杠，负字节或者小于0x20的字节（v - 0x20的最高位只在字节小于0x20或者为负时置位）
+        static long stringMask(long v) {
+            return (((v ^ DOUBLE_QUOTE_MASK) - 0x0101010101010101L) | ((v ^ 0x5C5C5C5C5C5C5C5CL) - 0x0101010101010101L) | (v - 0x2020202020202020L)) & 0x8080808080808080L;
+        }
+
+        // i为引号后的第一个字节，返回结束引号的下一个位置
+        int string(int i) {
+            final byte[] buf = this.buf;
+            final int to = this.to;
+            long mask = 0;
+            for (; ; ) {
+                // SWAR查找引号，反斜杠，非ascii字节或者控制字符（RFC 8259中字符串不能包含未转义的控制字符）
+                while (i + 8 <= to && (mask = stringMask(JSONMemoryHandle.JSON_ENDIAN.getLong(buf, i))) == 0) {
+                    i += 8;
+                }
+                if (i + 8 <= to) {
+                    i += JSONUtil.offsetTokenBytes(mask);
+                } else {
+                    byte b;
+                    while (i < to && (b = buf[i]) != '"' && b != '\\' && b >= ' ') ++i;
+                    if (i == to) return -1;
+                }
+                byte b = buf[i];
+                if (b == '"') {
+                    return i + 1;
+                }
+                if (b == '\\') {
+                    if (++i == to) return -1;
+                    switch (buf[i]) {
+                        case '"':
+                        case '\\':
+                        case '/':
+                        case 'b':
+                        case 'f':
+                        case 'n':
+                        case 'r':
+                        case 't':
+                            ++i;
+                            break;
+                        case 'u':
+                            if (i + 4 >= to || !isHex(buf[i + 1]) || !isHex(buf[i + 2]) || !isHex(buf[i + 3]) || !isHex(buf[i + 4]))
+                                return -1;
+                            i += 5;
+                            break;
+                        default:
+                            return -1;
+                    }
+                } else if (b >= 0) {
+                    // 控制字符由兼容模式决定
+                    return -1;
+                } else if (utf8) {
+                    if ((i = utf8Sequence(buf, i, to)) == -1) {
+                        malformed = true;
+                        return -1;
+                    }
+                } else {
+                    ++i;
+                }
+            }
+        }
+    }
+
+    static boolean isHex(byte b) {
+        return (b >= '0' && b <= '9') || ((b | 0x20) >= 'a' && (b | 0x20) <= 'f');
+    }
+
+    /**
+     * 校验offset开始的utf-8多字节序列（拒绝超长编码，代理区间和超过U+10FFFF的码点）
+     *
+     * @return 序列的下一个位置，编码错误返回-1
+     */
+    static int utf8Sequence(byte[] buf, int offset, int toIndex) {
+        int b0 = buf[offset] & 0xff;
+        if (b0 < 0xC2) return -1;
+        if (b0 < 0xE0) {
+            return offset + 1 < toIndex && (buf[offset + 1] & 0xC0) == 0x80 ? offset + 2 : -1;
+        }
+        if (b0 < 0xF0) {
+            if (offset + 2 >= toIndex) return -1;
+            int b1 = buf[offset + 1] & 0xff;
+            if ((b1 & 0xC0) != 0x80 || (buf[offset + 2] & 0xC0) != 0x80 || (b0 == 0xE0 && b1 < 0xA0) || (b0 == 0xED && b1 >= 0xA0))
+                return -1;
+            return offset + 3;
+        }
+        if (b0 < 0xF5) {
+            if (offset + 3 >= toIndex) return -1;
+            int b1 = buf[offset + 1] & 0xff;
+            if ((b1 & 0xC0) != 0x80 || (buf[offset + 2] & 0xC0) != 0x80 || (buf[offset + 3] & 0xC0) != 0x80 || (b0 == 0xF0 && b1 < 0x90) || (b0 == 0xF4 && b1 >= 0x90))
+                return -1;
+            return offset + 4;
+        }
+        return -1;
+    }
+}
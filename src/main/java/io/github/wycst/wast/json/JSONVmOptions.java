@@ -13,12 +13,24 @@ public final class JSONVmOptions {
     public static final String VM_OPTION_INCUBATOR_VECTOR_DISABLED_KEY = "wast.json.incubator.vector.disabled";
     // 内存对齐
     public static final String VM_OPTION_REQUIRED_MEMORY_ALIGNMENT_KEY = "wast.json.required-memory-alignment";
+    // writer缓冲池分段数（slot个数，取2的幂）
+    public static final String VM_OPTION_WRITER_BUFFER_POOL_SIZE_KEY = "wast.json.writer-buffer.pool-size";
+    // writer缓冲初始大小
+    public static final String VM_OPTION_WRITER_BUFFER_INITIAL_SIZE_KEY = "wast.json.writer-buffer.initial-size";
+    // small级别缓冲最大值（超过此值的缓冲归还到large级别）
+    public static final String VM_OPTION_WRITER_BUFFER_SMALL_MAX_SIZE_KEY = "wast.json.writer-buffer.small-max-size";
+    // 可缓存的最大缓冲（超过此值的缓冲直接丢弃）
+    public static final String VM_OPTION_WRITER_BUFFER_MAX_SIZE_KEY = "wast.json.writer-buffer.max-size";
 
     // disabled intrinsic-candidate
     static boolean intrinsicCandidateDisabled;
     // disabled incubator.vector api
     static boolean incubatorVectorDisabled;
     static boolean requiredMemoryAlignment;
+    static int writerBufferPoolSize;
+    static int writerBufferInitialSize;
+    static int writerBufferSmallMaxSize;
+    static int writerBufferMaxSize;
 
     /**
      * force disabled <br> -> -Dwast.json.intrinsic-candidate.disabled=true
@@ -55,4 +67,72 @@ public final class JSONVmOptions {
     public static boolean isRequiredMemoryAlignment() {
         return requiredMemoryAlignment || "true".equalsIgnoreCase(System.getProperty(VM_OPTION_REQUIRED_MEMORY_ALIGNMENT_KEY));
     }
+
+    /**
+     * writer buffer pool slots <br> -> -Dwast.json.writer-buffer.pool-size=64
+     */
+    public static void setWriterBufferPoolSize(int poolSize) {
+        writerBufferPoolSize = poolSize;
+    }
+
+    /**
+     * writer buffer initial size <br> -> -Dwast.json.writer-buffer.initial-size=4096
+     */
+    public static void setWriterBufferInitialSize(int initialSize) {
+        writerBufferInitialSize = initialSize;
+    }
+
+    /**
+     * max size of the small buffers <br> -> -Dwast.json.writer-buffer.small-max-size=65536
+     */
+    public static void setWriterBufferSmallMaxSize(int smallMaxSize) {
+        writerBufferSmallMaxSize = smallMaxSize;
+    }
+
+    /**
+     * max size of the buffer which can be pooled <br> -> -Dwast.json.writer-buffer.max-size=3145728
+     */
+    public static void setWriterBufferMaxSize(int maxSize) {
+        writerBufferMaxSize = maxSize;
+    }
+
+    /**
+     * writer缓冲池slot个数（默认为cpu核数*2向上取2的幂，最小16）
+     */
+    public static int getWriterBufferPoolSize() {
+        int defaultSize = 16, processors = Runtime.getRuntime().availableProcessors() << 1;
+        while (processors > defaultSize) {
+            defaultSize <<= 1;
+        }
+        return getIntOption(writerBufferPoolSize, VM_OPTION_WRITER_BUFFER_POOL_SIZE_KEY, defaultSize);
+    }
+
+    public static int getWriterBufferInitialSize() {
+        return getIntOption(writerBufferInitialSize, VM_OPTION_WRITER_BUFFER_INITIAL_SIZE_KEY, 1 << 12);
+    }
+
+    public static int getWriterBufferSmallMaxSize() {
+        return getIntOption(writerBufferSmallMaxSize, VM_OPTION_WRITER_BUFFER_SMALL_MAX_SIZE_KEY, 1 << 16);
+    }
+
+    public static int getWriterBufferMaxSize() {
+        return getIntOption(writerBufferMaxSize, VM_OPTION_WRITER_BUFFER_MAX_SIZE_KEY, (1 << 20) * 3);
+    }
+
+    static int getIntOption(int value, String key, int defaultValue) {
+        if (value > 0) {
+            return value;
+        }
+        String property = System.getProperty(key);
+        if (property != null) {
+            try {
+                int val = Integer.parseInt(property.trim());
+                if (val > 0) {
+                    return val;
+                }
+            } catch (NumberFormatException e) {
+            }
+        }
+        return defaultValue;
+    }
 }
@@ -5,29 +5,26 @@ import io.github.wycst.wast.common.utils.Base64Utils;
 import io.github.wycst.wast.common.utils.EnvUtils;
 import io.github.wycst.wast.common.utils.NumberUtils;
 import io.github.wycst.wast.common.utils.Scientific;
+import io.github.wycst.wast.json.exceptions.JSONException;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Date;
 import java.util.TimeZone;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class JSONWriter extends Writer {
 
     final static int MAX_ALLOW_ALLOCATION_SIZE = (1 << 30) + (1 << 29); // max 1.5GB
-    final static int CACHE_BUFFER_SIZE;
-    final static int MAX_CACHE_BUFFER_SIZE;
-    final static int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     // Safe skip over boundary check space
     final static int SECURITY_UNCHECK_SPACE = 160;
-    final static int CACHE_COUNT;
-    final static int INIT_CACHE_COUNT = Math.max(2, AVAILABLE_PROCESSORS >> 3);
-    final static AtomicInteger AUTO_SEQ = new AtomicInteger();
     final static int EMPTY_ARRAY_INT;
     final static short EMPTY_ARRAY_SHORT;
     final static int Z_QUOT_INT;
@@ -55,18 +52,6 @@ public abstract class JSONWriter extends Writer {
     final static BigInteger BI_MAX_VALUE_FOR_LONG = BigInteger.valueOf(Long.MAX_VALUE);
 
     static {
-        // init memory:  4KB * 2 * Runtime.getRuntime().availableProcessors() / 8 -> 核心个数KB（最小2kb）
-        CACHE_BUFFER_SIZE = /*EnvUtils.JDK_VERSION >= 1.8f ? 1 << 14 :*/ 1 << 12;
-        // max memory:   3MB * 2 * 16 -> 96MB
-        MAX_CACHE_BUFFER_SIZE = (1 << 20) * 3;
-
-        int availableProcessors = AVAILABLE_PROCESSORS << 1;
-        int cacheCount = 16;
-        while (availableProcessors > cacheCount) {
-            cacheCount <<= 1;
-        }
-        CACHE_COUNT = cacheCount;
-
         if (EnvUtils.BIG_ENDIAN) {
             EMPTY_ARRAY_INT = '[' << 16 | ']';
             EMPTY_ARRAY_SHORT = '[' << 8 | ']';
@@ -131,18 +116,6 @@ public abstract class JSONWriter extends Writer {
     JSONWriter() {
     }
 
-    static ThreadLocal<Integer> THREAD_CACHE_INDEX = new ThreadLocal<Integer>() {
-        @Override
-        protected Integer initialValue() {
-            return AUTO_SEQ.incrementAndGet() & CACHE_COUNT - 1;
-        }
-
-        // disable update
-        @Override
-        public void set(Integer value) {
-        }
-    };
-
     static JSONWriter forStringWriter(JSONConfig jsonConfig) {
         if (jsonConfig.isIgnoreEscapeCheck()) {
             return new JSONCharArrayWriter.IgnoreEscapeWriter();
@@ -182,6 +155,41 @@ public abstract class JSONWriter extends Writer {
 
     protected abstract void toOutputStream(OutputStream os) throws IOException;
 
+    /**
+     * 写入缓冲区（空间不足时抛出异常且不修改缓冲区）
+     */
+    void toByteBuffer(ByteBuffer buffer) {
+        byte[] bytes = toBytes(EnvUtils.CHARSET_UTF_8);
+        checkRemaining(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * 写入channel（阻塞模式，写完所有内容）
+     */
+    void toChannel(WritableByteChannel channel) throws IOException {
+        checkBlocking(channel);
+        ByteBuffer buffer = ByteBuffer.wrap(toBytes(EnvUtils.CHARSET_UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 非阻塞channel可能每次只写入部分或者0字节，循环写入会空转，不支持
+     */
+    static void checkBlocking(WritableByteChannel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new JSONException("non-blocking channel is not supported");
+        }
+    }
+
+    static void checkRemaining(ByteBuffer buffer, int len) {
+        if (buffer.remaining() < len) {
+            throw new JSONException("ByteBuffer overflow, remaining " + buffer.remaining() + " bytes, but " + len + " bytes required");
+        }
+    }
+
     protected byte[] toBytes(Charset charset) {
         return toString().getBytes(charset);
     }
@@ -0,0 +1,139 @@
+package io.github.wycst.wast.json;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * <p> 基于long[]存储的可增长List，元素不装箱，可以直接作为解析目标或者pojo属性类型（代替List&lt;Long&gt;）；
+ * <p> 通过getLong/add(long)/toLongArray访问没有装箱开销，序列化结果与List&lt;Long&gt;一致；不支持null元素；
+ *
+ * @Created by wangyc
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess, Serializable {
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(10);
+    }
+
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+    }
+
+    public LongList(long[] values) {
+        this(values.clone(), values.length);
+    }
+
+    // 直接使用解析结果作为存储（不拷贝）
+    LongList(long[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public long getLong(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public long setLong(int index, long value) {
+        checkIndex(index);
+        long oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+        ++modCount;
+    }
+
+    public void addAll(long[] values) {
+        int len = values.length;
+        if (size + len > elements.length) {
+            grow(size + len);
+        }
+        System.arraycopy(values, 0, elements, size, len);
+        size += len;
+        ++modCount;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        return setLong(index, value);
+    }
+
+    @Override
+    public boolean add(Long value) {
+        add(value.longValue());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        long val = value;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = val;
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public Long remove(int index) {
+        checkIndex(index);
+        long oldValue = elements[index];
+        int num = size - index - 1;
+        if (num > 0) {
+            System.arraycopy(elements, index + 1, elements, index, num);
+        }
+        --size;
+        ++modCount;
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        ++modCount;
+    }
+
+    private void grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, oldCapacity + (oldCapacity >> 1) + 1));
+    }
+
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
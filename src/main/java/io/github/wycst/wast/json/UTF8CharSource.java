@@ -21,11 +21,20 @@ final class UTF8CharSource implements CharSource {
 
     @Override
     public String substring(byte[] bytes, int beginIndex, int endIndex) {
-        return new String(bytes, beginIndex, endIndex - beginIndex, EnvUtils.CHARSET_UTF_8);
+        return JSONUTF8Decoder.decode(bytes, beginIndex, endIndex - beginIndex, false);
     }
 
     @Override
     public void writeString(JSONCharArrayWriter writer, byte[] buf, int offset, int len) {
-        writer.writeBytes(buf, offset, len);
+        if (len == 0) return;
+        // 字符数不会超过字节数
+        writer.ensureCapacity(len);
+        int count = JSONUTF8Decoder.decode(buf, offset, offset + len, writer.buf, writer.count);
+        if (count == -1) {
+            String value = new String(buf, offset, len, EnvUtils.CHARSET_UTF_8);
+            writer.writeString(value, 0, value.length());
+        } else {
+            writer.count = count;
+        }
     }
 }
@@ -0,0 +1,29 @@
+package io.github.wycst.wast.json.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p> 标记在构建阶段生成序列化/反序列化代码（参考JSONCompiledGenerator），
+ * 运行时优先加载生成的类，不再依赖JDKCompiler在运行时编译；
+ * <p> 如果没有找到生成的类则按原有逻辑处理（JIT或者反射）；
+ *
+ * @Date 2026/10/17
+ * @Created by wangyc
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonCompiled {
+
+    /**
+     * 是否生成序列化器
+     */
+    boolean serialize() default true;
+
+    /**
+     * 是否生成反序列化器
+     */
+    boolean deserialize() default true;
+}
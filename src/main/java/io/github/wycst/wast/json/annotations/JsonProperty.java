@@ -91,4 +91,12 @@ public @interface JsonProperty {
      * <p>3.只针对pojo类型的字段生效</p>
      */
     public boolean unfixedType() default false;
+
+    /**
+     * <p> 反序列化使用，只针对String类型的属性；
+     * <p> 取值有限的字段（状态、国家代码等）开启后相同的值复用同一个String实例（长度不超过32且没有转义）；
+     *
+     * @see io.github.wycst.wast.json.options.ReadOption#InternValueString
+     */
+    public boolean internValue() default false;
 }
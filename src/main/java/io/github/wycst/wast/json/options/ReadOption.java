@@ -79,8 +79,27 @@ public enum ReadOption {
      */
     IgnoreEscapeCheck,
 
+    /**
+     * <p> 值字符串缓存：长度不超过32且没有转义的字符串值先按原始内容查找缓存，命中时复用已有的String实例
+     * <p> 适用于状态、国家代码等取值有限（低基数）的字段，减少解析大量记录时的内存分配和驻留；缓存容量有限，写满后不再缓存新值
+     * <p> 只针对个别字段时可以使用 @JsonProperty(internValue = true)
+     */
+    InternValueString,
+
+    /**
+     * <p> 快速跳过pojo中未声明的字段：只识别字符串边界和括号嵌套，不构建值也不校验跳过部分的语法
+     * <p> 不能与注释（AllowComment）和单引号（AllowSingleQuotes）同时生效，此时仍然使用常规跳过
+     */
+    FastSkipUnknownFields,
+
     /**
      * strict mode
      */
-    StrictMode
+    StrictMode,
+
+    /**
+     * <p> 解析utf-8字节数组（byte[]）时预先校验编码，遇到超长编码、代理区间、超出U+10FFFF的码点或者截断的序列时抛出异常
+     * <p> 默认不校验，错误的编码按JDK的方式替换为'\uFFFD'
+     */
+    ValidateUTF8
 }
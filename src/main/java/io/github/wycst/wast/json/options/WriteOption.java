@@ -152,4 +152,20 @@ public enum WriteOption {
      * 是否在序列化对象时将实体类名(pojo)写入到json字符串（map和list类型无效）
      */
     WriteClassName,
+
+    /**
+     * <p> 大集合（List且RandomAccess）或者对象数组并行序列化（元素个数超过阈值时，默认10000）
+     * <p> 开启SkipCircularReference时或者并行度（默认为cpu核数）小于等于1时不生效
+     *
+     * @see io.github.wycst.wast.json.JSONConfig#setParallelThreshold(int)
+     * @see io.github.wycst.wast.json.JSONConfig#setParallelism(int)
+     */
+    ParallelWrite,
+    /**
+     * <p> 二进制序列化（JSON.toBinary）时使用字段名字典：所有对象的key集中写入头部，对象中只写字典下标
+     * <p> 对象数组等重复key较多的场景可以明显减小体积
+     *
+     * @see io.github.wycst.wast.json.JSON#toBinary(Object, WriteOption...)
+     */
+    BinaryFieldNameDictionary,
 }
@@ -0,0 +1,225 @@
+package io.github.wycst.wast.json;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteOrder;
+
+/**
+ * <p> jdk.incubator.vector实现（jdk17+），编译输出到META-INF/versions/17；
+ * <p> 运行时需要添加参数: --add-modules jdk.incubator.vector
+ * <p> 注: 非multi-release方式运行时通过独立的ClassLoader加载（不同的运行时包），只能访问JSONUtil的public成员
+ *
+ * @Created by wangyc
+ * @see JSONGeneral#loadVectorUtil()
+ */
+final class JSONUtilVectorImpl extends JSONUtil {
+
+    static final VectorSpecies<Byte> BYTE_SPECIES_PREFERRED = ByteVector.SPECIES_PREFERRED;
+    static final int BYTE_SPECIES_PREFERRED_LENGTH = BYTE_SPECIES_PREFERRED.length();
+    static final int BYTE_SPECIES_PREFERRED_LENGTH2 = BYTE_SPECIES_PREFERRED_LENGTH << 1;
+    static final VectorSpecies<Short> SHORT_SPECIES_PREFERRED = ShortVector.SPECIES_PREFERRED;
+    static final int SHORT_SPECIES_PREFERRED_LENGTH = SHORT_SPECIES_PREFERRED.length();
+    static final int SHORT_SPECIES_PREFERRED_LENGTH2 = SHORT_SPECIES_PREFERRED_LENGTH << 1;
+    static final ByteOrder NATIVE_ORDER = ByteOrder.nativeOrder();
+
+    static final byte ZERO = 0;
+    static final byte BACKSLASH = '\\';
+
+    JSONUtilVectorImpl() {
+    }
+
+    @Override
+    public int indexOf(String source, byte[] buf, int beginIndex, int token) {
+        if (beginIndex < buf.length - BYTE_SPECIES_PREFERRED_LENGTH) {
+            ByteVector vector = ByteVector.fromArray(BYTE_SPECIES_PREFERRED, buf, beginIndex);
+            int firstTrue = vector.eq((byte) token).firstTrue();
+            if (firstTrue != BYTE_SPECIES_PREFERRED_LENGTH) {
+                return beginIndex + firstTrue;
+            }
+            beginIndex += BYTE_SPECIES_PREFERRED_LENGTH;
+        }
+        return source.indexOf(token, beginIndex);
+    }
+
+    static int getIndexOfQuoteOrBackslashOrNegative(byte[] buf, int offset, int quote) {
+        ByteVector vector = ByteVector.fromArray(BYTE_SPECIES_PREFERRED, buf, offset);
+        return vector.eq((byte) quote).or(vector.eq(BACKSLASH)).or(vector.lt(ZERO)).firstTrue();
+    }
+
+    @Override
+    public int ensureIndexOfQuoteOrBackslashOrUTF8Byte(byte[] buf, int offset, int quote, long quoteMask) {
+        final int len = buf.length;
+        int pos;
+        while (offset <= len - BYTE_SPECIES_PREFERRED_LENGTH2) {
+            if ((pos = getIndexOfQuoteOrBackslashOrNegative(buf, offset, quote)) != BYTE_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += BYTE_SPECIES_PREFERRED_LENGTH;
+            if ((pos = getIndexOfQuoteOrBackslashOrNegative(buf, offset, quote)) != BYTE_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += BYTE_SPECIES_PREFERRED_LENGTH;
+        }
+        if (offset <= len - BYTE_SPECIES_PREFERRED_LENGTH) {
+            if ((pos = getIndexOfQuoteOrBackslashOrNegative(buf, offset, quote)) != BYTE_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += BYTE_SPECIES_PREFERRED_LENGTH;
+        }
+        return super.ensureIndexOfQuoteOrBackslashOrUTF8Byte(buf, offset, quote, quoteMask);
+    }
+
+    static int getIndexOfQuoteOrBackslashChar(char[] buf, int offset, char quote) {
+        ShortVector vector = ShortVector.fromCharArray(SHORT_SPECIES_PREFERRED, buf, offset);
+        return vector.eq((short) quote).or(vector.eq(BACKSLASH)).firstTrue();
+    }
+
+    @Override
+    public int ensureIndexOfQuoteOrBackslashChar(char[] buf, int offset, char quote, long quoteMask) {
+        final int len = buf.length;
+        int pos;
+        while (offset <= len - SHORT_SPECIES_PREFERRED_LENGTH2) {
+            if ((pos = getIndexOfQuoteOrBackslashChar(buf, offset, quote)) != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+            if ((pos = getIndexOfQuoteOrBackslashChar(buf, offset, quote)) != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+        }
+        if (offset <= len - SHORT_SPECIES_PREFERRED_LENGTH) {
+            if ((pos = getIndexOfQuoteOrBackslashChar(buf, offset, quote)) != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+        }
+        return super.ensureIndexOfQuoteOrBackslashChar(buf, offset, quote, quoteMask);
+    }
+
+    // '"' or '\\' or < 32
+    static int getIndexOfEscape(byte[] buf, int offset) {
+        ByteVector vector = ByteVector.fromArray(ByteVector.SPECIES_256, buf, offset);
+        return vector.eq((byte) '"').or(vector.eq(BACKSLASH)).or(vector.lt((byte) ' ')).firstTrue();
+    }
+
+    @Override
+    public int toNoEscapeOffset(byte[] buf, int offset) {
+        // buf.length >= 32
+        int pos;
+        if ((pos = getIndexOfEscape(buf, offset)) != 32) {
+            return offset + pos;
+        }
+        offset += 32;
+        final int limit = buf.length - 32;
+        while (offset <= limit) {
+            if ((pos = getIndexOfEscape(buf, offset)) != 32) {
+                return offset + pos;
+            }
+            offset += 32;
+        }
+        return offset;
+    }
+
+    @Override
+    public int toNoEscapeOffset(char[] buf, int offset) {
+        // buf.length >= 64
+        final int limit = buf.length - SHORT_SPECIES_PREFERRED_LENGTH;
+        while (offset <= limit) {
+            ShortVector vector = ShortVector.fromCharArray(SHORT_SPECIES_PREFERRED, buf, offset);
+            int pos = vector.eq((short) '"').or(vector.eq(BACKSLASH)).or(vector.compare(VectorOperators.UNSIGNED_LT, (short) ' ')).firstTrue();
+            if (pos != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+        }
+        return offset;
+    }
+
+    @Override
+    public int toNoEscapeAsciiOffset(byte[] utf16, int offset) {
+        final int limit = (utf16.length >> 1) - SHORT_SPECIES_PREFERRED_LENGTH;
+        while (offset <= limit) {
+            ShortVector vector = ShortVector.fromByteArray(SHORT_SPECIES_PREFERRED, utf16, offset << 1, NATIVE_ORDER);
+            int pos = vector.compare(VectorOperators.UNSIGNED_GT, (short) 0x7F).or(vector.lt((short) ' ')).or(vector.eq((short) '"')).or(vector.eq(BACKSLASH)).firstTrue();
+            if (pos != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+        }
+        return super.toNoEscapeAsciiOffset(utf16, offset);
+    }
+
+    @Override
+    public int skipWhiteSpaces(byte[] buf, int offset) {
+        final int limit = buf.length - BYTE_SPECIES_PREFERRED_LENGTH;
+        while (offset <= limit) {
+            // signed: 0x21 ~ 0x7F
+            int pos = ByteVector.fromArray(BYTE_SPECIES_PREFERRED, buf, offset).compare(VectorOperators.GT, (byte) ' ').firstTrue();
+            if (pos != BYTE_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += BYTE_SPECIES_PREFERRED_LENGTH;
+        }
+        return super.skipWhiteSpaces(buf, offset);
+    }
+
+    @Override
+    public int skipWhiteSpaces(char[] buf, int offset) {
+        final int limit = buf.length - SHORT_SPECIES_PREFERRED_LENGTH;
+        while (offset <= limit) {
+            int pos = ShortVector.fromCharArray(SHORT_SPECIES_PREFERRED, buf, offset).compare(VectorOperators.UNSIGNED_GT, (short) ' ').firstTrue();
+            if (pos != SHORT_SPECIES_PREFERRED_LENGTH) {
+                return offset + pos;
+            }
+            offset += SHORT_SPECIES_PREFERRED_LENGTH;
+        }
+        return super.skipWhiteSpaces(buf, offset);
+    }
+
+    static int indexOfBackslashByVector(byte[] buf) {
+        ByteVector vector = ByteVector.fromArray(ByteVector.SPECIES_256, buf, 0);
+        int pos = vector.eq(BACKSLASH).firstTrue();
+        if (pos != 32) {
+            return pos;
+        }
+        vector = ByteVector.fromArray(ByteVector.SPECIES_256, buf, 32);
+        pos = vector.eq(BACKSLASH).firstTrue();
+        return pos != 32 ? 32 + pos : -1;
+    }
+
+    static int indexOfBackslashLocal(byte[] buf) {
+        for (int i = 0, len = buf.length; i < len; ++i) {
+            if (buf[i] == BACKSLASH) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isSupportVectorWellTest() {
+        if (BYTE_SPECIES_PREFERRED_LENGTH < 32) {
+            return false;
+        }
+        byte[] buf = new byte[64];
+        for (int i = 0; i < 63; ++i) {
+            buf[i] = 'a';
+        }
+        buf[63] = BACKSLASH;
+        long begin = System.nanoTime();
+        for (int i = 0; i < 10000000; ++i) {
+            indexOfBackslashByVector(buf);
+        }
+        long vectorTime = System.nanoTime() - begin;
+        begin = System.nanoTime();
+        for (int i = 0; i < 10000000; ++i) {
+            indexOfBackslashLocal(buf);
+        }
+        long localTime = System.nanoTime() - begin;
+        return localTime > vectorTime;
+    }
+}
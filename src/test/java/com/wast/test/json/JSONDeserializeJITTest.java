@@ -0,0 +1,287 @@
+package com.wast.test.json;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.options.ReadOption;
+import io.github.wycst.wast.json.annotations.JsonProperty;
+import io.github.wycst.wast.json.annotations.JsonTypeSetting;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONDeserializeJITTest {
+
+    @JsonTypeSetting(enableJIT = true)
+    public static class Student {
+        private int age;
+        private long id;
+        private String name;
+        private List<String> tags;
+        public double score;
+        private boolean active;
+        private String 班级;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String get班级() {
+            return 班级;
+        }
+
+        public void set班级(String 班级) {
+            this.班级 = 班级;
+        }
+    }
+
+    @JsonTypeSetting(enableJIT = true)
+    public static class Teacher {
+        private int age;
+        private String name;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static abstract class Shape {
+        public abstract double area();
+    }
+
+    public static class Circle extends Shape {
+        public double radius;
+
+        public double area() {
+            return Math.PI * radius * radius;
+        }
+    }
+
+    /**
+     * 抽象类型的字段（没有缓存的反序列化器）不支持优化反序列化，enableJIT时使用生成的反序列化器
+     */
+    @JsonTypeSetting(enableJIT = true)
+    public static class Drawing {
+        private int id;
+        private long version;
+        private String title;
+        private boolean visible;
+        public float scale;
+        private int[] layers;
+        @JsonProperty(impl = Circle.class)
+        private Shape shape;
+        private Long owner;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public void setVersion(long version) {
+            this.version = version;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public void setVisible(boolean visible) {
+            this.visible = visible;
+        }
+
+        public int[] getLayers() {
+            return layers;
+        }
+
+        public void setLayers(int[] layers) {
+            this.layers = layers;
+        }
+
+        public Shape getShape() {
+            return shape;
+        }
+
+        public void setShape(Shape shape) {
+            this.shape = shape;
+        }
+
+        public Long getOwner() {
+            return owner;
+        }
+
+        public void setOwner(Long owner) {
+            this.owner = owner;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // 支持优化反序列化的pojo也使用生成的反序列化器（剩余字段由优化反序列化器读取）
+        assertEquals(true, deserializerClassName(Teacher.class).contains(".__JPD_Teacher_"), "generated deserializer");
+        Teacher teacher = JSON.parseObject("{\"age\":40,\"name\":\"Wang\"}", Teacher.class);
+        assertEquals(40, teacher.age, "teacher age");
+        assertEquals("Wang", teacher.name, "teacher name");
+        // 顺序不一致，未知字段，空白
+        teacher = JSON.parseObject("{ \"name\" : \"Zhang\" , \"age\" : -7 }", Teacher.class);
+        assertEquals(-7, teacher.age, "out of order age");
+        assertEquals("Zhang", teacher.name, "out of order name");
+        teacher = JSON.parseObject("{\"age\":41,\"x\":[1,{\"age\":2}],\"name\":\"Zhao\"}".getBytes("UTF-8"), Teacher.class);
+        assertEquals(41, teacher.age, "unknown field age");
+        assertEquals("Zhao", teacher.name, "unknown field name");
+        // 转义的字段名，非标准数字以及字符串值
+        teacher = JSON.parseObject("{\"age\":\"42\",\"\\u0061\":1,\"name\":\"Qian\"}", Teacher.class);
+        assertEquals(42, teacher.age, "string number");
+        assertEquals("Qian", teacher.name, "escaped unknown key");
+        teacher = JSON.parseObject("{\"age\":4.3e1,\"name\":null}", Teacher.class);
+        assertEquals(43, teacher.age, "exponent number");
+        assertEquals(null, teacher.name, "null name");
+        assertEquals(0, JSON.parseObject("{}", Teacher.class).age, "empty object");
+        // 最后的逗号
+        String error = null;
+        try {
+            JSON.parseObject("{\"age\":1,\"name\":\"a\",}", Teacher.class);
+        } catch (Exception e) {
+            error = e.getMessage();
+        }
+        assertEquals(true, error != null && error.contains("'}' is not allowed here"), "last comma " + error);
+        teacher = JSON.parseObject("{\"age\":1,}", Teacher.class, ReadOption.AllowLastEndComma);
+        assertEquals(1, teacher.age, "allow last comma");
+        error = null;
+        try {
+            JSON.parseObject("{\"age\":1 \"name\":\"a\"}", Teacher.class);
+        } catch (Exception e) {
+            error = e.getMessage();
+        }
+        assertEquals(true, error != null, "missing comma");
+
+        // 非ascii字段名不支持优化反序列化
+        assertEquals(true, deserializerClassName(Student.class).contains(".__JPD_Student_"), "generated deserializer");
+        String json = "{\"age\":12,\"id\":12345678901,\"name\":\"Li Lei\",\"tags\":[\"a\",\"b\"],\"score\":95.5,\"active\":true,\"班级\":\"三班\",\"unknown\":{\"k\":1}}";
+        for (int i = 0; i < 2; i++) {
+            Student student = i == 0 ? JSON.parseObject(json, Student.class) : JSON.parseObject(json.getBytes("UTF-8"), Student.class);
+            assertEquals(12, student.age, "age");
+            assertEquals(12345678901L, student.id, "id");
+            assertEquals("Li Lei", student.name, "name");
+            assertEquals(Arrays.asList("a", "b"), student.tags, "tags");
+            assertEquals(95.5, student.score, "score");
+            assertEquals(true, student.active, "active");
+            assertEquals("三班", student.班级, "non-ascii key");
+        }
+
+        // latin1字符串（JDK9+按字节解析）
+        Student student = JSON.parseObject("{\"active\":true,\"age\":1,\"id\":2,\"name\":\"\u00e9\",\"tags\":[],\"score\":1.5}", Student.class);
+        assertEquals("\u00e9", student.name, "latin1 value");
+        assertEquals(1.5, student.score, "latin1 score");
+
+        String drawingClassName = deserializerClassName(Drawing.class);
+        assertEquals(true, drawingClassName.contains(".__JPD_Drawing_"), "generated deserializer " + drawingClassName);
+        json = "{\"id\":7,\"version\":12345678901,\"title\":\"plan \\u0041\",\"visible\":true,\"scale\":1.5,\"layers\":[1,2,3],\"shape\":{\"radius\":2.0},\"owner\":null,\"extra\":[{\"a\":1}]}";
+        for (int i = 0; i < 2; i++) {
+            Drawing drawing = i == 0 ? JSON.parseObject(json, Drawing.class) : JSON.parseObject(json.getBytes("UTF-8"), Drawing.class);
+            assertEquals(7, drawing.id, "id");
+            assertEquals(12345678901L, drawing.version, "version");
+            assertEquals("plan A", drawing.title, "title");
+            assertEquals(true, drawing.visible, "visible");
+            assertEquals(1.5f, drawing.scale, "scale");
+            assertEquals("[1, 2, 3]", Arrays.toString(drawing.layers), "layers");
+            assertEquals(Circle.class, drawing.shape.getClass(), "shape impl");
+            assertEquals(2.0, ((Circle) drawing.shape).radius, "radius");
+            assertEquals(null, drawing.owner, "owner");
+        }
+        // 缺省字段保持默认值，null不覆盖基本类型
+        Drawing drawing = JSON.parseObject("{\"id\":null,\"owner\":3}", Drawing.class);
+        assertEquals(0, drawing.id, "null primitive");
+        assertEquals(3L, drawing.owner, "boxed");
+        assertEquals(null, drawing.title, "missing");
+        // 序列化结果可以还原
+        assertEquals(JSON.toJsonString(JSON.parseObject(json, Drawing.class)), JSON.toJsonString(JSON.parseObject(JSON.toJsonString(JSON.parseObject(json, Drawing.class)), Drawing.class)), "round trip");
+
+        long begin = System.currentTimeMillis();
+        for (int i = 0; i < 1000000; i++) {
+            JSON.parseObject(json, Drawing.class);
+        }
+        long end = System.currentTimeMillis();
+        System.out.println("-- " + (end - begin));
+    }
+
+    static String deserializerClassName(Class<?> type) throws Exception {
+        Class<?> storeClass = Class.forName("io.github.wycst.wast.json.JSONStore");
+        Field field = storeClass.getDeclaredField("INSTANCE");
+        field.setAccessible(true);
+        Method method = storeClass.getMethod("getTypeDeserializer", Class.class);
+        method.setAccessible(true);
+        return method.invoke(field.get(null), type).getClass().getName();
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
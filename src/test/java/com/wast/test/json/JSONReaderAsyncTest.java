@@ -0,0 +1,121 @@
+package com.wast.test.json;
+
+import io.github.wycst.wast.json.JSONReader;
+import io.github.wycst.wast.json.JSONReaderHook;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONReaderAsyncTest {
+
+    public static void main(String[] args) throws Exception {
+        // 正常完成
+        Future<Map> future = JSONReader.from("{\"id\": 1, \"list\": [1, 2]}").readAsync(Map.class);
+        assertEquals("{id=1, list=[1, 2]}", future.get(5, TimeUnit.SECONDS).toString(), "completion");
+        assertEquals(true, future.isDone(), "done");
+
+        final List<Object> values = new ArrayList<Object>();
+        Future<Object> hookFuture = JSONReader.from("{\"a\": 1, \"b\": \"x\"}").readAsync(new JSONReaderHook() {
+            protected void parseValue(String key, Object value, Object host, int elementIndex, String path, int type) {
+                if (type > 2) values.add(value);
+            }
+        });
+        hookFuture.get(5, TimeUnit.SECONDS);
+        assertEquals("[1, x]", values.toString(), "hook");
+
+        // 异常完成
+        try {
+            JSONReader.from("{\"id\": 1,, }").readAsync(Map.class).get(5, TimeUnit.SECONDS);
+            throw new AssertionError("expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals(true, e.getCause() instanceof JSONException, "exceptional " + e.getCause());
+        }
+
+        // 取消正在读取的任务：终止读取并关闭流
+        SlowInputStream slowInputStream = new SlowInputStream();
+        Future<Map> slowFuture = JSONReader.from(slowInputStream).readAsync(Map.class);
+        while (slowInputStream.reads < 3) {
+            Thread.sleep(5);
+        }
+        assertEquals(true, slowFuture.cancel(true), "cancel");
+        assertEquals(true, slowFuture.isCancelled(), "cancelled");
+        try {
+            slowFuture.get();
+            throw new AssertionError("expected CancellationException");
+        } catch (CancellationException e) {
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!slowInputStream.closed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(true, slowInputStream.closed, "closed after cancel");
+
+        // 取消尚未开始的任务：不再读取并释放流
+        final List<Runnable> pending = new ArrayList<Runnable>();
+        SlowInputStream notStarted = new SlowInputStream();
+        JSONReader reader = JSONReader.from(notStarted);
+        reader.executor(new Executor() {
+            public void execute(Runnable command) {
+                pending.add(command);
+            }
+        });
+        Future<Map> pendingFuture = reader.readAsync(Map.class);
+        assertEquals(true, pendingFuture.cancel(false), "cancel pending");
+        assertEquals(true, notStarted.closed, "closed pending");
+        pending.get(0).run();
+        assertEquals(0, notStarted.reads, "not read");
+    }
+
+    /**
+     * 无限的慢速流：[1,1,1,...
+     */
+    static class SlowInputStream extends InputStream {
+        volatile int reads;
+        volatile boolean closed;
+        boolean first = true;
+
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0];
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) throw new IOException("closed");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new IOException(e.getMessage());
+            }
+            ++reads;
+            int n = 0;
+            if (first) {
+                b[off + n++] = '[';
+                first = false;
+            }
+            while (n < Math.min(len, 64)) {
+                b[off + n++] = '1';
+                if (n < len) b[off + n++] = ',';
+            }
+            return n;
+        }
+
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.wast.test.json;
+
+import io.github.wycst.wast.json.JSONTapeNode;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONTapeNodeTest {
+
+    public static void main(String[] args) {
+        String databaseJSON = "{\"age\":25,\"name\":\"Miss Zhang\",\"students\":[{\"name\":\"Li Lei\",\"age\":12},{\"age\":16,\"name\":\"Mei Mei Han\"}]}";
+        JSONTapeNode node = JSONTapeNode.parse(databaseJSON);
+        assertEquals(true, node.isObject(), "isObject");
+        assertEquals(25, node.getChild("age").getValue(int.class), "age");
+        assertEquals("Miss Zhang", node.getChild("name").getStringValue(), "name");
+        assertEquals("[age, name, students]", node.keyNames().toString(), "keyNames");
+        assertEquals("Mei Mei Han", node.get("/students/[1]/name").getStringValue(), "path");
+        assertEquals(null, node.get("/students/[2]/name"), "missing index");
+        assertEquals(null, node.get("/teacher"), "missing key");
+        assertEquals(2, node.get("/students").getElementCount(), "element count");
+        assertEquals("Li Lei", node.get("/students").getElementAt(0).getChild("name").getStringValue(), "elementAt");
+        List<Object> ages = new ArrayList<Object>();
+        for (JSONTapeNode child : node.collect("/students/*/age")) {
+            ages.add(child.any());
+        }
+        assertEquals("[12, 16]", ages.toString(), "collect");
+        assertEquals("{\"name\":\"Li Lei\",\"age\":12}", node.get("/students/[0]").source(), "source");
+
+        JSONTapeNode numbers = JSONTapeNode.parse("[0,-0,1.5,-2e10,3E+2,4.25e-1,123456789012]");
+        assertEquals(7, numbers.getElementCount(), "numbers");
+        assertEquals(-2e10, numbers.getElementAt(3).getValue(double.class), "exponent");
+        assertEquals(123456789012L, numbers.getElementAt(6).getValue(long.class), "long");
+        assertEquals(true, JSONTapeNode.parse(" null ").isNull(), "null");
+
+        // 结构错误
+        String[] malformed = {"{\"a\":1,}", "[1 2]", "{\"a\"}", "{\"a\":1", "[1,2", "[1]x", "{1:2}", "[tru]", "[\"x]", ""};
+        for (String json : malformed) {
+            assertThrows(json);
+        }
+        // 数字在构建tape时校验
+        String[] numberErrors = {"[01]", "[1.]", "[-]", "[1e]", "[1e+]", "[1.2.3]", "[--1]", "[-.5]", "[1.e5]", "{\"a\":2x}", "[00]", "[1-2]"};
+        for (String json : numberErrors) {
+            assertThrows(json);
+        }
+
+        long begin = System.currentTimeMillis();
+        for (int i = 0; i < 1000000; i++) {
+            node = JSONTapeNode.parse(databaseJSON);
+            node.getChild("age").getValue(int.class);
+            node.get("/students/[1]/name").getStringValue();
+            node.collect("/students/*/age");
+        }
+        long end = System.currentTimeMillis();
+        System.out.println("-- " + (end - begin));
+    }
+
+    static void assertThrows(String json) {
+        try {
+            JSONTapeNode.parse(json);
+        } catch (JSONException e) {
+            return;
+        }
+        throw new AssertionError("expected syntax error: " + json);
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wast.test.json.aggregate;
+
+import io.github.wycst.wast.json.JSONAggregator;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONAggregatorTest {
+
+    public static void main(String[] args) throws Exception {
+        String json = "{\"meta\":{\"orders\":[{\"region\":\"x\"}]},\"orders\":[" +
+                "{\"id\":1,\"region\":\"east\",\"amount\":10,\"items\":[{\"amount\":99}],\"customer\":{\"level\":\"vip\",\"tags\":[1]}}," +
+                "{\"id\":2,\"region\":\"west\",\"amount\":2.5,\"customer\":{\"level\":\"normal\"}}," +
+                "{\"id\":3,\"region\":\"east\",\"amount\":30,\"customer\":{\"level\":\"vip\"}}," +
+                "{\"id\":4,\"region\":\"east\",\"amount\":null}," +
+                "{}, 5, [1]" +
+                "],\"total\":4}";
+        List<Map<String, Object>> rows = JSONAggregator.over(json, "$.orders[*]").groupBy("region").sum("amount").min("amount").max("amount").avg("amount").count().execute();
+        assertEquals("[{region=east, sum(amount)=40, min(amount)=10, max(amount)=30, avg(amount)=20.0, count=3}, " +
+                "{region=west, sum(amount)=2.5, min(amount)=2.5, max(amount)=2.5, avg(amount)=2.5, count=1}, " +
+                "{region=null, sum(amount)=0, min(amount)=null, max(amount)=null, avg(amount)=null, count=1}]", rows.toString(), "groupBy");
+
+        rows = JSONAggregator.over(new ByteArrayInputStream(json.getBytes()), "/orders/*").groupBy("customer.level", "region").sum("id").count().execute();
+        assertEquals("[{customer.level=vip, region=east, sum(id)=4, count=2}, {customer.level=normal, region=west, sum(id)=2, count=1}, " +
+                "{customer.level=null, region=east, sum(id)=4, count=1}, {customer.level=null, region=null, sum(id)=0, count=1}]", rows.toString(), "multiple");
+
+        rows = JSONAggregator.over("[{\"v\":1},{\"v\":2.5}]", "$[*]").sum("v").count().execute();
+        assertEquals("[{sum(v)=3.5, count=2}]", rows.toString(), "root array");
+        rows = JSONAggregator.over(json, "$.orders[2]").sum("amount").execute();
+        assertEquals("[{sum(amount)=30}]", rows.toString(), "index");
+
+        // key中包含'/'
+        String slashJson = "{\"a/b\":[{\"r/x\":\"p\",\"m\":{\"n/o\":2}},{\"r\":{\"x\":\"q\"},\"r/x\":\"p\",\"m\":{\"n/o\":3,\"n\":{\"o\":100}}},{}],\"a\":{\"b\":[{\"m\":{\"n/o\":1000}}]}}";
+        rows = JSONAggregator.over(slashJson, "$['a/b'][*]").groupBy("['r/x']").sum("m['n/o']").count().execute();
+        assertEquals("[{['r/x']=p, sum(m['n/o'])=5, count=2}, {['r/x']=null, sum(m['n/o'])=0, count=1}]", rows.toString(), "slash key");
+        rows = JSONAggregator.over(slashJson, "/a/b/*").sum("m.n.o").sum("['m']['n/o']").execute();
+        assertEquals("[{sum(m.n.o)=0, sum(['m']['n/o'])=1000}]", rows.toString(), "slash nested");
+
+        // 大数组流式聚合
+        Random random = new Random(11);
+        String[] regions = {"north", "south", "east", "west"};
+        StringBuilder builder = new StringBuilder("{\"orders\":[");
+        long expectedCount = 0, expectedSum = 0;
+        for (int i = 0; i < 200000; i++) {
+            if (i > 0) builder.append(',');
+            int amount = random.nextInt(1000);
+            String region = regions[i & 3];
+            if (region.equals("east")) {
+                expectedCount++;
+                expectedSum += amount;
+            }
+            builder.append("{\"id\":").append(i).append(",\"region\":\"").append(region).append("\",\"amount\":").append(amount)
+                    .append(",\"lines\":[{\"sku\":\"A-").append(i).append("\",\"qty\":2},{\"sku\":\"B\",\"qty\":1}],\"note\":{\"text\":\"some description text\"}}");
+        }
+        byte[] bytes = builder.append("]}").toString().getBytes();
+        for (int i = 0; i < 5; i++) {
+            long begin = System.nanoTime();
+            rows = JSONAggregator.over(new ByteArrayInputStream(bytes), "$.orders[*]").groupBy("region").sum("amount").count().execute();
+            long use = System.nanoTime() - begin;
+            System.out.println("aggregate " + bytes.length + " bytes, " + use / 1000000 + "ms");
+        }
+        Map<String, Object> east = rows.get(2);
+        assertEquals("east", east.get("region"), "region");
+        assertEquals(expectedCount, east.get("count"), "count");
+        assertEquals(expectedSum, east.get("sum(amount)"), "sum");
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
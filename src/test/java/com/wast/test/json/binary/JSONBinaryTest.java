@@ -0,0 +1,219 @@
+package com.wast.test.json.binary;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONBinaryNode;
+import io.github.wycst.wast.json.options.WriteOption;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONBinaryTest {
+
+    public enum Status {
+        ON, OFF
+    }
+
+    public static class User {
+        private long id;
+        private String name;
+        private double score;
+        private boolean active;
+        private Status status;
+        private Date birthday;
+        private int[] tags;
+        private List<Address> addresses;
+        private Map<String, Integer> counts;
+        private BigDecimal balance;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Date getBirthday() {
+            return birthday;
+        }
+
+        public void setBirthday(Date birthday) {
+            this.birthday = birthday;
+        }
+
+        public int[] getTags() {
+            return tags;
+        }
+
+        public void setTags(int[] tags) {
+            this.tags = tags;
+        }
+
+        public List<Address> getAddresses() {
+            return addresses;
+        }
+
+        public void setAddresses(List<Address> addresses) {
+            this.addresses = addresses;
+        }
+
+        public Map<String, Integer> getCounts() {
+            return counts;
+        }
+
+        public void setCounts(Map<String, Integer> counts) {
+            this.counts = counts;
+        }
+
+        public BigDecimal getBalance() {
+            return balance;
+        }
+
+        public void setBalance(BigDecimal balance) {
+            this.balance = balance;
+        }
+    }
+
+    public static class Address {
+        private String city;
+        private UUID code;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public UUID getCode() {
+            return code;
+        }
+
+        public void setCode(UUID code) {
+            this.code = code;
+        }
+    }
+
+    public static void main(String[] args) {
+        List<User> users = new ArrayList<User>();
+        for (int i = 0; i < 100; i++) {
+            User user = new User();
+            user.setId(-i * 100000000000L);
+            user.setName(i % 2 == 0 ? "user" + i : "用户" + i);
+            user.setScore(i * 0.1);
+            user.setActive(i % 3 == 0);
+            user.setStatus(i % 2 == 0 ? Status.ON : Status.OFF);
+            user.setBirthday(new Date(1000000L * i));
+            user.setTags(new int[]{i, i + 1});
+            Address address = new Address();
+            address.setCity("city" + i);
+            address.setCode(new UUID(i, i));
+            user.setAddresses(Arrays.asList(address));
+            Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+            counts.put("a", i);
+            user.setCounts(counts);
+            user.setBalance(new BigDecimal("12345678901234567890.0" + i));
+            users.add(user);
+        }
+        String json = JSON.toJsonString(users);
+        byte[] binary = JSON.toBinary(users);
+        byte[] dictionaryBinary = JSON.toBinary(users, WriteOption.BinaryFieldNameDictionary);
+        System.out.println("json " + json.getBytes().length + ", binary " + binary.length + ", dictionary " + dictionaryBinary.length);
+
+        GenericParameterizedType<List> listType = GenericParameterizedType.collectionType(List.class, User.class);
+        for (byte[] bytes : new byte[][]{binary, dictionaryBinary}) {
+            List<User> results = JSON.fromBinary(bytes, listType);
+            assertEquals(json, JSON.toJsonString(results));
+            // generic
+            Object any = JSON.fromBinary(bytes, Object.class);
+            assertEquals(((List) JSON.parse(json)).size(), ((List) any).size());
+        }
+
+        // lazy node
+        JSONBinaryNode root = JSON.parseBinaryNode(dictionaryBinary);
+        assertEquals(100, root.getElementCount());
+        assertEquals("用户51", root.get("/51/name").getStringValue());
+        assertEquals(-5100000000000L, root.get("51/id").getLongValue());
+        assertEquals("city7", root.getElementAt(7).get("addresses/0/city").getStringValue());
+        assertEquals(Status.OFF, root.get("/3/status").getValue(Status.class));
+        assertEquals(JSON.toJsonString(users.get(9)), JSON.toJsonString(root.getElementAt(9).toBean(User.class)));
+        assertEquals(null, root.get("/1000/name"));
+
+        // map / scalar values
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("int", 1);
+        map.put("long", Long.MAX_VALUE);
+        map.put("double", -1.5);
+        map.put("string", "\"中文\"");
+        map.put("bytes", new byte[]{1, 2, 3});
+        map.put("list", Arrays.asList(1, "a", null, true));
+        map.put("null", null);
+        Map<String, Object> result = JSON.fromBinary(JSON.toBinary(map, WriteOption.FullProperty), Map.class);
+        assertEquals(JSON.toJsonString(map, WriteOption.FullProperty), JSON.toJsonString(result, WriteOption.FullProperty));
+        assertEquals(null, JSON.toBinary(null));
+        try {
+            JSON.fromBinary(Arrays.copyOf(binary, binary.length - 10), Object.class);
+            throw new AssertionError("expected failure on truncated binary");
+        } catch (io.github.wycst.wast.json.exceptions.JSONException e) {
+            System.out.println(e.getMessage());
+        }
+        // 截断的double以及对象
+        try {
+            JSON.parseBinaryNode(new byte[]{'W', 'B', 1, 0, 4, 1, 2}).getDoubleValue();
+            throw new AssertionError("expected failure on truncated double");
+        } catch (io.github.wycst.wast.json.exceptions.JSONException e) {
+            System.out.println(e.getMessage());
+        }
+        try {
+            JSON.parseBinaryNode(new byte[]{'W', 'B', 1, 0, 9, 2, 'a'}).get("/a");
+            throw new AssertionError("expected failure on truncated object");
+        } catch (io.github.wycst.wast.json.exceptions.JSONException e) {
+            System.out.println(e.getMessage());
+        }
+        System.out.println("ok");
+    }
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.wast.test.json.buffer;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class ByteBufferTest {
+
+    public static class Item {
+        public int id;
+        public String name;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String json = "{\"id\":7,\"name\":\"名称é😀\"}";
+        byte[] bytes = json.getBytes("UTF-8");
+
+        // 堆内缓冲区（整个数组）
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertItem(JSON.parseObject(buffer, Item.class), "heap");
+        assertEquals(buffer.limit(), buffer.position(), "heap position");
+
+        // 偏移缓冲区：区间前后是其他内容（比如池化的缓冲区）
+        byte[] chunk = ("[1,2]" + json + "{\"id\":9}").getBytes("UTF-8");
+        buffer = ByteBuffer.wrap(chunk, 5, bytes.length);
+        assertItem(JSON.parseObject(buffer, Item.class), "offset");
+        assertEquals(5 + bytes.length, buffer.position(), "offset position");
+
+        // 切片缓冲区（arrayOffset不为0）
+        ByteBuffer whole = ByteBuffer.wrap(chunk);
+        whole.position(5);
+        ByteBuffer slice = whole.slice();
+        slice.limit(bytes.length);
+        assertItem(JSON.parseObject(slice, Item.class), "slice");
+        assertEquals(bytes.length, slice.position(), "slice position");
+
+        // 直接内存缓冲区
+        ByteBuffer direct = ByteBuffer.allocateDirect(chunk.length);
+        direct.put(chunk).flip();
+        direct.position(5).limit(5 + bytes.length);
+        assertItem(JSON.parseObject(direct, Item.class), "direct");
+        assertEquals(5 + bytes.length, direct.position(), "direct position");
+
+        // 直接内存缓冲区（ascii，长度不是8的倍数）
+        String asciiJson = "{\"id\":7,\"name\":\"ascii name\"}";
+        direct = ByteBuffer.allocateDirect(64);
+        direct.put(asciiJson.getBytes("UTF-8")).flip();
+        assertEquals("ascii name", JSON.parseObject(direct, Item.class).name, "direct ascii");
+
+        // 只读缓冲区
+        assertItem(JSON.parseObject(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), Item.class), "readonly");
+        assertEquals(null, JSON.parseObject(ByteBuffer.wrap(new byte[0]), Item.class), "empty");
+
+        // 解析失败时不修改position
+        buffer = ByteBuffer.wrap("{\"id\":7,\"name\":".getBytes());
+        try {
+            JSON.parseObject(buffer, Item.class);
+            throw new AssertionError("expected syntax error");
+        } catch (JSONException e) {
+        }
+        assertEquals(0, buffer.position(), "failed position");
+
+        // 写入ByteBuffer
+        Item item = JSON.parseObject(json, Item.class);
+        byte[] expected = JSON.toJsonString(item).getBytes("UTF-8");
+        for (ByteBuffer target : new ByteBuffer[]{ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256)}) {
+            target.position(3);
+            JSON.writeJsonTo(item, target);
+            assertEquals(3 + expected.length, target.position(), "write position");
+            target.flip().position(3);
+            byte[] written = new byte[target.remaining()];
+            target.get(written);
+            assertEquals(new String(expected, "UTF-8"), new String(written, "UTF-8"), "write content");
+        }
+
+        // 空间不足时抛出异常且不修改缓冲区
+        ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+        try {
+            JSON.writeJsonTo(item, small);
+            throw new AssertionError("expected overflow");
+        } catch (JSONException e) {
+        }
+        assertEquals(0, small.position(), "overflow position");
+        assertEquals(0, (int) small.get(0), "overflow content");
+        small = ByteBuffer.allocate(expected.length);
+        JSON.writeJsonTo(item, small);
+        assertEquals(false, small.hasRemaining(), "exact");
+
+        // 写入channel
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        JSON.writeJsonTo(item, Channels.newChannel(os));
+        assertEquals(new String(expected, "UTF-8"), new String(os.toByteArray(), "UTF-8"), "channel");
+        Map map = JSON.parseObject(ByteBuffer.wrap(os.toByteArray()), Map.class);
+        assertEquals(7, map.get("id"), "map");
+
+        // 非阻塞channel不支持（写入会空转）
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            try {
+                JSON.writeJsonTo(item, pipe.sink());
+                throw new AssertionError("expected non-blocking failure");
+            } catch (JSONException e) {
+                assertEquals("non-blocking channel is not supported", e.getMessage(), "non-blocking");
+            }
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    static void assertItem(Item item, String message) {
+        assertEquals(7, item.id, message);
+        assertEquals("名称é😀", item.name, message);
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
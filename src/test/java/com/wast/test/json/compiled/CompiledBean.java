@@ -0,0 +1,60 @@
+package com.wast.test.json.compiled;
+
+import io.github.wycst.wast.json.annotations.JsonCompiled;
+
+import java.util.List;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+@JsonCompiled
+public class CompiledBean {
+
+    private int id;
+    private long version;
+    private String name;
+    private boolean enabled;
+    private List<String> tags;
+    public double score;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,23 @@
+package com.wast.test.json.compiled;
+
+import io.github.wycst.wast.json.annotations.JsonCompiled;
+
+/**
+ * 没有public无参构造方法，不支持生成反序列化器
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@JsonCompiled(serialize = false)
+public class CompiledImmutableBean {
+
+    private final int id;
+
+    public CompiledImmutableBean(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+}
@@ -0,0 +1,109 @@
+package com.wast.test.json.compiled;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONCompiledGenerator;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.io.*;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+/**
+ * 构建阶段生成代码（JSONCompiledGenerator）以及运行时按名称加载（JSONCompiledRegistry）
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONCompiledTest {
+
+    public static void main(String[] args) throws Exception {
+        // 模拟构建输出目录：只包含fixture的class
+        File classesDir = File.createTempFile("wast-compiled", "");
+        classesDir.delete();
+        File packageDir = new File(classesDir, "com/wast/test/json/compiled");
+        packageDir.mkdirs();
+        copy(CompiledBean.class.getResourceAsStream("CompiledBean.class"), new File(packageDir, "CompiledBean.class"));
+        File sourceDir = new File(classesDir.getParentFile(), classesDir.getName() + "-src");
+
+        List<String> generated = JSONCompiledGenerator.generate(classesDir, sourceDir);
+        assertEquals("[com.wast.test.json.compiled.__JPS_CompiledBean, com.wast.test.json.compiled.__JPD_CompiledBean]", generated.toString(), "generated");
+        assertEquals(true, new File(packageDir, "__JPS_CompiledBean.class").exists(), "serializer class");
+        assertEquals(true, new File(packageDir, "__JPD_CompiledBean.class").exists(), "deserializer class");
+        assertEquals(true, new File(sourceDir, "com/wast/test/json/compiled/__JPD_CompiledBean.java").exists(), "deserializer source");
+        // 生成类已存在时不会重复扫描
+        assertEquals("[com.wast.test.json.compiled.__JPS_CompiledBean, com.wast.test.json.compiled.__JPD_CompiledBean]", JSONCompiledGenerator.generate(classesDir, sourceDir).toString(), "regenerate");
+
+        // 独立的类加载器（pojo与生成类在同一目录下，wast也由此加载器加载）
+        URL wastClasses = JSON.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toURI().toURL(), wastClasses}, ClassLoader.getSystemClassLoader().getParent());
+        Class<?> beanClass = classLoader.loadClass(CompiledBean.class.getName());
+        Class<?> storeClass = classLoader.loadClass("io.github.wycst.wast.json.JSONStore");
+        Field instanceField = storeClass.getDeclaredField("INSTANCE");
+        instanceField.setAccessible(true);
+        Object store = instanceField.get(null);
+        Method getTypeDeserializer = storeClass.getDeclaredMethod("getTypeDeserializer", Class.class);
+        getTypeDeserializer.setAccessible(true);
+        Method getTypeSerializer = storeClass.getDeclaredMethod("getTypeSerializer", Class.class);
+        getTypeSerializer.setAccessible(true);
+        assertEquals("com.wast.test.json.compiled.__JPD_CompiledBean", getTypeDeserializer.invoke(store, beanClass).getClass().getName(), "registry deserializer");
+        assertEquals("com.wast.test.json.compiled.__JPS_CompiledBean", getTypeSerializer.invoke(store, beanClass).getClass().getName(), "registry serializer");
+
+        // 使用生成类序列化和反序列化
+        Class<?> jsonClass = classLoader.loadClass(JSON.class.getName());
+        Class<?> readOptionsClass = Class.forName("[L" + ReadOption.class.getName() + ";", false, classLoader);
+        Method parseObject = jsonClass.getMethod("parseObject", String.class, Class.class, readOptionsClass);
+        Method toJsonString = jsonClass.getMethod("toJsonString", Object.class);
+        String json = "{\"id\":7,\"version\":12345678901,\"name\":\"compiled\",\"enabled\":true,\"tags\":[\"a\",\"b\"],\"score\":1.5}";
+        Object bean = parseObject.invoke(null, json, beanClass, Array.newInstance(readOptionsClass.getComponentType(), 0));
+        assertEquals(7, beanClass.getMethod("getId").invoke(bean), "id");
+        assertEquals(12345678901L, beanClass.getMethod("getVersion").invoke(bean), "version");
+        assertEquals("compiled", beanClass.getMethod("getName").invoke(bean), "name");
+        assertEquals(true, beanClass.getMethod("isEnabled").invoke(bean), "enabled");
+        assertEquals("[a, b]", String.valueOf(beanClass.getMethod("getTags").invoke(bean)), "tags");
+        assertEquals(1.5, beanClass.getField("score").get(bean), "score");
+        String output = (String) toJsonString.invoke(null, bean);
+        assertEquals(JSON.toJsonString(JSON.parseObject(json, CompiledBean.class)), output, "serialize");
+
+        // 没有生成类时按原有逻辑处理
+        CompiledBean compiledBean = JSON.parseObject(json, CompiledBean.class);
+        assertEquals("compiled", compiledBean.getName(), "fallback");
+        // 不支持生成反序列化器时抛出JSONException并给出类名
+        File unsupportedDir = File.createTempFile("wast-compiled", "");
+        unsupportedDir.delete();
+        File unsupportedPackageDir = new File(unsupportedDir, "com/wast/test/json/compiled");
+        unsupportedPackageDir.mkdirs();
+        copy(CompiledImmutableBean.class.getResourceAsStream("CompiledImmutableBean.class"), new File(unsupportedPackageDir, "CompiledImmutableBean.class"));
+        String error = null;
+        try {
+            JSONCompiledGenerator.generate(unsupportedDir, null);
+        } catch (JSONException e) {
+            error = e.getMessage();
+        }
+        assertEquals(true, error != null && error.contains(CompiledImmutableBean.class.getName()) && error.contains("deserializer"), "unsupported " + error);
+    }
+
+    static void copy(InputStream is, File file) throws IOException {
+        OutputStream os = new FileOutputStream(file);
+        try {
+            byte[] buf = new byte[4096];
+            int n;
+            while ((n = is.read(buf)) > -1) {
+                os.write(buf, 0, n);
+            }
+        } finally {
+            is.close();
+            os.close();
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
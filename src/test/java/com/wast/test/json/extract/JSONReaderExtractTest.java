@@ -0,0 +1,84 @@
+package com.wast.test.json.extract;
+
+import io.github.wycst.wast.json.JSONReader;
+import io.github.wycst.wast.json.JSONReaderHook;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONReaderExtractTest {
+
+    public static void main(String[] args) {
+        String head = "{\"meta\":{\"id\":7,\"name\":\"m\"},\"items\":[{\"price\":1.5,\"tags\":[\"a\"]},{\"sku\":\"x\",\"price\":2},{\"price\":null}],\"a.b\":{\"c\":[1,2]}";
+        StringBuilder builder = new StringBuilder(head).append(",\"tail\":[");
+        for (int i = 0; i < 100000; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"price\":").append(i).append('}');
+        }
+        // invalid content, should never be read
+        builder.append("@@@");
+
+        final byte[] bytes = builder.toString().getBytes();
+        final int[] readCount = new int[1];
+        InputStream is = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int n = super.read(b, off, len);
+                if (n > 0) readCount[0] += n;
+                return n;
+            }
+        };
+        Map<String, Object> values = JSONReader.extract(is, "$.meta.id", "$.items[*].price", "$.items[0]", "$['a.b'].c[1]", "/meta/missing");
+        System.out.println(values);
+        assertEquals(7L, ((Number) values.get("$.meta.id")).longValue());
+        List prices = (List) values.get("$.items[*].price");
+        assertEquals(3, prices.size());
+        assertEquals(null, prices.get(2));
+        assertEquals("a", ((List) ((Map) values.get("$.items[0]")).get("tags")).get(0));
+        assertEquals(2L, ((Number) values.get("$['a.b'].c[1]")).longValue());
+        assertEquals(true, values.containsKey("/meta/missing"));
+        assertEquals(null, values.get("/meta/missing"));
+        if (readCount[0] >= bytes.length) {
+            throw new AssertionError("expected early termination, read " + readCount[0]);
+        }
+        System.out.println("read " + readCount[0] + "/" + bytes.length);
+
+        // wildcard over the whole document, nested wildcards
+        Map<String, Object> all = JSONReader.extract(head + "}", "$.items[*].tags[*]", "$.*.id");
+        assertEquals(Arrays.asList("a"), all.get("$.items[*].tags[*]"));
+        assertEquals(1, ((List) all.get("$.*.id")).size());
+
+        JSONReaderHook hook = JSONReaderHook.extract("$.meta.name", "$.items[1].sku");
+        JSONReader.from(head + "}").read(hook);
+        assertEquals(Arrays.asList("m", "x"), hook.getResults());
+
+        // key中包含'/'
+        String slashJson = "{\"a/b\":{\"c\":1},\"a\":{\"b/c\":2,\"b\":{\"c\":3},\"d\":[{\"e/f\":[4]}]}}";
+        Map<String, Object> slash = JSONReader.extract(slashJson, "$['a/b'].c", "$.a['b/c']", "$.a.b.c", "$.a.d[0]['e/f'][0]", "$['a/b']");
+        assertEquals(1L, ((Number) slash.get("$['a/b'].c")).longValue());
+        assertEquals(2L, ((Number) slash.get("$.a['b/c']")).longValue());
+        assertEquals(3L, ((Number) slash.get("$.a.b.c")).longValue());
+        assertEquals(4L, ((Number) slash.get("$.a.d[0]['e/f'][0]")).longValue());
+        assertEquals("{c=1}", String.valueOf(slash.get("$['a/b']")));
+
+        // 空的对象或者数组
+        Map<String, Object> empty = JSONReader.extract("{\"x\":{},\"y\":[],\"z\":{\"v\":[{},5]}}", "$.x", "$.y", "$.z.v[1]", "$.z.v[*]");
+        assertEquals("{}", String.valueOf(empty.get("$.x")));
+        assertEquals("[]", String.valueOf(empty.get("$.y")));
+        assertEquals(5L, ((Number) empty.get("$.z.v[1]")).longValue());
+        assertEquals("[{}, 5]", String.valueOf(empty.get("$.z.v[*]")));
+        System.out.println("ok");
+    }
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
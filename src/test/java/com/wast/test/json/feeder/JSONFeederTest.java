@@ -0,0 +1,82 @@
+package com.wast.test.json.feeder;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONFeeder;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONFeederTest {
+
+    public static void main(String[] args) throws Exception {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 10000; ++i) {
+            if (i > 0) builder.append(", ");
+            builder.append("{\"id\": ").append(i).append(", \"name\": \"名称-").append(i).append("\", \"tags\": [\"a]\", \"{b\"]}");
+        }
+        builder.append(", 10000]");
+        byte[] bytes = builder.toString().getBytes("UTF-8");
+
+        JSONFeeder<Object> feeder = JSONFeeder.ofElements(Object.class);
+        List<Object> values = new ArrayList<Object>();
+        ByteBuffer chunk = ByteBuffer.allocateDirect(1000);
+        for (int i = 0; i < bytes.length; i += 1000) {
+            chunk.clear();
+            chunk.put(bytes, i, Math.min(1000, bytes.length - i));
+            chunk.flip();
+            values.addAll(feeder.feed(chunk));
+        }
+        values.addAll(feeder.endOfInput());
+        for (int i = 0; i < 10000; ++i) {
+            Map map = (Map) values.get(i);
+            if (((Number) map.get("id")).intValue() != i || !("名称-" + i).equals(map.get("name"))) {
+                throw new IllegalStateException("mismatch at " + i + ": " + map);
+            }
+        }
+        System.out.println(values.size() + ", last " + values.get(10000));
+
+        // ndjson输出的数字和布尔值以逗号结尾，逗号为分隔符
+        List<Integer> ints = new ArrayList<Integer>();
+        for (int i = -50; i < 1000; ++i) {
+            ints.add(i * 7919);
+        }
+        List<Object> mixed = Arrays.<Object>asList(1, true, "a,b", 2.5, false, null, 3, "x");
+        assertEquals(Arrays.asList(1, 2, 3), JSONFeeder.of(Integer.class).feed("1,\n2,\n3,\n".getBytes()), "ndjson ints");
+        assertEquals(ints, feedChunks(JSONFeeder.of(Integer.class), JSON.toNdJsonString(ints).getBytes()), "toNdJsonString ints");
+        List<Boolean> booleans = Arrays.asList(true, false, false, true);
+        assertEquals(booleans, feedChunks(JSONFeeder.of(Boolean.class), JSON.toNdJsonString(booleans).getBytes()), "toNdJsonString booleans");
+        List<Object> expectedMixed = new ArrayList<Object>(mixed);
+        expectedMixed.remove(null);
+        assertEquals(expectedMixed, feedChunks(JSONFeeder.of(Object.class), JSON.toNdJsonString(mixed).getBytes()), "toNdJsonString mixed");
+        assertEquals(JSON.parseNdJson("1, 2 ,{\"a\":1},[3]", Object.class), feedChunks(JSONFeeder.of(Object.class), "1, 2 ,{\"a\":1},[3]".getBytes()), "comma separated");
+    }
+
+    /**
+     * 按随机边界分块推送
+     */
+    static <T> List<T> feedChunks(JSONFeeder<T> feeder, byte[] bytes) {
+        Random random = new Random(bytes.length);
+        List<T> values = new ArrayList<T>();
+        for (int i = 0; i < bytes.length; ) {
+            int len = Math.min(1 + random.nextInt(5), bytes.length - i);
+            values.addAll(feeder.feed(bytes, i, len));
+            i += len;
+        }
+        values.addAll(feeder.endOfInput());
+        return values;
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
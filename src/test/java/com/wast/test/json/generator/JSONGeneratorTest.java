@@ -0,0 +1,157 @@
+package com.wast.test.json.generator;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONGenerator;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.WriteOption;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Pipe;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONGeneratorTest {
+
+    public static void main(String[] args) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        JSONGenerator generator = JSON.createGenerator(bos);
+        generator.writeStartObject();
+        generator.writeField("name", "导出");
+        generator.writeFieldName("rows");
+        generator.writeStartArray();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> row = new HashMap<String, Object>();
+            row.put("id", i);
+            row.put("value", i * 1.5);
+            generator.writeValue(row);
+        }
+        generator.writeValue(100L);
+        generator.writeValue(true);
+        generator.writeNull();
+        generator.writeEnd();
+        generator.writeFieldName("empty");
+        generator.writeStartArray();
+        generator.writeEnd();
+        generator.close();
+        String json = new String(bos.toByteArray(), "UTF-8");
+        System.out.println(json);
+        Map map = (Map) JSON.parse(json);
+        System.out.println(((List) map.get("rows")).size() == 6);
+
+        bos = new ByteArrayOutputStream();
+        generator = JSON.createGenerator(bos, WriteOption.FormatOut);
+        generator.writeStartArray();
+        generator.writeStartObject();
+        generator.writeField("a", 1);
+        generator.writeField("b", new int[]{1, 2});
+        generator.writeEnd();
+        generator.close();
+        System.out.println(new String(bos.toByteArray(), "UTF-8"));
+
+        // bounded memory
+        final long[] maxPending = new long[1];
+        final long[] total = new long[1];
+        OutputStream counter = new OutputStream() {
+            public void write(int b) {
+                total[0]++;
+            }
+
+            public void write(byte[] b, int off, int len) {
+                total[0] += len;
+                maxPending[0] = Math.max(maxPending[0], len);
+            }
+        };
+        generator = JSON.createGenerator(counter);
+        generator.setFlushThreshold(8192);
+        generator.writeStartArray();
+        for (int i = 0; i < 1000000; i++) {
+            generator.writeStartObject();
+            generator.writeFieldName("id");
+            generator.writeValue(i);
+            generator.writeFieldName("name");
+            generator.writeValue("row" + i);
+            generator.writeEnd();
+        }
+        generator.close();
+        System.out.println("total " + total[0] + ", max chunk " + maxPending[0]);
+
+        // 关闭失败抛出JSONException
+        final boolean[] failWrite = new boolean[1];
+        final int[] closeCount = new int[1];
+        OutputStream failing = new OutputStream() {
+            public void write(int b) throws IOException {
+                if (failWrite[0]) throw new IOException("write failed");
+            }
+
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (failWrite[0]) throw new IOException("write failed");
+            }
+
+            public void close() throws IOException {
+                closeCount[0]++;
+                throw new IOException("close failed");
+            }
+        };
+        generator = JSON.createGenerator(failing);
+        generator.writeStartArray();
+        generator.writeValue(1);
+        assertEquals("close failed", closeError(generator), "close error");
+        assertEquals(null, closeError(generator), "closed twice");
+        assertEquals(1, closeCount[0], "close count");
+
+        // 写出失败时保留原始异常，输出流仍然关闭
+        failWrite[0] = true;
+        generator = JSON.createGenerator(failing);
+        generator.writeStartArray();
+        assertEquals("write failed", closeError(generator), "write error");
+        assertEquals(2, closeCount[0], "close count after write error");
+
+        // 非阻塞channel不支持（写出会空转）
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            try {
+                JSON.createGenerator(pipe.sink());
+                throw new AssertionError("expected non-blocking failure");
+            } catch (JSONException e) {
+                assertEquals("non-blocking channel is not supported", e.getMessage(), "non-blocking create");
+            }
+            pipe.sink().configureBlocking(true);
+            generator = JSON.createGenerator(pipe.sink());
+            generator.writeStartArray();
+            generator.writeValue(1);
+            pipe.sink().configureBlocking(false);
+            try {
+                generator.flush();
+                throw new AssertionError("expected non-blocking failure");
+            } catch (JSONException e) {
+                assertEquals("non-blocking channel is not supported", e.getMessage(), "non-blocking flush");
+            }
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    static String closeError(JSONGenerator generator) {
+        try {
+            generator.close();
+            return null;
+        } catch (JSONException e) {
+            return e.getCause().getMessage();
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.wast.test.json.inputstream;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONNode;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class FileReadTest {
+
+    public static class Item {
+        public int id;
+        public String name;
+    }
+
+    public static class Data {
+        public String title;
+        public List<Item> items;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Data data = new Data();
+        data.title = "标题 é 😀";
+        data.items = new ArrayList<Item>();
+        for (int i = 0; i < 2000; ++i) {
+            Item item = new Item();
+            item.id = i;
+            item.name = "名称-" + i;
+            data.items.add(item);
+        }
+        byte[] bytes = JSON.toJsonBytes(data);
+        File file = File.createTempFile("wast-file-read", ".json");
+        file.deleteOnExit();
+        write(file, bytes);
+
+        Data result = JSON.read(file, Data.class);
+        assertEquals(JSON.toJsonString(data), JSON.toJsonString(result), "read(File, Class)");
+        result = JSON.read(file, GenericParameterizedType.actualType(Data.class));
+        assertEquals(data.title, result.title, "read(File, GenericParameterizedType)");
+
+        FileInputStream fis = new FileInputStream(file);
+        Map map = JSON.read(fis, Map.class);
+        assertEquals(2000, ((List) map.get("items")).size(), "read(FileInputStream, Class)");
+        // 调用方传入的流不关闭
+        assertEquals(true, fis.getChannel().isOpen(), "caller stream open");
+        fis.close();
+        fis = new FileInputStream(file);
+        assertEquals(data.title, JSON.read(fis, GenericParameterizedType.actualType(Data.class)).title, "read(FileInputStream, GenericParameterizedType)");
+        assertEquals(true, fis.getChannel().isOpen(), "caller stream open (generic)");
+        fis.close();
+        assertEquals(data.title, JSON.read(new FileInputStream(file), GenericParameterizedType.actualType(Data.class)).title, "read(FileInputStream, GenericParameterizedType)");
+        assertEquals(data.title, ((Map) JSON.read(new FileInputStream(file))).get("title"), "read(FileInputStream)");
+
+        // 从流的当前位置读取
+        byte[] prefixed = new byte[bytes.length + 5];
+        System.arraycopy("junk ".getBytes(), 0, prefixed, 0, 5);
+        System.arraycopy(bytes, 0, prefixed, 5, bytes.length);
+        File prefixedFile = File.createTempFile("wast-file-read", ".json");
+        prefixedFile.deleteOnExit();
+        write(prefixedFile, prefixed);
+        fis = new FileInputStream(prefixedFile);
+        fis.skip(5);
+        assertEquals(data.title, JSON.read(fis, Data.class).title, "position");
+
+        File emptyFile = File.createTempFile("wast-file-read", ".json");
+        emptyFile.deleteOnExit();
+        assertEquals(null, JSON.read(emptyFile, Data.class), "empty file");
+
+        JSONNode node = JSONNode.parse(file);
+        assertEquals("名称-1999", node.getPathValue("/items/1999/name", String.class), "JSONNode.parse(File)");
+        assertEquals(data.title, JSONNode.parse(file, "/title").getStringValue(), "JSONNode.parse(File, path)");
+        assertEquals(2000, JSONNode.collect(file, "/items/*/id").size(), "JSONNode.collect(File)");
+    }
+
+    static void write(File file, byte[] bytes) throws Exception {
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            fos.write(bytes);
+        } finally {
+            fos.close();
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.wast.test.json.intern;
+
+import io.github.wycst.wast.common.reflect.GenericParameterizedType;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.annotations.JsonProperty;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONInternValueTest {
+
+    public static class Record {
+        private int id;
+        @JsonProperty(internValue = true)
+        private String status;
+        @JsonProperty(internValue = true)
+        private String country;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public void setCountry(String country) {
+            this.country = country;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static void main(String[] args) {
+        StringBuilder builder = new StringBuilder("[");
+        String[] countries = {"CN", "US", "中国", "a\\\"b"};
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":").append(i).append(",\"status\":\"").append(i % 2 == 0 ? "ACTIVE" : "INACTIVE")
+                    .append("\",\"country\":\"").append(countries[i % countries.length]).append("\",\"name\":\"name").append(i).append("\"}");
+        }
+        builder.append(']');
+        String json = builder.toString();
+
+        GenericParameterizedType<List> type = GenericParameterizedType.collectionType(List.class, Record.class);
+        for (Object source : new Object[]{json, json.toCharArray(), json.getBytes(java.nio.charset.Charset.forName("UTF-8"))}) {
+            List<Record> records = source instanceof String ? JSON.parse((String) source, type)
+                    : source instanceof char[] ? JSON.parse((char[]) source, type) : JSON.parse((byte[]) source, type);
+            for (int i = 2; i < records.size(); i++) {
+                Record record = records.get(i);
+                assertTrue(record.getStatus() == records.get(i % 2).getStatus(), "status not interned");
+                assertTrue(record.getStatus().equals(i % 2 == 0 ? "ACTIVE" : "INACTIVE"), "status value");
+                assertTrue(record.getCountry().equals(countries[i % countries.length].replace("\\\"", "\"")), "country value " + record.getCountry());
+                if (i >= countries.length && i % countries.length != 3) {
+                    assertTrue(record.getCountry() == records.get(i - countries.length).getCountry(), "country not interned");
+                }
+                assertTrue(record.getName() != records.get(i - 2).getName(), "name should not be interned");
+            }
+        }
+
+        // global option for generic maps
+        byte[] bytes = json.getBytes(java.nio.charset.Charset.forName("UTF-8"));
+        List<Map> maps = (List<Map>) JSON.parse(bytes, ReadOption.InternValueString);
+        List<Map> chars = (List<Map>) JSON.parse(json, ReadOption.InternValueString);
+        for (List<Map> list : new List[]{maps, chars}) {
+            for (int i = 4; i < list.size(); i++) {
+                assertTrue(list.get(i).get("status") == list.get(i - 2).get("status"), "generic status not interned");
+                assertTrue(list.get(i).get("country").equals(countries[i % countries.length].replace("\\\"", "\"")), "generic country value");
+            }
+        }
+        assertTrue(JSON.parse(json).equals(maps), "generic mismatch");
+        System.out.println("ok");
+    }
+
+    static void assertTrue(boolean value, String message) {
+        if (!value) {
+            throw new AssertionError(message);
+        }
+    }
+}
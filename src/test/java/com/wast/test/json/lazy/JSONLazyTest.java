@@ -0,0 +1,62 @@
+package com.wast.test.json.lazy;
+
+import io.github.wycst.wast.json.JSON;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONLazyTest {
+
+    public static void main(String[] args) {
+        StringBuilder builder = new StringBuilder("{\"route\":\"orders\",\"tenant\":{\"id\":12,\"name\":\"租户\"},\"items\":[");
+        for (int i = 0; i < 100; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"sku\":\"s").append(i).append("\",\"tags\":[\"a]\",\"b\\\"\"],\"price\":").append(i * 1.5).append('}');
+        }
+        builder.append("],\"flag\":true,\"empty\":null,\"nested\":[[1,2],[],{}]}");
+        String json = builder.toString();
+
+        for (Object source : new Object[]{json, json.getBytes(Charset.forName("UTF-8"))}) {
+            Map map = (Map) (source instanceof String ? JSON.parseLazy((String) source) : JSON.parseLazy((byte[]) source));
+            assertEquals("orders", map.get("route"));
+            assertEquals("租户", ((Map) map.get("tenant")).get("name"));
+            assertEquals(true, map.get("tenant") == map.get("tenant"));
+            List items = (List) map.get("items");
+            assertEquals("s42", ((Map) items.get(42)).get("sku"));
+            assertEquals("b\"", ((List) ((Map) items.get(3)).get("tags")).get(1));
+            assertEquals(100, items.size());
+            assertEquals(null, map.get("empty"));
+            assertEquals(true, map.containsKey("empty"));
+            assertEquals(false, map.containsKey("missing"));
+            assertEquals(Boolean.TRUE, map.get("flag"));
+            assertEquals(0, ((List) ((List) map.get("nested")).get(1)).size());
+            assertEquals(6, map.size());
+            // full view equals the eager tree
+            assertEquals(JSON.parse(json), map);
+            assertEquals(JSON.toJsonString(JSON.parse(json)), JSON.toJsonString(map));
+            try {
+                items.get(100);
+                throw new AssertionError("expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException e) {
+            }
+            try {
+                map.put("route", "x");
+                throw new AssertionError("expected read-only");
+            } catch (UnsupportedOperationException e) {
+            }
+        }
+        assertEquals(3, ((List) JSON.parseLazy("[1,2,3]")).size());
+        assertEquals("s", JSON.parseLazy("\"s\""));
+        System.out.println("ok");
+    }
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
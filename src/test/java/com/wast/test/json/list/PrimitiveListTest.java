@@ -0,0 +1,84 @@
+package com.wast.test.json.list;
+
+import io.github.wycst.wast.json.DoubleList;
+import io.github.wycst.wast.json.IntList;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.LongList;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class PrimitiveListTest {
+
+    public static class Series {
+        public DoubleList values;
+        public LongList times;
+        public IntList flags;
+        public List<Double> boxed;
+        public double[][] points;
+    }
+
+    public static class Geometry {
+        public String type;
+        public double[][][] coordinates;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String json = "{\"values\":[1.5,-2,3.25e2,0.001],\"times\":[1700000000000,-1,0],\"flags\":[1,2,3],\"boxed\":[1.5,2.5],\"points\":[[1,2],[3.5,-4.5],[]]}";
+        for (Object source : new Object[]{json, json.getBytes("UTF-8")}) {
+            Series series = source instanceof String ? JSON.parseObject((String) source, Series.class) : JSON.parseObject((byte[]) source, Series.class);
+            assertEquals("[1.5, -2.0, 325.0, 0.001]", Arrays.toString(series.values.toDoubleArray()), "values");
+            assertEquals(1700000000000L, series.times.getLong(0), "times");
+            assertEquals(3, series.flags.size(), "flags");
+            assertEquals(Arrays.asList(1.5, 2.5), series.boxed, "boxed");
+            assertEquals("[[1.0, 2.0], [3.5, -4.5], []]", Arrays.deepToString(series.points), "points");
+            assertEquals("{\"values\":[1.5,-2.0,325.0,0.001],\"times\":[1700000000000,-1,0],\"flags\":[1,2,3],\"boxed\":[1.5,2.5],\"points\":[[1.0,2.0],[3.5,-4.5],[]]}", JSON.toJsonString(series), "serialize");
+        }
+        DoubleList list = JSON.parseObject("[]", DoubleList.class);
+        list.add(1.0);
+        list.add(Double.valueOf(2.0));
+        list.add(0, 0.5);
+        list.remove(2);
+        assertEquals(Arrays.asList(0.5, 1.0), list, "mutate");
+        assertEquals(Arrays.asList(7L, 8L), JSON.parseObject("[7, 8]", LongList.class), "longs");
+        assertEquals(null, JSON.parseObject("{\"values\":null}", Series.class).values, "null");
+
+        // GeoJSON坐标
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder("{\"type\":\"Polygon\",\"coordinates\":[");
+        for (int p = 0; p < 480; p++) {
+            if (p > 0) builder.append(',');
+            builder.append('[');
+            for (int k = 0; k < 300; k++) {
+                if (k > 0) builder.append(',');
+                builder.append('[').append(-65 - random.nextDouble() * 50).append(',').append(43 + random.nextDouble() * 40).append(']');
+            }
+            builder.append(']');
+        }
+        byte[] bytes = builder.append("]}").toString().getBytes();
+        Geometry geometry = JSON.parseObject(bytes, Geometry.class);
+        assertEquals(480, geometry.coordinates.length, "rings");
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 10; i++) {
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+            long begin = System.nanoTime();
+            JSON.parseObject(bytes, Geometry.class);
+            long use = System.nanoTime() - begin;
+            allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocated;
+            System.out.println("coordinates " + bytes.length + " bytes, " + use / 1000 + "us, allocated " + allocated / 1024 + "KB");
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.wast.test.json.ndjson;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONLIterator;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Pipe;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class NdJsonIteratorTest {
+
+    public static void main(String[] args) throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100000; ++i) {
+            builder.append("{\"id\": ").append(i).append(", \"name\": \"名称-").append(i).append("\"}\n");
+        }
+        byte[] bytes = builder.toString().getBytes("UTF-8");
+        JSONLIterator<Map> iterator = JSON.iterateNdJson(new ByteArrayInputStream(bytes), Map.class);
+        int count = 0;
+        try {
+            while (iterator.hasNext()) {
+                Map map = iterator.next();
+                if (((Number) map.get("id")).intValue() != count || !("名称-" + count).equals(map.get("name"))) {
+                    throw new IllegalStateException("mismatch at " + count + ": " + map);
+                }
+                ++count;
+            }
+        } finally {
+            iterator.close();
+        }
+        System.out.println(count);
+
+        // 非阻塞通道不支持（避免空转）
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        try {
+            JSON.iterateNdJson(pipe.source(), Map.class);
+            throw new IllegalStateException("expected non-blocking channel error");
+        } catch (JSONException e) {
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+}
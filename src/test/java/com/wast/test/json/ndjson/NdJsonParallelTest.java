@@ -0,0 +1,89 @@
+package com.wast.test.json.ndjson;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.exceptions.JSONException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class NdJsonParallelTest {
+
+    public static class Order {
+        public int id;
+        public String name;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // 空行，CRLF，以逗号结尾的数字行混合
+        StringBuilder builder = new StringBuilder();
+        List<Integer> ids = new ArrayList<Integer>();
+        for (int i = 0; i < 60000; ++i) {
+            builder.append("{\"id\": ").append(i).append(", \"name\": \"name-").append(i).append("\"}");
+            builder.append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 1000 == 0) {
+                builder.append("\n\r\n  \n");
+            }
+            ids.add(i);
+        }
+        byte[] bytes = builder.toString().getBytes();
+        for (int parallelism : new int[]{1, 2, 3, 4, 7}) {
+            List<Order> orders = JSON.parseNdJsonParallel(bytes, Order.class, parallelism);
+            assertEquals(ids.size(), orders.size(), "size " + parallelism);
+            for (int i = 0; i < orders.size(); ++i) {
+                Order order = orders.get(i);
+                if (order.id != i || !("name-" + i).equals(order.name)) {
+                    throw new AssertionError("order mismatch at " + i + " (parallelism " + parallelism + ")");
+                }
+            }
+        }
+        // 并行度与cpu核数无关
+        int workers = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("wast-json-parallel-")) ++workers;
+        }
+        assertEquals(true, workers >= 6, "workers " + workers);
+        List<Map> maps = JSON.parseNdJsonParallel(bytes, Map.class, 4);
+        assertEquals(JSON.parseNdJsonParallel(bytes, Map.class, 1), maps, "map");
+        assertEquals("name-59999", maps.get(59999).get("name"), "map");
+
+        // 错误位置为整个字节数组中的绝对位置（包括分片边界附近的记录）
+        String text = builder.toString();
+        int length = text.length();
+        for (int parallelism : new int[]{2, 4}) {
+            int boundary = text.indexOf('\n', length / parallelism) + 1;
+            for (int errorAt : new int[]{text.lastIndexOf("{", boundary - 2), boundary, text.lastIndexOf("{", length - 2)}) {
+                byte[] errorBytes = bytes.clone();
+                errorBytes[errorAt] = '?';
+                try {
+                    JSON.parseNdJsonParallel(errorBytes, Order.class, parallelism);
+                    throw new AssertionError("expected syntax error at " + errorAt);
+                } catch (JSONException e) {
+                    assertEquals(true, e.getMessage().startsWith("Syntax error, at pos " + errorAt + ","), e.getMessage());
+                }
+            }
+        }
+
+        // 多处错误时返回第一处
+        byte[] errorBytes = bytes.clone();
+        int first = text.indexOf("{\"id\": 20000,"), second = text.indexOf("{\"id\": 50000,");
+        errorBytes[second] = '?';
+        errorBytes[first] = '?';
+        try {
+            JSON.parseNdJsonParallel(errorBytes, Order.class, 4);
+            throw new AssertionError("expected syntax error");
+        } catch (JSONException e) {
+            assertEquals(true, e.getMessage().startsWith("Syntax error, at pos " + first + ","), e.getMessage());
+        }
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
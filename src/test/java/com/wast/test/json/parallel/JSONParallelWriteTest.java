@@ -0,0 +1,152 @@
+package com.wast.test.json.parallel;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONConfig;
+import io.github.wycst.wast.json.options.WriteOption;
+
+import java.util.*;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONParallelWriteTest {
+
+    // 序列化元素时所在的线程
+    static final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+
+    public static class Item {
+        private long id;
+        private String name;
+        private double price;
+        private Date createTime;
+        private List<String> tags;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        // 没有对应字段，序列化时调用getter
+        public String getCode() {
+            String threadName = Thread.currentThread().getName();
+            if (threadNames.add(threadName) && !threadName.startsWith("wast-json-parallel-")) {
+                // 给工作线程领取分段的机会（单核时调用线程可能领取所有分段）
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                }
+            }
+            return "I" + id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(Date createTime) {
+            this.createTime = createTime;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Object> items = new ArrayList<Object>();
+        for (int i = 0; i < 500000; i++) {
+            if (i % 1000 == 7) {
+                items.add(null);
+                continue;
+            }
+            Item item = new Item();
+            item.setId(i);
+            item.setName("商品-" + i);
+            item.setPrice(i * 0.25);
+            item.setCreateTime(new Date(1700000000000L + i));
+            item.setTags(Arrays.asList("a", "b" + i));
+            items.add(item);
+        }
+
+        String expect = JSON.toJsonString(items);
+        assertEquals(1, threadNames.size(), "sequential thread");
+
+        // 并行度通过JSONConfig指定（不依赖cpu核数）
+        JSONConfig config = new JSONConfig();
+        config.setParallelThreshold(JSONConfig.DEFAULT_PARALLEL_THRESHOLD);
+        config.setParallelism(4);
+        threadNames.clear();
+        assertEquals(expect, JSON.toJsonString(items, config), "string");
+        assertEquals(true, workerThreads() > 0, "parallel branch (threads " + threadNames + ")");
+
+        threadNames.clear();
+        assertEquals(true, Arrays.equals(JSON.toJsonBytes(items), JSON.toJsonBytes(items, config)), "bytes");
+        assertEquals(true, workerThreads() > 0, "parallel bytes");
+        Object[] array = items.toArray();
+        assertEquals(expect, JSON.toJsonString(array, config), "array");
+        config.setFormatOut(true);
+        assertEquals(JSON.toJsonString(items, WriteOption.FormatOut), JSON.toJsonString(items, config), "format");
+
+        // 并行度为1时不使用工作线程
+        config = new JSONConfig();
+        config.setParallelThreshold(JSONConfig.DEFAULT_PARALLEL_THRESHOLD);
+        config.setParallelism(1);
+        threadNames.clear();
+        assertEquals(expect, JSON.toJsonString(items, config), "parallelism 1");
+        assertEquals(0, workerThreads(), "no worker");
+
+        System.out.println("ParallelWrite " + expect.equals(JSON.toJsonString(items, WriteOption.ParallelWrite)));
+
+        for (int n = 0; n < 5; n++) {
+            long begin = System.currentTimeMillis();
+            JSON.toJsonBytes(items);
+            long sequential = System.currentTimeMillis() - begin;
+            begin = System.currentTimeMillis();
+            JSON.toJsonBytes(items, WriteOption.ParallelWrite);
+            long parallel = System.currentTimeMillis() - begin;
+            System.out.println("sequential " + sequential + "ms, parallel " + parallel + "ms");
+        }
+    }
+
+    static int workerThreads() {
+        int count = 0;
+        synchronized (threadNames) {
+            for (String threadName : threadNames) {
+                if (threadName.startsWith("wast-json-parallel-")) {
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
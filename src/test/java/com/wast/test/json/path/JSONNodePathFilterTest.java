@@ -0,0 +1,81 @@
+package com.wast.test.json.path;
+
+import io.github.wycst.wast.json.JSONNode;
+
+import java.util.List;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONNodePathFilterTest {
+
+    public static void main(String[] args) throws Exception {
+        StringBuilder builder = new StringBuilder("{\"items\":[");
+        int n = 20000, expected = 0, expectedName = 0;
+        for (int i = 0; i < n; i++) {
+            double price = (i * 7919) % 1000 / 4.0;
+            boolean ok = i % 3 != 0;
+            builder.append(i > 0 ? "," : "").append("{\"id\":").append(i);
+            if (i % 997 == 0) {
+                // not exactly representable as double, falls back to the interpreted expression
+                builder.append(",\"price\":9007199254740993");
+                if (ok) ++expected;
+            } else if (i % 1009 == 0) {
+                builder.append(",\"price\":").append((long) price);
+                if ((long) price > 100 && ok) ++expected;
+            } else {
+                builder.append(",\"price\":").append(price);
+                if (price > 100 && ok) ++expected;
+            }
+            builder.append(",\"ok\":").append(ok).append(",\"name\":\"n").append(i % 10).append("\"}");
+            if (i % 10 == 3) ++expectedName;
+        }
+        builder.append("]}");
+        String json = builder.toString();
+        JSONNode root = JSONNode.parse(json);
+
+        for (int round = 0; round < 5; round++) {
+            long begin = System.currentTimeMillis();
+            List<JSONNode> nodes = root.collect("/items/*[price > 100 && ok]");
+            System.out.println("round " + round + ": " + nodes.size() + " " + (System.currentTimeMillis() - begin) + "ms");
+            assertEquals(expected, nodes.size());
+        }
+        // string comparison is kept interpreted
+        for (int round = 0; round < 2; round++) {
+            assertEquals(expectedName, root.collect("/items/*[name == 'n3']").size());
+        }
+        assertEquals(1, JSONNode.collect(json, "/items/*[id == 5000]/price").size());
+        assertEquals(1, JSONNode.collect(json, "/items/*[id == 5000]/price").size());
+
+        // 整数运算（除法、取余、位运算）在编译前后结果一致
+        builder = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 5000; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"v\":").append(i / 4.0).append('}');
+        }
+        JSONNode ids = JSONNode.parse(builder.append("]}").toString());
+        for (int round = 0; round < 5; round++) {
+            long begin = System.currentTimeMillis();
+            assertEquals(2, ids.collect("/items/*[id / 2 == 5]").size());
+            assertEquals(714, ids.collect("/items/*[id % 7 == 3]").size());
+            assertEquals(1250, ids.collect("/items/*[(id & 3) == 1]").size());
+            assertEquals(1, ids.collect("/items/*[v / 2 == 5.125]").size());
+            assertEquals(1, ids.collect("/items/*[id / 3 + v == 12.5]").size());
+            System.out.println("integer round " + round + ": " + (System.currentTimeMillis() - begin) + "ms");
+            // 编译在后台执行
+            Thread.sleep(200);
+        }
+
+        // 超过缓存上限的不同xpath仍然正确解析
+        for (int i = 0; i < 600; i++) {
+            assertEquals(i % 7 == 3 ? 1 : 0, ids.collect("/items/*[id == " + i + " && id % 7 == 3]").size());
+        }
+        System.out.println("ok");
+    }
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.wast.test.json.pool;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONBufferPool;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONBufferPoolTest {
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, Object> map = new HashMap<String, Object>();
+        map.put("id", 1);
+        map.put("name", "hello");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            builder.append("large");
+        }
+        final String large = builder.toString();
+
+        int threadCount = 200;
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final int n = t;
+            new Thread() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        JSON.toJsonString(map);
+                        JSON.toJsonBytes(map);
+                        if (n % 20 == 0 && i % 100 == 0) {
+                            JSON.toJsonString(large);
+                        }
+                    }
+                    latch.countDown();
+                }
+            }.start();
+        }
+        latch.await();
+        System.out.println(JSONBufferPool.charBufferPool());
+        System.out.println(JSONBufferPool.byteBufferPool());
+        System.out.println(JSONBufferPool.charBufferPool().getHitRatio() + " " + JSONBufferPool.byteBufferPool().getHitRatio());
+    }
+}
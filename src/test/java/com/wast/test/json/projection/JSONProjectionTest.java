@@ -0,0 +1,136 @@
+package com.wast.test.json.projection;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONProjection;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONProjectionTest {
+
+    public static class Event {
+        private long id;
+        private User user;
+        private List<User> followers;
+        private String payload;
+        private long ts;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public void setUser(User user) {
+            this.user = user;
+        }
+
+        public List<User> getFollowers() {
+            return followers;
+        }
+
+        public void setFollowers(List<User> followers) {
+            this.followers = followers;
+        }
+
+        public String getPayload() {
+            return payload;
+        }
+
+        public void setPayload(String payload) {
+            this.payload = payload;
+        }
+
+        public long getTs() {
+            return ts;
+        }
+
+        public void setTs(long ts) {
+            this.ts = ts;
+        }
+    }
+
+    public static class User {
+        private String name;
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static void main(String[] args) {
+        StringBuilder unknown = new StringBuilder("{\"a\":[1,2,{\"b\":\"x]}\\\"\\\\\"},\"中文{[\"],\"c\":null,\"d\":[");
+        for (int i = 0; i < 200; i++) {
+            unknown.append(i > 0 ? "," : "").append("{\"k\":\"value").append(i).append("\",\"n\":[true,false,-1.5e3]}");
+        }
+        unknown.append("]}");
+        String json = "{\"id\":7,\"meta\":" + unknown + ",\"user\":{\"name\":\"张三\",\"age\":30,\"extra\":" + unknown
+                + "},\"followers\":[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2,\"x\":\"}\"}],\"payload\":\"big \\\"payload\\\" [{\",\"tag\": \"t\" ,\"ts\":123}";
+
+        JSONProjection projection = JSONProjection.of("id", "user.name", "ts", "followers.age");
+        for (Object source : new Object[]{json, json.toCharArray(), json.getBytes(Charset.forName("UTF-8"))}) {
+            Event event = source instanceof String ? JSON.parseObject((String) source, Event.class, projection)
+                    : source instanceof char[] ? JSON.parseObject((char[]) source, Event.class, projection)
+                    : JSON.parseObject((byte[]) source, Event.class, projection);
+            assertEquals(7L, event.getId());
+            assertEquals(123L, event.getTs());
+            assertEquals("张三", event.getUser().getName());
+            assertEquals(0, event.getUser().getAge());
+            assertEquals(null, event.getPayload());
+            assertEquals(2, event.getFollowers().size());
+            assertEquals(null, event.getFollowers().get(1).getName());
+            assertEquals(2, event.getFollowers().get(1).getAge());
+
+            // whole subtree
+            event = source instanceof String ? JSON.parseObject((String) source, Event.class, JSONProjection.of("user", "payload"))
+                    : source instanceof char[] ? JSON.parseObject((char[]) source, Event.class, JSONProjection.of("user", "payload"))
+                    : JSON.parseObject((byte[]) source, Event.class, JSONProjection.of("user", "payload"));
+            assertEquals(0L, event.getId());
+            assertEquals(30, event.getUser().getAge());
+            assertEquals("big \"payload\" [{", event.getPayload());
+            assertEquals(null, event.getFollowers());
+        }
+
+        // automatic mode: unknown fields skipped by the fast scanner
+        String expected = JSON.toJsonString(JSON.parseObject(json, Event.class));
+        assertEquals(expected, JSON.toJsonString(JSON.parseObject(json, Event.class, ReadOption.FastSkipUnknownFields)));
+        assertEquals(expected, JSON.toJsonString(JSON.parseObject(json.getBytes(Charset.forName("UTF-8")), Event.class, ReadOption.FastSkipUnknownFields)));
+        assertEquals(expected, JSON.toJsonString(JSON.parseObject(json.toCharArray(), Event.class, ReadOption.FastSkipUnknownFields)));
+
+        assertEquals(true, projection.contains("user.name"));
+        assertEquals(true, projection.contains("user"));
+        assertEquals(false, projection.contains("user.age"));
+        assertEquals(false, projection.contains("payload"));
+        System.out.println("ok");
+    }
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
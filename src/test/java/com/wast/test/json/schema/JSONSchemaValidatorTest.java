@@ -0,0 +1,103 @@
+package com.wast.test.json.schema;
+
+import io.github.wycst.wast.json.JSONSchema;
+import io.github.wycst.wast.json.JSONSchemaResult;
+import io.github.wycst.wast.json.JSONSchemaValidator;
+
+import java.nio.charset.Charset;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONSchemaValidatorTest {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public static void main(String[] args) {
+        JSONSchema schema = JSONSchema.of("{" +
+                "type: 'object'," +
+                "definitions: {node: {type: 'object', properties: {name: {type: 'string', must: true}, children: {type: 'array', elementSchema: {$ref: '#/definitions/node'}}}}}," +
+                "properties: {" +
+                "  id: {type: 'integer', must: true, minimum: 1}," +
+                "  name: {type: 'string', minLength: 2, maxLength: 8, pattern: '[a-z]+'}," +
+                "  email: {type: 'string', format: 'email'}," +
+                "  price: {type: ['number', 'null'], maximum: 100, exclusiveMaximum: true}," +
+                "  tags: {type: 'array', maxItems: 3, elementSchema: {type: 'string'}}," +
+                "  pair: {type: 'array', items: [{type: 'integer'}, {type: 'boolean'}]}," +
+                "  code: {type: 'string', rules: [{regular: '[A-Z]{3}', message: 'code invalid'}]}," +
+                "  any: {anyOf: [{type: 'string'}, {type: 'integer'}]}," +
+                "  tree: {$ref: '#/definitions/node'}" +
+                "}}");
+        JSONSchemaValidator validator = schema.compile();
+
+        String[] jsons = {
+                "{\"id\": 1, \"name\": \"abc\", \"email\": \"a@b.com\", \"price\": 99.5, \"tags\": [\"x\", \"y\"], \"pair\": [1, true], \"code\": \"ABC\", \"any\": 3, \"tree\": {\"name\": \"r\", \"children\": [{\"name\": \"c\"}]}, \"extra\": {\"a\": [1, {}]}}",
+                "{\"id\": 1, \"price\": null}",
+                "{\"name\": \"abc\"}",
+                "{\"id\": 0}",
+                "{\"id\": 1.5}",
+                "{\"id\": null}",
+                "{\"id\": \"1\"}",
+                "{\"id\": 1, \"name\": \"a\"}",
+                "{\"id\": 1, \"name\": \"abcdefghij\"}",
+                "{\"id\": 1, \"name\": \"ABC\"}",
+                "{\"id\": 1, \"email\": \"abc\"}",
+                "{\"id\": 1, \"price\": 100}",
+                "{\"id\": 1, \"tags\": [\"a\", 1]}",
+                "{\"id\": 1, \"pair\": [1, 2]}",
+                "{\"id\": 1, \"code\": \"abc\"}",
+                "{\"id\": 1, \"any\": true}",
+                "{\"id\": 1, \"tree\": {\"name\": \"r\", \"children\": [{\"name\": \"c\"}, {\"children\": []}]}}",
+                "{\"id\": 1, \"name\": \"ab\\\"c\"}",
+                "{\"id\": 1, \"name\": \"中文\"}",
+                "[1, 2]",
+                "{\"id\": 1",
+                "{\"id\": 1} x",
+        };
+        for (String json : jsons) {
+            JSONSchemaResult expected = schema.validate(json);
+            JSONSchemaResult actual = validator.validate(json);
+            JSONSchemaResult actualBytes = validator.validate(json.getBytes(UTF_8));
+            System.out.println(json + " -> " + actual);
+            assertEquals(expected.isSuccess(), actual.isSuccess());
+            assertEquals(expected.isSuccess(), actualBytes.isSuccess());
+            if (expected.isSuccess() || expected.getPath() != null) {
+                assertEquals(expected.getMessage(), actual.getMessage());
+                assertEquals(expected.getPath(), actual.getPath());
+                assertEquals(expected.getMessage(), actualBytes.getMessage());
+                assertEquals(expected.getPath(), actualBytes.getPath());
+            }
+        }
+
+        // 不完整的json与解析的异常信息一致
+        String[] truncated = {"{\"id\": 1", "{\"id\": 1, \"name\": \"ab", "{\"id\": 1, \"tags\": [\"a\"", "{\"id\""};
+        for (String json : truncated) {
+            String message = validator.validate(json).getMessage();
+            assertEquals(true, message.startsWith("Syntax error"));
+            assertEquals(message, validator.validate(json.toCharArray()).getMessage());
+            assertEquals(message, validator.validate(json.getBytes(UTF_8)).getMessage());
+        }
+        assertEquals(true, validator.validate("{\"id\": 1").getMessage().contains("the end token may be missing"));
+        String cjkTruncated = "{\"id\": 1, \"extra\": \"中文\"";
+        assertEquals(true, validator.validate(cjkTruncated.toCharArray()).getMessage().startsWith("Syntax error"));
+        assertEquals(validator.validate(cjkTruncated).getMessage(), validator.validate(cjkTruncated.toCharArray()).getMessage());
+
+        // 非latin1的字符数组
+        String utf16 = "{\"id\": 1, \"name\": \"中文\", \"tags\": [\"\ud83d\ude00\"]}";
+        assertEquals(validator.validate(utf16).getMessage(), validator.validate(utf16.toCharArray()).getMessage());
+        assertEquals(false, validator.validate(utf16.toCharArray()).isSuccess());
+        assertEquals(true, validator.validate("{\"id\": 2, \"code\": \"ABC\", \"tags\": [\"中文\"]}".toCharArray()).isSuccess());
+
+        // maxItems exceeded stops scanning
+        assertEquals("the maxElementSize is 3, input 4", validator.validate("{\"id\": 1, \"tags\": [\"a\", \"b\", \"c\", \"d\", \"e\"]}").getMessage());
+        System.out.println("ok");
+    }
+
+
+    static void assertEquals(Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError("expected " + expected + ", but " + actual);
+        }
+    }
+}
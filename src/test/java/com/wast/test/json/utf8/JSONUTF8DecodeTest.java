@@ -0,0 +1,98 @@
+package com.wast.test.json.utf8;
+
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.exceptions.JSONException;
+import io.github.wycst.wast.json.options.ReadOption;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONUTF8DecodeTest {
+
+    public static class Item {
+        public String title;
+        public String desc;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // ascii, latin1, 中文, emoji, 混合以及转义
+        String[] texts = {"hello world", "café naïve résumé ÿ", "中文内容测试用的一段比较长的文字描述", "😀😁😂🤣😃", "emoji 😀 mixed 文本 é ok", "中文\n转义\"混合\\😀\té", "ࠀ￿퟿􏿿"};
+        for (String text : texts) {
+            String json = JSON.toJsonString(new Object[]{text, text + text});
+            byte[] bytes = json.getBytes("UTF-8");
+            List list = (List) JSON.parse(bytes);
+            assertEquals(text, list.get(0), text);
+            assertEquals(text + text, list.get(1), text);
+            list = (List) JSON.parse(bytes, ReadOption.ValidateUTF8);
+            assertEquals(text, list.get(0), text);
+
+            byte[] itemBytes = ("{\"title\":" + JSON.toJsonString(text) + ",\"desc\":" + JSON.toJsonString(text + "!") + "}").getBytes("UTF-8");
+            Item item = JSON.parseObject(itemBytes, Item.class, ReadOption.ValidateUTF8);
+            assertEquals(text, item.title, text);
+            assertEquals(text + "!", item.desc, text);
+        }
+        Map map = (Map) JSON.parse("{\"name\":\"值😀\",\"list\":[\"😀\",\"é\"]}".getBytes("UTF-8"));
+        assertEquals("值😀", map.get("name"), "map");
+        assertEquals("é", ((List) map.get("list")).get(1), "map");
+
+        // 代理对边界（不同的对齐位置分别走8字节快速路径和逐字节路径）
+        int[] codePoints = {0x10000, 0x103FF, 0x10400, 0x1F600, 0xFFFFF, 0x10FC00, 0x10FFFF};
+        for (int cp : codePoints) {
+            for (int pad = 0; pad < 8; pad++) {
+                StringBuilder builder = new StringBuilder();
+                for (int k = 0; k < pad; k++) builder.append('a');
+                String text = builder.appendCodePoint(cp).append("中文").appendCodePoint(cp).append("abcdefgh").toString();
+                List list = (List) JSON.parse(JSON.toJsonString(new Object[]{text}).getBytes("UTF-8"));
+                assertEquals(text, list.get(0), Integer.toHexString(cp));
+            }
+        }
+
+        // 编码错误: 默认替换为'�'，开启ValidateUTF8时抛出异常
+        byte[][] malformed = {
+                {'[', '"', 'a', (byte) 0xC0, (byte) 0x80, '"', ']'},
+                {'[', '"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', ']'},
+                {'[', '"', (byte) 0xE4, (byte) 0xB8, '"', ']'},
+                {'[', '"', (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, '"', ']'},
+                {'[', '"', (byte) 0x80, '"', ']'},
+        };
+        for (byte[] bytes : malformed) {
+            List list = (List) JSON.parse(bytes);
+            assertEquals(new String(bytes, 2, bytes.length - 4, "UTF-8"), list.get(0), "replacement");
+            try {
+                JSON.parse(bytes, ReadOption.ValidateUTF8);
+                throw new AssertionError("expected malformed utf-8 error");
+            } catch (JSONException e) {
+            }
+        }
+
+        benchmark("chinese", "中文内容测试用的一段比较长的文字描述信息");
+        benchmark("emoji", "emoji 😀😁😂🤣😃 mixed 文本 ok");
+        benchmark("escape", "中文\\n转义\\\"混合");
+    }
+
+    static void benchmark(String name, String text) throws Exception {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 50000; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"title\":\"").append(text).append("\",\"desc\":\"").append(text).append(text).append("\"}");
+        }
+        byte[] bytes = builder.append("]").toString().getBytes("UTF-8");
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 30; i++) {
+            long begin = System.nanoTime();
+            JSON.parse(bytes);
+            min = Math.min(min, System.nanoTime() - begin);
+        }
+        System.out.println(name + " " + bytes.length + " bytes, " + min / 1000 + "us, " + bytes.length * 1000L / min + "MB/s");
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
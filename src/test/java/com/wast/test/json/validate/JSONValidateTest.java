@@ -0,0 +1,89 @@
+package com.wast.test.json.validate;
+
+import io.github.wycst.wast.json.JSON;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONValidateTest {
+
+    public static void main(String[] args) throws Exception {
+        // 严格模式和兼容模式（非标准的数字，单引号等）
+        String[] valid = {"[]", "{}", " [1, -0.5e+3, true, false, null] ", "{\"a\":{\"b\":[\"\\u00e9\\n\",{}]}}", "\"中文\"", "12", "[01]", "['a']", "[1.]", "[\"\\x\"]"};
+        String[] invalid = {"", "[1,]", "{\"a\":1,}", "[1 2]", "{\"a\"}", "[1}", "{\"a\":1]", "[1]]", "[", "nul", "[truex]", "{a:1}", "\"ab"};
+        for (String json : valid) {
+            assertEquals(true, JSON.validate(json), json);
+            assertEquals(true, JSON.validate(json.getBytes("UTF-8")), json);
+        }
+        for (String json : invalid) {
+            assertEquals(false, JSON.validate(json), json);
+            assertEquals(false, JSON.validate(json.getBytes("UTF-8")), json);
+        }
+        // utf-8编码错误
+        assertEquals(false, JSON.validate(new byte[]{'[', '"', (byte) 0xC0, (byte) 0x80, '"', ']'}), "overlong");
+        assertEquals(false, JSON.validate(new byte[]{'[', '"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', ']'}), "surrogate");
+        assertEquals(false, JSON.validate(new byte[]{'[', '"', (byte) 0xE4, (byte) 0xB8, '"', ']'}), "truncated");
+        // 未转义的控制字符不符合RFC 8259，严格模式不通过（兼容模式与解析一致）
+        Method validateStrict = Class.forName("io.github.wycst.wast.json.JSONValidator").getDeclaredMethod("validateStrict", byte[].class, boolean.class);
+        validateStrict.setAccessible(true);
+        for (String json : new String[]{"{\"a\":\"x\ny\"}", "[\"x\u0001yyyyyyyyyyyyyyyyyy\"]", "[\"\t\"]", "\"中文\u001f\""}) {
+            assertEquals(-1, validateStrict.invoke(null, json.getBytes("UTF-8"), true), json);
+            assertEquals(-1, validateStrict.invoke(null, json.getBytes("ISO-8859-1"), false), json);
+            assertEquals(true, JSON.validate(json.getBytes("UTF-8")), json);
+            assertEquals(true, JSON.validate(json), json);
+            JSON.parse(json);
+        }
+        assertEquals(1, validateStrict.invoke(null, "{\"a\":\"x\\ny\"}".getBytes("UTF-8"), true), "escaped");
+        // 深层嵌套
+        StringBuilder deep = new StringBuilder();
+        for (int i = 0; i < 100000; i++) deep.append('[');
+        for (int i = 0; i < 100000; i++) deep.append(']');
+        assertEquals(true, JSON.validate(deep.toString().getBytes()), "deep");
+
+        // 大文本分块并行校验
+        String big = bigJson(", ");
+        byte[] bytes = big.getBytes("UTF-8");
+        assertEquals(true, JSON.validate(bytes), "big");
+        assertEquals(true, JSON.validate(big), "big string");
+        // 切分点在字符串中（推测失败）
+        assertEquals(true, JSON.validate(bigJson("}, {").getBytes("UTF-8")), "split in string");
+        // 错误出现在不同的分块中
+        for (int pos : new int[]{big.length() / 7, big.length() / 2, big.length() - 300}) {
+            int p = big.indexOf("\"name\"", pos);
+            String broken = big.substring(0, p) + big.substring(p + 1);
+            assertEquals(false, JSON.validate(broken.getBytes("UTF-8")), "broken at " + p);
+            p = big.indexOf('}', pos);
+            String mismatch = big.substring(0, p) + ']' + big.substring(p + 1);
+            assertEquals(false, JSON.validate(mismatch.getBytes("UTF-8")), "mismatch at " + p);
+        }
+        assertEquals(false, JSON.validate((big + ",1").getBytes("UTF-8")), "trailing");
+        assertEquals(false, JSON.validate(("[" + big).getBytes("UTF-8")), "unclosed");
+        assertEquals(false, JSON.validate(big.substring(0, big.length() - 1).getBytes("UTF-8")), "truncated");
+
+        long begin = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            JSON.validate(bytes);
+        }
+        System.out.println("validate " + bytes.length + " bytes x 20: " + (System.currentTimeMillis() - begin) + "ms");
+        System.out.println("ok");
+    }
+
+    static String bigJson(String text) {
+        StringBuilder builder = new StringBuilder("{\"list\":[");
+        for (int i = 0; i < 100000; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":").append(i).append(",\"name\":\"商品").append(text).append(i).append("\",\"price\":").append(i * 0.25)
+                    .append(",\"tags\":[\"a\",\"b\\\"\"],\"ext\":{\"ok\":true,\"v\":null}}");
+        }
+        return builder.append("],\"total\":100000}").toString();
+    }
+
+    static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + ": expected " + expected + ", but " + actual);
+        }
+    }
+}
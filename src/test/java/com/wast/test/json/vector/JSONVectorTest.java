@@ -0,0 +1,84 @@
+package com.wast.test.json.vector;
+
+import io.github.wycst.wast.json.JSON;
+
+import java.util.*;
+
+/**
+ * 空白跳过以及写出转义检测（SWAR/vector）校验，jdk17+使用参数 --add-modules jdk.incubator.vector 运行
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public class JSONVectorTest {
+
+    static final char[] ESCAPES = {'"', '\\', '\n', '\t', '\u0001', '\u001f'};
+    static final char[] TEXTS = {'a', 'Z', '0', ' ', '~', '\u007f', '\u0101', '中', '文', '\uD83D'};
+
+    public static void main(String[] args) {
+        Random random = new Random(20241017);
+        // escape detection at every position
+        for (int len = 1; len < 200; ++len) {
+            for (int pos = -1; pos < len; pos += Math.max(1, len >> 4)) {
+                String value = randomString(random, len, pos);
+                checkString(value);
+            }
+        }
+        // whitespace runs
+        for (int n = 0; n < 80; ++n) {
+            String ws = randomWhitespaces(random, n);
+            String json = "{" + ws + "\"a\"" + ws + ":" + ws + "[" + ws + "1" + ws + "," + ws + "\"x\"" + ws + "]" + ws + "," + ws + "\"b\"" + ws + ":" + ws + "{}" + ws + "}";
+            Map map = (Map) JSON.parse(json);
+            Map bytesMap = (Map) JSON.parse(json.getBytes());
+            if (!map.equals(bytesMap) || !"[1, x]".equals(String.valueOf(map.get("a"))) || !((Map) map.get("b")).isEmpty()) {
+                throw new AssertionError("whitespaces " + n + " -> " + map + " / " + bytesMap);
+            }
+        }
+        List<Object> list = new ArrayList<Object>();
+        for (int i = 0; i < 200; ++i) {
+            Map<String, Object> row = new LinkedHashMap<String, Object>();
+            row.put("id", i);
+            row.put("name", randomString(random, i, i > 0 && i % 7 == 0 ? i >> 1 : -1));
+            list.add(row);
+        }
+        String pretty = JSON.toJsonString(list, io.github.wycst.wast.json.options.WriteOption.FormatOut);
+        if (!list.equals(JSON.parse(pretty)) || !list.equals(JSON.parse(pretty.toCharArray()))) {
+            throw new AssertionError("pretty json mismatch");
+        }
+        System.out.println("ok");
+    }
+
+    static void checkString(String value) {
+        String json = JSON.toJsonString(value);
+        byte[] bytes = JSON.toJsonBytes(value);
+        if (!value.equals(JSON.parse(json)) || !json.equals(new String(bytes, java.nio.charset.Charset.forName("UTF-8")))) {
+            throw new AssertionError("mismatch: " + json);
+        }
+        String wrapped = JSON.toJsonString(value.toCharArray());
+        if (!json.equals(wrapped)) {
+            throw new AssertionError("char[] mismatch: " + wrapped);
+        }
+    }
+
+    static String randomString(Random random, int len, int escapePos) {
+        char[] chars = new char[len];
+        boolean latin = random.nextBoolean();
+        for (int i = 0; i < len; ++i) {
+            char c = TEXTS[random.nextInt(latin ? 6 : TEXTS.length - 1)];
+            chars[i] = c;
+        }
+        if (escapePos >= 0) {
+            chars[escapePos] = ESCAPES[random.nextInt(ESCAPES.length)];
+        }
+        return new String(chars);
+    }
+
+    static String randomWhitespaces(Random random, int n) {
+        char[] ws = {' ', '\t', '\r', '\n'};
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < n; ++i) {
+            builder.append(ws[random.nextInt(ws.length)]);
+        }
+        return builder.toString();
+    }
+}
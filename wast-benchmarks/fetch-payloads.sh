@@ -0,0 +1,12 @@
+#!/bin/sh
+# download the standard json benchmark payloads (simdjson/jsonexamples) into src/main/resources/payloads
+set -e
+DIR="$(cd "$(dirname "$0")" && pwd)/src/main/resources/payloads"
+BASE="https://raw.githubusercontent.com/simdjson/simdjson/master/jsonexamples"
+mkdir -p "$DIR"
+for name in twitter.json citm_catalog.json canada.json; do
+  if [ ! -f "$DIR/$name" ]; then
+    echo "fetch $name"
+    curl -fsSL -o "$DIR/$name" "$BASE/$name"
+  fi
+done
@@ -0,0 +1,30 @@
+package io.github.wycst.wast.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认启用gc profiler（输出gc.alloc.rate/gc.alloc.rate.norm）
+ *
+ * <pre>
+ *     java -jar target/benchmarks.jar                      # all
+ *     java -jar target/benchmarks.jar JSONParseBenchmark   # by regexp
+ *     java -jar target/benchmarks.jar -rf json -rff result.json
+ * </pre>
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.wycst.wast.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * 标准测试数据（twitter.json, citm_catalog.json, canada.json）
+ * <p> 优先读取系统属性wast.benchmark.payloads指定的目录，否则从classpath的/payloads/下读取（执行fetch-payloads.sh下载）；
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public final class Payloads {
+
+    public static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public static final String TWITTER = "twitter.json";
+    public static final String CITM_CATALOG = "citm_catalog.json";
+    public static final String CANADA = "canada.json";
+
+    private Payloads() {
+    }
+
+    public static byte[] bytes(String name) {
+        try {
+            InputStream is;
+            String dir = System.getProperty("wast.benchmark.payloads");
+            if (dir != null) {
+                is = new FileInputStream(new File(dir, name));
+            } else {
+                is = Payloads.class.getResourceAsStream("/payloads/" + name);
+                if (is == null) {
+                    throw new IllegalStateException("payload '" + name + "' not found, run fetch-payloads.sh or set -Dwast.benchmark.payloads=<dir>");
+                }
+            }
+            try {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream(1 << 20);
+                byte[] buf = new byte[8192];
+                int n;
+                while ((n = is.read(buf)) > 0) {
+                    bos.write(buf, 0, n);
+                }
+                return bos.toByteArray();
+            } finally {
+                is.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public static String string(String name) {
+        return new String(bytes(name), UTF_8);
+    }
+}
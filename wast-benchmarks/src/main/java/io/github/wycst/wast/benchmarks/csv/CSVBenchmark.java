@@ -0,0 +1,57 @@
+package io.github.wycst.wast.benchmarks.csv;
+
+import io.github.wycst.wast.common.csv.CSV;
+import io.github.wycst.wast.common.csv.CSVTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV读取（10000行，包含引号转义字段）
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CSVBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    String content;
+    byte[] bytes;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(rows * 64);
+        builder.append("id,name,email,score,created,remark\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append(i).append(",user").append(i).append(",user").append(i).append("@example.com,")
+                    .append(i * 0.5).append(",2024-01-").append(i % 28 + 1).append(" 12:00:00,");
+            if ((i & 3) == 0) {
+                builder.append("\"quoted, \"\"remark\"\" ").append(i).append('"');
+            } else {
+                builder.append("remark ").append(i);
+            }
+            builder.append('\n');
+        }
+        content = builder.toString();
+        bytes = content.getBytes(Charset.forName("UTF-8"));
+    }
+
+    @Benchmark
+    public CSVTable readString() {
+        return CSV.read(content);
+    }
+
+    @Benchmark
+    public CSVTable readBytes() {
+        return CSV.read(bytes);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.wycst.wast.benchmarks.expression;
+
+import io.github.wycst.wast.common.expression.Expression;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表达式解析(parse)，编译(compile)与执行(evaluate)
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+    static final String EXPR = "a + b * (c - d) / 2 + user.age > 50";
+
+    Map<String, Object> context;
+    Expression parsed;
+    Expression compiled;
+
+    @Setup
+    public void setup() {
+        context = new HashMap<String, Object>();
+        context.put("a", 10);
+        context.put("b", 20.5);
+        context.put("c", 3);
+        context.put("d", 1);
+        Map<String, Object> user = new HashMap<String, Object>();
+        user.put("age", 30);
+        context.put("user", user);
+        parsed = Expression.parse(EXPR);
+        compiled = Expression.compile(EXPR);
+    }
+
+    @Benchmark
+    public Expression parse() {
+        return Expression.parse(EXPR);
+    }
+
+    @Benchmark
+    public Object evaluateParsed() {
+        return parsed.evaluate(context);
+    }
+
+    @Benchmark
+    public Object evaluateCompiled() {
+        return compiled.evaluate(context);
+    }
+
+    @Benchmark
+    public Object parseAndEvaluate() {
+        return Expression.eval(EXPR, context);
+    }
+}
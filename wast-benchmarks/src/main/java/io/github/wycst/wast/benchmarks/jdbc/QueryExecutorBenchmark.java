@@ -0,0 +1,55 @@
+package io.github.wycst.wast.benchmarks.jdbc;
+
+import io.github.wycst.wast.jdbc.query.QueryExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 结果集映射（QueryExecutor.parseResultSet），使用内存jdbc桩排除数据库及驱动开销
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryExecutorBenchmark {
+
+    @Param({"1000"})
+    int rows;
+
+    QueryExecutor queryExecutor;
+    PreparedStatement statement;
+
+    @Setup
+    public void setup() {
+        queryExecutor = new QueryExecutor();
+        String[] labels = {"id", "user_name", "email", "score", "create_time", "active"};
+        int[] types = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP, Types.BIT};
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = StubJdbc.row(i, "user" + i, "user" + i + "@example.com", i * 0.5, new Timestamp(1700000000000L + i), (i & 1) == 0);
+        }
+        statement = StubJdbc.statement(labels, types, data);
+    }
+
+    @Benchmark
+    public List<UserEntity> queryEntities() throws SQLException {
+        return queryExecutor.queryList(UserEntity.class, statement);
+    }
+
+    @Benchmark
+    public List<Map> queryMaps() throws SQLException {
+        return queryExecutor.queryList(Map.class, statement);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.wycst.wast.benchmarks.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+
+/**
+ * 内存中的jdbc桩（动态代理），只实现结果集映射所需的方法，排除驱动本身的开销
+ *
+ * @Author: wangy
+ * @Description:
+ */
+final class StubJdbc {
+
+    private StubJdbc() {
+    }
+
+    /**
+     * 每次executeQuery返回一个新的结果集（游标从头开始）
+     */
+    static PreparedStatement statement(final String[] labels, final int[] types, final Object[][] rows) {
+        final ResultSetMetaData metaData = proxy(ResultSetMetaData.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                if (name.equals("getColumnCount")) {
+                    return labels.length;
+                }
+                if (name.equals("getColumnLabel") || name.equals("getColumnName")) {
+                    return labels[(Integer) args[0] - 1];
+                }
+                if (name.equals("getColumnType")) {
+                    return types[(Integer) args[0] - 1];
+                }
+                return defaultValue(method.getReturnType());
+            }
+        });
+        return proxy(PreparedStatement.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("executeQuery")) {
+                    return resultSet(metaData, rows);
+                }
+                return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    static ResultSet resultSet(final ResultSetMetaData metaData, final Object[][] rows) {
+        return proxy(ResultSet.class, new InvocationHandler() {
+            int cursor = -1;
+
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                if (name.equals("next")) {
+                    return ++cursor < rows.length;
+                }
+                if (name.equals("getMetaData")) {
+                    return metaData;
+                }
+                if (name.equals("getRow")) {
+                    return cursor + 1;
+                }
+                if (name.equals("wasNull")) {
+                    return false;
+                }
+                if (name.startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer) {
+                    Object value = rows[cursor][(Integer) args[0] - 1];
+                    Class<?> returnType = method.getReturnType();
+                    if (value == null) {
+                        return defaultValue(returnType);
+                    }
+                    if (returnType == String.class) {
+                        return value.toString();
+                    }
+                    if (value instanceof Number) {
+                        Number number = (Number) value;
+                        if (returnType == int.class) return number.intValue();
+                        if (returnType == long.class) return number.longValue();
+                        if (returnType == double.class) return number.doubleValue();
+                        if (returnType == float.class) return number.floatValue();
+                        if (returnType == short.class) return number.shortValue();
+                        if (returnType == byte.class) return number.byteValue();
+                        if (returnType == BigDecimal.class) return new BigDecimal(number.toString());
+                    }
+                    return value;
+                }
+                return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    static Object[] row(long id, String name, String email, double score, Timestamp created, boolean active) {
+        return new Object[]{id, name, email, score, created, active};
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubJdbc.class.getClassLoader(), new Class[]{type}, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0d;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return (char) 0;
+    }
+}
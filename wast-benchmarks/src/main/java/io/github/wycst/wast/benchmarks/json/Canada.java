@@ -0,0 +1,83 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * canada.json model
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public class Canada {
+
+    private String type;
+    private List<Feature> features;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public List<Feature> getFeatures() {
+        return features;
+    }
+
+    public void setFeatures(List<Feature> features) {
+        this.features = features;
+    }
+
+    public static class Feature {
+        private String type;
+        private Map<String, String> properties;
+        private Geometry geometry;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public void setProperties(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        public Geometry getGeometry() {
+            return geometry;
+        }
+
+        public void setGeometry(Geometry geometry) {
+            this.geometry = geometry;
+        }
+    }
+
+    public static class Geometry {
+        private String type;
+        private double[][][] coordinates;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public double[][][] getCoordinates() {
+            return coordinates;
+        }
+
+        public void setCoordinates(double[][][] coordinates) {
+            this.coordinates = coordinates;
+        }
+    }
+}
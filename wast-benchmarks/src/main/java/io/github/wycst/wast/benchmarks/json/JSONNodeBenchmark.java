@@ -0,0 +1,56 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSONNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSONNode路径查询（twitter.json）
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONNodeBenchmark {
+
+    String json;
+    JSONNode root;
+
+    @Setup
+    public void setup() {
+        json = Payloads.string(Payloads.TWITTER);
+        root = JSONNode.parse(json);
+    }
+
+    /**
+     * 按需解析: 只解析到路径所在节点
+     */
+    @Benchmark
+    public String fromPath() {
+        return JSONNode.from(json, "/statuses/50/user/screen_name").getStringValue();
+    }
+
+    /**
+     * 已解析节点的路径查询
+     */
+    @Benchmark
+    public String getPath() {
+        return root.get("/statuses/50/user/screen_name").getStringValue();
+    }
+
+    /**
+     * 通配收集
+     */
+    @Benchmark
+    public List<JSONNode> collect() {
+        return JSONNode.collect(json, "/statuses/*/user/id");
+    }
+}
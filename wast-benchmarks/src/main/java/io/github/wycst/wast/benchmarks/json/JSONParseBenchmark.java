@@ -0,0 +1,50 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 标准数据解析（Map/List，JSONNode），字符串与utf-8字节两种输入
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONParseBenchmark {
+
+    @Param({Payloads.TWITTER, Payloads.CITM_CATALOG, Payloads.CANADA})
+    String payload;
+
+    String json;
+    byte[] bytes;
+
+    @Setup
+    public void setup() {
+        bytes = Payloads.bytes(payload);
+        json = new String(bytes, Payloads.UTF_8);
+    }
+
+    @Benchmark
+    public Object parseString() {
+        return JSON.parse(json);
+    }
+
+    @Benchmark
+    public Object parseBytes() {
+        return JSON.parse(bytes);
+    }
+
+    @Benchmark
+    public JSONNode parseNode() {
+        return JSONNode.parse(json);
+    }
+}
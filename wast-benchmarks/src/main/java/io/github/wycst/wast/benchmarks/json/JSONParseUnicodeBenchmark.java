@@ -0,0 +1,89 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 非ascii文本解析（utf-8字节输入）：中文为主，emoji（4字节utf-8，代理对）为主以及\\u转义的中文
+ * <p> 数据在setup中按固定种子生成（约256K个字符），与JSONParseBenchmark的标准数据互为补充；
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONParseUnicodeBenchmark {
+
+    public static final String CJK = "cjk";
+    public static final String EMOJI = "emoji";
+    public static final String ESCAPED_CJK = "escaped_cjk";
+
+    @Param({CJK, EMOJI, ESCAPED_CJK})
+    String payload;
+
+    String json;
+    byte[] bytes;
+
+    @Setup
+    public void setup() {
+        json = generate(payload, 256 << 10);
+        bytes = json.getBytes(Payloads.UTF_8);
+    }
+
+    @Benchmark
+    public Object parseBytes() {
+        return JSON.parse(bytes);
+    }
+
+    @Benchmark
+    public Object parseString() {
+        return JSON.parse(json);
+    }
+
+    static String generate(String payload, int size) {
+        Random random = new Random(7);
+        StringBuilder builder = new StringBuilder(size + 256).append('[');
+        for (int i = 0; builder.length() < size; ++i) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":").append(i).append(",\"name\":\"");
+            text(builder, payload, random, 4 + random.nextInt(8));
+            builder.append("\",\"content\":\"");
+            text(builder, payload, random, 40 + random.nextInt(80));
+            builder.append("\",\"tags\":[\"");
+            text(builder, payload, random, 2 + random.nextInt(4));
+            builder.append("\",\"");
+            text(builder, payload, random, 2 + random.nextInt(4));
+            builder.append("\"],\"score\":").append(random.nextInt(10000) / 100.0).append('}');
+        }
+        return builder.append(']').toString();
+    }
+
+    static void text(StringBuilder builder, String payload, Random random, int count) {
+        for (int i = 0; i < count; ++i) {
+            if (EMOJI.equals(payload)) {
+                // emoji与ascii单词混排
+                if ((i & 3) == 3) {
+                    builder.append(" word");
+                } else {
+                    builder.appendCodePoint(0x1F600 + random.nextInt(0x50));
+                }
+            } else {
+                // 常用汉字区间，每8个字插入一个中文标点
+                char c = (i & 7) == 7 ? '\uFF0C' : (char) (0x4E00 + random.nextInt(0x5000));
+                if (ESCAPED_CJK.equals(payload)) {
+                    builder.append("\\u").append(Integer.toHexString(c));
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+    }
+}
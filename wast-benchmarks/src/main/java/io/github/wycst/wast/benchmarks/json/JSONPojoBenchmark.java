@@ -0,0 +1,76 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * pojo解析与序列化（canada.json模型以及小对象）
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONPojoBenchmark {
+
+    String canadaJson;
+    byte[] canadaBytes;
+    Canada canada;
+
+    String simpleJson;
+    byte[] simpleBytes;
+    SimpleBean simpleBean;
+
+    @Setup
+    public void setup() {
+        canadaBytes = Payloads.bytes(Payloads.CANADA);
+        canadaJson = new String(canadaBytes, Payloads.UTF_8);
+        canada = JSON.parseObject(canadaJson, Canada.class);
+
+        simpleBean = SimpleBean.create(1);
+        simpleJson = JSON.toJsonString(simpleBean);
+        simpleBytes = simpleJson.getBytes(Payloads.UTF_8);
+    }
+
+    @Benchmark
+    public Canada parseCanada() {
+        return JSON.parseObject(canadaJson, Canada.class);
+    }
+
+    @Benchmark
+    public Canada parseCanadaBytes() {
+        return JSON.parseObject(canadaBytes, Canada.class);
+    }
+
+    @Benchmark
+    public String serializeCanada() {
+        return JSON.toJsonString(canada);
+    }
+
+    @Benchmark
+    public SimpleBean parseSimple() {
+        return JSON.parseObject(simpleJson, SimpleBean.class);
+    }
+
+    @Benchmark
+    public SimpleBean parseSimpleBytes() {
+        return JSON.parseObject(simpleBytes, SimpleBean.class);
+    }
+
+    @Benchmark
+    public String serializeSimple() {
+        return JSON.toJsonString(simpleBean);
+    }
+
+    @Benchmark
+    public byte[] serializeSimpleBytes() {
+        return JSON.toJsonBytes(simpleBean);
+    }
+}
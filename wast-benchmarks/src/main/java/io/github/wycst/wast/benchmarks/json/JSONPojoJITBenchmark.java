@@ -0,0 +1,224 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.annotations.JsonProperty;
+import io.github.wycst.wast.json.annotations.JsonTypeSetting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * enableJIT生成的反序列化器（__JPD_）与默认反序列化器以及优化反序列化器的对比
+ * <p> Drawing包含抽象类型的字段，不支持优化反序列化：未开启JIT时使用默认反序列化器，开启JIT(JitDrawing)时使用生成的反序列化器；
+ * <p> PlainDrawing字段类型都是确定的，使用优化反序列化器，作为基准；开启JIT(JitPlainDrawing)时使用生成的反序列化器；
+ * <p> 生成的反序列化器按序列化的字段顺序匹配，输入使用序列化的输出；
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONPojoJITBenchmark {
+
+    public static abstract class Shape {
+    }
+
+    public static class Circle extends Shape {
+        public double radius;
+    }
+
+    public static class Drawing {
+        private int id;
+        private long version;
+        private String title;
+        private boolean visible;
+        private double scale;
+        private int[] layers;
+        @JsonProperty(impl = Circle.class)
+        private Shape shape;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public void setVersion(long version) {
+            this.version = version;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public void setVisible(boolean visible) {
+            this.visible = visible;
+        }
+
+        public double getScale() {
+            return scale;
+        }
+
+        public void setScale(double scale) {
+            this.scale = scale;
+        }
+
+        public int[] getLayers() {
+            return layers;
+        }
+
+        public void setLayers(int[] layers) {
+            this.layers = layers;
+        }
+
+        public Shape getShape() {
+            return shape;
+        }
+
+        public void setShape(Shape shape) {
+            this.shape = shape;
+        }
+    }
+
+    @JsonTypeSetting(enableJIT = true)
+    public static class JitDrawing extends Drawing {
+    }
+
+    public static class PlainDrawing {
+        private int id;
+        private long version;
+        private String title;
+        private boolean visible;
+        private double scale;
+        private int[] layers;
+        private Circle shape;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public void setVersion(long version) {
+            this.version = version;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public void setVisible(boolean visible) {
+            this.visible = visible;
+        }
+
+        public double getScale() {
+            return scale;
+        }
+
+        public void setScale(double scale) {
+            this.scale = scale;
+        }
+
+        public int[] getLayers() {
+            return layers;
+        }
+
+        public void setLayers(int[] layers) {
+            this.layers = layers;
+        }
+
+        public Circle getShape() {
+            return shape;
+        }
+
+        public void setShape(Circle shape) {
+            this.shape = shape;
+        }
+    }
+
+    @JsonTypeSetting(enableJIT = true)
+    public static class JitPlainDrawing extends PlainDrawing {
+    }
+
+    String json;
+    byte[] bytes;
+
+    @Setup
+    public void setup() {
+        json = JSON.toJsonString(JSON.parseObject("{\"id\":7,\"version\":12345678901,\"title\":\"floor plan\",\"visible\":true,\"scale\":1.5,\"layers\":[1,2,3],\"shape\":{\"radius\":2.0}}", PlainDrawing.class));
+        bytes = json.getBytes(Payloads.UTF_8);
+    }
+
+    @Benchmark
+    public Drawing parseDefault() {
+        return JSON.parseObject(json, Drawing.class);
+    }
+
+    @Benchmark
+    public Drawing parseGenerated() {
+        return JSON.parseObject(json, JitDrawing.class);
+    }
+
+    @Benchmark
+    public PlainDrawing parseOptimize() {
+        return JSON.parseObject(json, PlainDrawing.class);
+    }
+
+    @Benchmark
+    public PlainDrawing parseGeneratedPlain() {
+        return JSON.parseObject(json, JitPlainDrawing.class);
+    }
+
+    @Benchmark
+    public Drawing parseDefaultBytes() {
+        return JSON.parseObject(bytes, Drawing.class);
+    }
+
+    @Benchmark
+    public Drawing parseGeneratedBytes() {
+        return JSON.parseObject(bytes, JitDrawing.class);
+    }
+
+    @Benchmark
+    public PlainDrawing parseOptimizeBytes() {
+        return JSON.parseObject(bytes, PlainDrawing.class);
+    }
+
+    @Benchmark
+    public PlainDrawing parseGeneratedPlainBytes() {
+        return JSON.parseObject(bytes, JitPlainDrawing.class);
+    }
+}
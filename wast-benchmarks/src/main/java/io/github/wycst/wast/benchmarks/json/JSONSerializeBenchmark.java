@@ -0,0 +1,42 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 标准数据（解析后的Map/List）序列化
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSONSerializeBenchmark {
+
+    @Param({Payloads.TWITTER, Payloads.CITM_CATALOG, Payloads.CANADA})
+    String payload;
+
+    Object value;
+
+    @Setup
+    public void setup() {
+        value = JSON.parse(Payloads.bytes(payload));
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return JSON.toJsonString(value);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return JSON.toJsonBytes(value);
+    }
+}
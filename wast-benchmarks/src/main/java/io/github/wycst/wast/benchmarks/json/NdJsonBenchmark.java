@@ -0,0 +1,68 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import io.github.wycst.wast.benchmarks.Payloads;
+import io.github.wycst.wast.json.JSON;
+import io.github.wycst.wast.json.JSONLIterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ndjson（twitter.json的statuses逐行输出）解析: 整体解析，流式迭代以及并行解析
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NdJsonBenchmark {
+
+    String ndjson;
+    byte[] ndjsonBytes;
+
+    @Setup
+    public void setup() {
+        Map root = (Map) JSON.parse(Payloads.bytes(Payloads.TWITTER));
+        List statuses = (List) root.get("statuses");
+        List lines = new ArrayList();
+        // enlarge to ~10MB
+        while (lines.size() < 1600) {
+            lines.addAll(statuses);
+        }
+        ndjson = JSON.toNdJsonString(lines);
+        ndjsonBytes = ndjson.getBytes(Payloads.UTF_8);
+    }
+
+    @Benchmark
+    public List parse() {
+        return JSON.parseNdJson(ndjson);
+    }
+
+    @Benchmark
+    public int iterate() {
+        JSONLIterator<Map> iterator = JSON.iterateNdJson(new ByteArrayInputStream(ndjsonBytes), Map.class);
+        int count = 0;
+        try {
+            while (iterator.hasNext()) {
+                iterator.next();
+                ++count;
+            }
+        } finally {
+            iterator.close();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List parseParallel() {
+        return JSON.parseNdJsonParallel(ndjsonBytes, Map.class);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.wycst.wast.benchmarks.json;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * small dto (typical rpc/rest payload)
+ *
+ * @Author: wangy
+ * @Description:
+ */
+public class SimpleBean {
+
+    private int id;
+    private long version;
+    private double percent;
+    private boolean enabled;
+    private String name;
+    private String description;
+    private Date date;
+    private List<String> tags;
+    private Map<String, Object> attributes;
+
+    public static SimpleBean create(int i) {
+        SimpleBean bean = new SimpleBean();
+        bean.id = i;
+        bean.version = 1234567890123L + i;
+        bean.percent = 0.618 * i;
+        bean.enabled = (i & 1) == 0;
+        bean.name = "simple bean " + i;
+        bean.description = "a \"quoted\" description with unicode 中文 and escapes \\ \n";
+        bean.date = new Date(1700000000000L + i);
+        bean.tags = java.util.Arrays.asList("alpha", "beta", "gamma");
+        Map<String, Object> attributes = new java.util.LinkedHashMap<String, Object>();
+        attributes.put("level", i % 10);
+        attributes.put("score", 99.5);
+        attributes.put("owner", "wast");
+        bean.attributes = attributes;
+        return bean;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public double getPercent() {
+        return percent;
+    }
+
+    public void setPercent(double percent) {
+        this.percent = percent;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, Object> attributes) {
+        this.attributes = attributes;
+    }
+}
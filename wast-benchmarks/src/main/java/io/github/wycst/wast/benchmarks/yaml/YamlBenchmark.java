@@ -0,0 +1,46 @@
+package io.github.wycst.wast.benchmarks.yaml;
+
+import io.github.wycst.wast.yaml.YamlDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * yaml文档解析（类spring配置文件）
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class YamlBenchmark {
+
+    String yaml;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(8192);
+        builder.append("server:\n  port: 8080\n  servlet:\n    context-path: /api\n");
+        builder.append("spring:\n  datasource:\n    url: jdbc:mysql://localhost:3306/test?useUnicode=true\n    username: root\n    password: 'p@ss: word'\n");
+        builder.append("services:\n");
+        for (int i = 0; i < 100; i++) {
+            builder.append("  - name: service-").append(i).append('\n');
+            builder.append("    enabled: ").append((i & 1) == 0).append('\n');
+            builder.append("    weight: ").append(i * 1.5).append('\n');
+            builder.append("    tags: [a, b, \"c d\"]\n");
+            builder.append("    endpoints:\n");
+            builder.append("      - http://host-").append(i).append(".example.com/health\n");
+            builder.append("      - http://host-").append(i).append(".example.com/metrics\n");
+        }
+        yaml = builder.toString();
+    }
+
+    @Benchmark
+    public YamlDocument parse() {
+        return YamlDocument.parse(yaml);
+    }
+}
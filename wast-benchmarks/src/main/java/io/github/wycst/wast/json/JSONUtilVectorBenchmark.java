@@ -0,0 +1,130 @@
+package io.github.wycst.wast.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSONUtil扫描内核: SWAR(JSONUtil) vs jdk.incubator.vector(JSONUtilVectorImpl)
+ * <p> 位于io.github.wycst.wast.json包下以访问包内api；jdk17以下或者vector不可用时vector与swar相同
+ * <p> 注: vector实现从multi-release jar（META-INF/versions/17）加载，不经过启动时的性能检测
+ *
+ * <pre>
+ *     java -jar target/benchmarks.jar JSONUtilVectorBenchmark -p length=64
+ * </pre>
+ *
+ * @Author: wangy
+ * @Description:
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class JSONUtilVectorBenchmark {
+
+    @Param({"64", "256", "4096"})
+    int length;
+
+    JSONUtil swar;
+    JSONUtil vector;
+
+    // ascii text without escape (escape at the end)
+    byte[] latinBytes;
+    char[] chars;
+    // String.value of a UTF16 string: ascii prefix with a trailing CJK char
+    byte[] utf16Bytes;
+    // whitespace run (pretty json indent) terminated by a token
+    byte[] whiteSpaceBytes;
+    char[] whiteSpaceChars;
+
+    @Setup
+    public void setup() {
+        swar = new JSONUtil();
+        try {
+            vector = JSONGeneral.loadVectorUtil();
+        } catch (Throwable throwable) {
+            System.out.println("# vector unavailable: " + throwable);
+            vector = swar;
+        }
+        char[] text = new char[length];
+        for (int i = 0; i < length; ++i) {
+            text[i] = (char) ('a' + i % 26);
+        }
+        text[length - 1] = '"';
+        chars = text.clone();
+        latinBytes = new String(text).getBytes(Charset.forName("ISO-8859-1"));
+        text[length - 1] = '中';
+        utf16Bytes = new String(text).getBytes(Charset.forName(ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? "UTF-16LE" : "UTF-16BE"));
+        whiteSpaceBytes = new byte[length];
+        Arrays.fill(whiteSpaceBytes, (byte) ' ');
+        whiteSpaceBytes[length - 1] = '"';
+        whiteSpaceChars = new char[length];
+        Arrays.fill(whiteSpaceChars, ' ');
+        whiteSpaceChars[length - 1] = '"';
+    }
+
+    @Benchmark
+    public int escapeBytesSwar() {
+        return swar.toNoEscapeOffset(latinBytes, 0);
+    }
+
+    @Benchmark
+    public int escapeBytesVector() {
+        return vector.toNoEscapeOffset(latinBytes, 0);
+    }
+
+    @Benchmark
+    public int escapeCharsSwar() {
+        return swar.toNoEscapeOffset(chars, 0);
+    }
+
+    @Benchmark
+    public int escapeCharsVector() {
+        return vector.toNoEscapeOffset(chars, 0);
+    }
+
+    @Benchmark
+    public int asciiUTF16Swar() {
+        return swar.toNoEscapeAsciiOffset(utf16Bytes, 0);
+    }
+
+    @Benchmark
+    public int asciiUTF16Vector() {
+        return vector.toNoEscapeAsciiOffset(utf16Bytes, 0);
+    }
+
+    @Benchmark
+    public int whiteSpacesBytesSwar() {
+        return swar.skipWhiteSpaces(whiteSpaceBytes, 0);
+    }
+
+    @Benchmark
+    public int whiteSpacesBytesVector() {
+        return vector.skipWhiteSpaces(whiteSpaceBytes, 0);
+    }
+
+    @Benchmark
+    public int whiteSpacesCharsSwar() {
+        return swar.skipWhiteSpaces(whiteSpaceChars, 0);
+    }
+
+    @Benchmark
+    public int whiteSpacesCharsVector() {
+        return vector.skipWhiteSpaces(whiteSpaceChars, 0);
+    }
+
+    @Benchmark
+    public int quoteOrBackslashBytesSwar() {
+        return swar.ensureIndexOfQuoteOrBackslashOrUTF8Byte(latinBytes, 0, '"', 0x2222222222222222L);
+    }
+
+    @Benchmark
+    public int quoteOrBackslashBytesVector() {
+        return vector.ensureIndexOfQuoteOrBackslashOrUTF8Byte(latinBytes, 0, '"', 0x2222222222222222L);
+    }
+}